@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Benchmarks arithmetic of distances expressed in different units, both through
+ * primitive values and through instances.
+ */
+@State(Scope.Thread)
+public class ArithmeticBenchmark {
+
+    /**
+     * 1st value in kilometers.
+     */
+    private double value1;
+
+    /**
+     * 2nd value in miles.
+     */
+    private double value2;
+
+    /**
+     * 1st number in kilometers.
+     */
+    private Number number1;
+
+    /**
+     * 2nd number in miles.
+     */
+    private Number number2;
+
+    /**
+     * 1st distance.
+     */
+    private Distance distance1;
+
+    /**
+     * 2nd distance.
+     */
+    private Distance distance2;
+
+    /**
+     * Instance where result is stored.
+     */
+    private Distance result;
+
+    /**
+     * Creates values to be added or subtracted.
+     */
+    @Setup
+    public void setUp() {
+        value1 = 12.5;
+        value2 = 3.25;
+        number1 = BigDecimal.valueOf(value1);
+        number2 = BigDecimal.valueOf(value2);
+        distance1 = new Distance(value1, DistanceUnit.KILOMETER);
+        distance2 = new Distance(value2, DistanceUnit.MILE);
+        result = new Distance(0.0, DistanceUnit.METER);
+    }
+
+    @Benchmark
+    public double addDouble() {
+        return Distance.add(value1, DistanceUnit.KILOMETER, value2, DistanceUnit.MILE, DistanceUnit.METER);
+    }
+
+    @Benchmark
+    public Number addNumber() {
+        return Distance.add(number1, DistanceUnit.KILOMETER, number2, DistanceUnit.MILE, DistanceUnit.METER);
+    }
+
+    @Benchmark
+    public Distance addInto() {
+        distance1.add(distance2, result);
+        return result;
+    }
+
+    @Benchmark
+    public Distance addAndReturnNew() {
+        return distance1.addAndReturnNew(distance2, DistanceUnit.METER);
+    }
+
+    @Benchmark
+    public double subtractDouble() {
+        return Distance.subtract(value1, DistanceUnit.KILOMETER, value2, DistanceUnit.MILE, DistanceUnit.METER);
+    }
+
+    @Benchmark
+    public Number subtractNumber() {
+        return Distance.subtract(number1, DistanceUnit.KILOMETER, number2, DistanceUnit.MILE, DistanceUnit.METER);
+    }
+
+    @Benchmark
+    public Distance subtractInto() {
+        distance1.subtract(distance2, result);
+        return result;
+    }
+
+    @Benchmark
+    public Distance subtractAndReturnNew() {
+        return distance1.subtractAndReturnNew(distance2, DistanceUnit.METER);
+    }
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Benchmarks conversion of single values between units of every measurement type
+ * using primitive values, numbers and measurement instances.
+ */
+@State(Scope.Thread)
+public class ConverterBenchmark {
+
+    /**
+     * Value to be converted.
+     */
+    private double value;
+
+    /**
+     * Number to be converted.
+     */
+    private Number number;
+
+    /**
+     * Decimal value to be converted without binary floating point rounding.
+     */
+    private BigDecimal decimal;
+
+    /**
+     * Acceleration to be converted.
+     */
+    private Acceleration acceleration;
+
+    /**
+     * Instance where converted acceleration is stored.
+     */
+    private Acceleration accelerationResult;
+
+    /**
+     * Angle to be converted.
+     */
+    private Angle angle;
+
+    /**
+     * Instance where converted angle is stored.
+     */
+    private Angle angleResult;
+
+    /**
+     * AngularAcceleration to be converted.
+     */
+    private AngularAcceleration angularAcceleration;
+
+    /**
+     * Instance where converted angular acceleration is stored.
+     */
+    private AngularAcceleration angularAccelerationResult;
+
+    /**
+     * AngularSpeed to be converted.
+     */
+    private AngularSpeed angularSpeed;
+
+    /**
+     * Instance where converted angular speed is stored.
+     */
+    private AngularSpeed angularSpeedResult;
+
+    /**
+     * Distance to be converted.
+     */
+    private Distance distance;
+
+    /**
+     * Instance where converted distance is stored.
+     */
+    private Distance distanceResult;
+
+    /**
+     * Frequency to be converted.
+     */
+    private Frequency frequency;
+
+    /**
+     * Instance where converted frequency is stored.
+     */
+    private Frequency frequencyResult;
+
+    /**
+     * MagneticFluxDensity to be converted.
+     */
+    private MagneticFluxDensity magneticFluxDensity;
+
+    /**
+     * Instance where converted magnetic flux density is stored.
+     */
+    private MagneticFluxDensity magneticFluxDensityResult;
+
+    /**
+     * Speed to be converted.
+     */
+    private Speed speed;
+
+    /**
+     * Instance where converted speed is stored.
+     */
+    private Speed speedResult;
+
+    /**
+     * Surface to be converted.
+     */
+    private Surface surface;
+
+    /**
+     * Instance where converted surface is stored.
+     */
+    private Surface surfaceResult;
+
+    /**
+     * Temperature to be converted.
+     */
+    private Temperature temperature;
+
+    /**
+     * Instance where converted temperature is stored.
+     */
+    private Temperature temperatureResult;
+
+    /**
+     * Time to be converted.
+     */
+    private Time time;
+
+    /**
+     * Instance where converted time is stored.
+     */
+    private Time timeResult;
+
+    /**
+     * Volume to be converted.
+     */
+    private Volume volume;
+
+    /**
+     * Instance where converted volume is stored.
+     */
+    private Volume volumeResult;
+
+    /**
+     * Weight to be converted.
+     */
+    private Weight weight;
+
+    /**
+     * Instance where converted weight is stored.
+     */
+    private Weight weightResult;
+
+    /**
+     * Creates values to be converted.
+     */
+    @Setup
+    public void setUp() {
+        value = 1234.5;
+        number = BigDecimal.valueOf(value);
+        decimal = new BigDecimal("1234.5");
+        acceleration = new Acceleration(value, AccelerationUnit.G);
+        accelerationResult = new Acceleration();
+        angle = new Angle(value, AngleUnit.DEGREES);
+        angleResult = new Angle();
+        angularAcceleration = new AngularAcceleration(value, AngularAccelerationUnit.DEGREES_PER_SQUARED_SECOND);
+        angularAccelerationResult = new AngularAcceleration();
+        angularSpeed = new AngularSpeed(value, AngularSpeedUnit.DEGREES_PER_SECOND);
+        angularSpeedResult = new AngularSpeed();
+        distance = new Distance(value, DistanceUnit.KILOMETER);
+        distanceResult = new Distance();
+        frequency = new Frequency(value, FrequencyUnit.KILOHERTZ);
+        frequencyResult = new Frequency();
+        magneticFluxDensity = new MagneticFluxDensity(value, MagneticFluxDensityUnit.MICROTESLA);
+        magneticFluxDensityResult = new MagneticFluxDensity();
+        speed = new Speed(value, SpeedUnit.KILOMETERS_PER_HOUR);
+        speedResult = new Speed();
+        surface = new Surface(value, SurfaceUnit.HECTARE);
+        surfaceResult = new Surface();
+        temperature = new Temperature(value, TemperatureUnit.CELSIUS);
+        temperatureResult = new Temperature();
+        time = new Time(value, TimeUnit.HOUR);
+        timeResult = new Time();
+        volume = new Volume(value, VolumeUnit.LITER);
+        volumeResult = new Volume();
+        weight = new Weight(value, WeightUnit.KILOGRAM);
+        weightResult = new Weight();
+    }
+
+    @Benchmark
+    public double convertAccelerationDouble() {
+        return AccelerationConverter.convert(value, AccelerationUnit.G, AccelerationUnit.METERS_PER_SQUARED_SECOND);
+    }
+
+    @Benchmark
+    public Number convertAccelerationNumber() {
+        return AccelerationConverter.convert(number, AccelerationUnit.G, AccelerationUnit.METERS_PER_SQUARED_SECOND);
+    }
+
+    @Benchmark
+    public Acceleration convertAccelerationObject() {
+        AccelerationConverter.convert(acceleration, AccelerationUnit.METERS_PER_SQUARED_SECOND, accelerationResult);
+        return accelerationResult;
+    }
+
+    @Benchmark
+    public double convertAngleDouble() {
+        return AngleConverter.convert(value, AngleUnit.DEGREES, AngleUnit.RADIANS);
+    }
+
+    @Benchmark
+    public Number convertAngleNumber() {
+        return AngleConverter.convert(number, AngleUnit.DEGREES, AngleUnit.RADIANS);
+    }
+
+    @Benchmark
+    public Angle convertAngleObject() {
+        AngleConverter.convert(angle, AngleUnit.RADIANS, angleResult);
+        return angleResult;
+    }
+
+    @Benchmark
+    public double convertAngularAccelerationDouble() {
+        return AngularAccelerationConverter.convert(value,
+                AngularAccelerationUnit.DEGREES_PER_SQUARED_SECOND, AngularAccelerationUnit.RADIANS_PER_SQUARED_SECOND);
+    }
+
+    @Benchmark
+    public Number convertAngularAccelerationNumber() {
+        return AngularAccelerationConverter.convert(number,
+                AngularAccelerationUnit.DEGREES_PER_SQUARED_SECOND, AngularAccelerationUnit.RADIANS_PER_SQUARED_SECOND);
+    }
+
+    @Benchmark
+    public AngularAcceleration convertAngularAccelerationObject() {
+        AngularAccelerationConverter.convert(angularAcceleration,
+                AngularAccelerationUnit.RADIANS_PER_SQUARED_SECOND, angularAccelerationResult);
+        return angularAccelerationResult;
+    }
+
+    @Benchmark
+    public double convertAngularSpeedDouble() {
+        return AngularSpeedConverter.convert(value,
+                AngularSpeedUnit.DEGREES_PER_SECOND, AngularSpeedUnit.RADIANS_PER_SECOND);
+    }
+
+    @Benchmark
+    public Number convertAngularSpeedNumber() {
+        return AngularSpeedConverter.convert(number,
+                AngularSpeedUnit.DEGREES_PER_SECOND, AngularSpeedUnit.RADIANS_PER_SECOND);
+    }
+
+    @Benchmark
+    public AngularSpeed convertAngularSpeedObject() {
+        AngularSpeedConverter.convert(angularSpeed, AngularSpeedUnit.RADIANS_PER_SECOND, angularSpeedResult);
+        return angularSpeedResult;
+    }
+
+    @Benchmark
+    public double convertDistanceDouble() {
+        return DistanceConverter.convert(value, DistanceUnit.KILOMETER, DistanceUnit.MILE);
+    }
+
+    @Benchmark
+    public Number convertDistanceNumber() {
+        return DistanceConverter.convert(number, DistanceUnit.KILOMETER, DistanceUnit.MILE);
+    }
+
+    @Benchmark
+    public Distance convertDistanceObject() {
+        DistanceConverter.convert(distance, DistanceUnit.MILE, distanceResult);
+        return distanceResult;
+    }
+
+    @Benchmark
+    public double convertFrequencyDouble() {
+        return FrequencyConverter.convert(value, FrequencyUnit.KILOHERTZ, FrequencyUnit.HERTZ);
+    }
+
+    @Benchmark
+    public Number convertFrequencyNumber() {
+        return FrequencyConverter.convert(number, FrequencyUnit.KILOHERTZ, FrequencyUnit.HERTZ);
+    }
+
+    @Benchmark
+    public Frequency convertFrequencyObject() {
+        FrequencyConverter.convert(frequency, FrequencyUnit.HERTZ, frequencyResult);
+        return frequencyResult;
+    }
+
+    @Benchmark
+    public double convertMagneticFluxDensityDouble() {
+        return MagneticFluxDensityConverter.convert(value,
+                MagneticFluxDensityUnit.MICROTESLA, MagneticFluxDensityUnit.TESLA);
+    }
+
+    @Benchmark
+    public Number convertMagneticFluxDensityNumber() {
+        return MagneticFluxDensityConverter.convert(number,
+                MagneticFluxDensityUnit.MICROTESLA, MagneticFluxDensityUnit.TESLA);
+    }
+
+    @Benchmark
+    public MagneticFluxDensity convertMagneticFluxDensityObject() {
+        MagneticFluxDensityConverter.convert(magneticFluxDensity,
+                MagneticFluxDensityUnit.TESLA, magneticFluxDensityResult);
+        return magneticFluxDensityResult;
+    }
+
+    @Benchmark
+    public double convertSpeedDouble() {
+        return SpeedConverter.convert(value, SpeedUnit.KILOMETERS_PER_HOUR, SpeedUnit.MILES_PER_HOUR);
+    }
+
+    @Benchmark
+    public Number convertSpeedNumber() {
+        return SpeedConverter.convert(number, SpeedUnit.KILOMETERS_PER_HOUR, SpeedUnit.MILES_PER_HOUR);
+    }
+
+    @Benchmark
+    public Speed convertSpeedObject() {
+        SpeedConverter.convert(speed, SpeedUnit.MILES_PER_HOUR, speedResult);
+        return speedResult;
+    }
+
+    @Benchmark
+    public double convertSurfaceDouble() {
+        return SurfaceConverter.convert(value, SurfaceUnit.HECTARE, SurfaceUnit.ACRE);
+    }
+
+    @Benchmark
+    public Number convertSurfaceNumber() {
+        return SurfaceConverter.convert(number, SurfaceUnit.HECTARE, SurfaceUnit.ACRE);
+    }
+
+    @Benchmark
+    public Surface convertSurfaceObject() {
+        SurfaceConverter.convert(surface, SurfaceUnit.ACRE, surfaceResult);
+        return surfaceResult;
+    }
+
+    @Benchmark
+    public double convertTemperatureDouble() {
+        return TemperatureConverter.convert(value, TemperatureUnit.CELSIUS, TemperatureUnit.FAHRENHEIT);
+    }
+
+    @Benchmark
+    public Number convertTemperatureNumber() {
+        return TemperatureConverter.convert(number, TemperatureUnit.CELSIUS, TemperatureUnit.FAHRENHEIT);
+    }
+
+    @Benchmark
+    public Temperature convertTemperatureObject() {
+        TemperatureConverter.convert(temperature, TemperatureUnit.FAHRENHEIT, temperatureResult);
+        return temperatureResult;
+    }
+
+    @Benchmark
+    public double convertTimeDouble() {
+        return TimeConverter.convert(value, TimeUnit.HOUR, TimeUnit.SECOND);
+    }
+
+    @Benchmark
+    public Number convertTimeNumber() {
+        return TimeConverter.convert(number, TimeUnit.HOUR, TimeUnit.SECOND);
+    }
+
+    @Benchmark
+    public Time convertTimeObject() {
+        TimeConverter.convert(time, TimeUnit.SECOND, timeResult);
+        return timeResult;
+    }
+
+    @Benchmark
+    public double convertVolumeDouble() {
+        return VolumeConverter.convert(value, VolumeUnit.LITER, VolumeUnit.GALLON);
+    }
+
+    @Benchmark
+    public Number convertVolumeNumber() {
+        return VolumeConverter.convert(number, VolumeUnit.LITER, VolumeUnit.GALLON);
+    }
+
+    @Benchmark
+    public Volume convertVolumeObject() {
+        VolumeConverter.convert(volume, VolumeUnit.GALLON, volumeResult);
+        return volumeResult;
+    }
+
+    @Benchmark
+    public double convertWeightDouble() {
+        return WeightConverter.convert(value, WeightUnit.KILOGRAM, WeightUnit.POUND);
+    }
+
+    @Benchmark
+    public Number convertWeightNumber() {
+        return WeightConverter.convert(number, WeightUnit.KILOGRAM, WeightUnit.POUND);
+    }
+
+    @Benchmark
+    public Weight convertWeightObject() {
+        WeightConverter.convert(weight, WeightUnit.POUND, weightResult);
+        return weightResult;
+    }
+
+    @Benchmark
+    public BigDecimal convertWeightExact() {
+        return WeightConverter.convert(decimal, WeightUnit.KILOGRAM, WeightUnit.POUND, MathContext.DECIMAL64);
+    }
+
+    @Benchmark
+    public BigDecimal convertVolumeExact() {
+        return VolumeConverter.convert(decimal, VolumeUnit.GALLON, VolumeUnit.LITER, MathContext.UNLIMITED);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+/**
+ * Benchmarks formatting and parsing of measurements of every type, both through
+ * methods returning new instances and through methods reusing provided instances.
+ * Formatters are benchmarked using their number format, using fast number
+ * formatting, and once frozen, so that gains of fast number formatting can be
+ * compared against the number format path.
+ */
+@State(Scope.Thread)
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class FormatterBenchmark {
+
+    /**
+     * Value of formatted measurements.
+     */
+    private static final double VALUE = 1234.5678;
+
+    /**
+     * Type of benchmarked measurements.
+     */
+    @Param
+    private MeasurementType type;
+
+    /**
+     * Way numbers are formatted and parsed by benchmarked formatter.
+     */
+    @Param
+    private NumberFormatting numberFormatting;
+
+    /**
+     * Benchmarked formatter.
+     */
+    private MeasureFormatter formatter;
+
+    /**
+     * Unit of formatted measurements.
+     */
+    private Enum<?> unit;
+
+    /**
+     * Formatted measurement.
+     */
+    private Measurement<?> measurement;
+
+    /**
+     * Text to be parsed.
+     */
+    private String text;
+
+    /**
+     * Instance where parsed measurements are stored.
+     */
+    private Measurement<?> result;
+
+    /**
+     * Buffer where measurements are formatted.
+     */
+    private StringBuilder builder;
+
+    /**
+     * Creates formatter and measurements of benchmarked type.
+     */
+    @Setup
+    public void setUp() {
+        formatter = type.createFormatter(Locale.ENGLISH);
+        switch (numberFormatting) {
+            case FAST -> formatter.setFastNumberFormattingEnabled(true);
+            case FROZEN -> formatter.freeze();
+            default -> formatter.setFastNumberFormattingEnabled(false);
+        }
+        unit = switch (type) {
+            case ACCELERATION -> AccelerationUnit.G;
+            case ANGLE -> AngleUnit.DEGREES;
+            case ANGULAR_ACCELERATION -> AngularAccelerationUnit.DEGREES_PER_SQUARED_SECOND;
+            case ANGULAR_SPEED -> AngularSpeedUnit.DEGREES_PER_SECOND;
+            case DISTANCE -> DistanceUnit.KILOMETER;
+            case FREQUENCY -> FrequencyUnit.KILOHERTZ;
+            case MAGNETIC_FLUX_DENSITY -> MagneticFluxDensityUnit.MICROTESLA;
+            case SPEED -> SpeedUnit.KILOMETERS_PER_HOUR;
+            case SURFACE -> SurfaceUnit.HECTARE;
+            case TEMPERATURE -> TemperatureUnit.CELSIUS;
+            case TIME -> TimeUnit.HOUR;
+            case VOLUME -> VolumeUnit.LITER;
+            case WEIGHT -> WeightUnit.KILOGRAM;
+        };
+        measurement = type.createMeasurement(VALUE, unit);
+        text = formatter.format(measurement);
+        result = type.createMeasurement(0.0, unit);
+        builder = new StringBuilder();
+    }
+
+    @Benchmark
+    public String format() {
+        return formatter.format(VALUE, unit);
+    }
+
+    @Benchmark
+    public String formatMeasurement() {
+        return formatter.format(measurement);
+    }
+
+    @Benchmark
+    public StringBuilder formatTo() {
+        builder.setLength(0);
+        return formatter.formatTo(VALUE, unit, builder);
+    }
+
+    @Benchmark
+    public String formatAndConvert() {
+        return formatter.formatAndConvert(VALUE, unit);
+    }
+
+    @Benchmark
+    public Object parse() throws ParseException, UnknownUnitException {
+        return formatter.parse(text);
+    }
+
+    @Benchmark
+    public ParseStatus parseInto() {
+        return formatter.parse(text, result);
+    }
+
+    /**
+     * Ways numbers can be formatted and parsed.
+     */
+    public enum NumberFormatting {
+        /**
+         * Numbers are formatted using number format.
+         */
+        NUMBER_FORMAT,
+
+        /**
+         * Numbers are formatted using fast number formatting.
+         */
+        FAST,
+
+        /**
+         * Formatter is frozen, hence numbers are formatted using fast number
+         * formatting and thread-safe copies of number format are used otherwise.
+         */
+        FROZEN
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+/**
+ * Benchmarks formatting and parsing of times expressed in multiple units and as
+ * hours, minutes and seconds.
+ */
+@State(Scope.Thread)
+public class TimeFormatterBenchmark {
+
+    /**
+     * Benchmarked formatter.
+     */
+    private TimeFormatter formatter;
+
+    /**
+     * Formatted time.
+     */
+    private Time time;
+
+    /**
+     * Time formatted using multiple units.
+     */
+    private String multipleText;
+
+    /**
+     * Time formatted as hours, minutes and seconds.
+     */
+    private String hourMinuteSecondText;
+
+    /**
+     * Instance where parsed times are stored.
+     */
+    private Time result;
+
+    /**
+     * Buffer where times are formatted.
+     */
+    private StringBuilder builder;
+
+    /**
+     * Creates formatter and times to be formatted or parsed.
+     */
+    @Setup
+    public void setUp() {
+        formatter = new TimeFormatter(Locale.ENGLISH);
+        time = new Time(93784.0, TimeUnit.SECOND);
+        multipleText = formatter.formatMultiple(time, TimeFormatter.FORMAT_ALL);
+        hourMinuteSecondText = formatter.formatHourMinuteSecond(time);
+        result = new Time(0.0, TimeUnit.SECOND);
+        builder = new StringBuilder();
+    }
+
+    @Benchmark
+    public String formatMultiple() {
+        return formatter.formatMultiple(time, TimeFormatter.FORMAT_ALL);
+    }
+
+    @Benchmark
+    public Time parseMultiple() throws ParseException, UnknownUnitException {
+        return formatter.parseMultiple(multipleText);
+    }
+
+    @Benchmark
+    public String formatHourMinuteSecond() {
+        return formatter.formatHourMinuteSecond(time);
+    }
+
+    @Benchmark
+    public StringBuilder formatHourMinuteSecondTo() {
+        builder.setLength(0);
+        return formatter.formatHourMinuteSecondTo(time, builder);
+    }
+
+    @Benchmark
+    public Time parseHourMinuteSecond() throws UnknownUnitException {
+        formatter.parseHourMinuteSecond(hourMinuteSecondText, result);
+        return result;
+    }
+
+    @Benchmark
+    public double parseHourMinuteSecondToSeconds() throws UnknownUnitException {
+        return formatter.parseHourMinuteSecondToSeconds(hourMinuteSecondText);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Converts arrays of values using SIMD instructions of the vector API.
+ * This class is only built by the "vector" profile, and it is loaded by
+ * {@link ConversionKernels} when the {@code jdk.incubator.vector} module is
+ * available at runtime (i.e. using {@code --add-modules jdk.incubator.vector}).
+ * Values are multiplied and offsets added as separate lane-wise operations instead
+ * of fused multiply-add operations, so that results are exactly the same as when
+ * values are converted one by one.
+ */
+final class VectorConversionKernel implements ConversionKernels.VectorKernel {
+
+    /**
+     * Preferred vector shape for double values on current platform.
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Multiplies provided values by a conversion factor.
+     *
+     * @param input        array containing values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param factor       conversion factor between input and output units.
+     */
+    @Override
+    public void scale(final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+                      final int length, final double factor) {
+        final var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, input, inputOffset + i)
+                    .mul(factor)
+                    .intoArray(output, outputOffset + i);
+        }
+        for (; i < length; i++) {
+            output[outputOffset + i] = input[inputOffset + i] * factor;
+        }
+    }
+
+    /**
+     * Multiplies provided values by a conversion factor and adds an offset.
+     *
+     * @param input        array containing values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param factor       conversion factor between input and output units.
+     * @param offset       offset to be added once values are scaled.
+     */
+    @Override
+    public void affine(final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+                       final int length, final double factor, final double offset) {
+        final var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, input, inputOffset + i)
+                    .mul(factor)
+                    .add(offset)
+                    .intoArray(output, outputOffset + i);
+        }
+        for (; i < length; i++) {
+            output[outputOffset + i] = input[inputOffset + i] * factor + offset;
+        }
+    }
+}
@@ -60,9 +60,9 @@ public class Acceleration extends Measurement<AccelerationUnit> {
             return false;
         }
 
-        final var otherValue = AccelerationConverter.convert(other.getValue().doubleValue(),
+        final var otherValue = AccelerationConverter.convertValue(other.getValueAsDouble(),
                 other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -78,8 +78,8 @@ public class Acceleration extends Measurement<AccelerationUnit> {
     public static double add(final double value1, final AccelerationUnit unit1,
                              final double value2, final AccelerationUnit unit2,
                              final AccelerationUnit resultUnit) {
-        final var v1 = AccelerationConverter.convert(value1, unit1, resultUnit);
-        final var v2 = AccelerationConverter.convert(value2, unit2, resultUnit);
+        final var v1 = AccelerationConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = AccelerationConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -107,7 +107,8 @@ public class Acceleration extends Measurement<AccelerationUnit> {
      * @param result instance where result will be stored.
      */
     public static void add(final Acceleration arg1, final Acceleration arg2, final Acceleration result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -138,7 +139,7 @@ public class Acceleration extends Measurement<AccelerationUnit> {
             final double value, final AccelerationUnit unit, final AccelerationUnit resultUnit) {
         final var result = new Acceleration();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -154,7 +155,7 @@ public class Acceleration extends Measurement<AccelerationUnit> {
             final Number value, final AccelerationUnit unit, final AccelerationUnit resultUnit) {
         final var result = new Acceleration();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -176,7 +177,7 @@ public class Acceleration extends Measurement<AccelerationUnit> {
      * @param unit  unit of acceleration value.
      */
     public void add(final double value, final AccelerationUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -186,7 +187,7 @@ public class Acceleration extends Measurement<AccelerationUnit> {
      * @param unit  unit of acceleration value.
      */
     public void add(final Number value, final AccelerationUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -221,8 +222,8 @@ public class Acceleration extends Measurement<AccelerationUnit> {
     public static double subtract(final double value1, final AccelerationUnit unit1,
                                   final double value2, final AccelerationUnit unit2,
                                   final AccelerationUnit resultUnit) {
-        final var v1 = AccelerationConverter.convert(value1, unit1, resultUnit);
-        final var v2 = AccelerationConverter.convert(value2, unit2, resultUnit);
+        final var v1 = AccelerationConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = AccelerationConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -252,7 +253,8 @@ public class Acceleration extends Measurement<AccelerationUnit> {
      */
     public static void subtract(final Acceleration arg1, final Acceleration arg2,
                                 final Acceleration result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -283,7 +285,7 @@ public class Acceleration extends Measurement<AccelerationUnit> {
             final double value, final AccelerationUnit unit, final AccelerationUnit resultUnit) {
         final var result = new Acceleration();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -299,7 +301,7 @@ public class Acceleration extends Measurement<AccelerationUnit> {
             final Number value, final AccelerationUnit unit, final AccelerationUnit resultUnit) {
         final var result = new Acceleration();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -321,7 +323,7 @@ public class Acceleration extends Measurement<AccelerationUnit> {
      * @param unit  unit of acceleration value.
      */
     public void subtract(final double value, final AccelerationUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -331,7 +333,7 @@ public class Acceleration extends Measurement<AccelerationUnit> {
      * @param unit  unit of acceleration value.
      */
     public void subtract(final Number value, final AccelerationUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
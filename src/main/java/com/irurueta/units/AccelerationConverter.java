@@ -17,6 +17,8 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
 
 /**
  * Does acceleration conversions to different units. To prevent loss of accuracy, conversion should only be done as a
@@ -35,6 +37,25 @@ public class AccelerationConverter {
      */
     static final double METERS_PER_FOOT = 0.3048;
 
+    /**
+     * Factors to convert acceleration values between every pair of units, indexed by input
+     * and output unit ordinals.
+     */
+    private static final double[][] FACTORS = ConversionKernels.factors(AccelerationUnit.values(),
+            (inputUnit, outputUnit) -> fromMetersPerSquaredSecond(
+                    toMetersPerSquaredSecond(1.0, inputUnit), outputUnit));
+
+    /**
+     * Converts acceleration values without binary floating point rounding, using exact
+     * number of meters per squared second in each unit.
+     */
+    private static final ExactConversion<AccelerationUnit> EXACT = new ExactConversion<>(AccelerationUnit.values(),
+            unit -> new BigDecimal(switch (unit) {
+                case METERS_PER_SQUARED_SECOND -> "1";
+                case G -> "9.80665";
+                case FEET_PER_SQUARED_SECOND -> "0.3048";
+            }));
+
     /**
      * Constructor. Prevents instantiation of helper class.
      */
@@ -83,13 +104,16 @@ public class AccelerationConverter {
      */
     public static void convert(
             final Acceleration input, final AccelerationUnit outputUnit, final Acceleration result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts an acceleration value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      acceleration value.
      * @param inputUnit  input acceleration unit
@@ -101,6 +125,33 @@ public class AccelerationConverter {
         return BigDecimal.valueOf(convert(input.doubleValue(), inputUnit, outputUnit));
     }
 
+    /**
+     * Converts an acceleration value from input unit to provided output unit without binary
+     * floating point rounding.
+     * Result is computed from exact definitions of units using a single multiplication
+     * (or division when the factor between both units is not a terminating decimal) by
+     * a factor computed once for each pair of units, and it is rounded once using
+     * provided context. Hence, results are exact as long as provided context has
+     * enough precision (e.g. {@link MathContext#UNLIMITED} when factor between
+     * both units is a terminating decimal).
+     *
+     * @param input       acceleration value.
+     * @param inputUnit   input acceleration unit.
+     * @param outputUnit  output acceleration unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted acceleration value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    public static BigDecimal convert(
+            final BigDecimal input, final AccelerationUnit inputUnit, final AccelerationUnit outputUnit,
+            final MathContext mathContext) {
+        UnitsMetricsRegistry.conversion(MeasurementType.ACCELERATION, inputUnit, outputUnit, 1);
+        return EXACT.convert(input, inputUnit, outputUnit, mathContext);
+    }
+
     /**
      * Converts an acceleration value from input unit to provided output unit.
      *
@@ -111,20 +162,68 @@ public class AccelerationConverter {
      */
     public static double convert(
             final double input, final AccelerationUnit inputUnit, final AccelerationUnit outputUnit) {
+        UnitsMetricsRegistry.conversion(MeasurementType.ACCELERATION, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
 
-        //convert to meters per squared second
-        final var metersPerSquaredSecond = switch (inputUnit) {
-            case FEET_PER_SQUARED_SECOND -> feetPerSquaredSecondToMetersPerSquaredSecond(input);
-            case G -> gravityToMetersPerSquaredSecond(input);
-            default -> input;
-        };
+    /**
+     * Converts an acceleration value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      acceleration value.
+     * @param inputUnit  input acceleration unit.
+     * @param outputUnit output acceleration unit.
+     * @return converted acceleration value.
+     */
+    static double convertValue(
+            final double input, final AccelerationUnit inputUnit, final AccelerationUnit outputUnit) {
+        return input * FACTORS[inputUnit.ordinal()][outputUnit.ordinal()];
+    }
 
-        //convert from meters per squared second to required output unit
-        return switch (outputUnit) {
-            case FEET_PER_SQUARED_SECOND -> metersPerSquaredSecondToFeetPerSquaredSecond(metersPerSquaredSecond);
-            case G -> metersPerSquaredSecondToGravity(metersPerSquaredSecond);
-            default -> metersPerSquaredSecond;
-        };
+    /**
+     * Converts an array of acceleration values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing acceleration values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted acceleration values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input acceleration unit.
+     * @param outputUnit   output acceleration unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final AccelerationUnit inputUnit, final AccelerationUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.ACCELERATION, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining acceleration values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing acceleration values to be converted.
+     * @param output     buffer where converted acceleration values will be stored.
+     * @param inputUnit  input acceleration unit.
+     * @param outputUnit output acceleration unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final AccelerationUnit inputUnit,
+            final AccelerationUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.ACCELERATION, inputUnit, outputUnit, length);
     }
 
     /**
@@ -167,4 +266,34 @@ public class AccelerationConverter {
     public static double metersPerSquaredSecondToGravity(final double metersPerSquaredSecond) {
         return metersPerSquaredSecond / STANDARD_GRAVITY;
     }
+
+    /**
+     * Converts an acceleration value from provided unit to meters per squared second.
+     *
+     * @param input acceleration value.
+     * @param unit  unit of provided acceleration value.
+     * @return same acceleration converted to meters per squared second.
+     */
+    private static double toMetersPerSquaredSecond(final double input, final AccelerationUnit unit) {
+        return switch (unit) {
+            case FEET_PER_SQUARED_SECOND -> feetPerSquaredSecondToMetersPerSquaredSecond(input);
+            case G -> gravityToMetersPerSquaredSecond(input);
+            default -> input;
+        };
+    }
+
+    /**
+     * Converts an acceleration value expressed in meters per squared second to provided unit.
+     *
+     * @param metersPerSquaredSecond acceleration value expressed in meters per squared second.
+     * @param unit                   output acceleration unit.
+     * @return same acceleration converted to provided unit.
+     */
+    private static double fromMetersPerSquaredSecond(final double metersPerSquaredSecond, final AccelerationUnit unit) {
+        return switch (unit) {
+            case FEET_PER_SQUARED_SECOND -> metersPerSquaredSecondToFeetPerSquaredSecond(metersPerSquaredSecond);
+            case G -> metersPerSquaredSecondToGravity(metersPerSquaredSecond);
+            default -> metersPerSquaredSecond;
+        };
+    }
 }
@@ -16,6 +16,8 @@
 
 package com.irurueta.units;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -39,6 +41,14 @@ public class AccelerationFormatter extends MeasureFormatter<Acceleration, Accele
      */
     public static final String FEET_PER_SQUARED_SECOND = "ft/s²";
 
+    /**
+     * Finds acceleration units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<AccelerationUnit> UNIT_MATCHER = new UnitSymbolMatcher<AccelerationUnit>()
+            .add(METERS_PER_SQUARED_SECOND, AccelerationUnit.METERS_PER_SQUARED_SECOND)
+            .add(G, AccelerationUnit.G)
+            .add(FEET_PER_SQUARED_SECOND, AccelerationUnit.FEET_PER_SQUARED_SECOND);
+
     /**
      * Constructor.
      */
@@ -121,16 +131,35 @@ public class AccelerationFormatter extends MeasureFormatter<Acceleration, Accele
      */
     @Override
     public AccelerationUnit findUnit(final String source) {
-        if (source.contains(METERS_PER_SQUARED_SECOND + " ") || source.endsWith(METERS_PER_SQUARED_SECOND)) {
-            return AccelerationUnit.METERS_PER_SQUARED_SECOND;
-        }
-        if (source.contains(G + " ") || source.endsWith(G)) {
-            return AccelerationUnit.G;
-        }
-        if (source.contains(FEET_PER_SQUARED_SECOND + " ") || source.endsWith(FEET_PER_SQUARED_SECOND)) {
-            return AccelerationUnit.FEET_PER_SQUARED_SECOND;
-        }
-        return null;
+        return UNIT_MATCHER.find(source);
+    }
+
+    /**
+     * Attempts to determine an acceleration unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    AccelerationUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine an acceleration unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    AccelerationUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
@@ -161,8 +190,8 @@ public class AccelerationFormatter extends MeasureFormatter<Acceleration, Accele
      */
     public String formatAndConvertMetric(final Number value, final AccelerationUnit unit) {
         //always format as meters per squared second
-        return format(AccelerationConverter.convert(value, unit, AccelerationUnit.METERS_PER_SQUARED_SECOND),
-                AccelerationUnit.METERS_PER_SQUARED_SECOND);
+        return format(BigDecimal.valueOf(AccelerationConverter.convertValue(value.doubleValue(), unit,
+                AccelerationUnit.METERS_PER_SQUARED_SECOND)), AccelerationUnit.METERS_PER_SQUARED_SECOND);
     }
 
     /**
@@ -174,8 +203,8 @@ public class AccelerationFormatter extends MeasureFormatter<Acceleration, Accele
      */
     public String formatAndConvertImperial(final Number value, final AccelerationUnit unit) {
         //always format as feet per squared second
-        return format(AccelerationConverter.convert(value, unit, AccelerationUnit.FEET_PER_SQUARED_SECOND),
-                AccelerationUnit.FEET_PER_SQUARED_SECOND);
+        return format(BigDecimal.valueOf(AccelerationConverter.convertValue(value.doubleValue(), unit,
+                AccelerationUnit.FEET_PER_SQUARED_SECOND)), AccelerationUnit.FEET_PER_SQUARED_SECOND);
     }
 
     /**
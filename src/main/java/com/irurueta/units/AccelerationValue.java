@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable acceleration value and unit.
+ * Unlike {@link Acceleration}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value acceleration value.
+ * @param unit  unit of acceleration.
+ */
+public record AccelerationValue(double value, AccelerationUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value acceleration value.
+     * @param unit  unit of acceleration.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public AccelerationValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable acceleration value from provided mutable acceleration.
+     *
+     * @param acceleration acceleration to copy value and unit from.
+     * @return a new immutable acceleration value.
+     * @throws NullPointerException     if provided acceleration is null.
+     * @throws IllegalArgumentException if provided acceleration has no unit.
+     * @throws IllegalStateException    if provided acceleration has no value.
+     */
+    public static AccelerationValue from(final Acceleration acceleration) {
+        return new AccelerationValue(acceleration.getValueAsDouble(), acceleration.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable acceleration.
+     *
+     * @return a new mutable acceleration containing this value and unit.
+     */
+    public Acceleration toAcceleration() {
+        final var result = new Acceleration();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this acceleration to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return an acceleration value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AccelerationValue convertTo(final AccelerationUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new AccelerationValue(AccelerationConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided acceleration value and unit to this instance.
+     *
+     * @param value acceleration value to be added.
+     * @param unit  unit of acceleration value to be added.
+     * @return a new acceleration value expressed in the unit of this instance.
+     */
+    public AccelerationValue add(final double value, final AccelerationUnit unit) {
+        return new AccelerationValue(Acceleration.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided acceleration to this instance.
+     *
+     * @param other acceleration to be added.
+     * @return a new acceleration value expressed in the unit of this instance.
+     */
+    public AccelerationValue add(final AccelerationValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided acceleration to this instance.
+     *
+     * @param other      acceleration to be added.
+     * @param resultUnit unit of returned acceleration.
+     * @return a new acceleration value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AccelerationValue add(final AccelerationValue other, final AccelerationUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new AccelerationValue(Acceleration.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided acceleration value and unit from this instance.
+     *
+     * @param value acceleration value to be subtracted.
+     * @param unit  unit of acceleration value to be subtracted.
+     * @return a new acceleration value expressed in the unit of this instance.
+     */
+    public AccelerationValue subtract(final double value, final AccelerationUnit unit) {
+        return new AccelerationValue(Acceleration.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided acceleration from this instance.
+     *
+     * @param other acceleration to be subtracted.
+     * @return a new acceleration value expressed in the unit of this instance.
+     */
+    public AccelerationValue subtract(final AccelerationValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided acceleration from this instance.
+     *
+     * @param other      acceleration to be subtracted.
+     * @param resultUnit unit of returned acceleration.
+     * @return a new acceleration value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AccelerationValue subtract(final AccelerationValue other, final AccelerationUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        final var result = Acceleration.subtract(value, unit, other.value, other.unit, resultUnit);
+        return new AccelerationValue(result, resultUnit);
+    }
+
+    /**
+     * Determines if two acceleration values are equal up to a certain tolerance.
+     * If needed, provided acceleration is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another acceleration to compare.
+     * @param tolerance amount of tolerance to determine whether both acceleration values are
+     *                  equal or not.
+     * @return true if provided acceleration is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final AccelerationValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = AccelerationConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
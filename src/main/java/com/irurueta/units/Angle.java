@@ -61,8 +61,8 @@ public class Angle extends Measurement<AngleUnit> {
             return false;
         }
 
-        final var otherValue = AngleConverter.convert(other.getValue().doubleValue(), other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        final var otherValue = AngleConverter.convertValue(other.getValueAsDouble(), other.getUnit(), getUnit());
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -79,8 +79,8 @@ public class Angle extends Measurement<AngleUnit> {
             final double value1, final AngleUnit unit1,
             final double value2, final AngleUnit unit2,
             final AngleUnit resultUnit) {
-        final var v1 = AngleConverter.convert(value1, unit1, resultUnit);
-        final var v2 = AngleConverter.convert(value2, unit2, resultUnit);
+        final var v1 = AngleConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = AngleConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -109,7 +109,8 @@ public class Angle extends Measurement<AngleUnit> {
      * @param result instance where result will be stored.
      */
     public static void add(final Angle arg1, final Angle arg2, final Angle result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -139,7 +140,7 @@ public class Angle extends Measurement<AngleUnit> {
             final double value, final AngleUnit unit, final AngleUnit resultUnit) {
         final var result = new Angle();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -155,7 +156,7 @@ public class Angle extends Measurement<AngleUnit> {
             final Number value, final AngleUnit unit, final AngleUnit resultUnit) {
         final var result = new Angle();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -177,7 +178,7 @@ public class Angle extends Measurement<AngleUnit> {
      * @param unit  unit of angle value.
      */
     public void add(final double value, final AngleUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -187,7 +188,7 @@ public class Angle extends Measurement<AngleUnit> {
      * @param unit  unit of angle value.
      */
     public void add(final Number value, final AngleUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -223,8 +224,8 @@ public class Angle extends Measurement<AngleUnit> {
             final double value1, final AngleUnit unit1,
             final double value2, final AngleUnit unit2,
             final AngleUnit resultUnit) {
-        final var v1 = AngleConverter.convert(value1, unit1, resultUnit);
-        final var v2 = AngleConverter.convert(value2, unit2, resultUnit);
+        final var v1 = AngleConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = AngleConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -253,7 +254,8 @@ public class Angle extends Measurement<AngleUnit> {
      * @param result instance where result will be stored.
      */
     public static void subtract(final Angle arg1, final Angle arg2, final Angle result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -283,7 +285,7 @@ public class Angle extends Measurement<AngleUnit> {
             final double value, final AngleUnit unit, final AngleUnit resultUnit) {
         final var result = new Angle();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -299,7 +301,7 @@ public class Angle extends Measurement<AngleUnit> {
             final Number value, final AngleUnit unit, final AngleUnit resultUnit) {
         final var result = new Angle();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -321,7 +323,7 @@ public class Angle extends Measurement<AngleUnit> {
      * @param unit  unit of angle value.
      */
     public void subtract(final double value, final AngleUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -331,7 +333,7 @@ public class Angle extends Measurement<AngleUnit> {
      * @param unit  unit of angle value.
      */
     public void subtract(final Number value, final AngleUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Stores large amounts of angle values sharing the same unit.
+ */
+public class AngleArray extends MeasurementArray<AngleUnit> {
+
+    /**
+     * Constructor.
+     * All values are initialized to zero.
+     *
+     * @param length number of angle values.
+     * @param unit   unit shared by all angle values.
+     * @throws IllegalArgumentException if length is negative or unit is null.
+     */
+    public AngleArray(final int length, final AngleUnit unit) {
+        super(length, unit);
+    }
+
+    /**
+     * Constructor.
+     * Provided values are not copied, hence any change made on them will be
+     * reflected on this instance.
+     *
+     * @param values angle values to be stored.
+     * @param unit   unit shared by all angle values.
+     * @throws IllegalArgumentException if either values or unit is null.
+     */
+    public AngleArray(final double[] values, final AngleUnit unit) {
+        super(values, unit);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param values array containing angle values.
+     * @param offset position of first value within values array.
+     * @param length number of angle values.
+     * @param unit   unit shared by all angle values.
+     * @throws IllegalArgumentException if either values or unit is null, or if
+     *                                  offset and length exceed array bounds.
+     */
+    AngleArray(final double[] values, final int offset, final int length, final AngleUnit unit) {
+        super(values, offset, length, unit);
+    }
+
+    /**
+     * Gets angle at provided position.
+     *
+     * @param index position of angle to be returned.
+     * @return angle value and unit at provided position.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public AngleValue getValue(final int index) {
+        return new AngleValue(get(index), getUnit());
+    }
+
+    /**
+     * Converts all angle values to provided unit.
+     *
+     * @param outputUnit unit to convert values to.
+     * @return a new instance containing converted values.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    @Override
+    public AngleArray convertTo(final AngleUnit outputUnit) {
+        return (AngleArray) super.convertTo(outputUnit);
+    }
+
+    /**
+     * Returns a view of a range of angle values of this instance.
+     * Returned instance shares values with this instance, hence changes on
+     * either of them are reflected on the other one.
+     *
+     * @param fromIndex position of first value to be included (inclusive).
+     * @param toIndex   position of last value to be included (exclusive).
+     * @return a view of requested range of values.
+     * @throws IllegalArgumentException if indices are out of bounds or fromIndex is
+     *                                  greater than toIndex.
+     */
+    @Override
+    public AngleArray slice(final int fromIndex, final int toIndex) {
+        return (AngleArray) super.slice(fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param values array containing angle values.
+     * @param offset position of first value within values array.
+     * @param length number of angle values.
+     * @param unit   unit shared by all angle values.
+     * @return a new instance.
+     */
+    @Override
+    AngleArray newInstance(final double[] values, final int offset, final int length, final AngleUnit unit) {
+        return new AngleArray(values, offset, length, unit);
+    }
+
+    /**
+     * Converts an angle value from input unit to provided output unit.
+     *
+     * @param value      angle value to be converted.
+     * @param inputUnit  input angle unit.
+     * @param outputUnit output angle unit.
+     * @return converted angle value.
+     */
+    @Override
+    double convert(final double value, final AngleUnit inputUnit, final AngleUnit outputUnit) {
+        return AngleConverter.convert(value, inputUnit, outputUnit);
+    }
+
+    /**
+     * Converts an array of angle values from input unit to provided output unit.
+     *
+     * @param input        array containing angle values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted angle values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input angle unit.
+     * @param outputUnit   output angle unit.
+     */
+    @Override
+    void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final AngleUnit inputUnit, final AngleUnit outputUnit) {
+        AngleConverter.convert(input, inputOffset, output, outputOffset, length, inputUnit, outputUnit);
+    }
+}
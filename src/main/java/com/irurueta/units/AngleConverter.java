@@ -17,6 +17,7 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.nio.DoubleBuffer;
 
 /**
  * Does angle conversions to different units. To prevent loss of accuracy, conversion should only be done as a final
@@ -45,6 +46,13 @@ public class AngleConverter {
      */
     private static final int MINUTES_TO_SECONDS = 60;
 
+    /**
+     * Factors to convert angle values between every pair of units, indexed by input
+     * and output unit ordinals.
+     */
+    private static final double[][] FACTORS = ConversionKernels.factors(AngleUnit.values(),
+            (inputUnit, outputUnit) -> fromRadians(toRadians(1.0, inputUnit), outputUnit));
+
     /**
      * Constructor. Prevents instantiation of helper class.
      */
@@ -93,13 +101,16 @@ public class AngleConverter {
      */
     public static void convert(
             final Angle input, final AngleUnit outputUnit, final Angle result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts an angle value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      angle value.
      * @param inputUnit  input angle unit.
@@ -119,24 +130,70 @@ public class AngleConverter {
      * @param outputUnit output angle unit.
      * @return converted angle value.
      */
-    @SuppressWarnings("DuplicatedCode")
     public static double convert(
             final double input, final AngleUnit inputUnit, final AngleUnit outputUnit) {
+        UnitsMetricsRegistry.conversion(MeasurementType.ANGLE, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
 
-        //convert to radians
-        final double radians;
-        if (inputUnit == AngleUnit.DEGREES) {
-            radians = Math.toRadians(input);
-        } else {
-            radians = input;
-        }
+    /**
+     * Converts an angle value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      angle value.
+     * @param inputUnit  input angle unit.
+     * @param outputUnit output angle unit.
+     * @return converted angle value.
+     */
+    static double convertValue(
+            final double input, final AngleUnit inputUnit, final AngleUnit outputUnit) {
+        return input * FACTORS[inputUnit.ordinal()][outputUnit.ordinal()];
+    }
 
-        //convert from radians to required output unit
-        if (outputUnit == AngleUnit.DEGREES) {
-            return Math.toDegrees(radians);
-        } else {
-            return radians;
-        }
+    /**
+     * Converts an array of angle values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing angle values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted angle values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input angle unit.
+     * @param outputUnit   output angle unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final AngleUnit inputUnit, final AngleUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.ANGLE, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining angle values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing angle values to be converted.
+     * @param output     buffer where converted angle values will be stored.
+     * @param inputUnit  input angle unit.
+     * @param outputUnit output angle unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final AngleUnit inputUnit,
+            final AngleUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.ANGLE, inputUnit, outputUnit, length);
     }
 
     /**
@@ -174,7 +231,7 @@ public class AngleConverter {
             throw new IllegalArgumentException();
         }
 
-        final var decimalDegrees = convert(value, unit, AngleUnit.DEGREES);
+        final var decimalDegrees = convertValue(value, unit, AngleUnit.DEGREES);
 
         final var degrees = Math.floor(decimalDegrees);
 
@@ -229,7 +286,7 @@ public class AngleConverter {
      * @throws IllegalArgumentException if provided array does not have length 2.
      */
     public static void toDegreesAndMinutes(final Angle angle, final double[] result) {
-        toDegreesAndMinutes(angle.getValue(), angle.getUnit(), result);
+        toDegreesAndMinutes(angle.getValueAsDouble(), angle.getUnit(), result);
     }
 
     /**
@@ -239,7 +296,7 @@ public class AngleConverter {
      * @return array containing degrees and minutes.
      */
     public static double[] toDegreesAndMinutes(final Angle angle) {
-        return toDegreesAndMinutes(angle.getValue(), angle.getUnit());
+        return toDegreesAndMinutes(angle.getValueAsDouble(), angle.getUnit());
     }
 
     /**
@@ -256,7 +313,7 @@ public class AngleConverter {
         if (minutes < 0.0) {
             throw new IllegalArgumentException();
         }
-        return convert(degrees + minutes / DEGREES_TO_MINUTES, AngleUnit.DEGREES, resultUnit);
+        return convertValue(degrees + minutes / DEGREES_TO_MINUTES, AngleUnit.DEGREES, resultUnit);
     }
 
     /**
@@ -268,7 +325,7 @@ public class AngleConverter {
      * @throws IllegalArgumentException if minutes is negative.
      */
     public static void fromDegreesAndMinutes(final int degrees, final double minutes, final Angle result) {
-        result.setValue(fromDegreesAndMinutes(degrees, minutes, result.getUnit()));
+        result.setValueAsDouble(fromDegreesAndMinutes(degrees, minutes, result.getUnit()));
     }
 
     /**
@@ -302,7 +359,7 @@ public class AngleConverter {
             throw new IllegalArgumentException();
         }
 
-        final var decimalDegrees = convert(value, unit, AngleUnit.DEGREES);
+        final var decimalDegrees = convertValue(value, unit, AngleUnit.DEGREES);
 
         final var degrees = Math.floor(decimalDegrees);
 
@@ -363,7 +420,7 @@ public class AngleConverter {
      * @throws IllegalArgumentException if provided array does not have length 3.
      */
     public static void toDegreesMinutesAndSeconds(final Angle angle, final double[] result) {
-        toDegreesMinutesAndSeconds(angle.getValue(), angle.getUnit(), result);
+        toDegreesMinutesAndSeconds(angle.getValueAsDouble(), angle.getUnit(), result);
     }
 
     /**
@@ -373,7 +430,7 @@ public class AngleConverter {
      * @return array containing degrees and minutes.
      */
     public static double[] toDegreesMinutesAndSeconds(final Angle angle) {
-        return toDegreesMinutesAndSeconds(angle.getValue(), angle.getUnit());
+        return toDegreesMinutesAndSeconds(angle.getValueAsDouble(), angle.getUnit());
     }
 
     /**
@@ -391,7 +448,7 @@ public class AngleConverter {
         if (minutes < 0 || seconds < 0.0) {
             throw new IllegalArgumentException();
         }
-        return convert(degrees + (minutes + (seconds / MINUTES_TO_SECONDS)) / DEGREES_TO_MINUTES,
+        return convertValue(degrees + (minutes + (seconds / MINUTES_TO_SECONDS)) / DEGREES_TO_MINUTES,
                 AngleUnit.DEGREES, resultUnit);
     }
 
@@ -407,7 +464,7 @@ public class AngleConverter {
      */
     public static void fromDegreesMinutesAndSeconds(
             final int degrees, final int minutes, final double seconds, final Angle result) {
-        result.setValue(fromDegreesMinutesAndSeconds(degrees, minutes, seconds, result.getUnit()));
+        result.setValueAsDouble(fromDegreesMinutesAndSeconds(degrees, minutes, seconds, result.getUnit()));
     }
 
     /**
@@ -426,4 +483,34 @@ public class AngleConverter {
         fromDegreesMinutesAndSeconds(degrees, minutes, seconds, result);
         return result;
     }
+
+    /**
+     * Converts an angle value from provided unit to radians.
+     *
+     * @param input angle value.
+     * @param unit  unit of provided angle value.
+     * @return same angle converted to radians.
+     */
+    private static double toRadians(final double input, final AngleUnit unit) {
+        if (unit == AngleUnit.DEGREES) {
+            return Math.toRadians(input);
+        } else {
+            return input;
+        }
+    }
+
+    /**
+     * Converts an angle value expressed in radians to provided unit.
+     *
+     * @param radians angle value expressed in radians.
+     * @param unit    output angle unit.
+     * @return same angle converted to provided unit.
+     */
+    private static double fromRadians(final double radians, final AngleUnit unit) {
+        if (unit == AngleUnit.DEGREES) {
+            return Math.toDegrees(radians);
+        } else {
+            return radians;
+        }
+    }
 }
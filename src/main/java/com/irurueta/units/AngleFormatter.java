@@ -16,6 +16,7 @@
 
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.text.ParseException;
 import java.util.Locale;
@@ -59,12 +60,20 @@ public class AngleFormatter extends MeasureFormatter<Angle, AngleUnit> {
     /**
      * Pattern to parse angle in degrees and decimal minutes format.
      */
-    private Pattern degreesAndMinutesPattern;
+    private static final Pattern COMPILED_DEGREES_AND_MINUTES_PATTERN = Pattern.compile(DEGREES_AND_MINUTES_PATTERN);
 
     /**
      * Pattern to parse angle in degrees, minutes and decimal seconds format.
      */
-    private Pattern degreesMinutesAndSecondsPattern;
+    private static final Pattern COMPILED_DEGREES_MINUTES_AND_SECONDS_PATTERN =
+            Pattern.compile(DEGREES_MINUTES_AND_SECONDS_PATTERN);
+
+    /**
+     * Finds angle units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<AngleUnit> UNIT_MATCHER = new UnitSymbolMatcher<AngleUnit>()
+            .add(DEGREE, AngleUnit.DEGREES)
+            .add(RADIAN, AngleUnit.RADIANS);
 
     /**
      * Constructor.
@@ -91,8 +100,6 @@ public class AngleFormatter extends MeasureFormatter<Angle, AngleUnit> {
      */
     public AngleFormatter(final AngleFormatter formatter) {
         this(formatter.getLocale());
-        degreesAndMinutesPattern = formatter.degreesAndMinutesPattern;
-        degreesMinutesAndSecondsPattern = formatter.degreesMinutesAndSecondsPattern;
     }
 
     /**
@@ -151,13 +158,35 @@ public class AngleFormatter extends MeasureFormatter<Angle, AngleUnit> {
      */
     @Override
     public AngleUnit findUnit(final String source) {
-        if (source.contains(DEGREE + " ") || source.endsWith(DEGREE)) {
-            return AngleUnit.DEGREES;
-        }
-        if (source.contains(RADIAN + " ") || source.endsWith(RADIAN)) {
-            return AngleUnit.RADIANS;
-        }
-        return null;
+        return UNIT_MATCHER.find(source);
+    }
+
+    /**
+     * Attempts to determine an angle unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    AngleUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine an angle unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    AngleUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
@@ -197,9 +226,10 @@ public class AngleFormatter extends MeasureFormatter<Angle, AngleUnit> {
      */
     public String formatDegreesAndMinutes(final Angle angle) {
         final var degreesAndMinutes = AngleConverter.toDegreesAndMinutes(angle);
+        final var format = getNumberFormatInstance();
         return MessageFormat.format(DEGREES_AND_MINUTES_MESSAGE_PATTERN,
-                numberFormat.format(degreesAndMinutes[0]),
-                numberFormat.format(degreesAndMinutes[1]));
+                format.format(degreesAndMinutes[0]),
+                format.format(degreesAndMinutes[1]));
     }
 
     /**
@@ -210,10 +240,11 @@ public class AngleFormatter extends MeasureFormatter<Angle, AngleUnit> {
      */
     public String formatDegreesMinutesAndSeconds(final Angle angle) {
         final var degreesMinutesAndSeconds = AngleConverter.toDegreesMinutesAndSeconds(angle);
+        final var format = getNumberFormatInstance();
         return MessageFormat.format(DEGREES_MINUTES_AND_SECONDS_MESSAGE_PATTERN,
-                numberFormat.format(degreesMinutesAndSeconds[0]),
-                numberFormat.format(degreesMinutesAndSeconds[1]),
-                numberFormat.format(degreesMinutesAndSeconds[2]));
+                format.format(degreesMinutesAndSeconds[0]),
+                format.format(degreesMinutesAndSeconds[1]),
+                format.format(degreesMinutesAndSeconds[2]));
     }
 
     /**
@@ -227,11 +258,7 @@ public class AngleFormatter extends MeasureFormatter<Angle, AngleUnit> {
      */
     @SuppressWarnings("Duplicates")
     public Angle parseDegreesAndMinutes(final CharSequence source) throws ParseException, UnknownUnitException {
-        if (degreesAndMinutesPattern == null) {
-            degreesAndMinutesPattern = Pattern.compile(DEGREES_AND_MINUTES_PATTERN);
-        }
-
-        final var matcher = degreesAndMinutesPattern.matcher(source);
+        final var matcher = COMPILED_DEGREES_AND_MINUTES_PATTERN.matcher(source);
         if (!matcher.matches()) {
             throw new UnknownUnitException();
         }
@@ -239,8 +266,9 @@ public class AngleFormatter extends MeasureFormatter<Angle, AngleUnit> {
         final var degreeString = matcher.group(1);
         final var minuteString = matcher.group(3);
 
-        final var degree = numberFormat.parse(degreeString);
-        final var minute = numberFormat.parse(minuteString);
+        final var format = getNumberFormatInstance();
+        final var degree = format.parse(degreeString);
+        final var minute = format.parse(minuteString);
 
         final var angle = AngleConverter.fromDegreesAndMinutes(
                 degree.intValue(), minute.doubleValue(), AngleUnit.DEGREES);
@@ -257,11 +285,7 @@ public class AngleFormatter extends MeasureFormatter<Angle, AngleUnit> {
      */
     @SuppressWarnings("Duplicates")
     public Angle parseDegreesMinutesAndSeconds(final CharSequence source) throws ParseException, UnknownUnitException {
-        if (degreesMinutesAndSecondsPattern == null) {
-            degreesMinutesAndSecondsPattern = Pattern.compile(DEGREES_MINUTES_AND_SECONDS_PATTERN);
-        }
-
-        final var matcher = degreesMinutesAndSecondsPattern.matcher(source);
+        final var matcher = COMPILED_DEGREES_MINUTES_AND_SECONDS_PATTERN.matcher(source);
         if (!matcher.matches()) {
             throw new UnknownUnitException();
         }
@@ -270,9 +294,10 @@ public class AngleFormatter extends MeasureFormatter<Angle, AngleUnit> {
         final var minuteString = matcher.group(3);
         final var secondString = matcher.group(5);
 
-        final var degree = numberFormat.parse(degreeString);
-        final var minute = numberFormat.parse(minuteString);
-        final var second = numberFormat.parse(secondString);
+        final var format = getNumberFormatInstance();
+        final var degree = format.parse(degreeString);
+        final var minute = format.parse(minuteString);
+        final var second = format.parse(secondString);
 
         final var angle = AngleConverter.fromDegreesMinutesAndSeconds(
                 degree.intValue(), minute.intValue(), second.doubleValue(), AngleUnit.DEGREES);
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable angle value and unit.
+ * Unlike {@link Angle}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value angle value.
+ * @param unit  unit of angle.
+ */
+public record AngleValue(double value, AngleUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value angle value.
+     * @param unit  unit of angle.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public AngleValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable angle value from provided mutable angle.
+     *
+     * @param angle angle to copy value and unit from.
+     * @return a new immutable angle value.
+     * @throws NullPointerException     if provided angle is null.
+     * @throws IllegalArgumentException if provided angle has no unit.
+     * @throws IllegalStateException    if provided angle has no value.
+     */
+    public static AngleValue from(final Angle angle) {
+        return new AngleValue(angle.getValueAsDouble(), angle.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable angle.
+     *
+     * @return a new mutable angle containing this value and unit.
+     */
+    public Angle toAngle() {
+        final var result = new Angle();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this angle to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return an angle value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AngleValue convertTo(final AngleUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new AngleValue(AngleConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided angle value and unit to this instance.
+     *
+     * @param value angle value to be added.
+     * @param unit  unit of angle value to be added.
+     * @return a new angle value expressed in the unit of this instance.
+     */
+    public AngleValue add(final double value, final AngleUnit unit) {
+        return new AngleValue(Angle.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided angle to this instance.
+     *
+     * @param other angle to be added.
+     * @return a new angle value expressed in the unit of this instance.
+     */
+    public AngleValue add(final AngleValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided angle to this instance.
+     *
+     * @param other      angle to be added.
+     * @param resultUnit unit of returned angle.
+     * @return a new angle value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AngleValue add(final AngleValue other, final AngleUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new AngleValue(Angle.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided angle value and unit from this instance.
+     *
+     * @param value angle value to be subtracted.
+     * @param unit  unit of angle value to be subtracted.
+     * @return a new angle value expressed in the unit of this instance.
+     */
+    public AngleValue subtract(final double value, final AngleUnit unit) {
+        return new AngleValue(Angle.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided angle from this instance.
+     *
+     * @param other angle to be subtracted.
+     * @return a new angle value expressed in the unit of this instance.
+     */
+    public AngleValue subtract(final AngleValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided angle from this instance.
+     *
+     * @param other      angle to be subtracted.
+     * @param resultUnit unit of returned angle.
+     * @return a new angle value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AngleValue subtract(final AngleValue other, final AngleUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new AngleValue(Angle.subtract(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Determines if two angle values are equal up to a certain tolerance.
+     * If needed, provided angle is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another angle to compare.
+     * @param tolerance amount of tolerance to determine whether both angle values are
+     *                  equal or not.
+     * @return true if provided angle is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final AngleValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = AngleConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
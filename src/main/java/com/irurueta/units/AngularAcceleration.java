@@ -63,9 +63,9 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
             return false;
         }
 
-        final var otherValue = AngularAccelerationConverter.convert(
-                other.getValue().doubleValue(), other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        final var otherValue = AngularAccelerationConverter.convertValue(
+                other.getValueAsDouble(), other.getUnit(), getUnit());
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -81,8 +81,8 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
     public static double add(final double value1, final AngularAccelerationUnit unit1,
                              final double value2, final AngularAccelerationUnit unit2,
                              final AngularAccelerationUnit resultUnit) {
-        final var v1 = AngularAccelerationConverter.convert(value1, unit1, resultUnit);
-        final var v2 = AngularAccelerationConverter.convert(value2, unit2, resultUnit);
+        final var v1 = AngularAccelerationConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = AngularAccelerationConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -111,7 +111,8 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
      */
     public static void add(final AngularAcceleration arg1, final AngularAcceleration arg2,
                            final AngularAcceleration result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -143,7 +144,7 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
             final double value, final AngularAccelerationUnit unit, final AngularAccelerationUnit resultUnit) {
         final AngularAcceleration result = new AngularAcceleration();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -160,7 +161,7 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
             final Number value, final AngularAccelerationUnit unit, final AngularAccelerationUnit resultUnit) {
         final var result = new AngularAcceleration();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -184,7 +185,7 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
      * @param unit  unit of angular acceleration value.
      */
     public void add(final double value, final AngularAccelerationUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -195,7 +196,7 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
      * @param unit  unit of angular acceleration value.
      */
     public void add(final Number value, final AngularAccelerationUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -232,8 +233,8 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
             final double value1, final AngularAccelerationUnit unit1,
             final double value2, final AngularAccelerationUnit unit2,
             final AngularAccelerationUnit resultUnit) {
-        final var v1 = AngularAccelerationConverter.convert(value1, unit1, resultUnit);
-        final var v2 = AngularAccelerationConverter.convert(value2, unit2, resultUnit);
+        final var v1 = AngularAccelerationConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = AngularAccelerationConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -264,7 +265,8 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
     public static void subtract(
             final AngularAcceleration arg1, final AngularAcceleration arg2,
             final AngularAcceleration result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -298,7 +300,7 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
             final double value, final AngularAccelerationUnit unit, final AngularAccelerationUnit resultUnit) {
         final var result = new AngularAcceleration();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -315,7 +317,7 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
             final Number value, final AngularAccelerationUnit unit, final AngularAccelerationUnit resultUnit) {
         final var result = new AngularAcceleration();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -339,7 +341,7 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
      * @param unit  unit of angular acceleration value.
      */
     public void subtract(final double value, final AngularAccelerationUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -350,7 +352,7 @@ public class AngularAcceleration extends Measurement<AngularAccelerationUnit> {
      * @param unit  unit of angular acceleration value.
      */
     public void subtract(final Number value, final AngularAccelerationUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
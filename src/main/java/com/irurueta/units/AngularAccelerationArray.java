@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Stores large amounts of angular acceleration values sharing the same unit.
+ */
+public class AngularAccelerationArray extends MeasurementArray<AngularAccelerationUnit> {
+
+    /**
+     * Constructor.
+     * All values are initialized to zero.
+     *
+     * @param length number of angular acceleration values.
+     * @param unit   unit shared by all angular acceleration values.
+     * @throws IllegalArgumentException if length is negative or unit is null.
+     */
+    public AngularAccelerationArray(final int length, final AngularAccelerationUnit unit) {
+        super(length, unit);
+    }
+
+    /**
+     * Constructor.
+     * Provided values are not copied, hence any change made on them will be
+     * reflected on this instance.
+     *
+     * @param values angular acceleration values to be stored.
+     * @param unit   unit shared by all angular acceleration values.
+     * @throws IllegalArgumentException if either values or unit is null.
+     */
+    public AngularAccelerationArray(final double[] values, final AngularAccelerationUnit unit) {
+        super(values, unit);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param values array containing angular acceleration values.
+     * @param offset position of first value within values array.
+     * @param length number of angular acceleration values.
+     * @param unit   unit shared by all angular acceleration values.
+     * @throws IllegalArgumentException if either values or unit is null, or if
+     *                                  offset and length exceed array bounds.
+     */
+    AngularAccelerationArray(
+            final double[] values, final int offset, final int length, final AngularAccelerationUnit unit) {
+        super(values, offset, length, unit);
+    }
+
+    /**
+     * Gets angular acceleration at provided position.
+     *
+     * @param index position of angular acceleration to be returned.
+     * @return angular acceleration value and unit at provided position.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public AngularAccelerationValue getValue(final int index) {
+        return new AngularAccelerationValue(get(index), getUnit());
+    }
+
+    /**
+     * Converts all angular acceleration values to provided unit.
+     *
+     * @param outputUnit unit to convert values to.
+     * @return a new instance containing converted values.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    @Override
+    public AngularAccelerationArray convertTo(final AngularAccelerationUnit outputUnit) {
+        return (AngularAccelerationArray) super.convertTo(outputUnit);
+    }
+
+    /**
+     * Returns a view of a range of angular acceleration values of this instance.
+     * Returned instance shares values with this instance, hence changes on
+     * either of them are reflected on the other one.
+     *
+     * @param fromIndex position of first value to be included (inclusive).
+     * @param toIndex   position of last value to be included (exclusive).
+     * @return a view of requested range of values.
+     * @throws IllegalArgumentException if indices are out of bounds or fromIndex is
+     *                                  greater than toIndex.
+     */
+    @Override
+    public AngularAccelerationArray slice(final int fromIndex, final int toIndex) {
+        return (AngularAccelerationArray) super.slice(fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param values array containing angular acceleration values.
+     * @param offset position of first value within values array.
+     * @param length number of angular acceleration values.
+     * @param unit   unit shared by all angular acceleration values.
+     * @return a new instance.
+     */
+    @Override
+    AngularAccelerationArray newInstance(
+            final double[] values, final int offset, final int length, final AngularAccelerationUnit unit) {
+        return new AngularAccelerationArray(values, offset, length, unit);
+    }
+
+    /**
+     * Converts an angular acceleration value from input unit to provided output unit.
+     *
+     * @param value      angular acceleration value to be converted.
+     * @param inputUnit  input angular acceleration unit.
+     * @param outputUnit output angular acceleration unit.
+     * @return converted angular acceleration value.
+     */
+    @Override
+    double convert(
+            final double value, final AngularAccelerationUnit inputUnit, final AngularAccelerationUnit outputUnit) {
+        return AngularAccelerationConverter.convert(value, inputUnit, outputUnit);
+    }
+
+    /**
+     * Converts an array of angular acceleration values from input unit to provided output unit.
+     *
+     * @param input        array containing angular acceleration values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted angular acceleration values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input angular acceleration unit.
+     * @param outputUnit   output angular acceleration unit.
+     */
+    @Override
+    void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final AngularAccelerationUnit inputUnit, final AngularAccelerationUnit outputUnit) {
+        AngularAccelerationConverter.convert(input, inputOffset, output, outputOffset, length, inputUnit, outputUnit);
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -33,6 +34,14 @@ public class AngularAccelerationFormatter extends MeasureFormatter<AngularAccele
      */
     public static final String RADIANS_PER_SQUARED_SECOND = "rad/s²";
 
+    /**
+     * Finds angular acceleration units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<AngularAccelerationUnit> UNIT_MATCHER =
+            new UnitSymbolMatcher<AngularAccelerationUnit>()
+                    .add(DEGREES_PER_SQUARED_SECOND, AngularAccelerationUnit.DEGREES_PER_SQUARED_SECOND)
+                    .add(RADIANS_PER_SQUARED_SECOND, AngularAccelerationUnit.RADIANS_PER_SQUARED_SECOND);
+
     /**
      * Constructor.
      */
@@ -121,13 +130,35 @@ public class AngularAccelerationFormatter extends MeasureFormatter<AngularAccele
      */
     @Override
     public AngularAccelerationUnit findUnit(final String source) {
-        if (source.contains(DEGREES_PER_SQUARED_SECOND + " ") || source.endsWith(DEGREES_PER_SQUARED_SECOND)) {
-            return AngularAccelerationUnit.DEGREES_PER_SQUARED_SECOND;
-        }
-        if (source.contains(RADIANS_PER_SQUARED_SECOND + " ") || source.endsWith(RADIANS_PER_SQUARED_SECOND)) {
-            return AngularAccelerationUnit.RADIANS_PER_SQUARED_SECOND;
-        }
-        return null;
+        return UNIT_MATCHER.find(source);
+    }
+
+    /**
+     * Attempts to determine an angular acceleration unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    AngularAccelerationUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine an angular acceleration unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    AngularAccelerationUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
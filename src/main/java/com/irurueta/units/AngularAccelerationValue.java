@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable angular acceleration value and unit.
+ * Unlike {@link AngularAcceleration}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value angular acceleration value.
+ * @param unit  unit of angular acceleration.
+ */
+public record AngularAccelerationValue(double value, AngularAccelerationUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value angular acceleration value.
+     * @param unit  unit of angular acceleration.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public AngularAccelerationValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable angular acceleration value from provided mutable angular acceleration.
+     *
+     * @param angularAcceleration angular acceleration to copy value and unit from.
+     * @return a new immutable angular acceleration value.
+     * @throws NullPointerException     if provided angular acceleration is null.
+     * @throws IllegalArgumentException if provided angular acceleration has no unit.
+     * @throws IllegalStateException    if provided angular acceleration has no value.
+     */
+    public static AngularAccelerationValue from(final AngularAcceleration angularAcceleration) {
+        return new AngularAccelerationValue(angularAcceleration.getValueAsDouble(), angularAcceleration.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable angular acceleration.
+     *
+     * @return a new mutable angular acceleration containing this value and unit.
+     */
+    public AngularAcceleration toAngularAcceleration() {
+        final var result = new AngularAcceleration();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this angular acceleration to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return an angular acceleration value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AngularAccelerationValue convertTo(final AngularAccelerationUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new AngularAccelerationValue(AngularAccelerationConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided angular acceleration value and unit to this instance.
+     *
+     * @param value angular acceleration value to be added.
+     * @param unit  unit of angular acceleration value to be added.
+     * @return a new angular acceleration value expressed in the unit of this instance.
+     */
+    public AngularAccelerationValue add(final double value, final AngularAccelerationUnit unit) {
+        final var result = AngularAcceleration.add(this.value, this.unit, value, unit, this.unit);
+        return new AngularAccelerationValue(result, this.unit);
+    }
+
+    /**
+     * Adds provided angular acceleration to this instance.
+     *
+     * @param other angular acceleration to be added.
+     * @return a new angular acceleration value expressed in the unit of this instance.
+     */
+    public AngularAccelerationValue add(final AngularAccelerationValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided angular acceleration to this instance.
+     *
+     * @param other      angular acceleration to be added.
+     * @param resultUnit unit of returned angular acceleration.
+     * @return a new angular acceleration value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AngularAccelerationValue add(
+            final AngularAccelerationValue other, final AngularAccelerationUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        final var result = AngularAcceleration.add(value, unit, other.value, other.unit, resultUnit);
+        return new AngularAccelerationValue(result, resultUnit);
+    }
+
+    /**
+     * Subtracts provided angular acceleration value and unit from this instance.
+     *
+     * @param value angular acceleration value to be subtracted.
+     * @param unit  unit of angular acceleration value to be subtracted.
+     * @return a new angular acceleration value expressed in the unit of this instance.
+     */
+    public AngularAccelerationValue subtract(final double value, final AngularAccelerationUnit unit) {
+        final var result = AngularAcceleration.subtract(this.value, this.unit, value, unit, this.unit);
+        return new AngularAccelerationValue(result, this.unit);
+    }
+
+    /**
+     * Subtracts provided angular acceleration from this instance.
+     *
+     * @param other angular acceleration to be subtracted.
+     * @return a new angular acceleration value expressed in the unit of this instance.
+     */
+    public AngularAccelerationValue subtract(final AngularAccelerationValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided angular acceleration from this instance.
+     *
+     * @param other      angular acceleration to be subtracted.
+     * @param resultUnit unit of returned angular acceleration.
+     * @return a new angular acceleration value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AngularAccelerationValue subtract(
+            final AngularAccelerationValue other, final AngularAccelerationUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        final var result = AngularAcceleration.subtract(value, unit, other.value, other.unit, resultUnit);
+        return new AngularAccelerationValue(result, resultUnit);
+    }
+
+    /**
+     * Determines if two angular acceleration values are equal up to a certain tolerance.
+     * If needed, provided angular acceleration is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another angular acceleration to compare.
+     * @param tolerance amount of tolerance to determine whether both angular acceleration values are
+     *                  equal or not.
+     * @return true if provided angular acceleration is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final AngularAccelerationValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = AngularAccelerationConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
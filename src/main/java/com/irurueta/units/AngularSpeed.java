@@ -61,9 +61,9 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
             return false;
         }
 
-        final var otherValue = AngularSpeedConverter.convert(other.getValue().doubleValue(),
+        final var otherValue = AngularSpeedConverter.convertValue(other.getValueAsDouble(),
                 other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -80,8 +80,8 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
             final double value1, final AngularSpeedUnit unit1,
             final double value2, final AngularSpeedUnit unit2,
             final AngularSpeedUnit resultUnit) {
-        final var v1 = AngularSpeedConverter.convert(value1, unit1, resultUnit);
-        final var v2 = AngularSpeedConverter.convert(value2, unit2, resultUnit);
+        final var v1 = AngularSpeedConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = AngularSpeedConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -111,7 +111,8 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
      */
     public static void add(
             final AngularSpeed arg1, final AngularSpeed arg2, final AngularSpeed result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -143,7 +144,7 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
             final double value, final AngularSpeedUnit unit, final AngularSpeedUnit resultUnit) {
         final var result = new AngularSpeed();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -160,7 +161,7 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
             final Number value, final AngularSpeedUnit unit, final AngularSpeedUnit resultUnit) {
         final var result = new AngularSpeed();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -184,7 +185,7 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
      * @param unit  unit of angular speed value.
      */
     public void add(final double value, final AngularSpeedUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -195,7 +196,7 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
      * @param unit  unit of angular speed value.
      */
     public void add(final Number value, final AngularSpeedUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -231,8 +232,8 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
             final double value1, final AngularSpeedUnit unit1,
             final double value2, final AngularSpeedUnit unit2,
             final AngularSpeedUnit resultUnit) {
-        final var v1 = AngularSpeedConverter.convert(value1, unit1, resultUnit);
-        final var v2 = AngularSpeedConverter.convert(value2, unit2, resultUnit);
+        final var v1 = AngularSpeedConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = AngularSpeedConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -262,7 +263,8 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
      */
     public static void subtract(
             final AngularSpeed arg1, final AngularSpeed arg2, final AngularSpeed result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -294,7 +296,7 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
             final double value, final AngularSpeedUnit unit, final AngularSpeedUnit resultUnit) {
         final var result = new AngularSpeed();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -311,7 +313,7 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
             final Number value, final AngularSpeedUnit unit, final AngularSpeedUnit resultUnit) {
         final var result = new AngularSpeed();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -335,7 +337,7 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
      * @param unit  unit of angular speed value.
      */
     public void subtract(final double value, final AngularSpeedUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -346,7 +348,7 @@ public class AngularSpeed extends Measurement<AngularSpeedUnit> {
      * @param unit  unit of angular speed value.
      */
     public void subtract(final Number value, final AngularSpeedUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
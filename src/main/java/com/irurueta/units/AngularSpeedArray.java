@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Stores large amounts of angular speed values sharing the same unit.
+ */
+public class AngularSpeedArray extends MeasurementArray<AngularSpeedUnit> {
+
+    /**
+     * Constructor.
+     * All values are initialized to zero.
+     *
+     * @param length number of angular speed values.
+     * @param unit   unit shared by all angular speed values.
+     * @throws IllegalArgumentException if length is negative or unit is null.
+     */
+    public AngularSpeedArray(final int length, final AngularSpeedUnit unit) {
+        super(length, unit);
+    }
+
+    /**
+     * Constructor.
+     * Provided values are not copied, hence any change made on them will be
+     * reflected on this instance.
+     *
+     * @param values angular speed values to be stored.
+     * @param unit   unit shared by all angular speed values.
+     * @throws IllegalArgumentException if either values or unit is null.
+     */
+    public AngularSpeedArray(final double[] values, final AngularSpeedUnit unit) {
+        super(values, unit);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param values array containing angular speed values.
+     * @param offset position of first value within values array.
+     * @param length number of angular speed values.
+     * @param unit   unit shared by all angular speed values.
+     * @throws IllegalArgumentException if either values or unit is null, or if
+     *                                  offset and length exceed array bounds.
+     */
+    AngularSpeedArray(final double[] values, final int offset, final int length, final AngularSpeedUnit unit) {
+        super(values, offset, length, unit);
+    }
+
+    /**
+     * Gets angular speed at provided position.
+     *
+     * @param index position of angular speed to be returned.
+     * @return angular speed value and unit at provided position.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public AngularSpeedValue getValue(final int index) {
+        return new AngularSpeedValue(get(index), getUnit());
+    }
+
+    /**
+     * Converts all angular speed values to provided unit.
+     *
+     * @param outputUnit unit to convert values to.
+     * @return a new instance containing converted values.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    @Override
+    public AngularSpeedArray convertTo(final AngularSpeedUnit outputUnit) {
+        return (AngularSpeedArray) super.convertTo(outputUnit);
+    }
+
+    /**
+     * Returns a view of a range of angular speed values of this instance.
+     * Returned instance shares values with this instance, hence changes on
+     * either of them are reflected on the other one.
+     *
+     * @param fromIndex position of first value to be included (inclusive).
+     * @param toIndex   position of last value to be included (exclusive).
+     * @return a view of requested range of values.
+     * @throws IllegalArgumentException if indices are out of bounds or fromIndex is
+     *                                  greater than toIndex.
+     */
+    @Override
+    public AngularSpeedArray slice(final int fromIndex, final int toIndex) {
+        return (AngularSpeedArray) super.slice(fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param values array containing angular speed values.
+     * @param offset position of first value within values array.
+     * @param length number of angular speed values.
+     * @param unit   unit shared by all angular speed values.
+     * @return a new instance.
+     */
+    @Override
+    AngularSpeedArray newInstance(
+            final double[] values, final int offset, final int length, final AngularSpeedUnit unit) {
+        return new AngularSpeedArray(values, offset, length, unit);
+    }
+
+    /**
+     * Converts an angular speed value from input unit to provided output unit.
+     *
+     * @param value      angular speed value to be converted.
+     * @param inputUnit  input angular speed unit.
+     * @param outputUnit output angular speed unit.
+     * @return converted angular speed value.
+     */
+    @Override
+    double convert(final double value, final AngularSpeedUnit inputUnit, final AngularSpeedUnit outputUnit) {
+        return AngularSpeedConverter.convert(value, inputUnit, outputUnit);
+    }
+
+    /**
+     * Converts an array of angular speed values from input unit to provided output unit.
+     *
+     * @param input        array containing angular speed values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted angular speed values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input angular speed unit.
+     * @param outputUnit   output angular speed unit.
+     */
+    @Override
+    void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final AngularSpeedUnit inputUnit, final AngularSpeedUnit outputUnit) {
+        AngularSpeedConverter.convert(input, inputOffset, output, outputOffset, length, inputUnit, outputUnit);
+    }
+}
@@ -16,6 +16,7 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.nio.DoubleBuffer;
 
 /**
  * Does angular speed conversions to different units.
@@ -75,13 +76,16 @@ public class AngularSpeedConverter {
      */
     public static void convert(
             final AngularSpeed input, final AngularSpeedUnit outputUnit, final AngularSpeed result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts an angle value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      angular speed value.
      * @param inputUnit  input angular speed unit.
@@ -101,9 +105,24 @@ public class AngularSpeedConverter {
      * @param outputUnit output angular speed unit.
      * @return converted angular speed value.
      */
-    @SuppressWarnings("Duplicates")
     public static double convert(
             final double input, final AngularSpeedUnit inputUnit, final AngularSpeedUnit outputUnit) {
+        UnitsMetricsRegistry.conversion(MeasurementType.ANGULAR_SPEED, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
+
+    /**
+     * Converts an angular speed value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      angular speed value.
+     * @param inputUnit  input angular speed unit.
+     * @param outputUnit output angular speed unit.
+     * @return converted angular speed value.
+     */
+    @SuppressWarnings("Duplicates")
+    static double convertValue(
+            final double input, final AngularSpeedUnit inputUnit, final AngularSpeedUnit outputUnit) {
         //convert to radians per second
         double radiansPerSecond;
         if (inputUnit == AngularSpeedUnit.DEGREES_PER_SECOND) {
@@ -120,6 +139,52 @@ public class AngularSpeedConverter {
         }
     }
 
+    /**
+     * Converts an array of angular speed values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing angular speed values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted angular speed values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input angular speed unit.
+     * @param outputUnit   output angular speed unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final AngularSpeedUnit inputUnit, final AngularSpeedUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                convertValue(1.0, inputUnit, outputUnit));
+        UnitsMetricsRegistry.conversion(MeasurementType.ANGULAR_SPEED, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining angular speed values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing angular speed values to be converted.
+     * @param output     buffer where converted angular speed values will be stored.
+     * @param inputUnit  input angular speed unit.
+     * @param outputUnit output angular speed unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final AngularSpeedUnit inputUnit,
+            final AngularSpeedUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, convertValue(1.0, inputUnit, outputUnit));
+        UnitsMetricsRegistry.conversion(MeasurementType.ANGULAR_SPEED, inputUnit, outputUnit, length);
+    }
+
     /**
      * Converts provided degrees per second value to radians per second.
      *
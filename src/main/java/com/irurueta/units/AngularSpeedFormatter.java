@@ -15,6 +15,7 @@
  */
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -33,6 +34,13 @@ public class AngularSpeedFormatter extends MeasureFormatter<AngularSpeed, Angula
      */
     public static final String RADIANS_PER_SECOND = "rad/s";
 
+    /**
+     * Finds angular speed units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<AngularSpeedUnit> UNIT_MATCHER = new UnitSymbolMatcher<AngularSpeedUnit>()
+            .add(DEGREES_PER_SECOND, AngularSpeedUnit.DEGREES_PER_SECOND)
+            .add(RADIANS_PER_SECOND, AngularSpeedUnit.RADIANS_PER_SECOND);
+
     /**
      * Constructor.
      */
@@ -120,13 +128,35 @@ public class AngularSpeedFormatter extends MeasureFormatter<AngularSpeed, Angula
      */
     @Override
     public AngularSpeedUnit findUnit(final String source) {
-        if (source.contains(DEGREES_PER_SECOND + " ") || source.endsWith(DEGREES_PER_SECOND)) {
-            return AngularSpeedUnit.DEGREES_PER_SECOND;
-        }
-        if (source.contains(RADIANS_PER_SECOND + " ") || source.endsWith(RADIANS_PER_SECOND)) {
-            return AngularSpeedUnit.RADIANS_PER_SECOND;
-        }
-        return null;
+        return UNIT_MATCHER.find(source);
+    }
+
+    /**
+     * Attempts to determine an angular speed unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    AngularSpeedUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine an angular speed unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    AngularSpeedUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
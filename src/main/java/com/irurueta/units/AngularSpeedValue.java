@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable angular speed value and unit.
+ * Unlike {@link AngularSpeed}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value angular speed value.
+ * @param unit  unit of angular speed.
+ */
+public record AngularSpeedValue(double value, AngularSpeedUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value angular speed value.
+     * @param unit  unit of angular speed.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public AngularSpeedValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable angular speed value from provided mutable angular speed.
+     *
+     * @param angularSpeed angular speed to copy value and unit from.
+     * @return a new immutable angular speed value.
+     * @throws NullPointerException     if provided angular speed is null.
+     * @throws IllegalArgumentException if provided angular speed has no unit.
+     * @throws IllegalStateException    if provided angular speed has no value.
+     */
+    public static AngularSpeedValue from(final AngularSpeed angularSpeed) {
+        return new AngularSpeedValue(angularSpeed.getValueAsDouble(), angularSpeed.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable angular speed.
+     *
+     * @return a new mutable angular speed containing this value and unit.
+     */
+    public AngularSpeed toAngularSpeed() {
+        final var result = new AngularSpeed();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this angular speed to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return an angular speed value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AngularSpeedValue convertTo(final AngularSpeedUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new AngularSpeedValue(AngularSpeedConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided angular speed value and unit to this instance.
+     *
+     * @param value angular speed value to be added.
+     * @param unit  unit of angular speed value to be added.
+     * @return a new angular speed value expressed in the unit of this instance.
+     */
+    public AngularSpeedValue add(final double value, final AngularSpeedUnit unit) {
+        return new AngularSpeedValue(AngularSpeed.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided angular speed to this instance.
+     *
+     * @param other angular speed to be added.
+     * @return a new angular speed value expressed in the unit of this instance.
+     */
+    public AngularSpeedValue add(final AngularSpeedValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided angular speed to this instance.
+     *
+     * @param other      angular speed to be added.
+     * @param resultUnit unit of returned angular speed.
+     * @return a new angular speed value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AngularSpeedValue add(final AngularSpeedValue other, final AngularSpeedUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new AngularSpeedValue(AngularSpeed.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided angular speed value and unit from this instance.
+     *
+     * @param value angular speed value to be subtracted.
+     * @param unit  unit of angular speed value to be subtracted.
+     * @return a new angular speed value expressed in the unit of this instance.
+     */
+    public AngularSpeedValue subtract(final double value, final AngularSpeedUnit unit) {
+        return new AngularSpeedValue(AngularSpeed.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided angular speed from this instance.
+     *
+     * @param other angular speed to be subtracted.
+     * @return a new angular speed value expressed in the unit of this instance.
+     */
+    public AngularSpeedValue subtract(final AngularSpeedValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided angular speed from this instance.
+     *
+     * @param other      angular speed to be subtracted.
+     * @param resultUnit unit of returned angular speed.
+     * @return a new angular speed value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public AngularSpeedValue subtract(final AngularSpeedValue other, final AngularSpeedUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        final var result = AngularSpeed.subtract(value, unit, other.value, other.unit, resultUnit);
+        return new AngularSpeedValue(result, resultUnit);
+    }
+
+    /**
+     * Determines if two angular speed values are equal up to a certain tolerance.
+     * If needed, provided angular speed is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another angular speed to compare.
+     * @param tolerance amount of tolerance to determine whether both angular speed values are
+     *                  equal or not.
+     * @return true if provided angular speed is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final AngularSpeedValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = AngularSpeedConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Views bytes of a buffer as characters, so that ASCII text (which is also valid
+ * UTF-8 text) can be parsed without being decoded.
+ * Positions of characters are the absolute positions of bytes within the buffer.
+ * Only ASCII bytes are meaningful; any other byte is mapped to a character that is
+ * neither a letter nor a digit.
+ * Instances can be reused to view any number of buffers without allocation.
+ */
+final class AsciiSequence implements CharSequence {
+
+    /**
+     * Character returned for non-ASCII bytes.
+     */
+    static final char NON_ASCII = '\uFFFF';
+
+    /**
+     * Viewed buffer.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Position of first viewed byte.
+     */
+    private int offset;
+
+    /**
+     * Number of viewed bytes.
+     */
+    private int length;
+
+    /**
+     * Views bytes of provided buffer from its start up to its limit.
+     *
+     * @param buffer buffer to be viewed.
+     * @return this instance.
+     */
+    AsciiSequence set(final ByteBuffer buffer) {
+        return set(buffer, 0, buffer.limit());
+    }
+
+    /**
+     * Views a region of bytes of provided buffer.
+     *
+     * @param buffer buffer to be viewed.
+     * @param offset position of first viewed byte.
+     * @param length number of viewed bytes.
+     * @return this instance.
+     */
+    private AsciiSequence set(final ByteBuffer buffer, final int offset, final int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        final var b = buffer.get(offset + index);
+        return b >= 0 ? (char) b : NON_ASCII;
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new AsciiSequence().set(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        final var bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets position after last ASCII byte of a region of provided buffer.
+     *
+     * @param buffer buffer to be checked.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return position of first non-ASCII byte, or end of region if all bytes are ASCII.
+     */
+    static int asciiEnd(final ByteBuffer buffer, final int start, final int end) {
+        var i = start;
+        while (i < end && buffer.get(i) >= 0) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Decodes the UTF-8 code point starting at provided position of a buffer.
+     *
+     * @param buffer   buffer containing UTF-8 text.
+     * @param position position of the first byte of the code point.
+     * @param end      position where text ends (exclusive).
+     * @return decoded code point, or -1 if bytes are not a valid UTF-8 sequence.
+     */
+    static int codePointAt(final ByteBuffer buffer, final int position, final int end) {
+        final var b = buffer.get(position) & 0xFF;
+        final int length;
+        int codePoint;
+        if (b < 0x80) {
+            return b;
+        } else if (b >= 0xC2 && b < 0xE0) {
+            length = 2;
+            codePoint = b & 0x1F;
+        } else if (b >= 0xE0 && b < 0xF0) {
+            length = 3;
+            codePoint = b & 0x0F;
+        } else if (b >= 0xF0 && b < 0xF5) {
+            length = 4;
+            codePoint = b & 0x07;
+        } else {
+            return -1;
+        }
+
+        if (position + length > end) {
+            return -1;
+        }
+        for (var i = 1; i < length; i++) {
+            final var c = buffer.get(position + i) & 0xFF;
+            if ((c & 0xC0) != 0x80) {
+                return -1;
+            }
+            codePoint = (codePoint << 6) | (c & 0x3F);
+        }
+        return codePoint;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes measurements using a compact binary layout made of:
+ * <ul>
+ *     <li>code of measurement type (1 byte).</li>
+ *     <li>ordinal of measurement unit (1 byte).</li>
+ *     <li>measurement value as a double (8 bytes).</li>
+ * </ul>
+ * Values are stored using the byte order of the buffer being used.
+ * Because values are stored as doubles, decoded measurements always contain
+ * {@link Double} values.
+ */
+public class BinaryMeasurementCodec implements MeasurementCodec {
+
+    /**
+     * Number of bytes of every encoded measurement.
+     */
+    public static final int ENCODED_SIZE = 2 + Double.BYTES;
+
+    /**
+     * Gets number of bytes required to encode provided measurement.
+     *
+     * @param measurement measurement to be encoded.
+     * @return number of bytes required to encode provided measurement.
+     */
+    @Override
+    public int getEncodedSize(final Measurement<?> measurement) {
+        return ENCODED_SIZE;
+    }
+
+    /**
+     * Encodes provided measurement into provided buffer at its current position.
+     * Buffer position is advanced by the number of written bytes.
+     *
+     * @param measurement measurement to be encoded.
+     * @param buffer      buffer where measurement will be written.
+     * @throws IllegalArgumentException if measurement type is not supported or
+     *                                  measurement has no value or unit.
+     * @throws BufferOverflowException  if buffer has not enough remaining space.
+     */
+    @Override
+    public void encode(final Measurement<?> measurement, final ByteBuffer buffer) {
+        final var unit = measurement.getUnit();
+        final var type = MeasurementType.fromUnit(unit);
+        if (!measurement.hasValue()) {
+            throw new IllegalArgumentException();
+        }
+        if (buffer.remaining() < ENCODED_SIZE) {
+            throw new BufferOverflowException();
+        }
+
+        buffer.put((byte) type.getCode());
+        buffer.put((byte) unit.ordinal());
+        buffer.putDouble(measurement.getValueAsDouble());
+    }
+
+    /**
+     * Decodes a measurement from provided buffer at its current position.
+     * Buffer position is advanced by the number of read bytes, and it is left
+     * unchanged if decoding fails.
+     *
+     * @param buffer buffer to read measurement from.
+     * @return decoded measurement.
+     * @throws IllegalArgumentException if buffer does not contain a valid measurement.
+     * @throws BufferUnderflowException if buffer has not enough remaining bytes.
+     */
+    @Override
+    public Measurement<?> decode(final ByteBuffer buffer) {
+        if (buffer.remaining() < ENCODED_SIZE) {
+            throw new BufferUnderflowException();
+        }
+
+        final var position = buffer.position();
+        final var type = MeasurementType.fromCode(buffer.get(position));
+        final var unit = type.getUnit(buffer.get(position + 1));
+        final var value = buffer.getDouble(position + 2);
+        buffer.position(position + ENCODED_SIZE);
+        return type.createMeasurement(value, unit);
+    }
+}
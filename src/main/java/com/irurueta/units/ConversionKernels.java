@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.nio.DoubleBuffer;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Contains the loops used by converters to convert arrays of values once
+ * the conversion between a pair of units has been resolved.
+ * Input and output arrays can be the same instance, in which case values are
+ * converted in place even if both regions overlap.
+ * When the library is built with the "vector" profile and the
+ * {@code jdk.incubator.vector} module is available at runtime, arrays are converted
+ * using SIMD instructions, otherwise values are converted one by one.
+ * In any case, the same results are obtained.
+ */
+final class ConversionKernels {
+
+    /**
+     * Name of the class converting arrays using the vector API, which is only built
+     * by the "vector" profile.
+     */
+    private static final String VECTOR_KERNEL_CLASS_NAME = "com.irurueta.units.VectorConversionKernel";
+
+    /**
+     * Kernel converting arrays using the vector API, or null if not available.
+     */
+    private static final VectorKernel VECTOR_KERNEL = loadVectorKernel();
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private ConversionKernels() {
+    }
+
+    /**
+     * Indicates whether arrays are converted using the vector API.
+     *
+     * @return true if arrays are vectorized, false otherwise.
+     */
+    static boolean isVectorized() {
+        return VECTOR_KERNEL != null;
+    }
+
+    /**
+     * Builds a table containing the factors to convert values between every pair
+     * of units of a linear unit family.
+     *
+     * @param units      all units of the family.
+     * @param conversion function returning the factor to convert values from an
+     *                   input unit to an output unit.
+     * @param <U>        type of unit.
+     * @return table of factors indexed by input and output unit ordinals.
+     */
+    static <U extends Enum<U>> double[][] factors(
+            final U[] units, final ToDoubleBiFunction<U, U> conversion) {
+        final var result = new double[units.length][units.length];
+        for (final var inputUnit : units) {
+            for (final var outputUnit : units) {
+                result[inputUnit.ordinal()][outputUnit.ordinal()] = conversion.applyAsDouble(inputUnit, outputUnit);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks that provided offsets and length are within the bounds of provided
+     * arrays.
+     *
+     * @param input        input array.
+     * @param inputOffset  position of first value within input array.
+     * @param output       output array.
+     * @param outputOffset position of first value within output array.
+     * @param length       number of values to be converted.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed
+     *                                  array bounds.
+     */
+    static void checkBounds(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length) {
+        if (inputOffset < 0 || outputOffset < 0 || length < 0
+                || inputOffset > input.length - length || outputOffset > output.length - length) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Indicates whether values must be traversed from last to first so that
+     * converting in place does not overwrite values that have not been read yet.
+     *
+     * @param input        input array.
+     * @param inputOffset  position of first value within input array.
+     * @param output       output array.
+     * @param outputOffset position of first value within output array.
+     * @return true if values must be traversed backwards, false otherwise.
+     */
+    static boolean isBackwards(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset) {
+        return input == output && inputOffset < outputOffset;
+    }
+
+    /**
+     * Multiplies provided values by a conversion factor.
+     *
+     * @param input        array containing values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param factor       conversion factor between input and output units.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed
+     *                                  array bounds.
+     */
+    static void scale(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final double factor) {
+        checkBounds(input, inputOffset, output, outputOffset, length);
+
+        if (factor == 1.0) {
+            // no conversion is needed
+            System.arraycopy(input, inputOffset, output, outputOffset, length);
+        } else if (isBackwards(input, inputOffset, output, outputOffset)) {
+            for (var i = length - 1; i >= 0; i--) {
+                output[outputOffset + i] = input[inputOffset + i] * factor;
+            }
+        } else if (VECTOR_KERNEL != null) {
+            VECTOR_KERNEL.scale(input, inputOffset, output, outputOffset, length, factor);
+        } else {
+            for (var i = 0; i < length; i++) {
+                output[outputOffset + i] = input[inputOffset + i] * factor;
+            }
+        }
+    }
+
+    /**
+     * Multiplies provided values by a conversion factor and adds an offset.
+     *
+     * @param input        array containing values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param factor       conversion factor between input and output units.
+     * @param offset       offset to be added once values are scaled.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed
+     *                                  array bounds.
+     */
+    static void affine(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final double factor, final double offset) {
+        if (offset == 0.0) {
+            scale(input, inputOffset, output, outputOffset, length, factor);
+            return;
+        }
+
+        checkBounds(input, inputOffset, output, outputOffset, length);
+
+        if (isBackwards(input, inputOffset, output, outputOffset)) {
+            for (var i = length - 1; i >= 0; i--) {
+                output[outputOffset + i] = input[inputOffset + i] * factor + offset;
+            }
+        } else if (VECTOR_KERNEL != null) {
+            VECTOR_KERNEL.affine(input, inputOffset, output, outputOffset, length, factor, offset);
+        } else {
+            for (var i = 0; i < length; i++) {
+                output[outputOffset + i] = input[inputOffset + i] * factor + offset;
+            }
+        }
+    }
+
+    /**
+     * Multiplies all remaining values of input buffer by a conversion factor and
+     * stores the result into output buffer.
+     * Positions of both buffers are advanced by the number of converted values.
+     *
+     * @param input  buffer containing values to be converted.
+     * @param output buffer where converted values will be stored.
+     * @param factor conversion factor between input and output units.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    static void scale(final DoubleBuffer input, final DoubleBuffer output, final double factor) {
+        affine(input, output, factor, 0.0);
+    }
+
+    /**
+     * Multiplies all remaining values of input buffer by a conversion factor, adds
+     * an offset and stores the result into output buffer.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Buffers that are not backed by arrays are converted directly on their memory,
+     * one value at a time, without copying values into Java arrays.
+     * Values can be converted in place by providing the same instance as input and
+     * output, or by providing overlapping views whose positions refer to the same
+     * memory address (e.g. views obtained through {@link DoubleBuffer#duplicate()}),
+     * in which case values are traversed backwards when output starts after input,
+     * like for arrays. Overlapping views starting at different memory addresses
+     * (e.g. obtained through {@link DoubleBuffer#slice()}) are not supported, since
+     * buffers do not expose their addresses to determine how they overlap.
+     *
+     * @param input  buffer containing values to be converted.
+     * @param output buffer where converted values will be stored.
+     * @param factor conversion factor between input and output units.
+     * @param offset offset to be added once values are scaled.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    static void affine(final DoubleBuffer input, final DoubleBuffer output, final double factor,
+                       final double offset) {
+        final var length = input.remaining();
+        if (output.remaining() < length) {
+            throw new IllegalArgumentException();
+        }
+
+        final var inputPosition = input.position();
+        final var outputPosition = output.position();
+        if (input.hasArray() && output.hasArray()) {
+            // heap buffers are converted directly on their backing arrays
+            affine(input.array(), input.arrayOffset() + inputPosition,
+                    output.array(), output.arrayOffset() + outputPosition, length, factor, offset);
+        } else if (inputPosition < outputPosition) {
+            // values are traversed backwards so that converting in place does not
+            // overwrite values that have not been read yet
+            for (var i = length - 1; i >= 0; i--) {
+                output.put(outputPosition + i, input.get(inputPosition + i) * factor + offset);
+            }
+        } else {
+            for (var i = 0; i < length; i++) {
+                output.put(outputPosition + i, input.get(inputPosition + i) * factor + offset);
+            }
+        }
+
+        input.position(inputPosition + length);
+        output.position(outputPosition + length);
+    }
+
+    /**
+     * Loads the kernel converting arrays using the vector API.
+     *
+     * @return loaded kernel or null if it has not been built or the
+     * {@code jdk.incubator.vector} module is not available.
+     */
+    private static VectorKernel loadVectorKernel() {
+        try {
+            return (VectorKernel) Class.forName(VECTOR_KERNEL_CLASS_NAME).getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts arrays of values traversing them from first to last.
+     * Implementations must obtain exactly the same results as converting values one
+     * by one.
+     */
+    interface VectorKernel {
+
+        /**
+         * Multiplies provided values by a conversion factor.
+         *
+         * @param input        array containing values to be converted.
+         * @param inputOffset  position of first value to be converted within input array.
+         * @param output       array where converted values will be stored.
+         * @param outputOffset position where first converted value will be stored within output array.
+         * @param length       number of values to be converted.
+         * @param factor       conversion factor between input and output units.
+         */
+        void scale(final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+                   final int length, final double factor);
+
+        /**
+         * Multiplies provided values by a conversion factor and adds an offset.
+         *
+         * @param input        array containing values to be converted.
+         * @param inputOffset  position of first value to be converted within input array.
+         * @param output       array where converted values will be stored.
+         * @param outputOffset position where first converted value will be stored within output array.
+         * @param length       number of values to be converted.
+         * @param factor       conversion factor between input and output units.
+         * @param offset       offset to be added once values are scaled.
+         */
+        void affine(final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+                    final int length, final double factor, final double offset);
+    }
+}
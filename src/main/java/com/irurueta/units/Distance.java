@@ -61,8 +61,8 @@ public class Distance extends Measurement<DistanceUnit> {
             return false;
         }
 
-        final var otherValue = DistanceConverter.convert(other.getValue().doubleValue(), other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        final var otherValue = DistanceConverter.convertValue(other.getValueAsDouble(), other.getUnit(), getUnit());
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -79,8 +79,8 @@ public class Distance extends Measurement<DistanceUnit> {
             final double value1, final DistanceUnit unit1,
             final double value2, final DistanceUnit unit2,
             final DistanceUnit resultUnit) {
-        final var v1 = DistanceConverter.convert(value1, unit1, resultUnit);
-        final var v2 = DistanceConverter.convert(value2, unit2, resultUnit);
+        final var v1 = DistanceConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = DistanceConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -108,7 +108,8 @@ public class Distance extends Measurement<DistanceUnit> {
      * @param result instance where result will be stored.
      */
     public static void add(final Distance arg1, final Distance arg2, final Distance result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -140,7 +141,7 @@ public class Distance extends Measurement<DistanceUnit> {
             final double value, final DistanceUnit unit, final DistanceUnit resultUnit) {
         final var result = new Distance();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -157,7 +158,7 @@ public class Distance extends Measurement<DistanceUnit> {
             final Number value, final DistanceUnit unit, final DistanceUnit resultUnit) {
         final var result = new Distance();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -180,7 +181,7 @@ public class Distance extends Measurement<DistanceUnit> {
      * @param unit  unit of distance value.
      */
     public void add(final double value, final DistanceUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -190,7 +191,7 @@ public class Distance extends Measurement<DistanceUnit> {
      * @param unit  unit of distance value.
      */
     public void add(final Number value, final DistanceUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -227,8 +228,8 @@ public class Distance extends Measurement<DistanceUnit> {
             final double value1, final DistanceUnit unit1,
             final double value2, final DistanceUnit unit2,
             final DistanceUnit resultUnit) {
-        final var v1 = DistanceConverter.convert(value1, unit1, resultUnit);
-        final var v2 = DistanceConverter.convert(value2, unit2, resultUnit);
+        final var v1 = DistanceConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = DistanceConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -258,7 +259,8 @@ public class Distance extends Measurement<DistanceUnit> {
      */
     public static void subtract(
             final Distance arg1, final Distance arg2, final Distance result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -290,7 +292,7 @@ public class Distance extends Measurement<DistanceUnit> {
             final double value, final DistanceUnit unit, final DistanceUnit resultUnit) {
         final var result = new Distance();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -307,7 +309,7 @@ public class Distance extends Measurement<DistanceUnit> {
             final Number value, final DistanceUnit unit, final DistanceUnit resultUnit) {
         final var result = new Distance();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -330,7 +332,7 @@ public class Distance extends Measurement<DistanceUnit> {
      * @param unit  unit of distance value.
      */
     public void subtract(final double value, final DistanceUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -340,7 +342,7 @@ public class Distance extends Measurement<DistanceUnit> {
      * @param unit  unit of distance value.
      */
     public void subtract(final Number value, final DistanceUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
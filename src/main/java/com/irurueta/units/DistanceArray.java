@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Stores large amounts of distance values sharing the same unit.
+ */
+public class DistanceArray extends MeasurementArray<DistanceUnit> {
+
+    /**
+     * Constructor.
+     * All values are initialized to zero.
+     *
+     * @param length number of distance values.
+     * @param unit   unit shared by all distance values.
+     * @throws IllegalArgumentException if length is negative or unit is null.
+     */
+    public DistanceArray(final int length, final DistanceUnit unit) {
+        super(length, unit);
+    }
+
+    /**
+     * Constructor.
+     * Provided values are not copied, hence any change made on them will be
+     * reflected on this instance.
+     *
+     * @param values distance values to be stored.
+     * @param unit   unit shared by all distance values.
+     * @throws IllegalArgumentException if either values or unit is null.
+     */
+    public DistanceArray(final double[] values, final DistanceUnit unit) {
+        super(values, unit);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param values array containing distance values.
+     * @param offset position of first value within values array.
+     * @param length number of distance values.
+     * @param unit   unit shared by all distance values.
+     * @throws IllegalArgumentException if either values or unit is null, or if
+     *                                  offset and length exceed array bounds.
+     */
+    DistanceArray(final double[] values, final int offset, final int length, final DistanceUnit unit) {
+        super(values, offset, length, unit);
+    }
+
+    /**
+     * Gets distance at provided position.
+     *
+     * @param index position of distance to be returned.
+     * @return distance value and unit at provided position.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public DistanceValue getValue(final int index) {
+        return new DistanceValue(get(index), getUnit());
+    }
+
+    /**
+     * Converts all distance values to provided unit.
+     *
+     * @param outputUnit unit to convert values to.
+     * @return a new instance containing converted values.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    @Override
+    public DistanceArray convertTo(final DistanceUnit outputUnit) {
+        return (DistanceArray) super.convertTo(outputUnit);
+    }
+
+    /**
+     * Returns a view of a range of distance values of this instance.
+     * Returned instance shares values with this instance, hence changes on
+     * either of them are reflected on the other one.
+     *
+     * @param fromIndex position of first value to be included (inclusive).
+     * @param toIndex   position of last value to be included (exclusive).
+     * @return a view of requested range of values.
+     * @throws IllegalArgumentException if indices are out of bounds or fromIndex is
+     *                                  greater than toIndex.
+     */
+    @Override
+    public DistanceArray slice(final int fromIndex, final int toIndex) {
+        return (DistanceArray) super.slice(fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param values array containing distance values.
+     * @param offset position of first value within values array.
+     * @param length number of distance values.
+     * @param unit   unit shared by all distance values.
+     * @return a new instance.
+     */
+    @Override
+    DistanceArray newInstance(final double[] values, final int offset, final int length, final DistanceUnit unit) {
+        return new DistanceArray(values, offset, length, unit);
+    }
+
+    /**
+     * Converts a distance value from input unit to provided output unit.
+     *
+     * @param value      distance value to be converted.
+     * @param inputUnit  input distance unit.
+     * @param outputUnit output distance unit.
+     * @return converted distance value.
+     */
+    @Override
+    double convert(final double value, final DistanceUnit inputUnit, final DistanceUnit outputUnit) {
+        return DistanceConverter.convert(value, inputUnit, outputUnit);
+    }
+
+    /**
+     * Converts an array of distance values from input unit to provided output unit.
+     *
+     * @param input        array containing distance values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted distance values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input distance unit.
+     * @param outputUnit   output distance unit.
+     */
+    @Override
+    void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final DistanceUnit inputUnit, final DistanceUnit outputUnit) {
+        DistanceConverter.convert(input, inputOffset, output, outputOffset, length, inputUnit, outputUnit);
+    }
+}
@@ -16,6 +16,8 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
 
 /**
  * Does distance conversions to different units.
@@ -60,6 +62,29 @@ public class DistanceConverter {
      */
     static final double METERS_PER_MILE = 1609.344;
 
+    /**
+     * Factors to convert distance values between every pair of units, indexed by input
+     * and output unit ordinals.
+     */
+    private static final double[][] FACTORS = ConversionKernels.factors(DistanceUnit.values(),
+            (inputUnit, outputUnit) -> fromMeters(toMeters(1.0, inputUnit), outputUnit));
+
+    /**
+     * Converts distance values without binary floating point rounding, using exact
+     * number of meters in each unit.
+     */
+    private static final ExactConversion<DistanceUnit> EXACT = new ExactConversion<>(DistanceUnit.values(),
+            unit -> new BigDecimal(switch (unit) {
+                case MILLIMETER -> "0.001";
+                case CENTIMETER -> "0.01";
+                case METER -> "1";
+                case KILOMETER -> "1000";
+                case INCH -> "0.0254";
+                case FOOT -> "0.3048";
+                case YARD -> "0.9144";
+                case MILE -> "1609.344";
+            }));
+
     /**
      * Constructor.
      * Prevents instantiation of helper class.
@@ -110,13 +135,16 @@ public class DistanceConverter {
      */
     public static void convert(
             final Distance input, final DistanceUnit outputUnit, final Distance result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts a distance value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      distance value.
      * @param inputUnit  input distance unit.
@@ -127,6 +155,33 @@ public class DistanceConverter {
         return BigDecimal.valueOf(convert(input.doubleValue(), inputUnit, outputUnit));
     }
 
+    /**
+     * Converts a distance value from input unit to provided output unit without binary
+     * floating point rounding.
+     * Result is computed from exact definitions of units using a single multiplication
+     * (or division when the factor between both units is not a terminating decimal) by
+     * a factor computed once for each pair of units, and it is rounded once using
+     * provided context. Hence, results are exact as long as provided context has
+     * enough precision (e.g. {@link MathContext#UNLIMITED} when factor between
+     * both units is a terminating decimal).
+     *
+     * @param input       distance value.
+     * @param inputUnit   input distance unit.
+     * @param outputUnit  output distance unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted distance value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    public static BigDecimal convert(
+            final BigDecimal input, final DistanceUnit inputUnit, final DistanceUnit outputUnit,
+            final MathContext mathContext) {
+        UnitsMetricsRegistry.conversion(MeasurementType.DISTANCE, inputUnit, outputUnit, 1);
+        return EXACT.convert(input, inputUnit, outputUnit, mathContext);
+    }
+
     /**
      * Converts a distance value from input unit to provided output unit.
      *
@@ -137,29 +192,68 @@ public class DistanceConverter {
      */
     public static double convert(
             final double input, final DistanceUnit inputUnit, final DistanceUnit outputUnit) {
-        // convert to meters
-        final var meters = switch (inputUnit) {
-            case MILLIMETER -> millimeterToMeter(input);
-            case CENTIMETER -> centimeterToMeter(input);
-            case KILOMETER -> kilometerToMeter(input);
-            case INCH -> inchToMeter(input);
-            case FOOT -> footToMeter(input);
-            case YARD -> yardToMeter(input);
-            case MILE -> mileToMeter(input);
-            default -> input;
-        };
+        UnitsMetricsRegistry.conversion(MeasurementType.DISTANCE, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
 
-        // convert from meter to required output unit
-        return switch (outputUnit) {
-            case MILLIMETER -> meterToMillimeter(meters);
-            case CENTIMETER -> meterToCentimeter(meters);
-            case KILOMETER -> meterToKilometer(meters);
-            case INCH -> meterToInch(meters);
-            case FOOT -> meterToFoot(meters);
-            case YARD -> meterToYard(meters);
-            case MILE -> meterToMile(meters);
-            default -> meters;
-        };
+    /**
+     * Converts a distance value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      distance value.
+     * @param inputUnit  input distance unit.
+     * @param outputUnit output distance unit.
+     * @return converted distance value.
+     */
+    static double convertValue(
+            final double input, final DistanceUnit inputUnit, final DistanceUnit outputUnit) {
+        return input * FACTORS[inputUnit.ordinal()][outputUnit.ordinal()];
+    }
+
+    /**
+     * Converts an array of distance values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing distance values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted distance values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input distance unit.
+     * @param outputUnit   output distance unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final DistanceUnit inputUnit, final DistanceUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.DISTANCE, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining distance values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing distance values to be converted.
+     * @param output     buffer where converted distance values will be stored.
+     * @param inputUnit  input distance unit.
+     * @param outputUnit output distance unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final DistanceUnit inputUnit,
+            final DistanceUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.DISTANCE, inputUnit, outputUnit, length);
     }
 
     /**
@@ -301,4 +395,44 @@ public class DistanceConverter {
     public static double mileToMeter(final double mile) {
         return mile * METERS_PER_MILE;
     }
+
+    /**
+     * Converts a distance value from provided unit to meters.
+     *
+     * @param input distance value.
+     * @param unit  unit of provided distance value.
+     * @return same distance converted to meters.
+     */
+    private static double toMeters(final double input, final DistanceUnit unit) {
+        return switch (unit) {
+            case MILLIMETER -> millimeterToMeter(input);
+            case CENTIMETER -> centimeterToMeter(input);
+            case KILOMETER -> kilometerToMeter(input);
+            case INCH -> inchToMeter(input);
+            case FOOT -> footToMeter(input);
+            case YARD -> yardToMeter(input);
+            case MILE -> mileToMeter(input);
+            default -> input;
+        };
+    }
+
+    /**
+     * Converts a distance value expressed in meters to provided unit.
+     *
+     * @param meters distance value expressed in meters.
+     * @param unit   output distance unit.
+     * @return same distance converted to provided unit.
+     */
+    private static double fromMeters(final double meters, final DistanceUnit unit) {
+        return switch (unit) {
+            case MILLIMETER -> meterToMillimeter(meters);
+            case CENTIMETER -> meterToCentimeter(meters);
+            case KILOMETER -> meterToKilometer(meters);
+            case INCH -> meterToInch(meters);
+            case FOOT -> meterToFoot(meters);
+            case YARD -> meterToYard(meters);
+            case MILE -> meterToMile(meters);
+            default -> meters;
+        };
+    }
 }
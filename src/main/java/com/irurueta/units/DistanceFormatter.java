@@ -15,6 +15,7 @@
  */
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -63,6 +64,45 @@ public class DistanceFormatter extends MeasureFormatter<Distance, DistanceUnit>
      */
     public static final String MILE = "mi";
 
+    /**
+     * Scale of metric units used to format and convert distance values.
+     */
+    private static final UnitScale<DistanceUnit> METRIC_SCALE = new UnitScale<>(
+            DistanceUnit.class, DistanceConverter::convertValue, new double[]{
+                    DistanceConverter.METERS_PER_CENTIMETER / DistanceConverter.METERS_PER_MILLIMETER,
+                    1.0 / DistanceConverter.METERS_PER_CENTIMETER,
+                    DistanceConverter.METERS_PER_KILOMETER
+            },
+            new DistanceUnit[]{
+                    DistanceUnit.MILLIMETER, DistanceUnit.CENTIMETER, DistanceUnit.METER, DistanceUnit.KILOMETER
+            });
+
+    /**
+     * Scale of imperial units used to format and convert distance values.
+     */
+    private static final UnitScale<DistanceUnit> IMPERIAL_SCALE = new UnitScale<>(
+            DistanceUnit.class, DistanceConverter::convertValue, new double[]{
+                    DistanceConverter.METERS_PER_FOOT / DistanceConverter.METERS_PER_INCH,
+                    DistanceConverter.METERS_PER_YARD / DistanceConverter.METERS_PER_FOOT,
+                    DistanceConverter.METERS_PER_MILE / DistanceConverter.METERS_PER_YARD
+            },
+            new DistanceUnit[]{
+                    DistanceUnit.INCH, DistanceUnit.FOOT, DistanceUnit.YARD, DistanceUnit.MILE
+            });
+
+    /**
+     * Finds distance units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<DistanceUnit> UNIT_MATCHER = new UnitSymbolMatcher<DistanceUnit>()
+            .add(MILLIMETER, DistanceUnit.MILLIMETER)
+            .add(CENTIMETER, DistanceUnit.CENTIMETER)
+            .add(KILOMETER, DistanceUnit.KILOMETER)
+            .add(INCH, DistanceUnit.INCH)
+            .add(FOOT, DistanceUnit.FOOT)
+            .add(YARD, DistanceUnit.YARD)
+            .add(MILE, DistanceUnit.MILE)
+            .add(METER, DistanceUnit.METER);
+
     /**
      * Constructor.
      */
@@ -150,32 +190,35 @@ public class DistanceFormatter extends MeasureFormatter<Distance, DistanceUnit>
      */
     @Override
     public DistanceUnit findUnit(final String source) {
-        if (source.contains(MILLIMETER + " ") || source.endsWith(MILLIMETER)) {
-            return DistanceUnit.MILLIMETER;
-        }
-        if (source.contains(CENTIMETER + " ") || source.endsWith(CENTIMETER)) {
-            return DistanceUnit.CENTIMETER;
-        }
-        if (source.contains(KILOMETER + " ") || source.endsWith(KILOMETER)) {
-            return DistanceUnit.KILOMETER;
-        }
-        if (source.contains(INCH + " ") || source.endsWith(INCH)) {
-            return DistanceUnit.INCH;
-        }
-        if (source.contains(FOOT + " ") || source.endsWith(FOOT)) {
-            return DistanceUnit.FOOT;
-        }
-        if (source.contains(YARD + " ") || source.endsWith(YARD)) {
-            return DistanceUnit.YARD;
-        }
-        if (source.contains(MILE + " ") || source.endsWith(MILE)) {
-            return DistanceUnit.MILE;
-        }
+        return UNIT_MATCHER.find(source);
+    }
 
-        if (source.contains(METER + " ") || source.endsWith(METER)) {
-            return DistanceUnit.METER;
-        }
-        return null;
+    /**
+     * Attempts to determine a distance unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    DistanceUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine a distance unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    DistanceUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
@@ -214,25 +257,8 @@ public class DistanceFormatter extends MeasureFormatter<Distance, DistanceUnit>
      */
     public String formatAndConvertMetric(final Number value, final DistanceUnit unit) {
         final var v = value.doubleValue();
-
-        final var millimeters = DistanceConverter.convert(v, unit, DistanceUnit.MILLIMETER);
-        if (Math.abs(millimeters) < (DistanceConverter.METERS_PER_CENTIMETER
-                / DistanceConverter.METERS_PER_MILLIMETER)) {
-            return format(millimeters, DistanceUnit.MILLIMETER);
-        }
-
-        final var centimeters = DistanceConverter.convert(v, unit, DistanceUnit.CENTIMETER);
-        if (Math.abs(centimeters) < (1.0 / DistanceConverter.METERS_PER_CENTIMETER)) {
-            return format(centimeters, DistanceUnit.CENTIMETER);
-        }
-
-        final var meters = DistanceConverter.convert(v, unit, DistanceUnit.METER);
-        if (Math.abs(meters) < DistanceConverter.METERS_PER_KILOMETER) {
-            return format(meters, DistanceUnit.METER);
-        }
-
-        final var kilometers = DistanceConverter.convert(v, unit, DistanceUnit.KILOMETER);
-        return format(kilometers, DistanceUnit.KILOMETER);
+        final var displayUnit = METRIC_SCALE.select(v, unit);
+        return format(DistanceConverter.convertValue(v, unit, displayUnit), displayUnit);
     }
 
     /**
@@ -248,24 +274,8 @@ public class DistanceFormatter extends MeasureFormatter<Distance, DistanceUnit>
      */
     public String formatAndConvertImperial(final Number value, final DistanceUnit unit) {
         final var v = value.doubleValue();
-
-        final var inches = DistanceConverter.convert(v, unit, DistanceUnit.INCH);
-        if (Math.abs(inches) < (DistanceConverter.METERS_PER_FOOT / DistanceConverter.METERS_PER_INCH)) {
-            return format(inches, DistanceUnit.INCH);
-        }
-
-        final var feet = DistanceConverter.convert(v, unit, DistanceUnit.FOOT);
-        if (Math.abs(feet) < (DistanceConverter.METERS_PER_YARD / DistanceConverter.METERS_PER_FOOT)) {
-            return format(feet, DistanceUnit.FOOT);
-        }
-
-        final var yards = DistanceConverter.convert(v, unit, DistanceUnit.YARD);
-        if (Math.abs(yards) < (DistanceConverter.METERS_PER_MILE / DistanceConverter.METERS_PER_YARD)) {
-            return format(yards, DistanceUnit.YARD);
-        }
-
-        final var miles = DistanceConverter.convert(v, unit, DistanceUnit.MILE);
-        return format(miles, DistanceUnit.MILE);
+        final var displayUnit = IMPERIAL_SCALE.select(v, unit);
+        return format(DistanceConverter.convertValue(v, unit, displayUnit), displayUnit);
     }
 
     /**
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable distance value and unit.
+ * Unlike {@link Distance}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value distance value.
+ * @param unit  unit of distance.
+ */
+public record DistanceValue(double value, DistanceUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value distance value.
+     * @param unit  unit of distance.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public DistanceValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable distance value from provided mutable distance.
+     *
+     * @param distance distance to copy value and unit from.
+     * @return a new immutable distance value.
+     * @throws NullPointerException     if provided distance is null.
+     * @throws IllegalArgumentException if provided distance has no unit.
+     * @throws IllegalStateException    if provided distance has no value.
+     */
+    public static DistanceValue from(final Distance distance) {
+        return new DistanceValue(distance.getValueAsDouble(), distance.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable distance.
+     *
+     * @return a new mutable distance containing this value and unit.
+     */
+    public Distance toDistance() {
+        final var result = new Distance();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this distance to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return a distance value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public DistanceValue convertTo(final DistanceUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new DistanceValue(DistanceConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided distance value and unit to this instance.
+     *
+     * @param value distance value to be added.
+     * @param unit  unit of distance value to be added.
+     * @return a new distance value expressed in the unit of this instance.
+     */
+    public DistanceValue add(final double value, final DistanceUnit unit) {
+        return new DistanceValue(Distance.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided distance to this instance.
+     *
+     * @param other distance to be added.
+     * @return a new distance value expressed in the unit of this instance.
+     */
+    public DistanceValue add(final DistanceValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided distance to this instance.
+     *
+     * @param other      distance to be added.
+     * @param resultUnit unit of returned distance.
+     * @return a new distance value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public DistanceValue add(final DistanceValue other, final DistanceUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new DistanceValue(Distance.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided distance value and unit from this instance.
+     *
+     * @param value distance value to be subtracted.
+     * @param unit  unit of distance value to be subtracted.
+     * @return a new distance value expressed in the unit of this instance.
+     */
+    public DistanceValue subtract(final double value, final DistanceUnit unit) {
+        return new DistanceValue(Distance.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided distance from this instance.
+     *
+     * @param other distance to be subtracted.
+     * @return a new distance value expressed in the unit of this instance.
+     */
+    public DistanceValue subtract(final DistanceValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided distance from this instance.
+     *
+     * @param other      distance to be subtracted.
+     * @param resultUnit unit of returned distance.
+     * @return a new distance value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public DistanceValue subtract(final DistanceValue other, final DistanceUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new DistanceValue(Distance.subtract(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Determines if two distance values are equal up to a certain tolerance.
+     * If needed, provided distance is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another distance to compare.
+     * @param tolerance amount of tolerance to determine whether both distance values are
+     *                  equal or not.
+     * @return true if provided distance is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final DistanceValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = DistanceConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.function.Function;
+
+/**
+ * Converts decimal values between units of a family without binary floating point
+ * rounding.
+ * Each unit is defined by an exact decimal scale and offset relating it to a common
+ * base unit (i.e. base = value * scale + offset). Factors and offsets between every
+ * pair of units are computed once, so that values are converted with a single
+ * multiplication (and addition if units have offsets) whenever the ratio of both
+ * scales is a terminating decimal, in which case conversion is exact before being
+ * rounded to requested precision. Otherwise, values are converted into base unit and
+ * divided by the scale of output unit using requested precision, hence results are
+ * always rounded once.
+ * This class is immutable and thread-safe.
+ *
+ * @param <U> type of unit.
+ */
+final class ExactConversion<U extends Enum<U>> {
+
+    /**
+     * Exact factors between every pair of units, indexed by input and output unit
+     * ordinals, or null for pairs whose factor is not a terminating decimal.
+     */
+    private final BigDecimal[][] factors;
+
+    /**
+     * Offsets between every pair of units, indexed by input and output unit ordinals.
+     * Offsets are expressed in output unit for pairs having an exact factor, and in
+     * base unit otherwise.
+     */
+    private final BigDecimal[][] offsets;
+
+    /**
+     * Scales of every unit relative to base unit, indexed by unit ordinal.
+     */
+    private final BigDecimal[] scales;
+
+    /**
+     * Constructor for units related by a factor.
+     *
+     * @param units all units of the family.
+     * @param scale function returning the exact number of base units in one unit.
+     */
+    ExactConversion(final U[] units, final Function<U, BigDecimal> scale) {
+        this(units, scale, unit -> BigDecimal.ZERO);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param units  all units of the family.
+     * @param scale  function returning the exact number of base units in one unit.
+     * @param offset function returning the exact value in base unit of the origin of
+     *               each unit.
+     */
+    ExactConversion(final U[] units, final Function<U, BigDecimal> scale,
+                    final Function<U, BigDecimal> offset) {
+        scales = new BigDecimal[units.length];
+        final var baseOffsets = new BigDecimal[units.length];
+        for (final var unit : units) {
+            scales[unit.ordinal()] = scale.apply(unit);
+            baseOffsets[unit.ordinal()] = offset.apply(unit);
+        }
+
+        factors = new BigDecimal[units.length][units.length];
+        offsets = new BigDecimal[units.length][units.length];
+        for (var i = 0; i < units.length; i++) {
+            for (var o = 0; o < units.length; o++) {
+                final var baseOffset = baseOffsets[i].subtract(baseOffsets[o]);
+                try {
+                    factors[i][o] = normalize(scales[i].divide(scales[o]));
+                    offsets[i][o] = normalize(baseOffset.divide(scales[o]));
+                } catch (final ArithmeticException e) {
+                    // ratio is not a terminating decimal
+                    factors[i][o] = null;
+                    offsets[i][o] = baseOffset;
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts a value from input unit to output unit.
+     *
+     * @param input       value to be converted.
+     * @param inputUnit   input unit.
+     * @param outputUnit  output unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    BigDecimal convert(final BigDecimal input, final U inputUnit, final U outputUnit,
+                       final MathContext mathContext) {
+        final var i = inputUnit.ordinal();
+        final var o = outputUnit.ordinal();
+        final var factor = factors[i][o];
+        final var offset = offsets[i][o];
+        if (factor != null) {
+            final var scaled = input.multiply(factor);
+            return (offset.signum() == 0 ? scaled : scaled.add(offset)).round(mathContext);
+        }
+
+        final var base = input.multiply(scales[i]);
+        return (offset.signum() == 0 ? base : base.add(offset)).divide(scales[o], mathContext);
+    }
+
+    /**
+     * Removes trailing zeros of provided value without using exponents for
+     * integer values (i.e. 1000 is kept instead of 1E+3).
+     *
+     * @param value value to be normalized.
+     * @return normalized value.
+     */
+    private static BigDecimal normalize(final BigDecimal value) {
+        final var result = value.stripTrailingZeros();
+        return result.scale() < 0 ? result.setScale(0) : result;
+    }
+}
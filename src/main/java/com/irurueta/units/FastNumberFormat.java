@@ -0,0 +1,474 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+
+/**
+ * Formats double values into decimal strings without using {@link NumberFormat}.
+ * Values are formatted using the shortest decimal representation that uniquely
+ * distinguishes them (the same digits returned by {@link Double#toString(double)}),
+ * and rounding, fraction and integer digits, grouping and locale symbols are taken
+ * once from a {@link DecimalFormat}, so that output is identical to formatting
+ * {@link BigDecimal#valueOf(double)} with such format.
+ * Integer values that can be exactly represented as doubles are formatted without
+ * any allocation when a digits buffer is reused.
+ * This class is immutable and thread-safe, as long as digits buffers are not shared
+ * among threads.
+ */
+final class FastNumberFormat {
+
+    /**
+     * Smallest integer value that cannot be exactly represented by a double (2^53).
+     */
+    private static final double MAX_EXACT_INTEGER = 9007199254740992.0;
+
+    /**
+     * Maximum number of significant digits obtained from a double value.
+     */
+    private static final int MAX_DIGITS = 32;
+
+    /**
+     * Currency sign used in patterns of currency formats.
+     */
+    private static final char CURRENCY_SIGN = '¤';
+
+    /**
+     * Zero digit.
+     */
+    private final char zero;
+
+    /**
+     * Decimal separator.
+     */
+    private final char decimalSeparator;
+
+    /**
+     * Grouping separator.
+     */
+    private final char groupingSeparator;
+
+    /**
+     * Number of integer digits between grouping separators.
+     */
+    private final int groupingSize;
+
+    /**
+     * Indicates whether grouping separators are used.
+     */
+    private final boolean groupingUsed;
+
+    /**
+     * Indicates whether decimal separator is shown for integer values.
+     */
+    private final boolean decimalSeparatorAlwaysShown;
+
+    /**
+     * Prefix of positive values.
+     */
+    private final String positivePrefix;
+
+    /**
+     * Suffix of positive values.
+     */
+    private final String positiveSuffix;
+
+    /**
+     * Prefix of negative values.
+     */
+    private final String negativePrefix;
+
+    /**
+     * Suffix of negative values.
+     */
+    private final String negativeSuffix;
+
+    /**
+     * Minimum number of integer digits.
+     */
+    private final int minimumIntegerDigits;
+
+    /**
+     * Maximum number of integer digits.
+     */
+    private final int maximumIntegerDigits;
+
+    /**
+     * Minimum number of fraction digits.
+     */
+    private final int minimumFractionDigits;
+
+    /**
+     * Maximum number of fraction digits.
+     */
+    private final int maximumFractionDigits;
+
+    /**
+     * Rounding mode.
+     */
+    private final RoundingMode roundingMode;
+
+    /**
+     * Constructor.
+     *
+     * @param format decimal format to take settings from.
+     */
+    private FastNumberFormat(final DecimalFormat format) {
+        final var symbols = format.getDecimalFormatSymbols();
+        zero = symbols.getZeroDigit();
+        decimalSeparator = symbols.getDecimalSeparator();
+        groupingSeparator = symbols.getGroupingSeparator();
+        groupingSize = format.getGroupingSize();
+        groupingUsed = format.isGroupingUsed();
+        decimalSeparatorAlwaysShown = format.isDecimalSeparatorAlwaysShown();
+        positivePrefix = format.getPositivePrefix();
+        positiveSuffix = format.getPositiveSuffix();
+        negativePrefix = format.getNegativePrefix();
+        negativeSuffix = format.getNegativeSuffix();
+        minimumIntegerDigits = format.getMinimumIntegerDigits();
+        maximumIntegerDigits = format.getMaximumIntegerDigits();
+        minimumFractionDigits = format.getMinimumFractionDigits();
+        maximumFractionDigits = format.getMaximumFractionDigits();
+        roundingMode = format.getRoundingMode();
+    }
+
+    /**
+     * Creates a fast number format using current settings of provided number format.
+     * Only plain decimal formats are supported (i.e. exponential, currency and
+     * percent formats, or formats requiring no rounding, are not supported).
+     *
+     * @param format number format to take settings from.
+     * @return a fast number format or null if provided number format is not supported.
+     */
+    static FastNumberFormat from(final NumberFormat format) {
+        if (!(format instanceof DecimalFormat decimalFormat) || decimalFormat.getMultiplier() != 1
+                || decimalFormat.getRoundingMode() == RoundingMode.UNNECESSARY) {
+            return null;
+        }
+
+        final var pattern = decimalFormat.toPattern();
+        if (pattern.indexOf('E') >= 0 || pattern.indexOf(CURRENCY_SIGN) >= 0) {
+            return null;
+        }
+        return new FastNumberFormat(decimalFormat);
+    }
+
+    /**
+     * Formats provided value and appends the result into provided string builder.
+     *
+     * @param value value to be formatted.
+     * @param out   builder to append the result to.
+     * @return provided string builder where result is appended.
+     * @throws IllegalArgumentException if value is not finite.
+     */
+    StringBuilder format(final double value, final StringBuilder out) {
+        return format(value, new Digits(), out);
+    }
+
+    /**
+     * Formats provided value using provided digits buffer and appends the result into
+     * provided string builder.
+     *
+     * @param value value to be formatted.
+     * @param d     buffer to store digits of value while formatting it.
+     * @param out   builder to append the result to.
+     * @return provided string builder where result is appended.
+     * @throws IllegalArgumentException if value is not finite.
+     */
+    StringBuilder format(final double value, final Digits d, final StringBuilder out) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException();
+        }
+
+        // negative zero is formatted as a positive value, as BigDecimal has no negative zero
+        final var negative = value < 0.0;
+        setDigits(Math.abs(value), d);
+        roundFraction(negative, d);
+        formatDigits(negative, d, out);
+        return out;
+    }
+
+    /**
+     * Sets significant digits and decimal point position of provided non-negative value.
+     *
+     * @param value a non-negative finite value.
+     * @param d     buffer where digits are stored.
+     */
+    private static void setDigits(final double value, final Digits d) {
+        d.count = 0;
+        if (value == 0.0) {
+            d.decimalAt = 0;
+        } else if (value < MAX_EXACT_INTEGER && value == Math.rint(value)) {
+            // digits of integer values are obtained without creating any string
+            var l = (long) value;
+            var length = 0;
+            for (var i = l; i > 0; i /= 10) {
+                length++;
+            }
+            for (var i = length - 1; i >= 0; i--) {
+                d.digits[i] = (char) ('0' + (l % 10));
+                l /= 10;
+            }
+            d.count = length;
+            d.decimalAt = length;
+        } else {
+            setDigits(Double.toString(value), d);
+        }
+    }
+
+    /**
+     * Sets significant digits and decimal point position from provided decimal
+     * representation, which can be expressed in scientific notation.
+     *
+     * @param s decimal representation of a non-negative value.
+     * @param d buffer where digits are stored.
+     */
+    private static void setDigits(final String s, final Digits d) {
+        final var length = s.length();
+        var exponent = 0;
+        var leadingZerosAfterDecimal = 0;
+        var nonZeroDigitSeen = false;
+        d.decimalAt = -1;
+        for (var i = 0; i < length; i++) {
+            final var c = s.charAt(i);
+            if (c == '.') {
+                d.decimalAt = d.count;
+            } else if (c == 'E') {
+                exponent = Integer.parseInt(s, i + 1, length, 10);
+                break;
+            } else {
+                if (!nonZeroDigitSeen) {
+                    nonZeroDigitSeen = c != '0';
+                    if (!nonZeroDigitSeen && d.decimalAt != -1) {
+                        leadingZerosAfterDecimal++;
+                    }
+                }
+                if (nonZeroDigitSeen) {
+                    d.digits[d.count++] = c;
+                }
+            }
+        }
+        if (d.decimalAt == -1) {
+            d.decimalAt = d.count;
+        }
+        if (nonZeroDigitSeen) {
+            d.decimalAt += exponent - leadingZerosAfterDecimal;
+        }
+    }
+
+    /**
+     * Rounds significant digits to maximum fraction digits using rounding mode.
+     * Rounding follows the same rules as {@link DecimalFormat} does for
+     * {@link BigDecimal} values.
+     *
+     * @param negative true if value being formatted is negative.
+     * @param d        buffer containing digits to be rounded.
+     */
+    private void roundFraction(final boolean negative, final Digits d) {
+        if (-d.decimalAt > maximumFractionDigits) {
+            // underflow to zero (i.e. 0.0009 rounded to 2 fraction digits)
+            d.count = 0;
+            return;
+        } else if (-d.decimalAt == maximumFractionDigits) {
+            // a new digit is created if rounding up (i.e. 0.0009 rounded to 3 fraction digits)
+            if (shouldRoundUp(0, negative, d)) {
+                d.count = 1;
+                d.decimalAt++;
+                d.digits[0] = '1';
+            } else {
+                d.count = 0;
+            }
+            return;
+        }
+
+        while (d.count > 1 && d.digits[d.count - 1] == '0') {
+            d.count--;
+        }
+
+        var maximumDigits = maximumFractionDigits + d.decimalAt;
+        if (maximumDigits >= 0 && maximumDigits < d.count) {
+            if (shouldRoundUp(maximumDigits, negative, d)) {
+                for (; ; ) {
+                    maximumDigits--;
+                    if (maximumDigits < 0) {
+                        // all digits were nines
+                        d.digits[0] = '1';
+                        d.decimalAt++;
+                        maximumDigits = 0;
+                        break;
+                    }
+
+                    d.digits[maximumDigits]++;
+                    if (d.digits[maximumDigits] <= '9') {
+                        break;
+                    }
+                }
+                maximumDigits++;
+            }
+            d.count = maximumDigits;
+
+            while (d.count > 1 && d.digits[d.count - 1] == '0') {
+                d.count--;
+            }
+        }
+    }
+
+    /**
+     * Indicates whether significant digits must be rounded up when keeping provided
+     * number of digits.
+     *
+     * @param maximumDigits number of digits to keep.
+     * @param negative      true if value being formatted is negative.
+     * @param d             buffer containing digits to be rounded.
+     * @return true if digits must be rounded up, false otherwise.
+     */
+    private boolean shouldRoundUp(final int maximumDigits, final boolean negative, final Digits d) {
+        if (maximumDigits >= d.count) {
+            return false;
+        }
+
+        return switch (roundingMode) {
+            case UP -> hasNonZeroDigits(maximumDigits, d);
+            case CEILING -> !negative && hasNonZeroDigits(maximumDigits, d);
+            case FLOOR -> negative && hasNonZeroDigits(maximumDigits, d);
+            case HALF_UP, HALF_DOWN -> d.digits[maximumDigits] > '5'
+                    || (d.digits[maximumDigits] == '5'
+                    && (maximumDigits != d.count - 1 || roundingMode == RoundingMode.HALF_UP));
+            case HALF_EVEN -> {
+                if (d.digits[maximumDigits] > '5') {
+                    yield true;
+                } else if (d.digits[maximumDigits] == '5') {
+                    if (maximumDigits == d.count - 1) {
+                        yield maximumDigits > 0 && d.digits[maximumDigits - 1] % 2 != 0;
+                    } else {
+                        yield hasNonZeroDigits(maximumDigits + 1, d);
+                    }
+                }
+                yield false;
+            }
+            default -> false;
+        };
+    }
+
+    /**
+     * Indicates whether there is any non-zero digit starting at provided position.
+     *
+     * @param from position of first digit to check.
+     * @param d    buffer containing digits.
+     * @return true if any non-zero digit is found, false otherwise.
+     */
+    private static boolean hasNonZeroDigits(final int from, final Digits d) {
+        for (var i = from; i < d.count; i++) {
+            if (d.digits[i] != '0') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends rounded significant digits along with prefixes, suffixes and
+     * separators into provided string builder.
+     *
+     * @param negative true if value being formatted is negative.
+     * @param d        buffer containing rounded digits.
+     * @param out      builder to append the result to.
+     */
+    private void formatDigits(final boolean negative, final Digits d, final StringBuilder out) {
+        if (!hasNonZeroDigits(0, d)) {
+            d.decimalAt = 0;
+        }
+        final var zeroDelta = zero - '0';
+
+        out.append(negative ? negativePrefix : positivePrefix);
+
+        // integer part, including leading zeros required by minimum integer digits
+        var integerDigits = minimumIntegerDigits;
+        var digitIndex = 0;
+        if (d.decimalAt > 0 && integerDigits < d.decimalAt) {
+            integerDigits = d.decimalAt;
+        }
+        if (integerDigits > maximumIntegerDigits) {
+            // only least significant integer digits are shown
+            integerDigits = maximumIntegerDigits;
+            digitIndex = d.decimalAt - integerDigits;
+        }
+
+        final var sizeBeforeIntegerPart = out.length();
+        for (var i = integerDigits - 1; i >= 0; i--) {
+            if (i < d.decimalAt && digitIndex < d.count) {
+                out.append((char) (d.digits[digitIndex++] + zeroDelta));
+            } else {
+                out.append(zero);
+            }
+
+            if (groupingUsed && i > 0 && groupingSize != 0 && i % groupingSize == 0) {
+                out.append(groupingSeparator);
+            }
+        }
+
+        final var fractionPresent = minimumFractionDigits > 0 || digitIndex < d.count;
+        if (!fractionPresent && out.length() == sizeBeforeIntegerPart) {
+            out.append(zero);
+        }
+        if (decimalSeparatorAlwaysShown || fractionPresent) {
+            out.append(decimalSeparator);
+        }
+
+        // fraction part, including leading zeros of values smaller than one
+        for (var i = 0; i < maximumFractionDigits; i++) {
+            if (i >= minimumFractionDigits && digitIndex >= d.count) {
+                break;
+            }
+
+            if (-1 - i > d.decimalAt - 1) {
+                out.append(zero);
+            } else if (digitIndex < d.count) {
+                out.append((char) (d.digits[digitIndex++] + zeroDelta));
+            } else {
+                out.append(zero);
+            }
+        }
+
+        out.append(negative ? negativeSuffix : positiveSuffix);
+    }
+
+    /**
+     * Buffer containing significant digits of a value being formatted.
+     * Buffers can be reused to format many values, but they cannot be shared among
+     * threads.
+     */
+    static final class Digits {
+
+        /**
+         * Significant digits, as '0' to '9' characters.
+         */
+        private final char[] digits = new char[MAX_DIGITS];
+
+        /**
+         * Number of significant digits.
+         */
+        private int count;
+
+        /**
+         * Position of decimal point respect to significant digits.
+         */
+        private int decimalAt;
+    }
+}
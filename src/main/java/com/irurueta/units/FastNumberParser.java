@@ -0,0 +1,407 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+
+/**
+ * Parses decimal numbers from character sequences without using {@link NumberFormat}.
+ * Numbers are parsed following the same rules as {@link DecimalFormat#parse(String, ParsePosition)}
+ * (leading zeros, grouping separators, decimal separator and exponent), and locale
+ * symbols are taken once from a {@link DecimalFormat}, so that the same value and
+ * position are obtained.
+ * Numbers having up to 15 significant digits and a small exponent are parsed without
+ * any allocation. Any other number (or special values such as NaN or infinity) is
+ * parsed using a copy of the number format instead.
+ * This class is immutable and thread-safe, as long as cursors are not shared among
+ * threads.
+ */
+final class FastNumberParser {
+
+    /**
+     * Maximum number of significant digits that are exactly represented by a double.
+     */
+    private static final int MAX_DIGITS = 15;
+
+    /**
+     * Maximum number of significant digits of a supported exponent.
+     */
+    private static final int MAX_EXPONENT_DIGITS = 9;
+
+    /**
+     * Powers of ten that are exactly represented by a double.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Currency sign used in patterns of currency formats.
+     */
+    private static final char CURRENCY_SIGN = '¤';
+
+    /**
+     * Number format used for numbers not supported by this parser.
+     */
+    private final NumberFormat format;
+
+    /**
+     * Decimal separator.
+     */
+    private final char decimalSeparator;
+
+    /**
+     * Grouping separator.
+     */
+    private final char groupingSeparator;
+
+    /**
+     * Indicates whether grouping separators are accepted.
+     */
+    private final boolean groupingUsed;
+
+    /**
+     * Indicates whether only integer values are parsed.
+     */
+    private final boolean parseIntegerOnly;
+
+    /**
+     * Prefix of negative values.
+     */
+    private final String negativePrefix;
+
+    /**
+     * Minus sign of negative exponents.
+     */
+    private final String minusSign;
+
+    /**
+     * Separator between mantissa and exponent.
+     */
+    private final String exponentSeparator;
+
+    /**
+     * String representing infinity.
+     */
+    private final String infinity;
+
+    /**
+     * String representing NaN.
+     */
+    private final String nan;
+
+    /**
+     * Indicates whether all symbols that can be part of a number are ASCII characters.
+     */
+    private final boolean ascii;
+
+    /**
+     * Constructor.
+     *
+     * @param format decimal format to take settings from.
+     */
+    private FastNumberParser(final DecimalFormat format) {
+        this.format = (NumberFormat) format.clone();
+        final var symbols = format.getDecimalFormatSymbols();
+        decimalSeparator = symbols.getDecimalSeparator();
+        groupingSeparator = symbols.getGroupingSeparator();
+        groupingUsed = format.isGroupingUsed();
+        parseIntegerOnly = format.isParseIntegerOnly();
+        negativePrefix = format.getNegativePrefix();
+        minusSign = String.valueOf(symbols.getMinusSign());
+        exponentSeparator = symbols.getExponentSeparator();
+        infinity = symbols.getInfinity();
+        nan = symbols.getNaN();
+        ascii = decimalSeparator < 0x80 && (groupingSeparator < 0x80 || !groupingUsed)
+                && isAscii(negativePrefix) && isAscii(minusSign) && isAscii(exponentSeparator);
+    }
+
+    /**
+     * Creates a fast number parser using current settings of provided number format.
+     * Only plain decimal formats using ASCII digits, no positive prefix and no suffixes
+     * are supported (i.e. currency and percent formats are not supported).
+     *
+     * @param format number format to take settings from.
+     * @return a fast number parser or null if provided number format is not supported.
+     */
+    static FastNumberParser from(final NumberFormat format) {
+        if (!(format instanceof DecimalFormat decimalFormat) || decimalFormat.getMultiplier() != 1
+                || decimalFormat.isParseBigDecimal()
+                || decimalFormat.getDecimalFormatSymbols().getZeroDigit() != '0'
+                || !decimalFormat.getPositivePrefix().isEmpty()
+                || !decimalFormat.getPositiveSuffix().isEmpty()
+                || !decimalFormat.getNegativeSuffix().isEmpty()
+                || decimalFormat.getNegativePrefix().isEmpty()) {
+            return null;
+        }
+
+        final var pattern = decimalFormat.toPattern();
+        if (pattern.indexOf(CURRENCY_SIGN) >= 0) {
+            return null;
+        }
+        return new FastNumberParser(decimalFormat);
+    }
+
+    /**
+     * Indicates whether all symbols that can be part of a number are ASCII characters.
+     * If so, numbers can be parsed from ASCII bytes of UTF-8 text without decoding it,
+     * as any non-ASCII character ends the number, unless it is a digit.
+     *
+     * @return true if all symbols are ASCII characters, false otherwise.
+     */
+    boolean isAscii() {
+        return ascii;
+    }
+
+    /**
+     * Parses a number at the start of provided region of a character sequence.
+     * End of region is considered the end of the input.
+     * On success, parsed value and position after the last parsed character are
+     * stored into provided cursor.
+     *
+     * @param source input to be parsed.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @param cursor cursor where parsed value and position are stored.
+     * @return true if a number was parsed, false otherwise.
+     */
+    boolean parse(final CharSequence source, final int start, final int end, final Cursor cursor) {
+        var position = start;
+        final var negative = regionMatches(source, position, end, negativePrefix);
+        if (negative) {
+            position += negativePrefix.length();
+        }
+
+        if (regionMatches(source, position, end, nan) || regionMatches(source, position, end, infinity)) {
+            return parseWithFormat(source, start, end, cursor);
+        }
+
+        var sawDigit = false;
+        var sawDecimal = false;
+        var count = 0;
+        var significant = 0;
+        var mantissa = 0L;
+        var decimalAt = 0;
+        var exponent = 0;
+        var backup = -1;
+        for (; position < end; position++) {
+            final var c = source.charAt(position);
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+                backup = -1;
+                if (c == '0') {
+                    if (count == 0) {
+                        // leading zeros are ignored
+                        if (sawDecimal) {
+                            decimalAt--;
+                        }
+                        continue;
+                    }
+                    count++;
+                } else {
+                    count++;
+                    if (count > MAX_DIGITS) {
+                        return parseWithFormat(source, start, end, cursor);
+                    }
+                    mantissa = mantissa * (long) POWERS_OF_TEN[count - significant] + (c - '0');
+                    significant = count;
+                }
+            } else if (c == decimalSeparator) {
+                if (parseIntegerOnly || sawDecimal) {
+                    break;
+                }
+                decimalAt = count;
+                sawDecimal = true;
+            } else if (c == groupingSeparator && groupingUsed) {
+                if (sawDecimal) {
+                    break;
+                }
+                backup = position;
+            } else if (regionMatches(source, position, end, exponentSeparator)) {
+                final var exponentStart = position + exponentSeparator.length();
+                var i = exponentStart;
+                final var negativeExponent = regionMatches(source, i, end, minusSign);
+                if (negativeExponent) {
+                    i += minusSign.length();
+                }
+
+                var exponentDigits = 0;
+                var sawExponentDigit = false;
+                for (; i < end; i++) {
+                    final var e = source.charAt(i);
+                    if (e < '0' || e > '9') {
+                        if (Character.isDigit(e)) {
+                            return parseWithFormat(source, start, end, cursor);
+                        }
+                        break;
+                    }
+                    sawExponentDigit = true;
+                    if (exponentDigits > 0 || e != '0') {
+                        exponentDigits++;
+                        if (exponentDigits > MAX_EXPONENT_DIGITS) {
+                            return parseWithFormat(source, start, end, cursor);
+                        }
+                        exponent = exponent * 10 + (e - '0');
+                    }
+                }
+
+                if (sawExponentDigit) {
+                    position = i;
+                    if (negativeExponent) {
+                        exponent = -exponent;
+                    }
+                }
+                break;
+            } else {
+                if (Character.isDigit(c)) {
+                    return parseWithFormat(source, start, end, cursor);
+                }
+                break;
+            }
+        }
+
+        if (backup != -1) {
+            position = backup;
+        }
+        if (!sawDigit) {
+            return false;
+        }
+
+        if (!sawDecimal) {
+            decimalAt = count;
+        }
+        if (significant == 0) {
+            // negative zero is only kept when parsing decimal values
+            cursor.value = negative && !parseIntegerOnly ? -0.0 : 0.0;
+            cursor.index = position;
+            return true;
+        }
+
+        final var scale = decimalAt + exponent - significant;
+        final double value;
+        if (scale >= 0 && scale < POWERS_OF_TEN.length) {
+            value = mantissa * POWERS_OF_TEN[scale];
+        } else if (scale < 0 && -scale < POWERS_OF_TEN.length) {
+            value = mantissa / POWERS_OF_TEN[-scale];
+        } else {
+            return parseWithFormat(source, start, end, cursor);
+        }
+
+        cursor.value = negative ? -value : value;
+        cursor.index = position;
+        return true;
+    }
+
+    /**
+     * Parses a number at the start of provided region of a character sequence using
+     * a copy of the number format.
+     *
+     * @param source input to be parsed.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @param cursor cursor where parsed value and position are stored.
+     * @return true if a number was parsed, false otherwise.
+     */
+    private boolean parseWithFormat(final CharSequence source, final int start, final int end,
+                                    final Cursor cursor) {
+        return parseWithFormat((NumberFormat) format.clone(), source, start, end, cursor);
+    }
+
+    /**
+     * Parses a number at the start of provided region of a character sequence using
+     * provided number format.
+     * Parsing never throws any exception. Instead, false is returned if no number
+     * can be parsed.
+     *
+     * @param format number format to be used.
+     * @param source input to be parsed.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @param cursor cursor where parsed value and position are stored.
+     * @return true if a number was parsed, false otherwise.
+     */
+    static boolean parseWithFormat(final NumberFormat format, final CharSequence source, final int start,
+                                   final int end, final Cursor cursor) {
+        final var position = new ParsePosition(0);
+        final var result = format.parse(source.subSequence(start, end).toString(), position);
+        if (result == null) {
+            return false;
+        }
+
+        cursor.value = result.doubleValue();
+        cursor.index = start + position.getIndex();
+        return true;
+    }
+
+    /**
+     * Indicates whether provided string is found at provided position of a character
+     * sequence.
+     *
+     * @param source input to be checked.
+     * @param position position where string must be found.
+     * @param end    position where input ends (exclusive).
+     * @param s      string to be found.
+     * @return true if string is found, false otherwise.
+     */
+    private static boolean regionMatches(final CharSequence source, final int position, final int end,
+                                         final String s) {
+        final var length = s.length();
+        if (length == 0 || position + length > end) {
+            return false;
+        }
+        for (var i = 0; i < length; i++) {
+            if (source.charAt(position + i) != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indicates whether provided string only contains ASCII characters.
+     *
+     * @param s string to be checked.
+     * @return true if all characters are ASCII, false otherwise.
+     */
+    private static boolean isAscii(final String s) {
+        for (var i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Holds the result of parsing a number.
+     * Instances can be reused to parse any number of values without allocation.
+     */
+    static final class Cursor {
+
+        /**
+         * Parsed value.
+         */
+        double value;
+
+        /**
+         * Position after the last parsed character.
+         */
+        int index;
+    }
+}
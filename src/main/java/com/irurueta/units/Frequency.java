@@ -62,8 +62,8 @@ public class Frequency extends Measurement<FrequencyUnit> {
             return false;
         }
 
-        final var otherValue = FrequencyConverter.convert(other.getValue().doubleValue(), other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        final var otherValue = FrequencyConverter.convertValue(other.getValueAsDouble(), other.getUnit(), getUnit());
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -80,8 +80,8 @@ public class Frequency extends Measurement<FrequencyUnit> {
             final double value1, final FrequencyUnit unit1,
             final double value2, final FrequencyUnit unit2,
             final FrequencyUnit resultUnit) {
-        final var v1 = FrequencyConverter.convert(value1, unit1, resultUnit);
-        final var v2 = FrequencyConverter.convert(value2, unit2, resultUnit);
+        final var v1 = FrequencyConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = FrequencyConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -112,7 +112,8 @@ public class Frequency extends Measurement<FrequencyUnit> {
     public static void add(
             final Frequency arg1, final Frequency arg2,
             final Frequency result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -142,7 +143,7 @@ public class Frequency extends Measurement<FrequencyUnit> {
     public Frequency addAndReturnNew(final double value, final FrequencyUnit unit, final FrequencyUnit resultUnit) {
         final var result = new Frequency();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -158,7 +159,7 @@ public class Frequency extends Measurement<FrequencyUnit> {
     public Frequency addAndReturnNew(final Number value, final FrequencyUnit unit, final FrequencyUnit resultUnit) {
         final var result = new Frequency();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -180,7 +181,7 @@ public class Frequency extends Measurement<FrequencyUnit> {
      * @param unit  unit of frequency value.
      */
     public void add(final double value, final FrequencyUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -190,7 +191,7 @@ public class Frequency extends Measurement<FrequencyUnit> {
      * @param unit  unit of frequency value.
      */
     public void add(final Number value, final FrequencyUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -226,8 +227,8 @@ public class Frequency extends Measurement<FrequencyUnit> {
             final double value1, final FrequencyUnit unit1,
             final double value2, final FrequencyUnit unit2,
             final FrequencyUnit resultUnit) {
-        final var v1 = FrequencyConverter.convert(value1, unit1, resultUnit);
-        final var v2 = FrequencyConverter.convert(value2, unit2, resultUnit);
+        final var v1 = FrequencyConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = FrequencyConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -257,7 +258,8 @@ public class Frequency extends Measurement<FrequencyUnit> {
      */
     public static void subtract(
             final Frequency arg1, final Frequency arg2, final Frequency result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -289,7 +291,7 @@ public class Frequency extends Measurement<FrequencyUnit> {
             final double value, final FrequencyUnit unit, final FrequencyUnit resultUnit) {
         final var result = new Frequency();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -306,7 +308,7 @@ public class Frequency extends Measurement<FrequencyUnit> {
             final Number value, final FrequencyUnit unit, final FrequencyUnit resultUnit) {
         final var result = new Frequency();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -329,7 +331,7 @@ public class Frequency extends Measurement<FrequencyUnit> {
      * @param unit  unit of frequency value.
      */
     public void subtract(final double value, final FrequencyUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -339,7 +341,7 @@ public class Frequency extends Measurement<FrequencyUnit> {
      * @param unit  unit of frequency value.
      */
     public void subtract(final Number value, final FrequencyUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
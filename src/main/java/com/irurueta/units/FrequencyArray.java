@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Stores large amounts of frequency values sharing the same unit.
+ */
+public class FrequencyArray extends MeasurementArray<FrequencyUnit> {
+
+    /**
+     * Constructor.
+     * All values are initialized to zero.
+     *
+     * @param length number of frequency values.
+     * @param unit   unit shared by all frequency values.
+     * @throws IllegalArgumentException if length is negative or unit is null.
+     */
+    public FrequencyArray(final int length, final FrequencyUnit unit) {
+        super(length, unit);
+    }
+
+    /**
+     * Constructor.
+     * Provided values are not copied, hence any change made on them will be
+     * reflected on this instance.
+     *
+     * @param values frequency values to be stored.
+     * @param unit   unit shared by all frequency values.
+     * @throws IllegalArgumentException if either values or unit is null.
+     */
+    public FrequencyArray(final double[] values, final FrequencyUnit unit) {
+        super(values, unit);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param values array containing frequency values.
+     * @param offset position of first value within values array.
+     * @param length number of frequency values.
+     * @param unit   unit shared by all frequency values.
+     * @throws IllegalArgumentException if either values or unit is null, or if
+     *                                  offset and length exceed array bounds.
+     */
+    FrequencyArray(final double[] values, final int offset, final int length, final FrequencyUnit unit) {
+        super(values, offset, length, unit);
+    }
+
+    /**
+     * Gets frequency at provided position.
+     *
+     * @param index position of frequency to be returned.
+     * @return frequency value and unit at provided position.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public FrequencyValue getValue(final int index) {
+        return new FrequencyValue(get(index), getUnit());
+    }
+
+    /**
+     * Converts all frequency values to provided unit.
+     *
+     * @param outputUnit unit to convert values to.
+     * @return a new instance containing converted values.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    @Override
+    public FrequencyArray convertTo(final FrequencyUnit outputUnit) {
+        return (FrequencyArray) super.convertTo(outputUnit);
+    }
+
+    /**
+     * Returns a view of a range of frequency values of this instance.
+     * Returned instance shares values with this instance, hence changes on
+     * either of them are reflected on the other one.
+     *
+     * @param fromIndex position of first value to be included (inclusive).
+     * @param toIndex   position of last value to be included (exclusive).
+     * @return a view of requested range of values.
+     * @throws IllegalArgumentException if indices are out of bounds or fromIndex is
+     *                                  greater than toIndex.
+     */
+    @Override
+    public FrequencyArray slice(final int fromIndex, final int toIndex) {
+        return (FrequencyArray) super.slice(fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param values array containing frequency values.
+     * @param offset position of first value within values array.
+     * @param length number of frequency values.
+     * @param unit   unit shared by all frequency values.
+     * @return a new instance.
+     */
+    @Override
+    FrequencyArray newInstance(final double[] values, final int offset, final int length, final FrequencyUnit unit) {
+        return new FrequencyArray(values, offset, length, unit);
+    }
+
+    /**
+     * Converts a frequency value from input unit to provided output unit.
+     *
+     * @param value      frequency value to be converted.
+     * @param inputUnit  input frequency unit.
+     * @param outputUnit output frequency unit.
+     * @return converted frequency value.
+     */
+    @Override
+    double convert(final double value, final FrequencyUnit inputUnit, final FrequencyUnit outputUnit) {
+        return FrequencyConverter.convert(value, inputUnit, outputUnit);
+    }
+
+    /**
+     * Converts an array of frequency values from input unit to provided output unit.
+     *
+     * @param input        array containing frequency values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted frequency values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input frequency unit.
+     * @param outputUnit   output frequency unit.
+     */
+    @Override
+    void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final FrequencyUnit inputUnit, final FrequencyUnit outputUnit) {
+        FrequencyConverter.convert(input, inputOffset, output, outputOffset, length, inputUnit, outputUnit);
+    }
+}
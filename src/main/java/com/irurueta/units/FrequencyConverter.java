@@ -16,6 +16,8 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
 
 /**
  * Does frequency conversions to different units.
@@ -45,6 +47,26 @@ public class FrequencyConverter {
      */
     static final double HERTZ_PER_TERAHERTZ = 1e12;
 
+    /**
+     * Factors to convert frequency values between every pair of units, indexed by input
+     * and output unit ordinals.
+     */
+    private static final double[][] FACTORS = ConversionKernels.factors(FrequencyUnit.values(),
+            (inputUnit, outputUnit) -> fromHertz(toHertz(1.0, inputUnit), outputUnit));
+
+    /**
+     * Converts frequency values without binary floating point rounding, using exact
+     * number of hertzs in each unit.
+     */
+    private static final ExactConversion<FrequencyUnit> EXACT = new ExactConversion<>(FrequencyUnit.values(),
+            unit -> new BigDecimal(switch (unit) {
+                case HERTZ -> "1";
+                case KILOHERTZ -> "1000";
+                case MEGAHERTZ -> "1000000";
+                case GIGAHERTZ -> "1000000000";
+                case TERAHERTZ -> "1000000000000";
+            }));
+
     /**
      * Constructor.
      * Prevents instantiation of helper class.
@@ -94,13 +116,16 @@ public class FrequencyConverter {
      * @param result     frequency unit where result will be stored.
      */
     public static void convert(final Frequency input, final FrequencyUnit outputUnit, final Frequency result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts a frequency value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      frequency value.
      * @param inputUnit  input frequency unit.
@@ -111,6 +136,33 @@ public class FrequencyConverter {
         return BigDecimal.valueOf(convert(input.doubleValue(), inputUnit, outputUnit));
     }
 
+    /**
+     * Converts a frequency value from input unit to provided output unit without binary
+     * floating point rounding.
+     * Result is computed from exact definitions of units using a single multiplication
+     * (or division when the factor between both units is not a terminating decimal) by
+     * a factor computed once for each pair of units, and it is rounded once using
+     * provided context. Hence, results are exact as long as provided context has
+     * enough precision (e.g. {@link MathContext#UNLIMITED} when factor between
+     * both units is a terminating decimal).
+     *
+     * @param input       frequency value.
+     * @param inputUnit   input frequency unit.
+     * @param outputUnit  output frequency unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted frequency value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    public static BigDecimal convert(
+            final BigDecimal input, final FrequencyUnit inputUnit, final FrequencyUnit outputUnit,
+            final MathContext mathContext) {
+        UnitsMetricsRegistry.conversion(MeasurementType.FREQUENCY, inputUnit, outputUnit, 1);
+        return EXACT.convert(input, inputUnit, outputUnit, mathContext);
+    }
+
     /**
      * Converts a frequency value from input unit to provided output unit.
      *
@@ -120,23 +172,67 @@ public class FrequencyConverter {
      * @return converted frequency value.
      */
     public static double convert(final double input, final FrequencyUnit inputUnit, final FrequencyUnit outputUnit) {
-        // convert to hertz's
-        final var hertz = switch (inputUnit) {
-            case KILOHERTZ -> kiloHertzToHertz(input);
-            case MEGAHERTZ -> megaHertzToHertz(input);
-            case GIGAHERTZ -> gigaHertzToHertz(input);
-            case TERAHERTZ -> teraHertzToHertz(input);
-            default -> input;
-        };
+        UnitsMetricsRegistry.conversion(MeasurementType.FREQUENCY, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
 
-        // convert from Hertz to output unit
-        return switch (outputUnit) {
-            case KILOHERTZ -> hertzToKiloHertz(hertz);
-            case MEGAHERTZ -> hertzToMegaHertz(hertz);
-            case GIGAHERTZ -> hertzToGigaHertz(hertz);
-            case TERAHERTZ -> hertzToTeraHertz(hertz);
-            default -> hertz;
-        };
+    /**
+     * Converts a frequency value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      frequency value.
+     * @param inputUnit  input frequency unit.
+     * @param outputUnit output frequency unit.
+     * @return converted frequency value.
+     */
+    static double convertValue(final double input, final FrequencyUnit inputUnit, final FrequencyUnit outputUnit) {
+        return input * FACTORS[inputUnit.ordinal()][outputUnit.ordinal()];
+    }
+
+    /**
+     * Converts an array of frequency values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing frequency values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted frequency values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input frequency unit.
+     * @param outputUnit   output frequency unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final FrequencyUnit inputUnit, final FrequencyUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.FREQUENCY, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining frequency values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing frequency values to be converted.
+     * @param output     buffer where converted frequency values will be stored.
+     * @param inputUnit  input frequency unit.
+     * @param outputUnit output frequency unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final FrequencyUnit inputUnit,
+            final FrequencyUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.FREQUENCY, inputUnit, outputUnit, length);
     }
 
     /**
@@ -218,4 +314,38 @@ public class FrequencyConverter {
     public static double teraHertzToHertz(final double teraHertz) {
         return teraHertz * HERTZ_PER_TERAHERTZ;
     }
+
+    /**
+     * Converts a frequency value from provided unit to hertz.
+     *
+     * @param input frequency value.
+     * @param unit  unit of provided frequency value.
+     * @return same frequency converted to hertz.
+     */
+    private static double toHertz(final double input, final FrequencyUnit unit) {
+        return switch (unit) {
+            case KILOHERTZ -> kiloHertzToHertz(input);
+            case MEGAHERTZ -> megaHertzToHertz(input);
+            case GIGAHERTZ -> gigaHertzToHertz(input);
+            case TERAHERTZ -> teraHertzToHertz(input);
+            default -> input;
+        };
+    }
+
+    /**
+     * Converts a frequency value expressed in hertz to provided unit.
+     *
+     * @param hertz frequency value expressed in hertz.
+     * @param unit  output frequency unit.
+     * @return same frequency converted to provided unit.
+     */
+    private static double fromHertz(final double hertz, final FrequencyUnit unit) {
+        return switch (unit) {
+            case KILOHERTZ -> hertzToKiloHertz(hertz);
+            case MEGAHERTZ -> hertzToMegaHertz(hertz);
+            case GIGAHERTZ -> hertzToGigaHertz(hertz);
+            case TERAHERTZ -> hertzToTeraHertz(hertz);
+            default -> hertz;
+        };
+    }
 }
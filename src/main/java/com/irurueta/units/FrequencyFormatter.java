@@ -15,6 +15,7 @@
  */
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -48,6 +49,31 @@ public class FrequencyFormatter extends MeasureFormatter<Frequency, FrequencyUni
      */
     public static final String TERAHERTZ = "THz";
 
+    /**
+     * Scale of metric units used to format and convert frequency values.
+     */
+    private static final UnitScale<FrequencyUnit> METRIC_SCALE = new UnitScale<>(
+            FrequencyUnit.class, FrequencyConverter::convertValue, new double[]{
+                    FrequencyConverter.HERTZS_PER_KILOHERTZ,
+                    FrequencyConverter.HERTZ_PER_MEGAHERTZ / FrequencyConverter.HERTZS_PER_KILOHERTZ,
+                    FrequencyConverter.HERTZ_PER_GIGAHERTZ / FrequencyConverter.HERTZ_PER_MEGAHERTZ,
+                    FrequencyConverter.HERTZ_PER_TERAHERTZ / FrequencyConverter.HERTZ_PER_GIGAHERTZ
+            },
+            new FrequencyUnit[]{
+                    FrequencyUnit.HERTZ, FrequencyUnit.KILOHERTZ, FrequencyUnit.MEGAHERTZ, FrequencyUnit.GIGAHERTZ,
+                    FrequencyUnit.TERAHERTZ
+            });
+
+    /**
+     * Finds frequency units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<FrequencyUnit> UNIT_MATCHER = new UnitSymbolMatcher<FrequencyUnit>()
+            .add(KILOHERTZ, FrequencyUnit.KILOHERTZ)
+            .add(MEGAHERTZ, FrequencyUnit.MEGAHERTZ)
+            .add(GIGAHERTZ, FrequencyUnit.GIGAHERTZ)
+            .add(TERAHERTZ, FrequencyUnit.TERAHERTZ)
+            .add(HERTZ, FrequencyUnit.HERTZ);
+
     /**
      * Constructor.
      */
@@ -135,22 +161,35 @@ public class FrequencyFormatter extends MeasureFormatter<Frequency, FrequencyUni
      */
     @Override
     public FrequencyUnit findUnit(final String source) {
-        if (source.contains(KILOHERTZ + " ") || source.endsWith(KILOHERTZ)) {
-            return FrequencyUnit.KILOHERTZ;
-        }
-        if (source.contains(MEGAHERTZ + " ") || source.endsWith(MEGAHERTZ)) {
-            return FrequencyUnit.MEGAHERTZ;
-        }
-        if (source.contains(GIGAHERTZ + " ") || source.endsWith(GIGAHERTZ)) {
-            return FrequencyUnit.GIGAHERTZ;
-        }
-        if (source.contains(TERAHERTZ + " ") || source.endsWith(TERAHERTZ)) {
-            return FrequencyUnit.TERAHERTZ;
-        }
-        if (source.contains(HERTZ + " ") || source.endsWith(HERTZ)) {
-            return FrequencyUnit.HERTZ;
-        }
-        return null;
+        return UNIT_MATCHER.find(source);
+    }
+
+    /**
+     * Attempts to determine a frequency unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    FrequencyUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine a frequency unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    FrequencyUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
@@ -182,29 +221,8 @@ public class FrequencyFormatter extends MeasureFormatter<Frequency, FrequencyUni
      */
     public String formatAndConvertMetric(final Number value, final FrequencyUnit unit) {
         final var v = value.doubleValue();
-
-        final var hertz = FrequencyConverter.convert(v, unit, FrequencyUnit.HERTZ);
-        if (Math.abs(hertz) < FrequencyConverter.HERTZS_PER_KILOHERTZ) {
-            return format(hertz, FrequencyUnit.HERTZ);
-        }
-
-        final var kiloHertz = FrequencyConverter.convert(v, unit, FrequencyUnit.KILOHERTZ);
-        if (Math.abs(kiloHertz) < (FrequencyConverter.HERTZ_PER_MEGAHERTZ / FrequencyConverter.HERTZS_PER_KILOHERTZ)) {
-            return format(kiloHertz, FrequencyUnit.KILOHERTZ);
-        }
-
-        final var megaHertz = FrequencyConverter.convert(v, unit, FrequencyUnit.MEGAHERTZ);
-        if (Math.abs(megaHertz) < (FrequencyConverter.HERTZ_PER_GIGAHERTZ / FrequencyConverter.HERTZ_PER_MEGAHERTZ)) {
-            return format(megaHertz, FrequencyUnit.MEGAHERTZ);
-        }
-
-        final var gigaHertz = FrequencyConverter.convert(v, unit, FrequencyUnit.GIGAHERTZ);
-        if (Math.abs(gigaHertz) < (FrequencyConverter.HERTZ_PER_TERAHERTZ / FrequencyConverter.HERTZ_PER_GIGAHERTZ)) {
-            return format(gigaHertz, FrequencyUnit.GIGAHERTZ);
-        }
-
-        final var teraHertz = FrequencyConverter.convert(v, unit, FrequencyUnit.TERAHERTZ);
-        return format(teraHertz, FrequencyUnit.TERAHERTZ);
+        final var displayUnit = METRIC_SCALE.select(v, unit);
+        return format(FrequencyConverter.convertValue(v, unit, displayUnit), displayUnit);
     }
 
     /**
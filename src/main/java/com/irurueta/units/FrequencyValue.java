@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable frequency value and unit.
+ * Unlike {@link Frequency}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value frequency value.
+ * @param unit  unit of frequency.
+ */
+public record FrequencyValue(double value, FrequencyUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value frequency value.
+     * @param unit  unit of frequency.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public FrequencyValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable frequency value from provided mutable frequency.
+     *
+     * @param frequency frequency to copy value and unit from.
+     * @return a new immutable frequency value.
+     * @throws NullPointerException     if provided frequency is null.
+     * @throws IllegalArgumentException if provided frequency has no unit.
+     * @throws IllegalStateException    if provided frequency has no value.
+     */
+    public static FrequencyValue from(final Frequency frequency) {
+        return new FrequencyValue(frequency.getValueAsDouble(), frequency.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable frequency.
+     *
+     * @return a new mutable frequency containing this value and unit.
+     */
+    public Frequency toFrequency() {
+        final var result = new Frequency();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this frequency to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return a frequency value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public FrequencyValue convertTo(final FrequencyUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new FrequencyValue(FrequencyConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided frequency value and unit to this instance.
+     *
+     * @param value frequency value to be added.
+     * @param unit  unit of frequency value to be added.
+     * @return a new frequency value expressed in the unit of this instance.
+     */
+    public FrequencyValue add(final double value, final FrequencyUnit unit) {
+        return new FrequencyValue(Frequency.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided frequency to this instance.
+     *
+     * @param other frequency to be added.
+     * @return a new frequency value expressed in the unit of this instance.
+     */
+    public FrequencyValue add(final FrequencyValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided frequency to this instance.
+     *
+     * @param other      frequency to be added.
+     * @param resultUnit unit of returned frequency.
+     * @return a new frequency value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public FrequencyValue add(final FrequencyValue other, final FrequencyUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new FrequencyValue(Frequency.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided frequency value and unit from this instance.
+     *
+     * @param value frequency value to be subtracted.
+     * @param unit  unit of frequency value to be subtracted.
+     * @return a new frequency value expressed in the unit of this instance.
+     */
+    public FrequencyValue subtract(final double value, final FrequencyUnit unit) {
+        return new FrequencyValue(Frequency.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided frequency from this instance.
+     *
+     * @param other frequency to be subtracted.
+     * @return a new frequency value expressed in the unit of this instance.
+     */
+    public FrequencyValue subtract(final FrequencyValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided frequency from this instance.
+     *
+     * @param other      frequency to be subtracted.
+     * @param resultUnit unit of returned frequency.
+     * @return a new frequency value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public FrequencyValue subtract(final FrequencyValue other, final FrequencyUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new FrequencyValue(Frequency.subtract(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Determines if two frequency values are equal up to a certain tolerance.
+     * If needed, provided frequency is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another frequency to compare.
+     * @param tolerance amount of tolerance to determine whether both frequency values are
+     *                  equal or not.
+     * @return true if provided frequency is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final FrequencyValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = FrequencyConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
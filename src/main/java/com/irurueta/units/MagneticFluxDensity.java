@@ -59,9 +59,9 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
             return false;
         }
 
-        final var otherValue = MagneticFluxDensityConverter.convert(other.getValue().doubleValue(),
+        final var otherValue = MagneticFluxDensityConverter.convertValue(other.getValueAsDouble(),
                 other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -78,8 +78,8 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
             final double value1, final MagneticFluxDensityUnit unit1,
             final double value2, final MagneticFluxDensityUnit unit2,
             final MagneticFluxDensityUnit resultUnit) {
-        final var v1 = MagneticFluxDensityConverter.convert(value1, unit1, resultUnit);
-        final var v2 = MagneticFluxDensityConverter.convert(value2, unit2, resultUnit);
+        final var v1 = MagneticFluxDensityConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = MagneticFluxDensityConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -110,7 +110,8 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
      */
     public static void add(
             final MagneticFluxDensity arg1, final MagneticFluxDensity arg2, final MagneticFluxDensity result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -142,7 +143,7 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
             final double value, final MagneticFluxDensityUnit unit, final MagneticFluxDensityUnit resultUnit) {
         final var result = new MagneticFluxDensity();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -159,7 +160,7 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
             final Number value, final MagneticFluxDensityUnit unit, final MagneticFluxDensityUnit resultUnit) {
         final var result = new MagneticFluxDensity();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -183,7 +184,7 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
      * @param unit  unit of magnetic flux density value.
      */
     public void add(final double value, final MagneticFluxDensityUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -194,7 +195,7 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
      * @param unit  unit of magnetic flux density value.
      */
     public void add(final Number value, final MagneticFluxDensityUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -233,8 +234,8 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
             final double value1, final MagneticFluxDensityUnit unit1,
             final double value2, final MagneticFluxDensityUnit unit2,
             final MagneticFluxDensityUnit resultUnit) {
-        final var v1 = MagneticFluxDensityConverter.convert(value1, unit1, resultUnit);
-        final var v2 = MagneticFluxDensityConverter.convert(value2, unit2, resultUnit);
+        final var v1 = MagneticFluxDensityConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = MagneticFluxDensityConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -266,7 +267,8 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
      */
     public static void subtract(
             final MagneticFluxDensity arg1, final MagneticFluxDensity arg2, final MagneticFluxDensity result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -298,7 +300,7 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
             final double value, final MagneticFluxDensityUnit unit, final MagneticFluxDensityUnit resultUnit) {
         final var result = new MagneticFluxDensity();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -315,7 +317,7 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
             final Number value, final MagneticFluxDensityUnit unit, final MagneticFluxDensityUnit resultUnit) {
         final var result = new MagneticFluxDensity();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -339,7 +341,7 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
      * @param unit  unit of magnetic flux density value.
      */
     public void subtract(final double value, final MagneticFluxDensityUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -350,7 +352,7 @@ public class MagneticFluxDensity extends Measurement<MagneticFluxDensityUnit> {
      * @param unit  unit of magnetic flux density value.
      */
     public void subtract(final Number value, final MagneticFluxDensityUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Stores large amounts of magnetic flux density values sharing the same unit.
+ */
+public class MagneticFluxDensityArray extends MeasurementArray<MagneticFluxDensityUnit> {
+
+    /**
+     * Constructor.
+     * All values are initialized to zero.
+     *
+     * @param length number of magnetic flux density values.
+     * @param unit   unit shared by all magnetic flux density values.
+     * @throws IllegalArgumentException if length is negative or unit is null.
+     */
+    public MagneticFluxDensityArray(final int length, final MagneticFluxDensityUnit unit) {
+        super(length, unit);
+    }
+
+    /**
+     * Constructor.
+     * Provided values are not copied, hence any change made on them will be
+     * reflected on this instance.
+     *
+     * @param values magnetic flux density values to be stored.
+     * @param unit   unit shared by all magnetic flux density values.
+     * @throws IllegalArgumentException if either values or unit is null.
+     */
+    public MagneticFluxDensityArray(final double[] values, final MagneticFluxDensityUnit unit) {
+        super(values, unit);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param values array containing magnetic flux density values.
+     * @param offset position of first value within values array.
+     * @param length number of magnetic flux density values.
+     * @param unit   unit shared by all magnetic flux density values.
+     * @throws IllegalArgumentException if either values or unit is null, or if
+     *                                  offset and length exceed array bounds.
+     */
+    MagneticFluxDensityArray(
+            final double[] values, final int offset, final int length, final MagneticFluxDensityUnit unit) {
+        super(values, offset, length, unit);
+    }
+
+    /**
+     * Gets magnetic flux density at provided position.
+     *
+     * @param index position of magnetic flux density to be returned.
+     * @return magnetic flux density value and unit at provided position.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public MagneticFluxDensityValue getValue(final int index) {
+        return new MagneticFluxDensityValue(get(index), getUnit());
+    }
+
+    /**
+     * Converts all magnetic flux density values to provided unit.
+     *
+     * @param outputUnit unit to convert values to.
+     * @return a new instance containing converted values.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    @Override
+    public MagneticFluxDensityArray convertTo(final MagneticFluxDensityUnit outputUnit) {
+        return (MagneticFluxDensityArray) super.convertTo(outputUnit);
+    }
+
+    /**
+     * Returns a view of a range of magnetic flux density values of this instance.
+     * Returned instance shares values with this instance, hence changes on
+     * either of them are reflected on the other one.
+     *
+     * @param fromIndex position of first value to be included (inclusive).
+     * @param toIndex   position of last value to be included (exclusive).
+     * @return a view of requested range of values.
+     * @throws IllegalArgumentException if indices are out of bounds or fromIndex is
+     *                                  greater than toIndex.
+     */
+    @Override
+    public MagneticFluxDensityArray slice(final int fromIndex, final int toIndex) {
+        return (MagneticFluxDensityArray) super.slice(fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param values array containing magnetic flux density values.
+     * @param offset position of first value within values array.
+     * @param length number of magnetic flux density values.
+     * @param unit   unit shared by all magnetic flux density values.
+     * @return a new instance.
+     */
+    @Override
+    MagneticFluxDensityArray newInstance(
+            final double[] values, final int offset, final int length, final MagneticFluxDensityUnit unit) {
+        return new MagneticFluxDensityArray(values, offset, length, unit);
+    }
+
+    /**
+     * Converts a magnetic flux density value from input unit to provided output unit.
+     *
+     * @param value      magnetic flux density value to be converted.
+     * @param inputUnit  input magnetic flux density unit.
+     * @param outputUnit output magnetic flux density unit.
+     * @return converted magnetic flux density value.
+     */
+    @Override
+    double convert(
+            final double value, final MagneticFluxDensityUnit inputUnit, final MagneticFluxDensityUnit outputUnit) {
+        return MagneticFluxDensityConverter.convert(value, inputUnit, outputUnit);
+    }
+
+    /**
+     * Converts an array of magnetic flux density values from input unit to provided output unit.
+     *
+     * @param input        array containing magnetic flux density values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted magnetic flux density values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input magnetic flux density unit.
+     * @param outputUnit   output magnetic flux density unit.
+     */
+    @Override
+    void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final MagneticFluxDensityUnit inputUnit, final MagneticFluxDensityUnit outputUnit) {
+        MagneticFluxDensityConverter.convert(input, inputOffset, output, outputOffset, length, inputUnit, outputUnit);
+    }
+}
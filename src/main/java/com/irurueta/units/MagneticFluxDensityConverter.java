@@ -16,6 +16,8 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
 
 /**
  * Does magnetic flux density conversions to different units.
@@ -54,6 +56,28 @@ public class MagneticFluxDensityConverter {
      */
     static final double TESLAS_PER_GIGATESLA = 1e9;
 
+    /**
+     * Factors to convert magnetic flux density values between every pair of units, indexed by input
+     * and output unit ordinals.
+     */
+    private static final double[][] FACTORS = ConversionKernels.factors(MagneticFluxDensityUnit.values(),
+            (inputUnit, outputUnit) -> fromTesla(toTesla(1.0, inputUnit), outputUnit));
+
+    /**
+     * Converts magnetic flux density values without binary floating point rounding, using exact
+     * number of teslas in each unit.
+     */
+    private static final ExactConversion<MagneticFluxDensityUnit> EXACT = new ExactConversion<>(
+            MagneticFluxDensityUnit.values(), unit -> new BigDecimal(switch (unit) {
+                case NANOTESLA -> "0.000000001";
+                case MICROTESLA -> "0.000001";
+                case MILLITESLA -> "0.001";
+                case TESLA -> "1";
+                case KILOTESLA -> "1000";
+                case MEGATESLA -> "1000000";
+                case GIGATESLA -> "1000000000";
+            }));
+
     /**
      * Constructor.
      * Prevents instantiation of helper class.
@@ -108,14 +132,17 @@ public class MagneticFluxDensityConverter {
     public static void convert(
             final MagneticFluxDensity input, final MagneticFluxDensityUnit outputUnit,
             final MagneticFluxDensity result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts a magnetic flux density value from input unit to provided
      * output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      magnetic flux density value.
      * @param inputUnit  input magnetic flux density unit.
@@ -127,6 +154,33 @@ public class MagneticFluxDensityConverter {
         return BigDecimal.valueOf(convert(input.doubleValue(), inputUnit, outputUnit));
     }
 
+    /**
+     * Converts a magnetic flux density value from input unit to provided output unit without binary
+     * floating point rounding.
+     * Result is computed from exact definitions of units using a single multiplication
+     * (or division when the factor between both units is not a terminating decimal) by
+     * a factor computed once for each pair of units, and it is rounded once using
+     * provided context. Hence, results are exact as long as provided context has
+     * enough precision (e.g. {@link MathContext#UNLIMITED} when factor between
+     * both units is a terminating decimal).
+     *
+     * @param input       magnetic flux density value.
+     * @param inputUnit   input magnetic flux density unit.
+     * @param outputUnit  output magnetic flux density unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted magnetic flux density value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    public static BigDecimal convert(
+            final BigDecimal input, final MagneticFluxDensityUnit inputUnit, final MagneticFluxDensityUnit outputUnit,
+            final MathContext mathContext) {
+        UnitsMetricsRegistry.conversion(MeasurementType.MAGNETIC_FLUX_DENSITY, inputUnit, outputUnit, 1);
+        return EXACT.convert(input, inputUnit, outputUnit, mathContext);
+    }
+
     /**
      * Converts a magnetic flux density value from input unit to provided
      * output unit.
@@ -138,27 +192,69 @@ public class MagneticFluxDensityConverter {
      */
     public static double convert(
             final double input, final MagneticFluxDensityUnit inputUnit, final MagneticFluxDensityUnit outputUnit) {
-        // convert to Tesla
-        final var tesla = switch (inputUnit) {
-            case NANOTESLA -> nanoTeslaToTesla(input);
-            case MICROTESLA -> microTeslaToTesla(input);
-            case MILLITESLA -> milliTeslaToTesla(input);
-            case KILOTESLA -> kiloTeslaToTesla(input);
-            case MEGATESLA -> megaTeslaToTesla(input);
-            case GIGATESLA -> gigaTeslaToTesla(input);
-            default -> input;
-        };
+        UnitsMetricsRegistry.conversion(MeasurementType.MAGNETIC_FLUX_DENSITY, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
 
-        // convert from Tesla to output unit
-        return switch (outputUnit) {
-            case NANOTESLA -> teslaToNanoTesla(tesla);
-            case MICROTESLA -> teslaToMicroTesla(tesla);
-            case MILLITESLA -> teslaToMilliTesla(tesla);
-            case KILOTESLA -> teslaToKiloTesla(tesla);
-            case MEGATESLA -> teslaToMegaTesla(tesla);
-            case GIGATESLA -> teslaToGigaTesla(tesla);
-            default -> tesla;
-        };
+    /**
+     * Converts a magnetic flux density value from input unit to provided
+     * output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      magnetic flux density value.
+     * @param inputUnit  input magnetic flux density unit.
+     * @param outputUnit output magnetic flux density unit.
+     * @return converted magnetic flux density value.
+     */
+    static double convertValue(
+            final double input, final MagneticFluxDensityUnit inputUnit, final MagneticFluxDensityUnit outputUnit) {
+        return input * FACTORS[inputUnit.ordinal()][outputUnit.ordinal()];
+    }
+
+    /**
+     * Converts an array of magnetic flux density values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing magnetic flux density values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted magnetic flux density values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input magnetic flux density unit.
+     * @param outputUnit   output magnetic flux density unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final MagneticFluxDensityUnit inputUnit, final MagneticFluxDensityUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.MAGNETIC_FLUX_DENSITY, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining magnetic flux density values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing magnetic flux density values to be converted.
+     * @param output     buffer where converted magnetic flux density values will be stored.
+     * @param inputUnit  input magnetic flux density unit.
+     * @param outputUnit output magnetic flux density unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final MagneticFluxDensityUnit inputUnit,
+            final MagneticFluxDensityUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.MAGNETIC_FLUX_DENSITY, inputUnit, outputUnit, length);
     }
 
     /**
@@ -280,4 +376,42 @@ public class MagneticFluxDensityConverter {
     public static double gigaTeslaToTesla(final double gigaTesla) {
         return gigaTesla * TESLAS_PER_GIGATESLA;
     }
+
+    /**
+     * Converts a magnetic flux density value from provided unit to teslas.
+     *
+     * @param input magnetic flux density value.
+     * @param unit  unit of provided magnetic flux density value.
+     * @return same magnetic flux density converted to teslas.
+     */
+    private static double toTesla(final double input, final MagneticFluxDensityUnit unit) {
+        return switch (unit) {
+            case NANOTESLA -> nanoTeslaToTesla(input);
+            case MICROTESLA -> microTeslaToTesla(input);
+            case MILLITESLA -> milliTeslaToTesla(input);
+            case KILOTESLA -> kiloTeslaToTesla(input);
+            case MEGATESLA -> megaTeslaToTesla(input);
+            case GIGATESLA -> gigaTeslaToTesla(input);
+            default -> input;
+        };
+    }
+
+    /**
+     * Converts a magnetic flux density value expressed in teslas to provided unit.
+     *
+     * @param tesla magnetic flux density value expressed in teslas.
+     * @param unit  output magnetic flux density unit.
+     * @return same magnetic flux density converted to provided unit.
+     */
+    private static double fromTesla(final double tesla, final MagneticFluxDensityUnit unit) {
+        return switch (unit) {
+            case NANOTESLA -> teslaToNanoTesla(tesla);
+            case MICROTESLA -> teslaToMicroTesla(tesla);
+            case MILLITESLA -> teslaToMilliTesla(tesla);
+            case KILOTESLA -> teslaToKiloTesla(tesla);
+            case MEGATESLA -> teslaToMegaTesla(tesla);
+            case GIGATESLA -> teslaToGigaTesla(tesla);
+            default -> tesla;
+        };
+    }
 }
@@ -15,6 +15,7 @@
  */
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -58,6 +59,42 @@ public class MagneticFluxDensityFormatter extends MeasureFormatter<MagneticFluxD
      */
     public static final String GIGATESLA = "GT";
 
+    /**
+     * Scale of metric units used to format and convert magnetic flux density values.
+     */
+    private static final UnitScale<MagneticFluxDensityUnit> METRIC_SCALE = new UnitScale<>(
+            MagneticFluxDensityUnit.class, MagneticFluxDensityConverter::convertValue, new double[]{
+                    MagneticFluxDensityConverter.TESLAS_PER_MICROTESLA
+                            / MagneticFluxDensityConverter.TESLAS_PER_NANOTESLA,
+                    MagneticFluxDensityConverter.TESLAS_PER_MILLITESLA
+                            / MagneticFluxDensityConverter.TESLAS_PER_MICROTESLA,
+                    1.0 / MagneticFluxDensityConverter.TESLAS_PER_MILLITESLA,
+                    MagneticFluxDensityConverter.TESLAS_PER_KILOTESLA,
+                    MagneticFluxDensityConverter.TESLAS_PER_MEGATESLA
+                            / MagneticFluxDensityConverter.TESLAS_PER_KILOTESLA,
+                    MagneticFluxDensityConverter.TESLAS_PER_GIGATESLA
+                            / MagneticFluxDensityConverter.TESLAS_PER_MEGATESLA
+            },
+            new MagneticFluxDensityUnit[]{
+                    MagneticFluxDensityUnit.NANOTESLA, MagneticFluxDensityUnit.MICROTESLA,
+                    MagneticFluxDensityUnit.MILLITESLA, MagneticFluxDensityUnit.TESLA,
+                    MagneticFluxDensityUnit.KILOTESLA, MagneticFluxDensityUnit.MEGATESLA,
+                    MagneticFluxDensityUnit.GIGATESLA
+            });
+
+    /**
+     * Finds magnetic flux density units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<MagneticFluxDensityUnit> UNIT_MATCHER =
+            new UnitSymbolMatcher<MagneticFluxDensityUnit>()
+                    .add(NANOTESLA, MagneticFluxDensityUnit.NANOTESLA)
+                    .add(MICROTESLA, MagneticFluxDensityUnit.MICROTESLA)
+                    .add(MILLITESLA, MagneticFluxDensityUnit.MILLITESLA)
+                    .add(KILOTESLA, MagneticFluxDensityUnit.KILOTESLA)
+                    .add(MEGATESLA, MagneticFluxDensityUnit.MEGATESLA)
+                    .add(GIGATESLA, MagneticFluxDensityUnit.GIGATESLA)
+                    .add(TESLA, MagneticFluxDensityUnit.TESLA);
+
     /**
      * Constructor.
      */
@@ -147,28 +184,35 @@ public class MagneticFluxDensityFormatter extends MeasureFormatter<MagneticFluxD
      */
     @Override
     public MagneticFluxDensityUnit findUnit(final String source) {
-        if (source.contains(NANOTESLA + " ") || source.endsWith(NANOTESLA)) {
-            return MagneticFluxDensityUnit.NANOTESLA;
-        }
-        if (source.contains(MICROTESLA + " ") || source.endsWith(MICROTESLA)) {
-            return MagneticFluxDensityUnit.MICROTESLA;
-        }
-        if (source.contains(MILLITESLA + " ") || source.endsWith(MILLITESLA)) {
-            return MagneticFluxDensityUnit.MILLITESLA;
-        }
-        if (source.contains(KILOTESLA + " ") || source.endsWith(KILOTESLA)) {
-            return MagneticFluxDensityUnit.KILOTESLA;
-        }
-        if (source.contains(MEGATESLA + " ") || source.endsWith(MEGATESLA)) {
-            return MagneticFluxDensityUnit.MEGATESLA;
-        }
-        if (source.contains(GIGATESLA + " ") || source.endsWith(GIGATESLA)) {
-            return MagneticFluxDensityUnit.GIGATESLA;
-        }
-        if (source.contains(TESLA + " ") || source.endsWith(TESLA)) {
-            return MagneticFluxDensityUnit.TESLA;
-        }
-        return null;
+        return UNIT_MATCHER.find(source);
+    }
+
+    /**
+     * Attempts to determine a magnetic flux density unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    MagneticFluxDensityUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine a magnetic flux density unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    MagneticFluxDensityUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
@@ -202,43 +246,8 @@ public class MagneticFluxDensityFormatter extends MeasureFormatter<MagneticFluxD
      */
     public String formatAndConvertMetric(final Number value, final MagneticFluxDensityUnit unit) {
         final var v = value.doubleValue();
-
-        final var nanoTesla = MagneticFluxDensityConverter.convert(v, unit, MagneticFluxDensityUnit.NANOTESLA);
-        if (Math.abs(nanoTesla) < MagneticFluxDensityConverter.TESLAS_PER_MICROTESLA
-                / MagneticFluxDensityConverter.TESLAS_PER_NANOTESLA) {
-            return format(nanoTesla, MagneticFluxDensityUnit.NANOTESLA);
-        }
-
-        final var microTesla = MagneticFluxDensityConverter.convert(v, unit, MagneticFluxDensityUnit.MICROTESLA);
-        if (Math.abs(microTesla) < (MagneticFluxDensityConverter.TESLAS_PER_MILLITESLA
-                / MagneticFluxDensityConverter.TESLAS_PER_MICROTESLA)) {
-            return format(microTesla, MagneticFluxDensityUnit.MICROTESLA);
-        }
-
-        final var milliTesla = MagneticFluxDensityConverter.convert(v, unit, MagneticFluxDensityUnit.MILLITESLA);
-        if (Math.abs(milliTesla) < (1.0 / MagneticFluxDensityConverter.TESLAS_PER_MILLITESLA)) {
-            return format(milliTesla, MagneticFluxDensityUnit.MILLITESLA);
-        }
-
-        final var tesla = MagneticFluxDensityConverter.convert(v, unit, MagneticFluxDensityUnit.TESLA);
-        if (Math.abs(tesla) < MagneticFluxDensityConverter.TESLAS_PER_KILOTESLA) {
-            return format(tesla, MagneticFluxDensityUnit.TESLA);
-        }
-
-        final var kiloTesla = MagneticFluxDensityConverter.convert(v, unit, MagneticFluxDensityUnit.KILOTESLA);
-        if (Math.abs(kiloTesla) < (MagneticFluxDensityConverter.TESLAS_PER_MEGATESLA
-                / MagneticFluxDensityConverter.TESLAS_PER_KILOTESLA)) {
-            return format(kiloTesla, MagneticFluxDensityUnit.KILOTESLA);
-        }
-
-        final var megaTesla = MagneticFluxDensityConverter.convert(v, unit, MagneticFluxDensityUnit.MEGATESLA);
-        if (Math.abs(megaTesla) < (MagneticFluxDensityConverter.TESLAS_PER_GIGATESLA
-                / MagneticFluxDensityConverter.TESLAS_PER_MEGATESLA)) {
-            return format(megaTesla, MagneticFluxDensityUnit.MEGATESLA);
-        }
-
-        final var gigaTesla = MagneticFluxDensityConverter.convert(v, unit, MagneticFluxDensityUnit.GIGATESLA);
-        return format(gigaTesla, MagneticFluxDensityUnit.GIGATESLA);
+        final var displayUnit = METRIC_SCALE.select(v, unit);
+        return format(MagneticFluxDensityConverter.convertValue(v, unit, displayUnit), displayUnit);
     }
 
     /**
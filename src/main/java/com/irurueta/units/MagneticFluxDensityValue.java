@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable magnetic flux density value and unit.
+ * Unlike {@link MagneticFluxDensity}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value magnetic flux density value.
+ * @param unit  unit of magnetic flux density.
+ */
+public record MagneticFluxDensityValue(double value, MagneticFluxDensityUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value magnetic flux density value.
+     * @param unit  unit of magnetic flux density.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public MagneticFluxDensityValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable magnetic flux density value from provided mutable magnetic flux density.
+     *
+     * @param magneticFluxDensity magnetic flux density to copy value and unit from.
+     * @return a new immutable magnetic flux density value.
+     * @throws NullPointerException     if provided magnetic flux density is null.
+     * @throws IllegalArgumentException if provided magnetic flux density has no unit.
+     * @throws IllegalStateException    if provided magnetic flux density has no value.
+     */
+    public static MagneticFluxDensityValue from(final MagneticFluxDensity magneticFluxDensity) {
+        return new MagneticFluxDensityValue(magneticFluxDensity.getValueAsDouble(), magneticFluxDensity.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable magnetic flux density.
+     *
+     * @return a new mutable magnetic flux density containing this value and unit.
+     */
+    public MagneticFluxDensity toMagneticFluxDensity() {
+        final var result = new MagneticFluxDensity();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this magnetic flux density to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return a magnetic flux density value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public MagneticFluxDensityValue convertTo(final MagneticFluxDensityUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new MagneticFluxDensityValue(MagneticFluxDensityConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided magnetic flux density value and unit to this instance.
+     *
+     * @param value magnetic flux density value to be added.
+     * @param unit  unit of magnetic flux density value to be added.
+     * @return a new magnetic flux density value expressed in the unit of this instance.
+     */
+    public MagneticFluxDensityValue add(final double value, final MagneticFluxDensityUnit unit) {
+        final var result = MagneticFluxDensity.add(this.value, this.unit, value, unit, this.unit);
+        return new MagneticFluxDensityValue(result, this.unit);
+    }
+
+    /**
+     * Adds provided magnetic flux density to this instance.
+     *
+     * @param other magnetic flux density to be added.
+     * @return a new magnetic flux density value expressed in the unit of this instance.
+     */
+    public MagneticFluxDensityValue add(final MagneticFluxDensityValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided magnetic flux density to this instance.
+     *
+     * @param other      magnetic flux density to be added.
+     * @param resultUnit unit of returned magnetic flux density.
+     * @return a new magnetic flux density value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public MagneticFluxDensityValue add(
+            final MagneticFluxDensityValue other, final MagneticFluxDensityUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        final var result = MagneticFluxDensity.add(value, unit, other.value, other.unit, resultUnit);
+        return new MagneticFluxDensityValue(result, resultUnit);
+    }
+
+    /**
+     * Subtracts provided magnetic flux density value and unit from this instance.
+     *
+     * @param value magnetic flux density value to be subtracted.
+     * @param unit  unit of magnetic flux density value to be subtracted.
+     * @return a new magnetic flux density value expressed in the unit of this instance.
+     */
+    public MagneticFluxDensityValue subtract(final double value, final MagneticFluxDensityUnit unit) {
+        final var result = MagneticFluxDensity.subtract(this.value, this.unit, value, unit, this.unit);
+        return new MagneticFluxDensityValue(result, this.unit);
+    }
+
+    /**
+     * Subtracts provided magnetic flux density from this instance.
+     *
+     * @param other magnetic flux density to be subtracted.
+     * @return a new magnetic flux density value expressed in the unit of this instance.
+     */
+    public MagneticFluxDensityValue subtract(final MagneticFluxDensityValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided magnetic flux density from this instance.
+     *
+     * @param other      magnetic flux density to be subtracted.
+     * @param resultUnit unit of returned magnetic flux density.
+     * @return a new magnetic flux density value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public MagneticFluxDensityValue subtract(
+            final MagneticFluxDensityValue other, final MagneticFluxDensityUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        final var result = MagneticFluxDensity.subtract(value, unit, other.value, other.unit, resultUnit);
+        return new MagneticFluxDensityValue(result, resultUnit);
+    }
+
+    /**
+     * Determines if two magnetic flux density values are equal up to a certain tolerance.
+     * If needed, provided magnetic flux density is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another magnetic flux density to compare.
+     * @param tolerance amount of tolerance to determine whether both magnetic flux density values are
+     *                  equal or not.
+     * @return true if provided magnetic flux density is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final MagneticFluxDensityValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = MagneticFluxDensityConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
@@ -15,8 +15,14 @@
  */
 package com.irurueta.units;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.text.FieldPosition;
 import java.text.MessageFormat;
 import java.text.NumberFormat;
@@ -26,6 +32,9 @@ import java.util.Objects;
 
 /**
  * Base class to format and parse a given measure using its value and unit.
+ * Formatters are not thread-safe unless they are frozen. Once a formatter has been
+ * configured, it can be frozen to obtain an immutable instance that can be shared
+ * among any number of threads without any locking.
  *
  * @param <M> type of measurement (i.e. Distance or Surface).
  * @param <U> type of unit (i.e. DistanceUnit or SurfaceUnit).
@@ -60,6 +69,85 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      */
     private String valueAndUnitFormatPattern;
 
+    /**
+     * Value and unit pattern compiled into literal segments and arguments.
+     * It is lazily compiled on first use.
+     */
+    private ValueAndUnitPattern compiledValueAndUnitPattern;
+
+    /**
+     * Buffer reused to format numbers before appending them into the result.
+     */
+    private StringBuffer numberBuffer;
+
+    /**
+     * Builder reused to format values and units before appending them into an
+     * {@link Appendable}.
+     */
+    private StringBuilder appendableBuilder;
+
+    /**
+     * Field position reused to format numbers.
+     */
+    private FieldPosition numberPosition;
+
+    /**
+     * Indicates whether fast number formatting is enabled for double values.
+     */
+    private boolean fastNumberFormattingEnabled;
+
+    /**
+     * Fast number format using current settings of number format.
+     * It is lazily created on first use and discarded whenever settings change.
+     */
+    private FastNumberFormat fastNumberFormat;
+
+    /**
+     * Builder reused to format double values using fast number format.
+     */
+    private StringBuilder fastNumberBuilder;
+
+    /**
+     * Digits buffer reused to format double values using fast number format.
+     */
+    private FastNumberFormat.Digits fastNumberDigits;
+
+    /**
+     * Fast number parser using current settings of number format.
+     * It is lazily created on first use and discarded whenever settings change.
+     */
+    private FastNumberParser fastNumberParser;
+
+    /**
+     * Indicates whether fast number parser has been created for current settings.
+     */
+    private boolean fastNumberParserCreated;
+
+    /**
+     * Cursor reused to parse numbers using fast number parser.
+     */
+    private FastNumberParser.Cursor parseCursor;
+
+    /**
+     * View reused to parse ASCII bytes of UTF-8 text.
+     */
+    private AsciiSequence asciiSequence;
+
+    /**
+     * Decoder reused to parse UTF-8 text that cannot be parsed as bytes.
+     */
+    private CharsetDecoder utf8Decoder;
+
+    /**
+     * Buffer reused to store decoded UTF-8 text.
+     */
+    private CharBuffer decodedBuffer;
+
+    /**
+     * Indicates whether this formatter is frozen, and hence immutable and thread-safe.
+     */
+    private volatile boolean frozen;
+
     /**
      * Constructor.
      */
@@ -130,7 +218,70 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * @return string representation of provided measurement value and unit.
      */
     public String format(final Number value, final U unit) {
-        return MessageFormat.format(valueAndUnitFormatPattern, numberFormat.format(value), getUnitSymbol(unit));
+        final var metrics = UnitsMetricsRegistry.getMetrics();
+        if (metrics == null) {
+            return formatTo(value, unit, new StringBuilder()).toString();
+        }
+
+        final var startNanos = System.nanoTime();
+        final var result = formatTo(value, unit, new StringBuilder()).toString();
+        metrics.onFormat(this, System.nanoTime() - startNanos);
+        return result;
+    }
+
+    /**
+     * Formats provided measurement value and unit into a string representation
+     * and appends the result into provided string builder.
+     * Value and unit pattern is compiled only once, and formatted value is appended
+     * directly into provided builder without creating intermediate strings.
+     *
+     * @param value a measurement value.
+     * @param unit  a measurement unit.
+     * @param out   builder to append the result to.
+     * @return provided string builder where result is appended.
+     */
+    public StringBuilder formatTo(final Number value, final U unit, final StringBuilder out) {
+        return formatTo(formatNumber(value), getUnitSymbol(unit), getCompiledValueAndUnitPattern(), out);
+    }
+
+    /**
+     * Formats provided measurement value and unit into a string representation
+     * and appends the result into provided string builder.
+     * Value and unit pattern is compiled only once, and formatted value is appended
+     * directly into provided builder without creating intermediate strings.
+     *
+     * @param value a measurement value.
+     * @param unit  a measurement unit.
+     * @param out   builder to append the result to.
+     * @return provided string builder where result is appended.
+     */
+    public StringBuilder formatTo(final double value, final U unit, final StringBuilder out) {
+        return formatTo(formatNumber(value), getUnitSymbol(unit), getCompiledValueAndUnitPattern(), out);
+    }
+
+    /**
+     * Formats provided measurement value and unit into a string representation
+     * and appends the result into provided appendable (i.e. a writer).
+     *
+     * @param value a measurement value.
+     * @param unit  a measurement unit.
+     * @param out   appendable to append the result to.
+     * @return provided appendable where result is appended.
+     * @throws IOException if an I/O error occurs while appending the result.
+     */
+    public Appendable formatTo(final double value, final U unit, final Appendable out) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            return formatTo(value, unit, builder);
+        }
+
+        if (frozen) {
+            return out.append(formatTo(value, unit, new StringBuilder()));
+        }
+        if (appendableBuilder == null) {
+            appendableBuilder = new StringBuilder();
+        }
+        appendableBuilder.setLength(0);
+        return out.append(formatTo(value, unit, appendableBuilder));
     }
 
     /**
@@ -146,10 +297,17 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
     public StringBuffer format(
             final Number value, final U unit,
             final StringBuffer toAppendTo, final FieldPosition pos) {
-        if (format == null) {
-            format = new MessageFormat(valueAndUnitFormatPattern);
+        final MessageFormat messageFormat;
+        if (frozen) {
+            messageFormat = new MessageFormat(valueAndUnitFormatPattern);
+        } else {
+            if (format == null) {
+                format = new MessageFormat(valueAndUnitFormatPattern);
+            }
+            messageFormat = format;
         }
-        return format.format(new Object[]{numberFormat.format(value), getUnitSymbol(unit)}, toAppendTo, pos);
+        return messageFormat.format(new Object[]{getNumberFormatInstance().format(value), getUnitSymbol(unit)},
+                toAppendTo, pos);
     }
 
     /**
@@ -160,7 +318,15 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * @return string representation of provided measurement value and unit.
      */
     public String format(final double value, final U unit) {
-        return format(BigDecimal.valueOf(value), unit);
+        final var metrics = UnitsMetricsRegistry.getMetrics();
+        if (metrics == null) {
+            return formatTo(value, unit, new StringBuilder()).toString();
+        }
+
+        final var startNanos = System.nanoTime();
+        final var result = formatTo(value, unit, new StringBuilder()).toString();
+        metrics.onFormat(this, System.nanoTime() - startNanos);
+        return result;
     }
 
     /**
@@ -323,9 +489,12 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * Sets maximum fraction digits to use when formatting a measure.
      *
      * @param newValue maximum fraction digits to be set.
+     * @throws UnsupportedOperationException if this formatter is frozen.
      */
     public void setMaximumFractionDigits(final int newValue) {
+        checkNotFrozen();
         numberFormat.setMaximumFractionDigits(newValue);
+        numberFormatChanged();
     }
 
     /**
@@ -341,9 +510,12 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * Sets maximum integer digits to use when formatting a measure.
      *
      * @param newValue maximum integer digits to be set.
+     * @throws UnsupportedOperationException if this formatter is frozen.
      */
     public void setMaximumIntegerDigits(final int newValue) {
+        checkNotFrozen();
         numberFormat.setMaximumIntegerDigits(newValue);
+        numberFormatChanged();
     }
 
     /**
@@ -359,9 +531,12 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * Sets minimum fraction digits to use when formatting a measure.
      *
      * @param newValue minimum fraction digits to be set.
+     * @throws UnsupportedOperationException if this formatter is frozen.
      */
     public void setMinimumFractionDigits(final int newValue) {
+        checkNotFrozen();
         numberFormat.setMinimumFractionDigits(newValue);
+        numberFormatChanged();
     }
 
     /**
@@ -377,9 +552,12 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * Sets minimum integer digits to use when formatting a measure.
      *
      * @param newValue minimum integer digits to be set.
+     * @throws UnsupportedOperationException if this formatter is frozen.
      */
     public void setMinimumIntegerDigits(final int newValue) {
+        checkNotFrozen();
         numberFormat.setMinimumIntegerDigits(newValue);
+        numberFormatChanged();
     }
 
     /**
@@ -395,9 +573,12 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * Specifies rounding mode to use when formatting a measure.
      *
      * @param roundingMode rounding mode to be set.
+     * @throws UnsupportedOperationException if this formatter is frozen.
      */
     public void setRoundingMode(final RoundingMode roundingMode) {
+        checkNotFrozen();
         numberFormat.setRoundingMode(roundingMode);
+        numberFormatChanged();
     }
 
     /**
@@ -413,9 +594,13 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * Sets if grouping is used when formatting a measure.
      *
      * @param newValue true if grouping is enabled, false otherwise.
+     * @throws UnsupportedOperationException if this formatter is frozen.
      */
     public void setGroupingUsed(final boolean newValue) {
+        checkNotFrozen();
         numberFormat.setGroupingUsed(newValue);
+        numberFormatChanged();
+        fastNumberParserCreated = false;
     }
 
     /**
@@ -431,9 +616,39 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * Specifies whether only integer values are parsed or not.
      *
      * @param value if true only integer values will be parsed.
+     * @throws UnsupportedOperationException if this formatter is frozen.
      */
     public void setParseIntegerOnly(final boolean value) {
+        checkNotFrozen();
         numberFormat.setParseIntegerOnly(value);
+        fastNumberParserCreated = false;
+    }
+
+    /**
+     * Indicates whether fast number formatting is enabled for double values.
+     * When enabled, double values are formatted using their shortest decimal
+     * representation without using {@link NumberFormat}, as long as current settings
+     * are supported (plain decimal formats with any rounding mode other than
+     * {@link RoundingMode#UNNECESSARY}). Otherwise, number format is used.
+     * In any case, the same string representation is obtained.
+     * By default, fast number formatting is disabled.
+     *
+     * @return true if fast number formatting is enabled, false otherwise.
+     */
+    public boolean isFastNumberFormattingEnabled() {
+        return fastNumberFormattingEnabled;
+    }
+
+    /**
+     * Specifies whether fast number formatting is enabled for double values.
+     *
+     * @param fastNumberFormattingEnabled true to enable fast number formatting, false
+     *                                    otherwise.
+     * @throws UnsupportedOperationException if this formatter is frozen.
+     */
+    public void setFastNumberFormattingEnabled(final boolean fastNumberFormattingEnabled) {
+        checkNotFrozen();
+        this.fastNumberFormattingEnabled = fastNumberFormattingEnabled;
     }
 
     /**
@@ -453,12 +668,50 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * @param valueAndUnitFormatPattern pattern to format values and unit
      *                                  together.
      * @throws IllegalArgumentException if provided pattern is null.
+     * @throws UnsupportedOperationException if this formatter is frozen.
      */
     public void setValueAndUnitFormatPattern(final String valueAndUnitFormatPattern) {
+        checkNotFrozen();
         if (valueAndUnitFormatPattern == null) {
             throw new IllegalArgumentException();
         }
         this.valueAndUnitFormatPattern = valueAndUnitFormatPattern;
+        compiledValueAndUnitPattern = null;
+        format = null;
+    }
+
+    /**
+     * Indicates whether this formatter is frozen.
+     * Frozen formatters are immutable and thread-safe, hence they can be shared among
+     * any number of threads.
+     *
+     * @return true if this formatter is frozen, false otherwise.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Freezes this formatter so that it becomes immutable and thread-safe.
+     * Once frozen, any attempt to change its settings fails, and it can be shared
+     * among any number of threads (including virtual threads) without any locking.
+     * Frozen formatters format double values using fast number formatting whenever
+     * current settings support it, and otherwise use a copy of their number format
+     * for each formatting or parsing operation.
+     * Clones of a frozen formatter are not frozen, so they can be used to obtain a
+     * formatter with different settings.
+     *
+     * @return this formatter.
+     */
+    public MeasureFormatter<M, U> freeze() {
+        if (!frozen) {
+            compiledValueAndUnitPattern = ValueAndUnitPattern.compile(valueAndUnitFormatPattern);
+            fastNumberFormat = FastNumberFormat.from(numberFormat);
+            fastNumberParser = FastNumberParser.from(numberFormat);
+            fastNumberParserCreated = true;
+            frozen = true;
+        }
+        return this;
     }
 
     /**
@@ -494,7 +747,7 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      */
     public boolean isValidMeasurement(final String source) {
         try {
-            numberFormat.parse(source);
+            getNumberFormatInstance().parse(source);
             return isValidUnit(source);
         } catch (final ParseException e) {
             return false;
@@ -546,6 +799,170 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      */
     public abstract M parse(final String source) throws ParseException, UnknownUnitException;
 
+    /**
+     * Parses a character sequence into provided measure.
+     * Parsing failures are reported using returned status instead of throwing
+     * exceptions, so that invalid inputs can be cheaply discarded.
+     *
+     * @param source text to be parsed.
+     * @param out    measure where parsed value and unit are stored on success.
+     * @return status indicating whether parsing succeeded.
+     * @throws IllegalArgumentException if any parameter is null.
+     * @see #parse(CharSequence, int, int, Measurement)
+     */
+    public ParseStatus parse(final CharSequence source, final M out) {
+        if (source == null) {
+            throw new IllegalArgumentException();
+        }
+        return parse(source, 0, source.length(), out);
+    }
+
+    /**
+     * Parses a region of a character sequence into provided measure.
+     * Value and unit are found in a single pass over the region without creating
+     * substrings, and parsing failures are reported using returned status instead of
+     * throwing exceptions, so that invalid inputs can be cheaply discarded.
+     * End of region is considered the end of the input, and unit is searched after
+     * parsed value.
+     * Values are parsed following the same rules as {@link #parse(String)}, but they
+     * are always stored as primitive doubles. Values of plain decimal formats having up
+     * to 15 significant digits are parsed without any allocation.
+     * Provided measure is only modified if parsing succeeds.
+     *
+     * @param source text to be parsed.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @param out    measure where parsed value and unit are stored on success.
+     * @return status indicating whether parsing succeeded.
+     * @throws IllegalArgumentException if any parameter is null or region is not
+     *                                  within provided text.
+     */
+    public ParseStatus parse(final CharSequence source, final int start, final int end, final M out) {
+        if (source == null || out == null || start < 0 || start > end || end > source.length()) {
+            throw new IllegalArgumentException();
+        }
+        return UnitsMetricsRegistry.parse(this, parseRegion(source, start, end, out));
+    }
+
+    /**
+     * Parses a region of a character sequence into provided measure without
+     * notifying registered metrics.
+     *
+     * @param source text to be parsed.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @param out    measure where parsed value and unit are stored on success.
+     * @return status indicating whether parsing succeeded.
+     */
+    private ParseStatus parseRegion(final CharSequence source, final int start, final int end, final M out) {
+        final var cursor = getParseCursor();
+        final var parser = getFastNumberParser();
+        final var parsed = parser != null ? parser.parse(source, start, end, cursor)
+                : FastNumberParser.parseWithFormat(getNumberFormatInstance(), source, start, end, cursor);
+        if (!parsed) {
+            return ParseStatus.INVALID_VALUE;
+        }
+
+        final var unit = findUnit(source, cursor.index, end);
+        if (unit == null) {
+            return ParseStatus.UNKNOWN_UNIT;
+        }
+
+        out.setValueAsDouble(cursor.value);
+        out.setUnit(unit);
+        return ParseStatus.SUCCESS;
+    }
+
+    /**
+     * Parses a region of an array containing UTF-8 encoded text into provided measure.
+     *
+     * @param source array containing UTF-8 encoded text.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @param out    measure where parsed value and unit are stored on success.
+     * @return status indicating whether parsing succeeded.
+     * @throws IllegalArgumentException if any parameter is null or region is not
+     *                                  within provided array.
+     * @see #parse(ByteBuffer, int, int, Measurement)
+     */
+    public ParseStatus parse(final byte[] source, final int start, final int end, final M out) {
+        if (source == null) {
+            throw new IllegalArgumentException();
+        }
+        return parse(ByteBuffer.wrap(source), start, end, out);
+    }
+
+    /**
+     * Parses a region of a buffer containing UTF-8 encoded text into provided measure.
+     * Region is given by absolute positions, and position and limit of provided buffer
+     * are neither used nor modified.
+     * Text is not decoded as long as number symbols of the locale of this formatter are
+     * ASCII characters: values are parsed from ASCII bytes, and units (including
+     * multi-byte symbols such as "µs" or "m²") are found by comparing UTF-8 encoded
+     * symbols. Otherwise, text is decoded into a reused buffer. In any case, the same
+     * results are obtained as when parsing decoded text using
+     * {@link #parse(CharSequence, int, int, Measurement)}.
+     * Provided measure is only modified if parsing succeeds.
+     *
+     * @param source buffer containing UTF-8 encoded text.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @param out    measure where parsed value and unit are stored on success.
+     * @return status indicating whether parsing succeeded.
+     * @throws IllegalArgumentException if any parameter is null or region is not
+     *                                  within provided buffer.
+     */
+    public ParseStatus parse(final ByteBuffer source, final int start, final int end, final M out) {
+        if (source == null || out == null || start < 0 || start > end || end > source.limit()) {
+            throw new IllegalArgumentException();
+        }
+        return UnitsMetricsRegistry.parse(this, parseRegion(source, start, end, out));
+    }
+
+    /**
+     * Parses a region of a buffer containing UTF-8 encoded text into provided measure
+     * without notifying registered metrics.
+     *
+     * @param source buffer containing UTF-8 encoded text.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @param out    measure where parsed value and unit are stored on success.
+     * @return status indicating whether parsing succeeded.
+     */
+    private ParseStatus parseRegion(final ByteBuffer source, final int start, final int end, final M out) {
+        final var parser = getFastNumberParser();
+        if (parser == null || !parser.isAscii()) {
+            return parseDecoded(source, start, end, out);
+        }
+
+        final AsciiSequence sequence;
+        if (frozen) {
+            sequence = new AsciiSequence();
+        } else {
+            if (asciiSequence == null) {
+                asciiSequence = new AsciiSequence();
+            }
+            sequence = asciiSequence;
+        }
+
+        // numbers only contain ASCII characters, unless non-ASCII digits are used
+        final var asciiEnd = AsciiSequence.asciiEnd(source, start, end);
+        final var cursor = getParseCursor();
+        if (!parser.parse(sequence.set(source), start, asciiEnd, cursor)
+                || (asciiEnd < end && Character.isDigit(AsciiSequence.codePointAt(source, asciiEnd, end)))) {
+            return asciiEnd < end ? parseDecoded(source, start, end, out) : ParseStatus.INVALID_VALUE;
+        }
+
+        final var unit = findUnit(source, cursor.index, end);
+        if (unit == null) {
+            return ParseStatus.UNKNOWN_UNIT;
+        }
+
+        out.setValueAsDouble(cursor.value);
+        out.setUnit(unit);
+        return ParseStatus.SUCCESS;
+    }
+
     /**
      * Finds measure unit from within a measurement string representation.
      *
@@ -554,6 +971,37 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      */
     public abstract U findUnit(final String source);
 
+    /**
+     * Finds measure unit from within a region of a measurement representation.
+     * End of region is considered the end of the input.
+     * Subclasses should override this method to avoid creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a measure unit or null if none can be determined.
+     */
+    U findUnit(final CharSequence source, final int start, final int end) {
+        return findUnit(source.subSequence(start, end).toString());
+    }
+
+    /**
+     * Finds measure unit from within a region of UTF-8 encoded measurement
+     * representation.
+     * End of region is considered the end of the input.
+     * Subclasses should override this method to avoid decoding provided text.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a measure unit or null if none can be determined.
+     */
+    U findUnit(final ByteBuffer source, final int start, final int end) {
+        final var bytes = new byte[end - start];
+        source.get(start, bytes);
+        return findUnit(new String(bytes, StandardCharsets.UTF_8));
+    }
+
     /**
      * Obtains measure unit symbol.
      *
@@ -564,6 +1012,7 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
 
     /**
      * Internal method to parse a string into a measure.
+     * Result of parsing is notified to registered metrics, if any.
      *
      * @param source  text to be parsed.
      * @param measure a measure to be initialized with parsed contents.
@@ -572,15 +1021,214 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
      * @throws UnknownUnitException if unit cannot be determined.
      */
     M internalParse(final String source, final M measure) throws ParseException, UnknownUnitException {
-        measure.setValue(numberFormat.parse(source));
+        try {
+            measure.setValue(getNumberFormatInstance().parse(source));
+        } catch (final ParseException e) {
+            UnitsMetricsRegistry.parse(this, ParseStatus.INVALID_VALUE);
+            throw e;
+        }
         try {
             measure.setUnit(findUnit(source));
         } catch (final IllegalArgumentException e) {
+            UnitsMetricsRegistry.parse(this, ParseStatus.UNKNOWN_UNIT);
             throw new UnknownUnitException(e);
         }
+        UnitsMetricsRegistry.parse(this, ParseStatus.SUCCESS);
         return measure;
     }
 
+    /**
+     * Gets cursor to parse a number.
+     * If this formatter is frozen, a new cursor is returned, so that concurrent
+     * operations never share any state.
+     *
+     * @return cursor to parse a number.
+     */
+    private FastNumberParser.Cursor getParseCursor() {
+        if (frozen) {
+            return new FastNumberParser.Cursor();
+        }
+        if (parseCursor == null) {
+            parseCursor = new FastNumberParser.Cursor();
+        }
+        return parseCursor;
+    }
+
+    /**
+     * Gets fast number parser using current settings of number format.
+     *
+     * @return fast number parser or null if current settings are not supported.
+     */
+    private FastNumberParser getFastNumberParser() {
+        if (!frozen && !fastNumberParserCreated) {
+            fastNumberParser = FastNumberParser.from(numberFormat);
+            fastNumberParserCreated = true;
+        }
+        return fastNumberParser;
+    }
+
+    /**
+     * Decodes a region of a buffer containing UTF-8 encoded text and parses it into
+     * provided measure.
+     * Decoded text is stored into a reused buffer unless this formatter is frozen.
+     *
+     * @param source buffer containing UTF-8 encoded text.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @param out    measure where parsed value and unit are stored on success.
+     * @return status indicating whether parsing succeeded.
+     */
+    private ParseStatus parseDecoded(final ByteBuffer source, final int start, final int end, final M out) {
+        CharsetDecoder decoder = frozen ? null : utf8Decoder;
+        if (decoder == null) {
+            decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        // UTF-8 text never has more characters than bytes
+        CharBuffer chars = frozen ? null : decodedBuffer;
+        if (chars == null || chars.capacity() < end - start) {
+            chars = CharBuffer.allocate(end - start);
+        }
+
+        decoder.reset();
+        chars.clear();
+        decoder.decode(source.duplicate().limit(end).position(start), chars, true);
+        decoder.flush(chars);
+        chars.flip();
+
+        if (!frozen) {
+            utf8Decoder = decoder;
+            decodedBuffer = chars;
+        }
+        return parseRegion(chars, 0, chars.length(), out);
+    }
+
+    /**
+     * Checks that this formatter is not frozen before changing its settings.
+     *
+     * @throws UnsupportedOperationException if this formatter is frozen.
+     */
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Invalidates any state derived from number format settings after they change.
+     * Subclasses keeping their own state derived from number format settings must
+     * override this method and call it on their superclass.
+     */
+    void numberFormatChanged() {
+        fastNumberFormat = null;
+    }
+
+    /**
+     * Internal method to format provided formatted value and unit symbol using provided
+     * compiled pattern and append the result into provided string builder.
+     * If pattern could not be compiled, {@link MessageFormat} is used instead.
+     *
+     * @param formattedValue a formatted measurement value.
+     * @param unitSymbol     symbol of measurement unit.
+     * @param pattern        compiled pattern.
+     * @param out            builder to append the result to.
+     * @return provided string builder where result is appended.
+     */
+    StringBuilder formatTo(
+            final CharSequence formattedValue, final String unitSymbol, final ValueAndUnitPattern pattern,
+            final StringBuilder out) {
+        if (!pattern.isCompiled()) {
+            return out.append(MessageFormat.format(pattern.getPattern(), formattedValue.toString(), unitSymbol));
+        }
+
+        final var count = pattern.getArgumentCount();
+        for (var i = 0; i < count; i++) {
+            out.append(pattern.getLiteral(i));
+            if (pattern.getArgument(i) == ValueAndUnitPattern.VALUE) {
+                out.append(formattedValue);
+            } else {
+                out.append(unitSymbol);
+            }
+        }
+        return out.append(pattern.getLiteral(count));
+    }
+
+    /**
+     * Gets value and unit pattern compiled into literal segments and arguments.
+     *
+     * @return compiled value and unit pattern.
+     */
+    ValueAndUnitPattern getCompiledValueAndUnitPattern() {
+        if (!frozen && compiledValueAndUnitPattern == null) {
+            compiledValueAndUnitPattern = ValueAndUnitPattern.compile(valueAndUnitFormatPattern);
+        }
+        return compiledValueAndUnitPattern;
+    }
+
+    /**
+     * Formats provided number using number format into a reused buffer.
+     * Returned buffer is only valid until next number is formatted.
+     *
+     * @param value a number.
+     * @return buffer containing formatted number.
+     */
+    CharSequence formatNumber(final Number value) {
+        if (frozen) {
+            return getNumberFormatInstance().format(value);
+        }
+        if (numberBuffer == null) {
+            numberBuffer = new StringBuffer();
+            numberPosition = new FieldPosition(0);
+        }
+        numberBuffer.setLength(0);
+        return numberFormat.format(value, numberBuffer, numberPosition);
+    }
+
+    /**
+     * Formats provided double value into a reused buffer.
+     * If fast number formatting is enabled (or this formatter is frozen) and supported
+     * by current settings, value is formatted without using number format, otherwise
+     * its decimal representation is formatted using number format.
+     * Returned buffer is only valid until next number is formatted.
+     *
+     * @param value a double value.
+     * @return buffer containing formatted value.
+     */
+    CharSequence formatNumber(final double value) {
+        if (frozen) {
+            if (fastNumberFormat != null && Double.isFinite(value)) {
+                return fastNumberFormat.format(value, new StringBuilder());
+            }
+        } else if (fastNumberFormattingEnabled && Double.isFinite(value)) {
+            if (fastNumberFormat == null) {
+                fastNumberFormat = FastNumberFormat.from(numberFormat);
+            }
+            if (fastNumberFormat != null) {
+                if (fastNumberBuilder == null) {
+                    fastNumberBuilder = new StringBuilder();
+                    fastNumberDigits = new FastNumberFormat.Digits();
+                }
+                fastNumberBuilder.setLength(0);
+                return fastNumberFormat.format(value, fastNumberDigits, fastNumberBuilder);
+            }
+        }
+        return formatNumber(BigDecimal.valueOf(value));
+    }
+
+    /**
+     * Gets number format instance to be used for a single formatting or parsing
+     * operation.
+     * If this formatter is frozen, a copy of its number format is returned, so that
+     * concurrent operations never share any state.
+     *
+     * @return number format instance.
+     */
+    NumberFormat getNumberFormatInstance() {
+        return frozen ? (NumberFormat) numberFormat.clone() : numberFormat;
+    }
+
     /**
      * Internal method to clone this measure formatter.
      *
@@ -595,6 +1243,19 @@ public abstract class MeasureFormatter<M extends Measurement<U>, U extends Enum<
         if (locale != null) {
             copy.locale = (Locale) locale.clone();
         }
+        copy.numberBuffer = null;
+        copy.numberPosition = null;
+        copy.appendableBuilder = null;
+        copy.fastNumberFormat = null;
+        copy.fastNumberBuilder = null;
+        copy.fastNumberDigits = null;
+        copy.fastNumberParser = null;
+        copy.fastNumberParserCreated = false;
+        copy.parseCursor = null;
+        copy.asciiSequence = null;
+        copy.utf8Decoder = null;
+        copy.decodedBuffer = null;
+        copy.frozen = false;
         return copy;
     }
 
@@ -0,0 +1,366 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches configured formatters so that they can be reused instead of being created
+ * for every formatting operation.
+ * Formatters are identified by their measurement type, locale, maximum fraction
+ * digits and value and unit pattern. Returned formatters are frozen, hence they are
+ * immutable and can be shared among any number of threads.
+ * The number of cached formatters is bounded, and least recently used formatters are
+ * evicted when the maximum size is exceeded.
+ * This class is thread-safe.
+ */
+public class MeasureFormatterRegistry {
+
+    /**
+     * Default maximum number of cached formatters.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    /**
+     * Value indicating that the default maximum fraction digits of the locale must
+     * be kept.
+     */
+    private static final int DEFAULT_FRACTION_DIGITS = -1;
+
+    /**
+     * Maximum number of cached formatters.
+     */
+    private final int maximumSize;
+
+    /**
+     * Cached formatters in access order, from least to most recently used.
+     */
+    private final LinkedHashMap<Key, MeasureFormatter<?, ?>> formatters;
+
+    /**
+     * Number of requests returning a cached formatter.
+     */
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * Number of requests that required creating a formatter.
+     */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Number of evicted formatters.
+     */
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor using default maximum size.
+     */
+    public MeasureFormatterRegistry() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize maximum number of cached formatters.
+     * @throws IllegalArgumentException if maximum size is less than 1.
+     */
+    public MeasureFormatterRegistry(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        this.maximumSize = maximumSize;
+        formatters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, MeasureFormatter<?, ?>> eldest) {
+                if (size() > MeasureFormatterRegistry.this.maximumSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets a formatter for provided measurement type and locale using default
+     * settings.
+     *
+     * @param type   measurement type.
+     * @param locale locale of formatter.
+     * @return a frozen formatter.
+     * @throws IllegalArgumentException if type or locale is null.
+     */
+    public MeasureFormatter<?, ?> get(final MeasurementType type, final Locale locale) {
+        return get(new Key(type, locale, DEFAULT_FRACTION_DIGITS,
+                MeasureFormatter.DEFAULT_VALUE_AND_UNIT_FORMAT_PATTERN));
+    }
+
+    /**
+     * Gets a formatter for provided measurement type, locale and maximum fraction
+     * digits using default value and unit pattern.
+     *
+     * @param type                  measurement type.
+     * @param locale                locale of formatter.
+     * @param maximumFractionDigits maximum fraction digits.
+     * @return a frozen formatter.
+     * @throws IllegalArgumentException if type or locale is null, or if maximum
+     *                                  fraction digits is negative.
+     */
+    public MeasureFormatter<?, ?> get(
+            final MeasurementType type, final Locale locale, final int maximumFractionDigits) {
+        return get(type, locale, maximumFractionDigits, MeasureFormatter.DEFAULT_VALUE_AND_UNIT_FORMAT_PATTERN);
+    }
+
+    /**
+     * Gets a formatter for provided measurement type, locale, maximum fraction digits
+     * and value and unit pattern.
+     *
+     * @param type                      measurement type.
+     * @param locale                    locale of formatter.
+     * @param maximumFractionDigits     maximum fraction digits.
+     * @param valueAndUnitFormatPattern pattern to format values and unit together.
+     * @return a frozen formatter.
+     * @throws IllegalArgumentException if type, locale or pattern is null, or if
+     *                                  maximum fraction digits is negative.
+     */
+    public MeasureFormatter<?, ?> get(
+            final MeasurementType type, final Locale locale, final int maximumFractionDigits,
+            final String valueAndUnitFormatPattern) {
+        if (maximumFractionDigits < 0) {
+            throw new IllegalArgumentException();
+        }
+        return get(new Key(type, locale, maximumFractionDigits, valueAndUnitFormatPattern));
+    }
+
+    /**
+     * Gets a formatter of provided class for provided measurement type and locale
+     * using default settings.
+     *
+     * @param formatterClass class of formatter of provided type (i.e.
+     *                       {@link DistanceFormatter} for {@link MeasurementType#DISTANCE}).
+     * @param type           measurement type.
+     * @param locale         locale of formatter.
+     * @param <F>            type of formatter.
+     * @return a frozen formatter.
+     * @throws IllegalArgumentException if formatter class, type or locale is null.
+     * @throws ClassCastException       if formatter of provided type is not an instance
+     *                                  of provided class.
+     */
+    public <F extends MeasureFormatter<?, ?>> F get(
+            final Class<F> formatterClass, final MeasurementType type, final Locale locale) {
+        return cast(formatterClass, get(type, locale));
+    }
+
+    /**
+     * Gets a formatter of provided class for provided measurement type, locale and
+     * maximum fraction digits using default value and unit pattern.
+     *
+     * @param formatterClass        class of formatter of provided type (i.e.
+     *                              {@link DistanceFormatter} for
+     *                              {@link MeasurementType#DISTANCE}).
+     * @param type                  measurement type.
+     * @param locale                locale of formatter.
+     * @param maximumFractionDigits maximum fraction digits.
+     * @param <F>                   type of formatter.
+     * @return a frozen formatter.
+     * @throws IllegalArgumentException if formatter class, type or locale is null, or
+     *                                  if maximum fraction digits is negative.
+     * @throws ClassCastException       if formatter of provided type is not an instance
+     *                                  of provided class.
+     */
+    public <F extends MeasureFormatter<?, ?>> F get(
+            final Class<F> formatterClass, final MeasurementType type, final Locale locale,
+            final int maximumFractionDigits) {
+        return cast(formatterClass, get(type, locale, maximumFractionDigits));
+    }
+
+    /**
+     * Gets a formatter of provided class for provided measurement type, locale,
+     * maximum fraction digits and value and unit pattern.
+     *
+     * @param formatterClass            class of formatter of provided type (i.e.
+     *                                  {@link DistanceFormatter} for
+     *                                  {@link MeasurementType#DISTANCE}).
+     * @param type                      measurement type.
+     * @param locale                    locale of formatter.
+     * @param maximumFractionDigits     maximum fraction digits.
+     * @param valueAndUnitFormatPattern pattern to format values and unit together.
+     * @param <F>                       type of formatter.
+     * @return a frozen formatter.
+     * @throws IllegalArgumentException if formatter class, type, locale or pattern is
+     *                                  null, or if maximum fraction digits is negative.
+     * @throws ClassCastException       if formatter of provided type is not an instance
+     *                                  of provided class.
+     */
+    public <F extends MeasureFormatter<?, ?>> F get(
+            final Class<F> formatterClass, final MeasurementType type, final Locale locale,
+            final int maximumFractionDigits, final String valueAndUnitFormatPattern) {
+        return cast(formatterClass, get(type, locale, maximumFractionDigits, valueAndUnitFormatPattern));
+    }
+
+    /**
+     * Gets maximum number of cached formatters.
+     *
+     * @return maximum number of cached formatters.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets current number of cached formatters.
+     *
+     * @return number of cached formatters.
+     */
+    public synchronized int size() {
+        return formatters.size();
+    }
+
+    /**
+     * Removes all cached formatters. Statistics are kept.
+     */
+    public synchronized void clear() {
+        formatters.clear();
+    }
+
+    /**
+     * Gets number of requests that returned a cached formatter.
+     *
+     * @return number of hits.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets number of requests that required creating a new formatter.
+     *
+     * @return number of misses.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets number of formatters evicted because maximum size was exceeded.
+     *
+     * @return number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Gets ratio of requests that returned a cached formatter.
+     *
+     * @return hit rate between 0.0 and 1.0, or 0.0 if no request has been made.
+     */
+    public double getHitRate() {
+        final var hits = getHitCount();
+        final var requests = hits + getMissCount();
+        return requests > 0 ? (double) hits / (double) requests : 0.0;
+    }
+
+    /**
+     * Resets hit, miss and eviction statistics.
+     */
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    /**
+     * Gets cached formatter for provided key, or creates, configures and caches a new
+     * one if not found.
+     * Formatters are created outside the lock, so that lookups of other formatters
+     * are not blocked meanwhile.
+     *
+     * @param key key identifying formatter.
+     * @return a frozen formatter.
+     */
+    private MeasureFormatter<?, ?> get(final Key key) {
+        synchronized (this) {
+            final var formatter = formatters.get(key);
+            if (formatter != null) {
+                hitCount.increment();
+                return formatter;
+            }
+        }
+
+        missCount.increment();
+        final var formatter = key.type.createFormatter(key.locale);
+        if (key.maximumFractionDigits != DEFAULT_FRACTION_DIGITS) {
+            formatter.setMaximumFractionDigits(key.maximumFractionDigits);
+        }
+        formatter.setValueAndUnitFormatPattern(key.valueAndUnitFormatPattern);
+        formatter.freeze();
+
+        synchronized (this) {
+            // another thread might have cached an equivalent formatter meanwhile
+            final var previous = formatters.putIfAbsent(key, formatter);
+            return previous != null ? previous : formatter;
+        }
+    }
+
+    /**
+     * Casts provided formatter to provided formatter class.
+     *
+     * @param formatterClass class of formatter.
+     * @param formatter      formatter to be cast.
+     * @param <F>            type of formatter.
+     * @return provided formatter.
+     * @throws IllegalArgumentException if formatter class is null.
+     * @throws ClassCastException       if formatter is not an instance of provided class.
+     */
+    private static <F extends MeasureFormatter<?, ?>> F cast(
+            final Class<F> formatterClass, final MeasureFormatter<?, ?> formatter) {
+        if (formatterClass == null) {
+            throw new IllegalArgumentException();
+        }
+        return formatterClass.cast(formatter);
+    }
+
+    /**
+     * Key identifying a cached formatter.
+     *
+     * @param type                      measurement type.
+     * @param locale                    locale of formatter.
+     * @param maximumFractionDigits     maximum fraction digits, or
+     *                                  {@link #DEFAULT_FRACTION_DIGITS} to keep the
+     *                                  locale default.
+     * @param valueAndUnitFormatPattern pattern to format values and unit together.
+     */
+    private record Key(MeasurementType type, Locale locale, int maximumFractionDigits,
+                       String valueAndUnitFormatPattern) {
+
+        /**
+         * Constructor.
+         *
+         * @throws IllegalArgumentException if type, locale or pattern is null.
+         */
+        private Key {
+            if (type == null || locale == null || valueAndUnitFormatPattern == null) {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
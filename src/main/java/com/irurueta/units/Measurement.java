@@ -16,6 +16,10 @@
 
 package com.irurueta.units;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 
 /**
@@ -25,11 +29,31 @@ import java.io.Serializable;
  */
 public abstract class Measurement<T extends Enum<?>> implements Serializable {
 
+    /**
+     * Serialization version kept from releases storing only value and unit, so that
+     * measurements serialized by those releases can still be read.
+     */
+    private static final long serialVersionUID = 2596226859855339378L;
+
     /**
      * Measurement value.
+     * When value is set as a primitive double, this is only lazily boxed
+     * if requested.
      */
     private Number value;
 
+    /**
+     * Measurement value as a primitive double.
+     * It is not serialized, since it is rebuilt from boxed value once read.
+     */
+    private transient double doubleValue;
+
+    /**
+     * Indicates whether measurement value has been set.
+     * It is not serialized, since it is rebuilt from boxed value once read.
+     */
+    private transient boolean hasValue;
+
     /**
      * Measurement unit.
      */
@@ -48,6 +72,8 @@ public abstract class Measurement<T extends Enum<?>> implements Serializable {
         }
 
         this.value = value;
+        this.doubleValue = value.doubleValue();
+        this.hasValue = true;
         this.unit = unit;
     }
 
@@ -77,9 +103,9 @@ public abstract class Measurement<T extends Enum<?>> implements Serializable {
 
         //noinspection unchecked
         final var other = (Measurement<T>) obj;
-        return value != null && unit != null &&
-                other.value != null && other.unit != null &&
-                value.equals(other.value) && unit == other.unit;
+        return hasValue && unit != null &&
+                other.hasValue && other.unit != null &&
+                getValue().equals(other.getValue()) && unit == other.unit;
     }
 
     /**
@@ -91,7 +117,7 @@ public abstract class Measurement<T extends Enum<?>> implements Serializable {
     @Override
     public int hashCode() {
         var hash = 7;
-        hash = 19 * hash + (value != null ? value.hashCode() : 0);
+        hash = 19 * hash + (hasValue ? getValue().hashCode() : 0);
         hash = 19 * hash + (unit != null ? unit.hashCode() : 0);
         return hash;
     }
@@ -104,10 +130,10 @@ public abstract class Measurement<T extends Enum<?>> implements Serializable {
      * @return true if provided measurement is assumed to be equal to this instance, false otherwise.
      */
     public boolean equals(final Measurement<T> other, final double tolerance) {
-        return value != null && unit != null && other != null &&
-                other.value != null && other.unit != null &&
+        return hasValue && unit != null && other != null &&
+                other.hasValue && other.unit != null &&
                 unit == other.unit &&
-                (Math.abs(value.doubleValue() - other.value.doubleValue()) <= tolerance);
+                (Math.abs(doubleValue - other.doubleValue) <= tolerance);
     }
 
     /**
@@ -116,9 +142,27 @@ public abstract class Measurement<T extends Enum<?>> implements Serializable {
      * @return measurement value.
      */
     public Number getValue() {
+        if (value == null && hasValue) {
+            value = doubleValue;
+        }
         return value;
     }
 
+    /**
+     * Returns measurement value as a primitive double.
+     * This method never allocates, hence it should be preferred over
+     * {@link #getValue()} for arithmetic.
+     *
+     * @return measurement value.
+     * @throws IllegalStateException if measurement value has not been set.
+     */
+    public double getValueAsDouble() {
+        if (!hasValue) {
+            throw new IllegalStateException();
+        }
+        return doubleValue;
+    }
+
     /**
      * Sets measurement value.
      *
@@ -131,6 +175,30 @@ public abstract class Measurement<T extends Enum<?>> implements Serializable {
         }
 
         this.value = value;
+        this.doubleValue = value.doubleValue();
+        this.hasValue = true;
+    }
+
+    /**
+     * Sets measurement value as a primitive double.
+     * This method never allocates, hence it should be preferred over
+     * {@link #setValue(Number)} for arithmetic.
+     *
+     * @param value measurement value.
+     */
+    public void setValueAsDouble(final double value) {
+        this.value = null;
+        this.doubleValue = value;
+        this.hasValue = true;
+    }
+
+    /**
+     * Indicates whether measurement value has been set.
+     *
+     * @return true if measurement value has been set, false otherwise.
+     */
+    boolean hasValue() {
+        return hasValue;
     }
 
     /**
@@ -155,4 +223,44 @@ public abstract class Measurement<T extends Enum<?>> implements Serializable {
 
         this.unit = unit;
     }
+
+    /**
+     * Writes this measurement into provided stream.
+     * Values set as primitive doubles are boxed before being written, so that
+     * serialized fields are the same as in releases storing only value and unit.
+     *
+     * @param out stream to write this measurement into.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getValue();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * Reads this measurement from provided stream and rebuilds primitive value
+     * from read value.
+     *
+     * @param in stream to read this measurement from.
+     * @throws IOException            if an I/O error occurs.
+     * @throws ClassNotFoundException if class of value cannot be found.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        hasValue = value != null;
+        doubleValue = hasValue ? value.doubleValue() : 0.0;
+    }
+
+    /**
+     * Replaces this instance with a compact representation when serialized.
+     * Measurements without value or unit, or whose type is not supported by
+     * {@link MeasurementType}, are serialized as they are.
+     *
+     * @return object to be serialized in place of this instance.
+     * @throws ObjectStreamException never thrown.
+     */
+    Object writeReplace() throws ObjectStreamException {
+        final var type = MeasurementType.find(unit);
+        return hasValue && type != null ? new MeasurementSerializationProxy(type, this) : this;
+    }
 }
@@ -0,0 +1,428 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.util.Arrays;
+
+/**
+ * Base class to store large amounts of measurement values sharing the same unit.
+ * Values are stored in a primitive array, which is much more compact than
+ * storing one measurement instance per value and allows cache friendly scans.
+ * Slices share values with the array they are created from.
+ *
+ * @param <U> a measurement unit.
+ */
+public abstract class MeasurementArray<U extends Enum<U>> {
+
+    /**
+     * Array containing values.
+     */
+    private final double[] values;
+
+    /**
+     * Position of first value within values array.
+     */
+    private final int offset;
+
+    /**
+     * Number of values.
+     */
+    private final int length;
+
+    /**
+     * Unit shared by all values.
+     */
+    private final U unit;
+
+    /**
+     * Constructor.
+     * All values are initialized to zero.
+     *
+     * @param length number of values.
+     * @param unit   unit shared by all values.
+     * @throws IllegalArgumentException if length is negative or unit is null.
+     */
+    MeasurementArray(final int length, final U unit) {
+        this(createValues(length), 0, length, unit);
+    }
+
+    /**
+     * Constructor.
+     * Provided values are not copied, hence any change made on them will be
+     * reflected on this instance.
+     *
+     * @param values values to be stored.
+     * @param unit   unit shared by all values.
+     * @throws IllegalArgumentException if either values or unit is null.
+     */
+    MeasurementArray(final double[] values, final U unit) {
+        this(values, 0, values != null ? values.length : 0, unit);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param values array containing values.
+     * @param offset position of first value within values array.
+     * @param length number of values.
+     * @param unit   unit shared by all values.
+     * @throws IllegalArgumentException if either values or unit is null, or if
+     *                                  offset and length exceed array bounds.
+     */
+    MeasurementArray(final double[] values, final int offset, final int length, final U unit) {
+        if (values == null || unit == null || offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IllegalArgumentException();
+        }
+
+        this.values = values;
+        this.offset = offset;
+        this.length = length;
+        this.unit = unit;
+    }
+
+    /**
+     * Gets unit shared by all values.
+     *
+     * @return unit shared by all values.
+     */
+    public U getUnit() {
+        return unit;
+    }
+
+    /**
+     * Gets number of values.
+     *
+     * @return number of values.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Gets value at provided position.
+     *
+     * @param index position of value to be returned.
+     * @return value at provided position expressed in the unit of this instance.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public double get(final int index) {
+        return values[offset + checkIndex(index)];
+    }
+
+    /**
+     * Sets value at provided position.
+     *
+     * @param index position of value to be set.
+     * @param value value expressed in the unit of this instance.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public void set(final int index, final double value) {
+        values[offset + checkIndex(index)] = value;
+    }
+
+    /**
+     * Sets value at provided position.
+     *
+     * @param index position of value to be set.
+     * @param value value to be set.
+     * @param unit  unit of provided value.
+     * @throws IllegalArgumentException if index is out of bounds or unit is null.
+     */
+    public void set(final int index, final double value, final U unit) {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+        set(index, convert(value, unit, this.unit));
+    }
+
+    /**
+     * Copies values into a new array.
+     *
+     * @return a new array containing values expressed in the unit of this instance.
+     */
+    public double[] toArray() {
+        return Arrays.copyOfRange(values, offset, offset + length);
+    }
+
+    /**
+     * Copies values into provided array.
+     *
+     * @param result       array where values will be copied.
+     * @param resultOffset position where first value will be copied within result array.
+     * @throws IllegalArgumentException if values do not fit into result array.
+     */
+    public void toArray(final double[] result, final int resultOffset) {
+        ConversionKernels.checkBounds(values, offset, result, resultOffset, length);
+        System.arraycopy(values, offset, result, resultOffset, length);
+    }
+
+    /**
+     * Copies a range of values into provided array, converting them to provided
+     * unit.
+     *
+     * @param fromIndex    position of first value to be copied.
+     * @param result       array where values will be copied.
+     * @param resultOffset position where first value will be copied within result array.
+     * @param count        number of values to be copied.
+     * @param outputUnit   unit to convert values to.
+     * @throws IllegalArgumentException if range exceeds bounds of this instance or
+     *                                  result array.
+     */
+    void toArray(final int fromIndex, final double[] result, final int resultOffset, final int count,
+                 final U outputUnit) {
+        if (fromIndex < 0 || count < 0 || fromIndex > length - count) {
+            throw new IllegalArgumentException();
+        }
+        convert(values, offset + fromIndex, result, resultOffset, count, unit, outputUnit);
+    }
+
+    /**
+     * Converts all values to provided unit.
+     *
+     * @param outputUnit unit to convert values to.
+     * @return a new instance containing converted values.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public MeasurementArray<U> convertTo(final U outputUnit) {
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var result = new double[length];
+        convert(values, offset, result, 0, length, unit, outputUnit);
+        return newInstance(result, 0, length, outputUnit);
+    }
+
+    /**
+     * Adds values of provided instance to values of this instance, position by
+     * position.
+     * Values of provided instance are converted to the unit of this instance if
+     * needed.
+     *
+     * @param other instance containing values to be added.
+     * @throws IllegalArgumentException if provided instance is null or both
+     *                                  instances have different lengths.
+     */
+    public void add(final MeasurementArray<U> other) {
+        checkLength(other);
+
+        final var otherValues = other.unitValues(unit);
+        final var otherOffset = other.unit == unit ? other.offset : 0;
+        if (ConversionKernels.isBackwards(otherValues, otherOffset, values, offset)) {
+            // overlapping views of the same array are traversed backwards so that
+            // values of provided instance are read before being modified
+            for (var i = length - 1; i >= 0; i--) {
+                values[offset + i] += otherValues[otherOffset + i];
+            }
+        } else {
+            for (var i = 0; i < length; i++) {
+                values[offset + i] += otherValues[otherOffset + i];
+            }
+        }
+    }
+
+    /**
+     * Subtracts values of provided instance from values of this instance,
+     * position by position.
+     * Values of provided instance are converted to the unit of this instance if
+     * needed.
+     *
+     * @param other instance containing values to be subtracted.
+     * @throws IllegalArgumentException if provided instance is null or both
+     *                                  instances have different lengths.
+     */
+    public void subtract(final MeasurementArray<U> other) {
+        checkLength(other);
+
+        final var otherValues = other.unitValues(unit);
+        final var otherOffset = other.unit == unit ? other.offset : 0;
+        if (ConversionKernels.isBackwards(otherValues, otherOffset, values, offset)) {
+            // overlapping views of the same array are traversed backwards so that
+            // values of provided instance are read before being modified
+            for (var i = length - 1; i >= 0; i--) {
+                values[offset + i] -= otherValues[otherOffset + i];
+            }
+        } else {
+            for (var i = 0; i < length; i++) {
+                values[offset + i] -= otherValues[otherOffset + i];
+            }
+        }
+    }
+
+    /**
+     * Computes the sum of all values.
+     *
+     * @return sum of all values expressed in the unit of this instance, or zero if
+     * there are no values.
+     */
+    public double sum() {
+        var result = 0.0;
+        for (var i = offset; i < offset + length; i++) {
+            result += values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Finds the minimum value.
+     *
+     * @return minimum value expressed in the unit of this instance, or NaN if
+     * there are no values.
+     */
+    public double min() {
+        if (length == 0) {
+            return Double.NaN;
+        }
+
+        var result = values[offset];
+        for (var i = offset + 1; i < offset + length; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the maximum value.
+     *
+     * @return maximum value expressed in the unit of this instance, or NaN if
+     * there are no values.
+     */
+    public double max() {
+        if (length == 0) {
+            return Double.NaN;
+        }
+
+        var result = values[offset];
+        for (var i = offset + 1; i < offset + length; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a view of a range of values of this instance.
+     * Returned instance shares values with this instance, hence changes on
+     * either of them are reflected on the other one.
+     *
+     * @param fromIndex position of first value to be included (inclusive).
+     * @param toIndex   position of last value to be included (exclusive).
+     * @return a view of requested range of values.
+     * @throws IllegalArgumentException if indices are out of bounds or fromIndex is
+     *                                  greater than toIndex.
+     */
+    public MeasurementArray<U> slice(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        return newInstance(values, offset + fromIndex, toIndex - fromIndex, unit);
+    }
+
+    /**
+     * Creates a new instance of the same type as this instance.
+     *
+     * @param values array containing values.
+     * @param offset position of first value within values array.
+     * @param length number of values.
+     * @param unit   unit shared by all values.
+     * @return a new instance.
+     */
+    abstract MeasurementArray<U> newInstance(
+            final double[] values, final int offset, final int length, final U unit);
+
+    /**
+     * Converts a value from input unit to provided output unit.
+     *
+     * @param value      value to be converted.
+     * @param inputUnit  input unit.
+     * @param outputUnit output unit.
+     * @return converted value.
+     */
+    abstract double convert(final double value, final U inputUnit, final U outputUnit);
+
+    /**
+     * Converts an array of values from input unit to provided output unit.
+     *
+     * @param input        array containing values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input unit.
+     * @param outputUnit   output unit.
+     */
+    abstract void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final U inputUnit, final U outputUnit);
+
+    /**
+     * Creates an array to store values.
+     *
+     * @param length number of values.
+     * @return a new array.
+     * @throws IllegalArgumentException if length is negative.
+     */
+    private static double[] createValues(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException();
+        }
+        return new double[length];
+    }
+
+    /**
+     * Checks that provided index is within bounds.
+     *
+     * @param index index to be checked.
+     * @return provided index.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IllegalArgumentException();
+        }
+        return index;
+    }
+
+    /**
+     * Gets values of this instance expressed in provided unit.
+     * If provided unit is the unit of this instance, the backing array is returned,
+     * otherwise all values are converted at once into a new array.
+     *
+     * @param outputUnit unit to express values in.
+     * @return backing array or a new array containing converted values.
+     */
+    private double[] unitValues(final U outputUnit) {
+        if (outputUnit == unit) {
+            return values;
+        }
+
+        final var result = new double[length];
+        convert(values, offset, result, 0, length, unit, outputUnit);
+        return result;
+    }
+
+    /**
+     * Checks that provided instance has the same length as this instance.
+     *
+     * @param other instance to be checked.
+     * @throws IllegalArgumentException if provided instance is null or both
+     *                                  instances have different lengths.
+     */
+    private void checkLength(final MeasurementArray<U> other) {
+        if (other == null || other.length != length) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
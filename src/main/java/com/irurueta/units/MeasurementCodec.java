@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes measurements into and from binary buffers.
+ * Implementations determine the binary layout of encoded measurements, and
+ * allow measurements to be streamed one after another into the same buffer.
+ */
+public interface MeasurementCodec {
+
+    /**
+     * Gets number of bytes required to encode provided measurement.
+     *
+     * @param measurement measurement to be encoded.
+     * @return number of bytes required to encode provided measurement.
+     */
+    int getEncodedSize(final Measurement<?> measurement);
+
+    /**
+     * Encodes provided measurement into provided buffer at its current position.
+     * Buffer position is advanced by the number of written bytes.
+     *
+     * @param measurement measurement to be encoded.
+     * @param buffer      buffer where measurement will be written.
+     * @throws IllegalArgumentException         if measurement type is not supported or
+     *                                          measurement has no value or unit.
+     * @throws java.nio.BufferOverflowException if buffer has not enough remaining space.
+     */
+    void encode(final Measurement<?> measurement, final ByteBuffer buffer);
+
+    /**
+     * Decodes a measurement from provided buffer at its current position.
+     * Buffer position is advanced by the number of read bytes.
+     *
+     * @param buffer buffer to read measurement from.
+     * @return decoded measurement.
+     * @throws IllegalArgumentException          if buffer does not contain a valid measurement.
+     * @throws java.nio.BufferUnderflowException if buffer has not enough remaining bytes.
+     */
+    Measurement<?> decode(final ByteBuffer buffer);
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.nio.ByteOrder;
+
+/**
+ * Describes the layout of binary measurement files.
+ * Files start with a header of {@link #HEADER_SIZE} bytes containing:
+ * <ul>
+ *     <li>a magic number identifying the format (4 bytes).</li>
+ *     <li>format version (1 byte).</li>
+ *     <li>code of measurement type (1 byte).</li>
+ *     <li>ordinal of unit shared by all values (1 byte).</li>
+ *     <li>a reserved byte.</li>
+ *     <li>number of values (8 bytes).</li>
+ * </ul>
+ * The header is followed by packed doubles.
+ * All numbers are stored using little endian byte order.
+ */
+final class MeasurementFileFormat {
+
+    /**
+     * Magic number identifying measurement files.
+     */
+    static final int MAGIC = 0x464D5549;
+
+    /**
+     * Current format version.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * Position of magic number within header.
+     */
+    static final int MAGIC_POSITION = 0;
+
+    /**
+     * Position of format version within header.
+     */
+    static final int VERSION_POSITION = 4;
+
+    /**
+     * Position of measurement type code within header.
+     */
+    static final int TYPE_POSITION = 5;
+
+    /**
+     * Position of unit ordinal within header.
+     */
+    static final int UNIT_POSITION = 6;
+
+    /**
+     * Position of number of values within header.
+     */
+    static final int COUNT_POSITION = 8;
+
+    /**
+     * Size of header expressed in bytes.
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * Byte order of stored numbers.
+     */
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of helper class.
+     */
+    private MeasurementFileFormat() {
+    }
+}
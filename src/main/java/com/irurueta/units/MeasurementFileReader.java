@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads measurement values from a binary file written by
+ * {@link MeasurementFileWriter}.
+ * The whole file is memory mapped, hence values are only loaded from disk when
+ * they are accessed, and files larger than available memory can be read.
+ * Mapped regions remain valid until they are garbage collected, even after
+ * this reader is closed.
+ *
+ * @see MeasurementFileFormat
+ */
+public class MeasurementFileReader implements Closeable {
+
+    /**
+     * Base 2 logarithm of the number of values contained in each mapped segment.
+     * Files are mapped in segments because a single mapped region cannot exceed
+     * 2GB.
+     */
+    static final int SEGMENT_SHIFT = 27;
+
+    /**
+     * Number of values contained in each mapped segment.
+     */
+    static final int SEGMENT_LENGTH = 1 << SEGMENT_SHIFT;
+
+    /**
+     * Mask to obtain the position of a value within its segment.
+     */
+    private static final long SEGMENT_MASK = SEGMENT_LENGTH - 1;
+
+    /**
+     * Channel of file being read.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Type of stored measurements.
+     */
+    private final MeasurementType type;
+
+    /**
+     * Unit of stored values.
+     */
+    private final Enum<?> unit;
+
+    /**
+     * Number of stored values.
+     */
+    private final long length;
+
+    /**
+     * Memory mapped segments containing stored values.
+     */
+    private final DoubleBuffer[] segments;
+
+    /**
+     * Constructor.
+     *
+     * @param path path of file to be read.
+     * @throws IOException              if file cannot be read or is not a valid measurement
+     *                                  file.
+     * @throws IllegalArgumentException if path is null.
+     */
+    public MeasurementFileReader(final Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException();
+        }
+
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final var size = channel.size();
+            if (size < MeasurementFileFormat.HEADER_SIZE) {
+                throw new IOException();
+            }
+
+            final var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, MeasurementFileFormat.HEADER_SIZE);
+            header.order(MeasurementFileFormat.ORDER);
+            if (header.getInt(MeasurementFileFormat.MAGIC_POSITION) != MeasurementFileFormat.MAGIC
+                    || header.get(MeasurementFileFormat.VERSION_POSITION) != MeasurementFileFormat.VERSION) {
+                throw new IOException();
+            }
+
+            try {
+                type = MeasurementType.fromCode(header.get(MeasurementFileFormat.TYPE_POSITION));
+                unit = type.getUnit(header.get(MeasurementFileFormat.UNIT_POSITION));
+            } catch (final IllegalArgumentException e) {
+                throw new IOException(e);
+            }
+
+            length = header.getLong(MeasurementFileFormat.COUNT_POSITION);
+            if (length < 0 || length > (size - MeasurementFileFormat.HEADER_SIZE) / Double.BYTES) {
+                throw new IOException();
+            }
+
+            segments = new DoubleBuffer[(int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+            for (var i = 0; i < segments.length; i++) {
+                final var first = (long) i << SEGMENT_SHIFT;
+                final var segmentLength = Math.min(SEGMENT_LENGTH, length - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                                MeasurementFileFormat.HEADER_SIZE + first * Double.BYTES,
+                                segmentLength * Double.BYTES)
+                        .order(MeasurementFileFormat.ORDER).asDoubleBuffer();
+            }
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets type of stored measurements.
+     *
+     * @return type of stored measurements.
+     */
+    public MeasurementType getType() {
+        return type;
+    }
+
+    /**
+     * Gets unit of stored values.
+     *
+     * @return unit of stored values.
+     */
+    public Enum<?> getUnit() {
+        return unit;
+    }
+
+    /**
+     * Gets number of stored values.
+     *
+     * @return number of stored values.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Gets value at provided position expressed in the unit of the file.
+     *
+     * @param index position of value to be returned.
+     * @return value at provided position.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public double get(final long index) {
+        if (index < 0 || index >= length) {
+            throw new IllegalArgumentException();
+        }
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+    }
+
+    /**
+     * Copies a range of values expressed in the unit of the file into provided
+     * array.
+     *
+     * @param index        position of first value to be read.
+     * @param output       array where values will be copied.
+     * @param outputOffset position where first value will be copied within output array.
+     * @param length       number of values to be read.
+     * @throws IllegalArgumentException if requested range exceeds file or array bounds.
+     */
+    public void read(final long index, final double[] output, final int outputOffset, final int length) {
+        if (index < 0 || length < 0 || index > this.length - length || outputOffset < 0
+                || outputOffset > output.length - length) {
+            throw new IllegalArgumentException();
+        }
+
+        var position = index;
+        var offset = outputOffset;
+        var remaining = length;
+        while (remaining > 0) {
+            final var segment = segments[(int) (position >>> SEGMENT_SHIFT)];
+            final var segmentPosition = (int) (position & SEGMENT_MASK);
+            final var n = Math.min(remaining, segment.limit() - segmentPosition);
+            segment.get(segmentPosition, output, offset, n);
+
+            position += n;
+            offset += n;
+            remaining -= n;
+        }
+    }
+
+    /**
+     * Returns a view of stored values expressed in provided unit.
+     * Values are lazily converted when they are accessed.
+     *
+     * @param outputUnit unit values will be expressed in.
+     * @param <U>        type of unit.
+     * @return a view of stored values.
+     * @throws IllegalArgumentException if provided unit is null or does not belong to
+     *                                  the type of stored measurements.
+     */
+    public <U extends Enum<U>> MeasurementFileView<U> view(final U outputUnit) {
+        if (MeasurementType.fromUnit(outputUnit) != type) {
+            throw new IllegalArgumentException();
+        }
+        return new MeasurementFileView<>(this, outputUnit);
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException if file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * View of the values stored in a measurement file expressed in a given unit.
+ * Values are converted when they are accessed, hence no converted copy of the
+ * file is ever materialized.
+ *
+ * @param <U> a measurement unit.
+ */
+public class MeasurementFileView<U extends Enum<U>> {
+
+    /**
+     * Reader of file containing values.
+     */
+    private final MeasurementFileReader reader;
+
+    /**
+     * Unit values are expressed in.
+     */
+    private final U unit;
+
+    /**
+     * Constructor.
+     *
+     * @param reader reader of file containing values.
+     * @param unit   unit values are expressed in.
+     */
+    MeasurementFileView(final MeasurementFileReader reader, final U unit) {
+        this.reader = reader;
+        this.unit = unit;
+    }
+
+    /**
+     * Gets unit values are expressed in.
+     *
+     * @return unit values are expressed in.
+     */
+    public U getUnit() {
+        return unit;
+    }
+
+    /**
+     * Gets number of values.
+     *
+     * @return number of values.
+     */
+    public long length() {
+        return reader.length();
+    }
+
+    /**
+     * Gets value at provided position.
+     *
+     * @param index position of value to be returned.
+     * @return value at provided position expressed in the unit of this view.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public double get(final long index) {
+        return reader.getType().convert(reader.get(index), reader.getUnit(), unit);
+    }
+
+    /**
+     * Copies a range of values into provided array.
+     *
+     * @param index        position of first value to be read.
+     * @param output       array where values will be copied.
+     * @param outputOffset position where first value will be copied within output array.
+     * @param length       number of values to be read.
+     * @throws IllegalArgumentException if requested range exceeds file or array bounds.
+     */
+    public void read(final long index, final double[] output, final int outputOffset, final int length) {
+        reader.read(index, output, outputOffset, length);
+        reader.getType().convert(output, outputOffset, output, outputOffset, length, reader.getUnit(), unit);
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes measurement values sharing the same unit into a binary file.
+ * Values are buffered and written in blocks through a direct buffer, so that
+ * no memory mapping is created besides the one of the file header.
+ * Files can be read afterwards using {@link MeasurementFileReader}.
+ *
+ * @param <U> a measurement unit.
+ * @see MeasurementFileFormat
+ */
+public class MeasurementFileWriter<U extends Enum<U>> implements Closeable {
+
+    /**
+     * Default number of values buffered before being written into the file.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Channel of file being written.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Memory mapped file header.
+     */
+    private final MappedByteBuffer header;
+
+    /**
+     * Type of measurements being written.
+     */
+    private final MeasurementType type;
+
+    /**
+     * Unit of values being written.
+     */
+    private final U unit;
+
+    /**
+     * Values pending to be written into the file.
+     */
+    private final double[] buffer;
+
+    /**
+     * Number of values pending to be written into the file.
+     */
+    private int buffered;
+
+    /**
+     * Direct buffer used to write blocks of values into the file.
+     */
+    private final ByteBuffer block;
+
+    /**
+     * View of block buffer to store values in file byte order.
+     */
+    private final DoubleBuffer blockValues;
+
+    /**
+     * Number of values already written into the file.
+     */
+    private long written;
+
+    /**
+     * Constructor.
+     * If file already exists, it is overwritten.
+     *
+     * @param path path of file to be written.
+     * @param unit unit of values being written.
+     * @throws IOException              if file cannot be created.
+     * @throws IllegalArgumentException if either path or unit is null.
+     */
+    public MeasurementFileWriter(final Path path, final U unit) throws IOException {
+        this(path, unit, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor.
+     * If file already exists, it is overwritten.
+     *
+     * @param path       path of file to be written.
+     * @param unit       unit of values being written.
+     * @param bufferSize number of values buffered before being written into the file.
+     * @throws IOException              if file cannot be created.
+     * @throws IllegalArgumentException if either path or unit is null, or if buffer
+     *                                  size is not positive.
+     */
+    public MeasurementFileWriter(final Path path, final U unit, final int bufferSize) throws IOException {
+        if (path == null || bufferSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.type = MeasurementType.fromUnit(unit);
+        this.unit = unit;
+        this.buffer = new double[bufferSize];
+        this.block = ByteBuffer.allocateDirect(bufferSize * Double.BYTES).order(MeasurementFileFormat.ORDER);
+        this.blockValues = block.asDoubleBuffer();
+
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, MeasurementFileFormat.HEADER_SIZE);
+            header.order(MeasurementFileFormat.ORDER);
+            header.putInt(MeasurementFileFormat.MAGIC_POSITION, MeasurementFileFormat.MAGIC);
+            header.put(MeasurementFileFormat.VERSION_POSITION, MeasurementFileFormat.VERSION);
+            header.put(MeasurementFileFormat.TYPE_POSITION, (byte) type.getCode());
+            header.put(MeasurementFileFormat.UNIT_POSITION, (byte) unit.ordinal());
+            header.putLong(MeasurementFileFormat.COUNT_POSITION, 0L);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets type of measurements being written.
+     *
+     * @return type of measurements being written.
+     */
+    public MeasurementType getType() {
+        return type;
+    }
+
+    /**
+     * Gets unit of values being written.
+     *
+     * @return unit of values being written.
+     */
+    public U getUnit() {
+        return unit;
+    }
+
+    /**
+     * Gets number of values written so far, including those still buffered.
+     *
+     * @return number of values written so far.
+     */
+    public long getCount() {
+        return written + buffered;
+    }
+
+    /**
+     * Writes a value expressed in the unit of this writer.
+     *
+     * @param value value to be written.
+     * @throws IOException if value cannot be written.
+     */
+    public void write(final double value) throws IOException {
+        if (buffered == buffer.length) {
+            flush();
+        }
+        buffer[buffered++] = value;
+    }
+
+    /**
+     * Writes a value expressed in provided unit.
+     * Value is converted to the unit of this writer.
+     *
+     * @param value value to be written.
+     * @param unit  unit of provided value.
+     * @throws IOException              if value cannot be written.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public void write(final double value, final U unit) throws IOException {
+        write(type.convert(value, unit, this.unit));
+    }
+
+    /**
+     * Writes the value of provided measurement.
+     * Value is converted to the unit of this writer.
+     *
+     * @param measurement measurement to be written.
+     * @throws IOException if value cannot be written.
+     */
+    public void write(final Measurement<U> measurement) throws IOException {
+        write(measurement.getValueAsDouble(), measurement.getUnit());
+    }
+
+    /**
+     * Writes all values of provided array.
+     * Values are converted to the unit of this writer.
+     *
+     * @param array array containing values to be written.
+     * @throws IOException if values cannot be written.
+     */
+    public void write(final MeasurementArray<U> array) throws IOException {
+        final var length = array.length();
+        var index = 0;
+        while (index < length) {
+            if (buffered == buffer.length) {
+                flush();
+            }
+
+            final var count = Math.min(length - index, buffer.length - buffered);
+            array.toArray(index, buffer, buffered, count, unit);
+            buffered += count;
+            index += count;
+        }
+    }
+
+    /**
+     * Writes an array of values expressed in the unit of this writer.
+     *
+     * @param values array containing values to be written.
+     * @param offset position of first value to be written within array.
+     * @param length number of values to be written.
+     * @throws IOException              if values cannot be written.
+     * @throws IllegalArgumentException if offset or length are negative or exceed
+     *                                  array bounds.
+     */
+    public void write(final double[] values, final int offset, final int length) throws IOException {
+        ConversionKernels.checkBounds(values, offset, values, offset, length);
+
+        if (length > buffer.length - buffered) {
+            // values do not fit into buffer, hence they are directly written
+            flush();
+            writeBlock(values, offset, length);
+        } else {
+            System.arraycopy(values, offset, buffer, buffered, length);
+            buffered += length;
+        }
+    }
+
+    /**
+     * Writes all buffered values into the file.
+     *
+     * @throws IOException if values cannot be written.
+     */
+    public void flush() throws IOException {
+        if (buffered > 0) {
+            writeBlock(buffer, 0, buffered);
+            buffered = 0;
+        }
+    }
+
+    /**
+     * Writes all buffered values and closes the file.
+     *
+     * @throws IOException if values cannot be written or file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Writes a block of values into the file and updates the number of values
+     * stored in the header.
+     *
+     * @param values array containing values to be written.
+     * @param offset position of first value to be written within array.
+     * @param length number of values to be written.
+     * @throws IOException if values cannot be written.
+     */
+    private void writeBlock(final double[] values, final int offset, final int length) throws IOException {
+        if (length == 0) {
+            return;
+        }
+
+        var remaining = length;
+        var from = offset;
+        while (remaining > 0) {
+            final var count = Math.min(remaining, blockValues.capacity());
+            blockValues.clear();
+            blockValues.put(values, from, count);
+
+            block.clear().limit(count * Double.BYTES);
+            var position = MeasurementFileFormat.HEADER_SIZE + written * Double.BYTES;
+            while (block.hasRemaining()) {
+                position += channel.write(block, position);
+            }
+
+            written += count;
+            from += count;
+            remaining -= count;
+        }
+
+        header.putLong(MeasurementFileFormat.COUNT_POSITION, written);
+    }
+}
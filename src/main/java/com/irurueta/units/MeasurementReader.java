@@ -0,0 +1,721 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Reads a column of measurements (i.e. "5,5 mm") from delimited text such as CSV or
+ * TSV files into an array of values expressed in a single target unit.
+ * Text is read in chunks and each cell is parsed in place using a formatter, hence
+ * no string is created for each line or cell. Consecutive values having the same unit
+ * are converted in bulk to the target unit.
+ * Lines are separated by '\n' (optionally preceded by '\r'), empty lines are ignored,
+ * and cells can be enclosed between double quotes to contain delimiters. Cells that
+ * cannot be parsed (or lines not having the requested column) result in
+ * {@link Double#NaN} values, so that each non-empty line produces exactly one value.
+ * Files can be split into parts at line boundaries and parsed in parallel.
+ * This class is not thread-safe, although parallel reads can be safely done using
+ * a single instance.
+ *
+ * @param <M> type of measurement (i.e. Distance or Surface).
+ * @param <U> type of unit (i.e. DistanceUnit or SurfaceUnit).
+ */
+public class MeasurementReader<M extends Measurement<U>, U extends Enum<U>> {
+
+    /**
+     * Default delimiter of cells.
+     */
+    public static final char DEFAULT_DELIMITER = ',';
+
+    /**
+     * Number of characters read at once.
+     */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    /**
+     * Minimum number of bytes of each part of a file being read in parallel.
+     */
+    static final long MIN_PART_SIZE = 1 << 20;
+
+    /**
+     * Nominal maximum number of bytes of each part of a file being read in parallel.
+     * Parts end at line boundaries, hence they can be larger, up to
+     * {@link #MAX_MAPPED_SIZE}.
+     */
+    static final long MAX_PART_SIZE = 1 << 30;
+
+    /**
+     * Maximum number of bytes of a mapped region of a file.
+     */
+    static final long MAX_MAPPED_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * Number of parts per thread of the pool when reading files in parallel, so that
+     * work is balanced among threads.
+     */
+    private static final int PARTS_PER_THREAD = 4;
+
+    /**
+     * Initial capacity of arrays of read values.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Quote character enclosing cells containing delimiters.
+     */
+    private static final char QUOTE = '"';
+
+    /**
+     * Formatter used to parse cells.
+     */
+    private final MeasureFormatter<M, U> formatter;
+
+    /**
+     * Unit of read values.
+     */
+    private final U unit;
+
+    /**
+     * Type of read measurements.
+     */
+    private final MeasurementType type;
+
+    /**
+     * Delimiter of cells.
+     */
+    private char delimiter = DEFAULT_DELIMITER;
+
+    /**
+     * Position of column to be read, starting at 0.
+     */
+    private int column;
+
+    /**
+     * Indicates whether first non-empty line is a header to be skipped.
+     */
+    private boolean skipHeader;
+
+    /**
+     * Constructor.
+     * Provided formatter is copied, so that it can still be used (or modified)
+     * elsewhere.
+     *
+     * @param formatter formatter used to parse cells.
+     * @param unit      unit of read values.
+     * @throws IllegalArgumentException if any parameter is null.
+     */
+    public MeasurementReader(final MeasureFormatter<M, U> formatter, final U unit) {
+        if (formatter == null || unit == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.formatter = copy(formatter);
+        this.unit = unit;
+        this.type = MeasurementType.fromUnit(unit);
+    }
+
+    /**
+     * Gets unit of read values.
+     *
+     * @return unit of read values.
+     */
+    public U getUnit() {
+        return unit;
+    }
+
+    /**
+     * Gets delimiter of cells.
+     *
+     * @return delimiter of cells.
+     */
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Sets delimiter of cells (i.e. ',' for CSV or '\t' for TSV).
+     *
+     * @param delimiter delimiter of cells.
+     * @throws IllegalArgumentException if delimiter is a quote or a line separator.
+     */
+    public void setDelimiter(final char delimiter) {
+        if (delimiter == QUOTE || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException();
+        }
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Gets position of column to be read, starting at 0.
+     *
+     * @return position of column to be read.
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Sets position of column to be read, starting at 0.
+     *
+     * @param column position of column to be read.
+     * @throws IllegalArgumentException if column is negative.
+     */
+    public void setColumn(final int column) {
+        if (column < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.column = column;
+    }
+
+    /**
+     * Indicates whether first non-empty line is a header to be skipped.
+     *
+     * @return true if first non-empty line is skipped, false otherwise.
+     */
+    public boolean isSkipHeader() {
+        return skipHeader;
+    }
+
+    /**
+     * Specifies whether first non-empty line is a header to be skipped.
+     *
+     * @param skipHeader true if first non-empty line is skipped, false otherwise.
+     */
+    public void setSkipHeader(final boolean skipHeader) {
+        this.skipHeader = skipHeader;
+    }
+
+    /**
+     * Reads values contained in provided text.
+     *
+     * @param text text to be read.
+     * @return read values expressed in the unit of this reader.
+     * @throws IllegalArgumentException if text is null.
+     */
+    public double[] read(final CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var parser = new Parser(formatter, skipHeader);
+        parser.parseLines(text, 0, text.length(), true);
+        return parser.toArray();
+    }
+
+    /**
+     * Reads values from provided reader until its end is reached.
+     * Provided reader is not closed.
+     *
+     * @param reader reader to read text from.
+     * @return read values expressed in the unit of this reader.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if reader is null.
+     */
+    public double[] read(final Reader reader) throws IOException {
+        if (reader == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var parser = new Parser(formatter, skipHeader);
+        parser.parseChunks(buffer -> reader.read(buffer) < 0);
+        return parser.toArray();
+    }
+
+    /**
+     * Reads values from provided channel containing UTF-8 text until its end is
+     * reached.
+     * Provided channel is not closed.
+     *
+     * @param channel channel to read text from.
+     * @return read values expressed in the unit of this reader.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if channel is null.
+     */
+    public double[] read(final ReadableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException();
+        }
+        return read(Channels.newReader(channel, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads values from provided UTF-8 text file using the common pool to parse
+     * parts of the file in parallel.
+     *
+     * @param path path of file to be read.
+     * @return read values expressed in the unit of this reader.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if path is null.
+     */
+    public double[] read(final Path path) throws IOException {
+        return read(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads values from provided UTF-8 text file.
+     * File is memory mapped and split into parts at line boundaries, which are parsed
+     * in parallel using provided pool. Values are returned in the same order as they
+     * appear in the file.
+     *
+     * @param path path of file to be read.
+     * @param pool pool used to parse parts of the file.
+     * @return read values expressed in the unit of this reader.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if any parameter is null.
+     */
+    public double[] read(final Path path, final ForkJoinPool pool) throws IOException {
+        if (path == null || pool == null) {
+            throw new IllegalArgumentException();
+        }
+
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var start = skipHeader ? findHeaderEnd(channel) : 0L;
+            final var size = channel.size() - start;
+            final var partCount = (int) Math.max(Math.min((long) pool.getParallelism() * PARTS_PER_THREAD,
+                    size / MIN_PART_SIZE), (size + MAX_PART_SIZE - 1) / MAX_PART_SIZE);
+            final var boundaries = split(channel, start, partCount, MAX_MAPPED_SIZE);
+
+            final var tasks = new ArrayList<Callable<double[]>>(boundaries.length - 1);
+            for (var i = 0; i < boundaries.length - 1; i++) {
+                final var parser = new Parser(copy(formatter), false);
+                final var bytes = channel.map(FileChannel.MapMode.READ_ONLY, boundaries[i],
+                        boundaries[i + 1] - boundaries[i]);
+                tasks.add(() -> {
+                    parser.parseBytes(bytes);
+                    return parser.toArray();
+                });
+            }
+
+            final var parts = new double[tasks.size()][];
+            var length = 0;
+            final var futures = pool.invokeAll(tasks);
+            for (var i = 0; i < parts.length; i++) {
+                parts[i] = futures.get(i).get();
+                length += parts[i].length;
+            }
+
+            final var result = new double[length];
+            var offset = 0;
+            for (final var part : parts) {
+                System.arraycopy(part, 0, result, offset, part.length);
+                offset += part.length;
+            }
+            return result;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (final ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Finds position where the first non-empty line of a file ends, so that it can be
+     * skipped as a header.
+     *
+     * @param channel channel of file to be read.
+     * @return position after the line separator of the header, or the size of the
+     * file if it does not contain any non-empty line followed by a line separator.
+     * @throws IOException if an I/O error occurs.
+     */
+    static long findHeaderEnd(final FileChannel channel) throws IOException {
+        final var buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        var position = 0L;
+        var lineStart = 0L;
+        var previous = (byte) 0;
+        int n;
+        while ((n = channel.read(buffer.clear(), position)) > 0) {
+            for (var j = 0; j < n; j++, position++) {
+                final var b = buffer.get(j);
+                if (b == '\n') {
+                    // lines only containing a carriage return are empty
+                    final var length = position - lineStart;
+                    if (length > 1 || (length == 1 && previous != '\r')) {
+                        return position + 1;
+                    }
+                    lineStart = position + 1;
+                }
+                previous = b;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Splits a region of a file into parts ending at line boundaries.
+     * Parts have similar sizes, although they are extended up to the end of their
+     * last line.
+     *
+     * @param channel     channel of file to be split.
+     * @param start       position where region starts.
+     * @param parts       nominal number of parts.
+     * @param maximumSize maximum number of bytes of each part.
+     * @return positions where parts start, followed by the size of the file.
+     * @throws IOException if an I/O error occurs or if a line makes a part exceed
+     *                     maximum size.
+     */
+    static long[] split(final FileChannel channel, final long start, final int parts, final long maximumSize)
+            throws IOException {
+        final var size = channel.size();
+
+        final var boundaries = new ArrayList<Long>();
+        boundaries.add(start);
+        final var buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        for (var i = 1; i < parts; i++) {
+            final var previous = boundaries.get(boundaries.size() - 1);
+            var position = Math.max(start + (size - start) / parts * i, previous);
+            var found = false;
+            while (!found && position < size) {
+                buffer.clear();
+                final var n = channel.read(buffer, position);
+                for (var j = 0; j < n && !found; j++) {
+                    found = buffer.get(j) == '\n';
+                    position++;
+                }
+            }
+            checkPartSize(position - previous, maximumSize);
+            if (position > previous && position < size) {
+                boundaries.add(position);
+            }
+        }
+        checkPartSize(size - boundaries.get(boundaries.size() - 1), maximumSize);
+        boundaries.add(size);
+
+        final var result = new long[boundaries.size()];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = boundaries.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Checks that a part of a file does not exceed maximum size.
+     *
+     * @param partSize    number of bytes of part.
+     * @param maximumSize maximum number of bytes of each part.
+     * @throws IOException if part exceeds maximum size.
+     */
+    private static void checkPartSize(final long partSize, final long maximumSize) throws IOException {
+        if (partSize > maximumSize) {
+            throw new IOException("Part of " + partSize + " bytes ending at a line boundary exceeds maximum size of "
+                    + maximumSize + " bytes");
+        }
+    }
+
+    /**
+     * Copies provided formatter so that it is not shared.
+     *
+     * @param formatter formatter to be copied.
+     * @param <M>       type of measurement.
+     * @param <U>       type of unit.
+     * @return a copy of provided formatter.
+     */
+    private static <M extends Measurement<U>, U extends Enum<U>> MeasureFormatter<M, U> copy(
+            final MeasureFormatter<M, U> formatter) {
+        try {
+            return formatter.clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Fills buffers with text to be parsed.
+     */
+    private interface ChunkSource {
+
+        /**
+         * Appends available text into provided buffer.
+         *
+         * @param buffer buffer where text is appended.
+         * @return true if end of text has been reached, false otherwise.
+         * @throws IOException if an I/O error occurs.
+         */
+        boolean fill(final CharBuffer buffer) throws IOException;
+    }
+
+    /**
+     * Parses lines of text into values.
+     * Each parser owns its formatter, so that parsers can be used concurrently.
+     */
+    private final class Parser {
+
+        /**
+         * Formatter used to parse cells.
+         */
+        private final MeasureFormatter<M, U> formatter;
+
+        /**
+         * Measurement reused to parse cells.
+         */
+        private final M measurement;
+
+        /**
+         * Delimiter of cells.
+         */
+        private final char delimiter;
+
+        /**
+         * Position of column to be read.
+         */
+        private final int column;
+
+        /**
+         * Indicates whether next non-empty line must be skipped.
+         */
+        private boolean skipLine;
+
+        /**
+         * Read values.
+         */
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        /**
+         * Number of read values.
+         */
+        private int length;
+
+        /**
+         * Position of first value of current run of values having the same unit.
+         */
+        private int runStart;
+
+        /**
+         * Unit of current run of values.
+         */
+        private U runUnit;
+
+        /**
+         * Constructor.
+         *
+         * @param formatter formatter used to parse cells.
+         * @param skipLine  true if first non-empty line must be skipped.
+         */
+        @SuppressWarnings("unchecked")
+        private Parser(final MeasureFormatter<M, U> formatter, final boolean skipLine) {
+            this.formatter = formatter;
+            this.measurement = (M) type.createMeasurement(0.0, unit);
+            this.delimiter = MeasurementReader.this.delimiter;
+            this.column = MeasurementReader.this.column;
+            this.skipLine = skipLine;
+        }
+
+        /**
+         * Parses UTF-8 text contained in provided buffer.
+         *
+         * @param bytes buffer containing UTF-8 text.
+         * @throws IOException if an I/O error occurs.
+         */
+        private void parseBytes(final ByteBuffer bytes) throws IOException {
+            final var decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            parseChunks(buffer -> {
+                if (decoder.decode(bytes, buffer, true).isUnderflow()) {
+                    decoder.flush(buffer);
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        /**
+         * Parses text obtained in chunks from provided source.
+         *
+         * @param source source of text.
+         * @throws IOException if an I/O error occurs.
+         */
+        private void parseChunks(final ChunkSource source) throws IOException {
+            var buffer = CharBuffer.allocate(CHUNK_SIZE);
+            var end = false;
+            while (!end) {
+                end = source.fill(buffer);
+                buffer.flip();
+                buffer.position(parseLines(buffer, 0, buffer.limit(), end));
+                buffer.compact();
+
+                if (!buffer.hasRemaining()) {
+                    // line is longer than buffer
+                    final var larger = CharBuffer.allocate(buffer.capacity() * 2);
+                    buffer.flip();
+                    larger.put(buffer);
+                    buffer = larger;
+                }
+            }
+        }
+
+        /**
+         * Parses lines contained in provided region of text.
+         *
+         * @param text  text to be parsed.
+         * @param start position where region starts (inclusive).
+         * @param end   position where region ends (exclusive).
+         * @param last  true if region contains the end of text, false if last line
+         *              might be incomplete.
+         * @return position after last parsed line.
+         */
+        private int parseLines(final CharSequence text, final int start, final int end, final boolean last) {
+            var lineStart = start;
+            for (var i = start; i < end; i++) {
+                if (text.charAt(i) == '\n') {
+                    parseLine(text, lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+            if (last && lineStart < end) {
+                parseLine(text, lineStart, end);
+                lineStart = end;
+            }
+            if (last) {
+                flushRun();
+            }
+            return lineStart;
+        }
+
+        /**
+         * Parses a line.
+         *
+         * @param text  text containing the line.
+         * @param start position where line starts (inclusive).
+         * @param end   position where line ends (exclusive), excluding line separator.
+         */
+        private void parseLine(final CharSequence text, final int start, int end) {
+            if (end > start && text.charAt(end - 1) == '\r') {
+                end--;
+            }
+            if (start == end) {
+                return;
+            }
+            if (skipLine) {
+                skipLine = false;
+                return;
+            }
+
+            var cellStart = start;
+            for (var i = 0; ; i++) {
+                int cellEnd;
+                int next;
+                if (cellStart < end && text.charAt(cellStart) == QUOTE) {
+                    cellStart++;
+                    cellEnd = cellStart;
+                    while (cellEnd < end && text.charAt(cellEnd) != QUOTE) {
+                        cellEnd++;
+                    }
+                    next = cellEnd;
+                    while (next < end && text.charAt(next) != delimiter) {
+                        next++;
+                    }
+                } else {
+                    cellEnd = cellStart;
+                    while (cellEnd < end && text.charAt(cellEnd) != delimiter) {
+                        cellEnd++;
+                    }
+                    next = cellEnd;
+                }
+
+                if (i == column) {
+                    parseCell(text, cellStart, cellEnd);
+                    return;
+                }
+                if (next >= end) {
+                    // missing column
+                    add(Double.NaN);
+                    return;
+                }
+                cellStart = next + 1;
+            }
+        }
+
+        /**
+         * Parses a cell and adds its value.
+         *
+         * @param text  text containing the cell.
+         * @param start position where cell starts (inclusive).
+         * @param end   position where cell ends (exclusive).
+         */
+        private void parseCell(final CharSequence text, int start, int end) {
+            while (start < end && text.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+
+            if (formatter.parse(text, start, end, measurement) != ParseStatus.SUCCESS) {
+                add(Double.NaN);
+                return;
+            }
+
+            final var cellUnit = measurement.getUnit();
+            if (cellUnit != runUnit) {
+                flushRun();
+                runUnit = cellUnit;
+            }
+            add(measurement.getValueAsDouble());
+        }
+
+        /**
+         * Adds a value.
+         *
+         * @param value value to be added.
+         */
+        private void add(final double value) {
+            if (length == values.length) {
+                final var larger = new double[values.length * 2];
+                System.arraycopy(values, 0, larger, 0, length);
+                values = larger;
+            }
+            values[length++] = value;
+        }
+
+        /**
+         * Converts values of current run into the unit of the reader.
+         */
+        private void flushRun() {
+            if (runUnit != null && runUnit != unit && runStart < length) {
+                type.convert(values, runStart, values, runStart, length - runStart, runUnit, unit);
+            }
+            runStart = length;
+        }
+
+        /**
+         * Gets read values.
+         *
+         * @return read values.
+         */
+        private double[] toArray() {
+            flushRun();
+            final var result = new double[length];
+            System.arraycopy(values, 0, result, 0, length);
+            return result;
+        }
+    }
+}
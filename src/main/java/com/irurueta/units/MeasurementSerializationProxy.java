@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+
+/**
+ * Compact serialized form of measurements.
+ * Instead of writing class descriptors and field names for every measurement
+ * and its value, only the code of measurement type, the unit ordinal and the
+ * value are written.
+ * Values stored as doubles are written as 8 bytes. Any other kind of value
+ * (e.g. {@link java.math.BigDecimal}) is serialized as an object so that it is
+ * preserved.
+ */
+final class MeasurementSerializationProxy implements Externalizable {
+
+    /**
+     * Serialization version of compact form.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Indicates that value is written as a double.
+     */
+    private static final byte DOUBLE_VALUE = 0;
+
+    /**
+     * Indicates that value is written as an object.
+     */
+    private static final byte OBJECT_VALUE = 1;
+
+    /**
+     * Type of serialized measurement.
+     */
+    private MeasurementType type;
+
+    /**
+     * Unit of serialized measurement.
+     */
+    private Enum<?> unit;
+
+    /**
+     * Value of serialized measurement.
+     */
+    private Number value;
+
+    /**
+     * Constructor required for deserialization.
+     */
+    public MeasurementSerializationProxy() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param type        type of measurement to be serialized.
+     * @param measurement measurement to be serialized.
+     */
+    MeasurementSerializationProxy(final MeasurementType type, final Measurement<?> measurement) {
+        this.type = type;
+        this.unit = measurement.getUnit();
+        this.value = measurement.getValue();
+    }
+
+    /**
+     * Writes measurement into provided output.
+     *
+     * @param out output where measurement will be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeByte(type.getCode());
+        out.writeByte(unit.ordinal());
+        if (value instanceof Double) {
+            out.writeByte(DOUBLE_VALUE);
+            out.writeDouble(value.doubleValue());
+        } else {
+            out.writeByte(OBJECT_VALUE);
+            out.writeObject(value);
+        }
+    }
+
+    /**
+     * Reads measurement from provided input.
+     *
+     * @param in input to read measurement from.
+     * @throws IOException            if an I/O error occurs or data is not valid.
+     * @throws ClassNotFoundException if class of value cannot be found.
+     */
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        try {
+            type = MeasurementType.fromCode(in.readByte());
+            unit = type.getUnit(in.readByte());
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidObjectException(e.getMessage());
+        }
+
+        final var kind = in.readByte();
+        if (kind == DOUBLE_VALUE) {
+            value = in.readDouble();
+        } else if (kind == OBJECT_VALUE && in.readObject() instanceof Number number) {
+            value = number;
+        } else {
+            throw new InvalidObjectException(null);
+        }
+    }
+
+    /**
+     * Replaces this instance with the measurement it represents once deserialized.
+     *
+     * @return deserialized measurement.
+     * @throws ObjectStreamException never thrown.
+     */
+    Object readResolve() throws ObjectStreamException {
+        final var result = type.createMeasurement(value.doubleValue(), unit);
+        if (!(value instanceof Double)) {
+            result.setValue(value);
+        }
+        return result;
+    }
+}
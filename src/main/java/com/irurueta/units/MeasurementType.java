@@ -0,0 +1,371 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.util.Locale;
+
+/**
+ * Enumerator containing the supported types of measurements.
+ * Each type has a stable code that can be used to identify it in persisted or
+ * transmitted data, and gives access to the units and conversions of the type
+ * without knowing its unit type at compile time.
+ */
+public enum MeasurementType {
+    /**
+     * Acceleration measurements.
+     */
+    ACCELERATION(1, AccelerationUnit.class, AccelerationConverter::convert, AccelerationConverter::convert),
+
+    /**
+     * Angle measurements.
+     */
+    ANGLE(2, AngleUnit.class, AngleConverter::convert, AngleConverter::convert),
+
+    /**
+     * Angular acceleration measurements.
+     */
+    ANGULAR_ACCELERATION(3, AngularAccelerationUnit.class, AngularAccelerationConverter::convert,
+            AngularAccelerationConverter::convert),
+
+    /**
+     * Angular speed measurements.
+     */
+    ANGULAR_SPEED(4, AngularSpeedUnit.class, AngularSpeedConverter::convert, AngularSpeedConverter::convert),
+
+    /**
+     * Distance measurements.
+     */
+    DISTANCE(5, DistanceUnit.class, DistanceConverter::convert, DistanceConverter::convert),
+
+    /**
+     * Frequency measurements.
+     */
+    FREQUENCY(6, FrequencyUnit.class, FrequencyConverter::convert, FrequencyConverter::convert),
+
+    /**
+     * Magnetic flux density measurements.
+     */
+    MAGNETIC_FLUX_DENSITY(7, MagneticFluxDensityUnit.class, MagneticFluxDensityConverter::convert,
+            MagneticFluxDensityConverter::convert),
+
+    /**
+     * Speed measurements.
+     */
+    SPEED(8, SpeedUnit.class, SpeedConverter::convert, SpeedConverter::convert),
+
+    /**
+     * Surface measurements.
+     */
+    SURFACE(9, SurfaceUnit.class, SurfaceConverter::convert, SurfaceConverter::convert),
+
+    /**
+     * Temperature measurements.
+     */
+    TEMPERATURE(10, TemperatureUnit.class, TemperatureConverter::convert, TemperatureConverter::convert),
+
+    /**
+     * Time measurements.
+     */
+    TIME(11, TimeUnit.class, TimeConverter::convert, TimeConverter::convert),
+
+    /**
+     * Volume measurements.
+     */
+    VOLUME(12, VolumeUnit.class, VolumeConverter::convert, VolumeConverter::convert),
+
+    /**
+     * Weight measurements.
+     */
+    WEIGHT(13, WeightUnit.class, WeightConverter::convert, WeightConverter::convert);
+
+    /**
+     * Stable code identifying this type.
+     */
+    private final int code;
+
+    /**
+     * Class of units of this type.
+     */
+    private final Class<? extends Enum<?>> unitClass;
+
+    /**
+     * Units of this type indexed by their ordinal.
+     */
+    private final Enum<?>[] units;
+
+    /**
+     * Converts single values between units of this type.
+     */
+    private final ScalarConversion<Enum<?>> scalarConversion;
+
+    /**
+     * Converts arrays of values between units of this type.
+     */
+    private final ArrayConversion<Enum<?>> arrayConversion;
+
+    /**
+     * Constructor.
+     *
+     * @param code             stable code identifying this type.
+     * @param unitClass        class of units of this type.
+     * @param scalarConversion converts single values between units of this type.
+     * @param arrayConversion  converts arrays of values between units of this type.
+     * @param <U>              type of unit.
+     */
+    @SuppressWarnings("unchecked")
+    <U extends Enum<U>> MeasurementType(
+            final int code, final Class<U> unitClass, final ScalarConversion<U> scalarConversion,
+            final ArrayConversion<U> arrayConversion) {
+        this.code = code;
+        this.unitClass = unitClass;
+        this.units = unitClass.getEnumConstants();
+        this.scalarConversion = (ScalarConversion<Enum<?>>) (ScalarConversion<?>) scalarConversion;
+        this.arrayConversion = (ArrayConversion<Enum<?>>) (ArrayConversion<?>) arrayConversion;
+    }
+
+    /**
+     * Gets stable code identifying this type.
+     *
+     * @return code identifying this type.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets class of units of this type.
+     *
+     * @return class of units of this type.
+     */
+    public Class<? extends Enum<?>> getUnitClass() {
+        return unitClass;
+    }
+
+    /**
+     * Gets unit of this type having provided ordinal.
+     *
+     * @param ordinal ordinal of unit.
+     * @return unit having provided ordinal.
+     * @throws IllegalArgumentException if no unit of this type has provided ordinal.
+     */
+    public Enum<?> getUnit(final int ordinal) {
+        if (ordinal < 0 || ordinal >= units.length) {
+            throw new IllegalArgumentException();
+        }
+        return units[ordinal];
+    }
+
+    /**
+     * Converts a value between units of this type.
+     *
+     * @param value      value to be converted.
+     * @param inputUnit  input unit.
+     * @param outputUnit output unit.
+     * @return converted value.
+     * @throws IllegalArgumentException if any of provided units does not belong to
+     *                                  this type.
+     */
+    public double convert(final double value, final Enum<?> inputUnit, final Enum<?> outputUnit) {
+        checkUnit(inputUnit);
+        checkUnit(outputUnit);
+        return scalarConversion.convert(value, inputUnit, outputUnit);
+    }
+
+    /**
+     * Converts an array of values between units of this type.
+     * Input and output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input unit.
+     * @param outputUnit   output unit.
+     * @throws IllegalArgumentException if any of provided units does not belong to
+     *                                  this type, or if offsets or length are negative
+     *                                  or exceed array bounds.
+     */
+    public void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final Enum<?> inputUnit, final Enum<?> outputUnit) {
+        checkUnit(inputUnit);
+        checkUnit(outputUnit);
+        arrayConversion.convert(input, inputOffset, output, outputOffset, length, inputUnit, outputUnit);
+    }
+
+    /**
+     * Creates a measurement of this type.
+     *
+     * @param value measurement value.
+     * @param unit  measurement unit.
+     * @return a new measurement.
+     * @throws IllegalArgumentException if provided unit is null or does not belong
+     *                                  to this type.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Measurement<?> createMeasurement(final double value, final Enum<?> unit) {
+        checkUnit(unit);
+
+        final Measurement result = switch (this) {
+            case ACCELERATION -> new Acceleration();
+            case ANGLE -> new Angle();
+            case ANGULAR_ACCELERATION -> new AngularAcceleration();
+            case ANGULAR_SPEED -> new AngularSpeed();
+            case DISTANCE -> new Distance();
+            case FREQUENCY -> new Frequency();
+            case MAGNETIC_FLUX_DENSITY -> new MagneticFluxDensity();
+            case SPEED -> new Speed();
+            case SURFACE -> new Surface();
+            case TEMPERATURE -> new Temperature();
+            case TIME -> new Time();
+            case VOLUME -> new Volume();
+            case WEIGHT -> new Weight();
+        };
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Creates a formatter for measurements of this type.
+     *
+     * @param locale locale of formatter.
+     * @return a new formatter.
+     * @throws IllegalArgumentException if provided locale is null.
+     */
+    MeasureFormatter<?, ?> createFormatter(final Locale locale) {
+        return switch (this) {
+            case ACCELERATION -> new AccelerationFormatter(locale);
+            case ANGLE -> new AngleFormatter(locale);
+            case ANGULAR_ACCELERATION -> new AngularAccelerationFormatter(locale);
+            case ANGULAR_SPEED -> new AngularSpeedFormatter(locale);
+            case DISTANCE -> new DistanceFormatter(locale);
+            case FREQUENCY -> new FrequencyFormatter(locale);
+            case MAGNETIC_FLUX_DENSITY -> new MagneticFluxDensityFormatter(locale);
+            case SPEED -> new SpeedFormatter(locale);
+            case SURFACE -> new SurfaceFormatter(locale);
+            case TEMPERATURE -> new TemperatureFormatter(locale);
+            case TIME -> new TimeFormatter(locale);
+            case VOLUME -> new VolumeFormatter(locale);
+            case WEIGHT -> new WeightFormatter(locale);
+        };
+    }
+
+    /**
+     * Gets type having provided code.
+     *
+     * @param code code of type.
+     * @return type having provided code.
+     * @throws IllegalArgumentException if no type has provided code.
+     */
+    public static MeasurementType fromCode(final int code) {
+        for (final var type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Gets type of provided unit.
+     *
+     * @param unit a unit.
+     * @return type of provided unit.
+     * @throws IllegalArgumentException if provided unit is null or does not belong
+     *                                  to any supported type.
+     */
+    public static MeasurementType fromUnit(final Enum<?> unit) {
+        final var result = find(unit);
+        if (result == null) {
+            throw new IllegalArgumentException();
+        }
+        return result;
+    }
+
+    /**
+     * Finds type of provided unit.
+     *
+     * @param unit a unit.
+     * @return type of provided unit, or null if provided unit is null or does not
+     * belong to any supported type.
+     */
+    static MeasurementType find(final Enum<?> unit) {
+        if (unit != null) {
+            for (final var type : values()) {
+                if (type.unitClass == unit.getDeclaringClass()) {
+                    return type;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that provided unit belongs to this type.
+     *
+     * @param unit unit to be checked.
+     * @throws IllegalArgumentException if provided unit is null or does not belong
+     *                                  to this type.
+     */
+    private void checkUnit(final Enum<?> unit) {
+        if (unit == null || unit.getDeclaringClass() != unitClass) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Converts single values between units.
+     *
+     * @param <U> type of unit.
+     */
+    private interface ScalarConversion<U> {
+
+        /**
+         * Converts a value from input unit to provided output unit.
+         *
+         * @param value      value to be converted.
+         * @param inputUnit  input unit.
+         * @param outputUnit output unit.
+         * @return converted value.
+         */
+        double convert(final double value, final U inputUnit, final U outputUnit);
+    }
+
+    /**
+     * Converts arrays of values between units.
+     *
+     * @param <U> type of unit.
+     */
+    private interface ArrayConversion<U> {
+
+        /**
+         * Converts an array of values from input unit to provided output unit.
+         *
+         * @param input        array containing values to be converted.
+         * @param inputOffset  position of first value to be converted within input array.
+         * @param output       array where converted values will be stored.
+         * @param outputOffset position where first converted value will be stored within output array.
+         * @param length       number of values to be converted.
+         * @param inputUnit    input unit.
+         * @param outputUnit   output unit.
+         */
+        void convert(
+                final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+                final int length, final U inputUnit, final U outputUnit);
+    }
+}
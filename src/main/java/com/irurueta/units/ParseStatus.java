@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Enumerator containing possible results of parsing a measurement without
+ * throwing exceptions.
+ */
+public enum ParseStatus {
+    /**
+     * Measurement value and unit were successfully parsed.
+     */
+    SUCCESS,
+
+    /**
+     * Measurement value could not be parsed.
+     */
+    INVALID_VALUE,
+
+    /**
+     * Measurement unit could not be determined.
+     */
+    UNKNOWN_UNIT
+}
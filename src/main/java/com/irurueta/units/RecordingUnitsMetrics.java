@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics listener keeping counters of notified operations.
+ * Conversions are counted for each measurement type and pair of input and output
+ * units, parsing results are counted for each formatter class and status, and
+ * formatting latencies are kept for each formatter class in a histogram of
+ * power-of-two buckets.
+ * Counters are updated without locking, so that contention is low when many threads
+ * are instrumented.
+ * This class is thread-safe.
+ */
+public class RecordingUnitsMetrics implements UnitsMetrics {
+
+    /**
+     * Number of buckets of latency histograms.
+     * Bucket 0 counts latencies of 0 nanoseconds, and any other bucket i counts
+     * latencies from 2^(i - 1) (inclusive) up to 2^i (exclusive) nanoseconds.
+     */
+    public static final int LATENCY_BUCKETS = Long.SIZE;
+
+    /**
+     * Number of units of each measurement type indexed by its ordinal.
+     */
+    private final int[] unitCounts;
+
+    /**
+     * Conversion counters indexed by ordinal of measurement type and by
+     * input unit ordinal * number of units + output unit ordinal.
+     */
+    private final LongAdder[][] conversions;
+
+    /**
+     * Parsing and formatting counters of each formatter class.
+     */
+    private final ConcurrentHashMap<Class<?>, FormatterCounters> formatters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     */
+    public RecordingUnitsMetrics() {
+        final var types = MeasurementType.values();
+        unitCounts = new int[types.length];
+        conversions = new LongAdder[types.length][];
+        for (final var type : types) {
+            final var n = type.getUnitClass().getEnumConstants().length;
+            unitCounts[type.ordinal()] = n;
+            conversions[type.ordinal()] = createCounters(n * n);
+        }
+    }
+
+    /**
+     * Called when values are converted between units.
+     *
+     * @param type       type of converted measurements.
+     * @param inputUnit  input unit.
+     * @param outputUnit output unit.
+     * @param count      number of converted values.
+     */
+    @Override
+    public void onConversion(
+            final MeasurementType type, final Enum<?> inputUnit, final Enum<?> outputUnit, final int count) {
+        conversions[type.ordinal()][inputUnit.ordinal() * unitCounts[type.ordinal()] + outputUnit.ordinal()]
+                .add(count);
+    }
+
+    /**
+     * Called when a measurement has been parsed, either successfully or not.
+     *
+     * @param formatter formatter used to parse the measurement.
+     * @param status    result of parsing.
+     */
+    @Override
+    public void onParse(final MeasureFormatter<?, ?> formatter, final ParseStatus status) {
+        getCounters(formatter.getClass()).parses[status.ordinal()].increment();
+    }
+
+    /**
+     * Called when a measurement has been formatted into a string.
+     *
+     * @param formatter    formatter used to format the measurement.
+     * @param elapsedNanos time spent formatting the measurement expressed in
+     *                     nanoseconds.
+     */
+    @Override
+    public void onFormat(final MeasureFormatter<?, ?> formatter, final long elapsedNanos) {
+        getCounters(formatter.getClass()).latencies[getLatencyBucket(elapsedNanos)].increment();
+    }
+
+    /**
+     * Gets number of values converted between provided units.
+     *
+     * @param type       type of measurements.
+     * @param inputUnit  input unit.
+     * @param outputUnit output unit.
+     * @return number of converted values.
+     * @throws IllegalArgumentException if any unit does not belong to provided type.
+     */
+    public long getConversionCount(final MeasurementType type, final Enum<?> inputUnit, final Enum<?> outputUnit) {
+        if (MeasurementType.find(inputUnit) != type || MeasurementType.find(outputUnit) != type) {
+            throw new IllegalArgumentException();
+        }
+        return conversions[type.ordinal()][inputUnit.ordinal() * unitCounts[type.ordinal()] + outputUnit.ordinal()]
+                .sum();
+    }
+
+    /**
+     * Gets number of values of provided measurement type converted between any units.
+     *
+     * @param type type of measurements.
+     * @return number of converted values.
+     */
+    public long getConversionCount(final MeasurementType type) {
+        return sum(conversions[type.ordinal()]);
+    }
+
+    /**
+     * Gets number of parsed measurements having provided result for provided
+     * formatter class.
+     *
+     * @param formatterClass class of formatter.
+     * @param status         result of parsing.
+     * @return number of parsed measurements.
+     */
+    public long getParseCount(final Class<?> formatterClass, final ParseStatus status) {
+        final var counters = formatters.get(formatterClass);
+        return counters != null ? counters.parses[status.ordinal()].sum() : 0;
+    }
+
+    /**
+     * Gets number of parsed measurements having provided result for any formatter.
+     *
+     * @param status result of parsing.
+     * @return number of parsed measurements.
+     */
+    public long getParseCount(final ParseStatus status) {
+        var result = 0L;
+        for (final var counters : formatters.values()) {
+            result += counters.parses[status.ordinal()].sum();
+        }
+        return result;
+    }
+
+    /**
+     * Gets number of measurements formatted by provided formatter class.
+     *
+     * @param formatterClass class of formatter.
+     * @return number of formatted measurements.
+     */
+    public long getFormatCount(final Class<?> formatterClass) {
+        final var counters = formatters.get(formatterClass);
+        return counters != null ? sum(counters.latencies) : 0;
+    }
+
+    /**
+     * Gets histogram of formatting latencies of provided formatter class.
+     *
+     * @param formatterClass class of formatter.
+     * @return array of length {@link #LATENCY_BUCKETS} containing number of formatted
+     * measurements within each latency bucket.
+     * @see #LATENCY_BUCKETS
+     */
+    public long[] getFormatLatencyHistogram(final Class<?> formatterClass) {
+        final var result = new long[LATENCY_BUCKETS];
+        final var counters = formatters.get(formatterClass);
+        if (counters != null) {
+            for (var i = 0; i < LATENCY_BUCKETS; i++) {
+                result[i] = counters.latencies[i].sum();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Resets all counters.
+     * Operations notified while counters are being reset might not be discarded.
+     */
+    public void reset() {
+        for (final var counters : conversions) {
+            reset(counters);
+        }
+        for (final var counters : formatters.values()) {
+            reset(counters.parses);
+            reset(counters.latencies);
+        }
+    }
+
+    /**
+     * Gets latency bucket containing provided latency.
+     * Negative latencies (which might be measured if system timer is not monotonic)
+     * are counted within bucket 0.
+     *
+     * @param elapsedNanos latency expressed in nanoseconds.
+     * @return latency bucket.
+     */
+    static int getLatencyBucket(final long elapsedNanos) {
+        return elapsedNanos > 0 ? Long.SIZE - Long.numberOfLeadingZeros(elapsedNanos) : 0;
+    }
+
+    /**
+     * Gets counters of provided formatter class, creating them if needed.
+     *
+     * @param formatterClass class of formatter.
+     * @return counters of formatter class.
+     */
+    private FormatterCounters getCounters(final Class<?> formatterClass) {
+        final var counters = formatters.get(formatterClass);
+        return counters != null ? counters : formatters.computeIfAbsent(formatterClass,
+                key -> new FormatterCounters());
+    }
+
+    /**
+     * Creates an array of counters.
+     *
+     * @param length number of counters.
+     * @return array of counters.
+     */
+    private static LongAdder[] createCounters(final int length) {
+        final var result = new LongAdder[length];
+        for (var i = 0; i < length; i++) {
+            result[i] = new LongAdder();
+        }
+        return result;
+    }
+
+    /**
+     * Sums values of provided counters.
+     *
+     * @param counters counters to be summed.
+     * @return sum of counters.
+     */
+    private static long sum(final LongAdder[] counters) {
+        var result = 0L;
+        for (final var counter : counters) {
+            result += counter.sum();
+        }
+        return result;
+    }
+
+    /**
+     * Resets provided counters.
+     *
+     * @param counters counters to be reset.
+     */
+    private static void reset(final LongAdder[] counters) {
+        for (final var counter : counters) {
+            counter.reset();
+        }
+    }
+
+    /**
+     * Parsing and formatting counters of a formatter class.
+     */
+    private static final class FormatterCounters {
+
+        /**
+         * Parsing counters indexed by parse status ordinal.
+         */
+        private final LongAdder[] parses = createCounters(ParseStatus.values().length);
+
+        /**
+         * Formatting counters indexed by latency bucket.
+         */
+        private final LongAdder[] latencies = createCounters(LATENCY_BUCKETS);
+    }
+}
@@ -61,8 +61,8 @@ public class Speed extends Measurement<SpeedUnit> {
             return false;
         }
 
-        final var otherValue = SpeedConverter.convert(other.getValue().doubleValue(), other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        final var otherValue = SpeedConverter.convertValue(other.getValueAsDouble(), other.getUnit(), getUnit());
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -78,8 +78,8 @@ public class Speed extends Measurement<SpeedUnit> {
     public static double add(final double value1, final SpeedUnit unit1,
                              final double value2, final SpeedUnit unit2,
                              final SpeedUnit resultUnit) {
-        final var v1 = SpeedConverter.convert(value1, unit1, resultUnit);
-        final var v2 = SpeedConverter.convert(value2, unit2, resultUnit);
+        final var v1 = SpeedConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = SpeedConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -107,7 +107,8 @@ public class Speed extends Measurement<SpeedUnit> {
      * @param result instance where result will be stored.
      */
     public static void add(final Speed arg1, final Speed arg2, final Speed result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -138,7 +139,7 @@ public class Speed extends Measurement<SpeedUnit> {
             final double value, final SpeedUnit unit, final SpeedUnit resultUnit) {
         final var result = new Speed();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -155,7 +156,7 @@ public class Speed extends Measurement<SpeedUnit> {
             final Number value, final SpeedUnit unit, final SpeedUnit resultUnit) {
         final var result = new Speed();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -177,7 +178,7 @@ public class Speed extends Measurement<SpeedUnit> {
      * @param unit  unit of speed value.
      */
     public void add(final double value, final SpeedUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -187,7 +188,7 @@ public class Speed extends Measurement<SpeedUnit> {
      * @param unit  unit of speed value.
      */
     public void add(final Number value, final SpeedUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -223,8 +224,8 @@ public class Speed extends Measurement<SpeedUnit> {
             final double value1, final SpeedUnit unit1,
             final double value2, final SpeedUnit unit2,
             final SpeedUnit resultUnit) {
-        final var v1 = SpeedConverter.convert(value1, unit1, resultUnit);
-        final var v2 = SpeedConverter.convert(value2, unit2, resultUnit);
+        final var v1 = SpeedConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = SpeedConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -253,7 +254,8 @@ public class Speed extends Measurement<SpeedUnit> {
      * @param result instance where result will be stored.
      */
     public static void subtract(final Speed arg1, final Speed arg2, final Speed result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -285,7 +287,7 @@ public class Speed extends Measurement<SpeedUnit> {
             final double value, final SpeedUnit unit, final SpeedUnit resultUnit) {
         final var result = new Speed();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -302,7 +304,7 @@ public class Speed extends Measurement<SpeedUnit> {
             final Number value, final SpeedUnit unit, final SpeedUnit resultUnit) {
         final var result = new Speed();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -324,7 +326,7 @@ public class Speed extends Measurement<SpeedUnit> {
      * @param unit  unit of speed value.
      */
     public void subtract(final double value, final SpeedUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -334,7 +336,7 @@ public class Speed extends Measurement<SpeedUnit> {
      * @param unit  unit of speed value.
      */
     public void subtract(final Number value, final SpeedUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
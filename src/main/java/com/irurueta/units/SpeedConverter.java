@@ -16,6 +16,8 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
 
 /**
  * Does speed conversions to different units.
@@ -45,6 +47,26 @@ public class SpeedConverter {
      */
     static final double SECONDS_PER_HOUR = 3600.0;
 
+    /**
+     * Factors to convert speed values between every pair of units, indexed by input
+     * and output unit ordinals.
+     */
+    private static final double[][] FACTORS = ConversionKernels.factors(SpeedUnit.values(),
+            (inputUnit, outputUnit) -> fromMetersPerSecond(toMetersPerSecond(1.0, inputUnit), outputUnit));
+
+    /**
+     * Converts speed values without binary floating point rounding, using exact
+     * number of meters per hour in each unit.
+     */
+    private static final ExactConversion<SpeedUnit> EXACT = new ExactConversion<>(SpeedUnit.values(),
+            unit -> new BigDecimal(switch (unit) {
+                case METERS_PER_SECOND -> "3600";
+                case KILOMETERS_PER_HOUR -> "1000";
+                case KILOMETERS_PER_SECOND -> "3600000";
+                case FEET_PER_SECOND -> "1097.28";
+                case MILES_PER_HOUR -> "1609.344";
+            }));
+
     /**
      * Constructor.
      * Prevents instantiation of helper class.
@@ -95,13 +117,16 @@ public class SpeedConverter {
      */
     public static void convert(
             final Speed input, final SpeedUnit outputUnit, final Speed result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts a speed value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      speed value.
      * @param inputUnit  input speed unit.
@@ -112,6 +137,33 @@ public class SpeedConverter {
         return BigDecimal.valueOf(convert(input.doubleValue(), inputUnit, outputUnit));
     }
 
+    /**
+     * Converts a speed value from input unit to provided output unit without binary
+     * floating point rounding.
+     * Result is computed from exact definitions of units using a single multiplication
+     * (or division when the factor between both units is not a terminating decimal) by
+     * a factor computed once for each pair of units, and it is rounded once using
+     * provided context. Hence, results are exact as long as provided context has
+     * enough precision (e.g. {@link MathContext#UNLIMITED} when factor between
+     * both units is a terminating decimal).
+     *
+     * @param input       speed value.
+     * @param inputUnit   input speed unit.
+     * @param outputUnit  output speed unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted speed value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    public static BigDecimal convert(
+            final BigDecimal input, final SpeedUnit inputUnit, final SpeedUnit outputUnit,
+            final MathContext mathContext) {
+        UnitsMetricsRegistry.conversion(MeasurementType.SPEED, inputUnit, outputUnit, 1);
+        return EXACT.convert(input, inputUnit, outputUnit, mathContext);
+    }
+
     /**
      * Converts a speed value from input unit to provided output unit.
      *
@@ -121,23 +173,67 @@ public class SpeedConverter {
      * @return converted speed value.
      */
     public static double convert(final double input, final SpeedUnit inputUnit, final SpeedUnit outputUnit) {
-        //convert to meters per second
-        final var metersPerSecond = switch (inputUnit) {
-            case FEET_PER_SECOND -> feetPerSecondToMetersPerSecond(input);
-            case MILES_PER_HOUR -> milesPerHourToMetersPerSecond(input);
-            case KILOMETERS_PER_HOUR -> kilometersPerHourToMetersPerSecond(input);
-            case KILOMETERS_PER_SECOND -> kilometersPerSecondToMetersPerSecond(input);
-            default -> input;
-        };
+        UnitsMetricsRegistry.conversion(MeasurementType.SPEED, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
 
-        //convert from meters per second to required output unit
-        return switch (outputUnit) {
-            case FEET_PER_SECOND -> metersPerSecondToFeetPerSecond(metersPerSecond);
-            case MILES_PER_HOUR -> metersPerSecondToMilesPerHour(metersPerSecond);
-            case KILOMETERS_PER_HOUR -> metersPerSecondToKilometersPerHour(metersPerSecond);
-            case KILOMETERS_PER_SECOND -> metersPerSecondToKilometersPerSecond(metersPerSecond);
-            default -> metersPerSecond;
-        };
+    /**
+     * Converts a speed value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      speed value.
+     * @param inputUnit  input speed unit.
+     * @param outputUnit output speed unit.
+     * @return converted speed value.
+     */
+    static double convertValue(final double input, final SpeedUnit inputUnit, final SpeedUnit outputUnit) {
+        return input * FACTORS[inputUnit.ordinal()][outputUnit.ordinal()];
+    }
+
+    /**
+     * Converts an array of speed values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing speed values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted speed values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input speed unit.
+     * @param outputUnit   output speed unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final SpeedUnit inputUnit, final SpeedUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.SPEED, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining speed values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing speed values to be converted.
+     * @param output     buffer where converted speed values will be stored.
+     * @param inputUnit  input speed unit.
+     * @param outputUnit output speed unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final SpeedUnit inputUnit,
+            final SpeedUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.SPEED, inputUnit, outputUnit, length);
     }
 
     /**
@@ -219,4 +315,38 @@ public class SpeedConverter {
     public static double metersPerSecondToKilometersPerSecond(final double metersPerSecond) {
         return metersPerSecond / METERS_PER_KILOMETER;
     }
+
+    /**
+     * Converts a speed value from provided unit to meters per second.
+     *
+     * @param input speed value.
+     * @param unit  unit of provided speed value.
+     * @return same speed converted to meters per second.
+     */
+    private static double toMetersPerSecond(final double input, final SpeedUnit unit) {
+        return switch (unit) {
+            case FEET_PER_SECOND -> feetPerSecondToMetersPerSecond(input);
+            case MILES_PER_HOUR -> milesPerHourToMetersPerSecond(input);
+            case KILOMETERS_PER_HOUR -> kilometersPerHourToMetersPerSecond(input);
+            case KILOMETERS_PER_SECOND -> kilometersPerSecondToMetersPerSecond(input);
+            default -> input;
+        };
+    }
+
+    /**
+     * Converts a speed value expressed in meters per second to provided unit.
+     *
+     * @param metersPerSecond speed value expressed in meters per second.
+     * @param unit            output speed unit.
+     * @return same speed converted to provided unit.
+     */
+    private static double fromMetersPerSecond(final double metersPerSecond, final SpeedUnit unit) {
+        return switch (unit) {
+            case FEET_PER_SECOND -> metersPerSecondToFeetPerSecond(metersPerSecond);
+            case MILES_PER_HOUR -> metersPerSecondToMilesPerHour(metersPerSecond);
+            case KILOMETERS_PER_HOUR -> metersPerSecondToKilometersPerHour(metersPerSecond);
+            case KILOMETERS_PER_SECOND -> metersPerSecondToKilometersPerSecond(metersPerSecond);
+            default -> metersPerSecond;
+        };
+    }
 }
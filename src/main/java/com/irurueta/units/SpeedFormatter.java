@@ -15,6 +15,7 @@
  */
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -48,6 +49,16 @@ public class SpeedFormatter extends MeasureFormatter<Speed, SpeedUnit> {
      */
     public static final String MILES_PER_HOUR = "mph";
 
+    /**
+     * Finds speed units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<SpeedUnit> UNIT_MATCHER = new UnitSymbolMatcher<SpeedUnit>()
+            .add(KILOMETERS_PER_HOUR, SpeedUnit.KILOMETERS_PER_HOUR)
+            .add(KILOMETERS_PER_SECOND, SpeedUnit.KILOMETERS_PER_SECOND)
+            .add(FEET_PER_SECOND, SpeedUnit.FEET_PER_SECOND)
+            .add(MILES_PER_HOUR, SpeedUnit.MILES_PER_HOUR)
+            .add(METERS_PER_SECOND, SpeedUnit.METERS_PER_SECOND);
+
     /**
      * Constructor.
      */
@@ -135,22 +146,35 @@ public class SpeedFormatter extends MeasureFormatter<Speed, SpeedUnit> {
      */
     @Override
     public SpeedUnit findUnit(final String source) {
-        if (source.contains(KILOMETERS_PER_HOUR + " ") || source.endsWith(KILOMETERS_PER_HOUR)) {
-            return SpeedUnit.KILOMETERS_PER_HOUR;
-        }
-        if (source.contains(KILOMETERS_PER_SECOND + " ") || source.endsWith(KILOMETERS_PER_SECOND)) {
-            return SpeedUnit.KILOMETERS_PER_SECOND;
-        }
-        if (source.contains(FEET_PER_SECOND + " ") || source.endsWith(FEET_PER_SECOND)) {
-            return SpeedUnit.FEET_PER_SECOND;
-        }
-        if (source.contains(MILES_PER_HOUR + " ") || source.endsWith(MILES_PER_HOUR)) {
-            return SpeedUnit.MILES_PER_HOUR;
-        }
-        if (source.contains(METERS_PER_SECOND + " ") || source.endsWith(METERS_PER_SECOND)) {
-            return SpeedUnit.METERS_PER_SECOND;
-        }
-        return null;
+        return UNIT_MATCHER.find(source);
+    }
+
+    /**
+     * Attempts to determine a speed unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    SpeedUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine a speed unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    SpeedUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
@@ -188,18 +212,18 @@ public class SpeedFormatter extends MeasureFormatter<Speed, SpeedUnit> {
     public String formatAndConvertMetric(final Number value, final SpeedUnit unit) {
         final var v = value.doubleValue();
 
-        final var metersPerSecond = SpeedConverter.convert(v, unit, SpeedUnit.METERS_PER_SECOND);
+        final var metersPerSecond = SpeedConverter.convertValue(v, unit, SpeedUnit.METERS_PER_SECOND);
         if (Math.abs(metersPerSecond) < SpeedConverter.METERS_PER_KILOMETER / SpeedConverter.SECONDS_PER_HOUR) {
             return format(metersPerSecond, SpeedUnit.METERS_PER_SECOND);
         }
 
-        final var kilometersPerHour = SpeedConverter.convert(v, unit, SpeedUnit.KILOMETERS_PER_HOUR);
+        final var kilometersPerHour = SpeedConverter.convertValue(v, unit, SpeedUnit.KILOMETERS_PER_HOUR);
 
         if (Math.abs(kilometersPerHour) < SpeedConverter.SECONDS_PER_HOUR) {
             return format(kilometersPerHour, SpeedUnit.KILOMETERS_PER_HOUR);
         }
 
-        final var kilometersPerSecond = SpeedConverter.convert(v, unit, SpeedUnit.KILOMETERS_PER_SECOND);
+        final var kilometersPerSecond = SpeedConverter.convertValue(v, unit, SpeedUnit.KILOMETERS_PER_SECOND);
         return format(kilometersPerSecond, SpeedUnit.KILOMETERS_PER_SECOND);
     }
 
@@ -217,13 +241,13 @@ public class SpeedFormatter extends MeasureFormatter<Speed, SpeedUnit> {
     public String formatAndConvertImperial(final Number value, final SpeedUnit unit) {
         final var v = value.doubleValue();
 
-        final double feetPerSecond = SpeedConverter.convert(v, unit, SpeedUnit.FEET_PER_SECOND);
+        final double feetPerSecond = SpeedConverter.convertValue(v, unit, SpeedUnit.FEET_PER_SECOND);
         if (Math.abs(feetPerSecond) < SpeedConverter.METERS_PER_MILE
                 / SpeedConverter.SECONDS_PER_HOUR / SpeedConverter.METERS_PER_FOOT) {
             return format(feetPerSecond, SpeedUnit.FEET_PER_SECOND);
         }
 
-        final var milesPerHour = SpeedConverter.convert(v, unit, SpeedUnit.MILES_PER_HOUR);
+        final var milesPerHour = SpeedConverter.convertValue(v, unit, SpeedUnit.MILES_PER_HOUR);
         return format(milesPerHour, SpeedUnit.MILES_PER_HOUR);
     }
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable speed value and unit.
+ * Unlike {@link Speed}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value speed value.
+ * @param unit  unit of speed.
+ */
+public record SpeedValue(double value, SpeedUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value speed value.
+     * @param unit  unit of speed.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public SpeedValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable speed value from provided mutable speed.
+     *
+     * @param speed speed to copy value and unit from.
+     * @return a new immutable speed value.
+     * @throws NullPointerException     if provided speed is null.
+     * @throws IllegalArgumentException if provided speed has no unit.
+     * @throws IllegalStateException    if provided speed has no value.
+     */
+    public static SpeedValue from(final Speed speed) {
+        return new SpeedValue(speed.getValueAsDouble(), speed.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable speed.
+     *
+     * @return a new mutable speed containing this value and unit.
+     */
+    public Speed toSpeed() {
+        final var result = new Speed();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this speed to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return a speed value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public SpeedValue convertTo(final SpeedUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new SpeedValue(SpeedConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided speed value and unit to this instance.
+     *
+     * @param value speed value to be added.
+     * @param unit  unit of speed value to be added.
+     * @return a new speed value expressed in the unit of this instance.
+     */
+    public SpeedValue add(final double value, final SpeedUnit unit) {
+        return new SpeedValue(Speed.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided speed to this instance.
+     *
+     * @param other speed to be added.
+     * @return a new speed value expressed in the unit of this instance.
+     */
+    public SpeedValue add(final SpeedValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided speed to this instance.
+     *
+     * @param other      speed to be added.
+     * @param resultUnit unit of returned speed.
+     * @return a new speed value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public SpeedValue add(final SpeedValue other, final SpeedUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new SpeedValue(Speed.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided speed value and unit from this instance.
+     *
+     * @param value speed value to be subtracted.
+     * @param unit  unit of speed value to be subtracted.
+     * @return a new speed value expressed in the unit of this instance.
+     */
+    public SpeedValue subtract(final double value, final SpeedUnit unit) {
+        return new SpeedValue(Speed.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided speed from this instance.
+     *
+     * @param other speed to be subtracted.
+     * @return a new speed value expressed in the unit of this instance.
+     */
+    public SpeedValue subtract(final SpeedValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided speed from this instance.
+     *
+     * @param other      speed to be subtracted.
+     * @param resultUnit unit of returned speed.
+     * @return a new speed value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public SpeedValue subtract(final SpeedValue other, final SpeedUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new SpeedValue(Speed.subtract(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Determines if two speed values are equal up to a certain tolerance.
+     * If needed, provided speed is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another speed to compare.
+     * @param tolerance amount of tolerance to determine whether both speed values are
+     *                  equal or not.
+     * @return true if provided speed is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final SpeedValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = SpeedConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
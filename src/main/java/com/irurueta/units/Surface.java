@@ -61,8 +61,8 @@ public class Surface extends Measurement<SurfaceUnit> {
             return false;
         }
 
-        final var otherValue = SurfaceConverter.convert(other.getValue().doubleValue(), other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        final var otherValue = SurfaceConverter.convertValue(other.getValueAsDouble(), other.getUnit(), getUnit());
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -78,8 +78,8 @@ public class Surface extends Measurement<SurfaceUnit> {
     public static double add(final double value1, final SurfaceUnit unit1,
                              final double value2, final SurfaceUnit unit2,
                              final SurfaceUnit resultUnit) {
-        final var v1 = SurfaceConverter.convert(value1, unit1, resultUnit);
-        final var v2 = SurfaceConverter.convert(value2, unit2, resultUnit);
+        final var v1 = SurfaceConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = SurfaceConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -107,7 +107,8 @@ public class Surface extends Measurement<SurfaceUnit> {
      * @param result instance where result will be stored.
      */
     public static void add(final Surface arg1, final Surface arg2, final Surface result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -137,7 +138,7 @@ public class Surface extends Measurement<SurfaceUnit> {
     public Surface addAndReturnNew(final double value, final SurfaceUnit unit, final SurfaceUnit resultUnit) {
         final var result = new Surface();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -154,7 +155,7 @@ public class Surface extends Measurement<SurfaceUnit> {
             final Number value, final SurfaceUnit unit, final SurfaceUnit resultUnit) {
         final var result = new Surface();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -177,7 +178,7 @@ public class Surface extends Measurement<SurfaceUnit> {
      * @param unit  unit of surface value.
      */
     public void add(final double value, final SurfaceUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -187,7 +188,7 @@ public class Surface extends Measurement<SurfaceUnit> {
      * @param unit  unit of surface value.
      */
     public void add(final Number value, final SurfaceUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -224,8 +225,8 @@ public class Surface extends Measurement<SurfaceUnit> {
             final double value1, final SurfaceUnit unit1,
             final double value2, final SurfaceUnit unit2,
             final SurfaceUnit resultUnit) {
-        final var v1 = SurfaceConverter.convert(value1, unit1, resultUnit);
-        final var v2 = SurfaceConverter.convert(value2, unit2, resultUnit);
+        final var v1 = SurfaceConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = SurfaceConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -254,7 +255,8 @@ public class Surface extends Measurement<SurfaceUnit> {
      * @param result instance where result will be stored.
      */
     public static void subtract(final Surface arg1, final Surface arg2, final Surface result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -284,7 +286,7 @@ public class Surface extends Measurement<SurfaceUnit> {
     public Surface subtractAndReturnNew(final double value, final SurfaceUnit unit, final SurfaceUnit resultUnit) {
         final var result = new Surface();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -300,7 +302,7 @@ public class Surface extends Measurement<SurfaceUnit> {
     public Surface subtractAndReturnNew(final Number value, final SurfaceUnit unit, final SurfaceUnit resultUnit) {
         final var result = new Surface();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -323,7 +325,7 @@ public class Surface extends Measurement<SurfaceUnit> {
      * @param unit  unit of surface value.
      */
     public void subtract(final double value, final SurfaceUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -333,7 +335,7 @@ public class Surface extends Measurement<SurfaceUnit> {
      * @param unit  unit of surface value.
      */
     public void subtract(final Number value, final SurfaceUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
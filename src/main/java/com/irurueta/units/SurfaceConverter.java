@@ -16,6 +16,8 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
 
 /**
  * Does surface conversions to different units.
@@ -92,6 +94,33 @@ public class SurfaceConverter {
      */
     private static final double SQUARE_METERS_PER_ACRE = 4046.8564224;
 
+    /**
+     * Factors to convert surface values between every pair of units, indexed by input
+     * and output unit ordinals.
+     */
+    private static final double[][] FACTORS = ConversionKernels.factors(SurfaceUnit.values(),
+            (inputUnit, outputUnit) -> fromSquareMeters(toSquareMeters(1.0, inputUnit), outputUnit));
+
+    /**
+     * Converts surface values without binary floating point rounding, using exact
+     * number of square meters in each unit.
+     */
+    private static final ExactConversion<SurfaceUnit> EXACT = new ExactConversion<>(SurfaceUnit.values(),
+            unit -> new BigDecimal(switch (unit) {
+                case SQUARE_MILLIMETER -> "0.000001";
+                case SQUARE_CENTIMETER -> "0.0001";
+                case SQUARE_METER, CENTIARE -> "1";
+                case SQUARE_KILOMETER -> "1000000";
+                case SQUARE_INCH -> "0.00064516";
+                case SQUARE_FOOT -> "0.09290304";
+                case SQUARE_YARD -> "0.83612736";
+                case SQUARE_MILE -> "2589988.110336";
+                case ARE -> "100";
+                case DECARE -> "1000";
+                case HECTARE -> "10000";
+                case ACRE -> "4046.8564224";
+            }));
+
     /**
      * Constructor.
      * Prevents instantiation of helper class.
@@ -141,13 +170,16 @@ public class SurfaceConverter {
      * @param result     surface unit where result will be stored.
      */
     public static void convert(final Surface input, final SurfaceUnit outputUnit, final Surface result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts a surface value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      surface value.
      * @param inputUnit  input surface unit.
@@ -158,6 +190,33 @@ public class SurfaceConverter {
         return BigDecimal.valueOf(convert(input.doubleValue(), inputUnit, outputUnit));
     }
 
+    /**
+     * Converts a surface value from input unit to provided output unit without binary
+     * floating point rounding.
+     * Result is computed from exact definitions of units using a single multiplication
+     * (or division when the factor between both units is not a terminating decimal) by
+     * a factor computed once for each pair of units, and it is rounded once using
+     * provided context. Hence, results are exact as long as provided context has
+     * enough precision (e.g. {@link MathContext#UNLIMITED} when factor between
+     * both units is a terminating decimal).
+     *
+     * @param input       surface value.
+     * @param inputUnit   input surface unit.
+     * @param outputUnit  output surface unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted surface value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    public static BigDecimal convert(
+            final BigDecimal input, final SurfaceUnit inputUnit, final SurfaceUnit outputUnit,
+            final MathContext mathContext) {
+        UnitsMetricsRegistry.conversion(MeasurementType.SURFACE, inputUnit, outputUnit, 1);
+        return EXACT.convert(input, inputUnit, outputUnit, mathContext);
+    }
+
     /**
      * Converts a surface value from input unit to provided output unit.
      *
@@ -167,39 +226,67 @@ public class SurfaceConverter {
      * @return converted surface value.
      */
     public static double convert(final double input, final SurfaceUnit inputUnit, final SurfaceUnit outputUnit) {
-        //convert to square meters.
-        final var squareMeters = switch (inputUnit) {
-            case SQUARE_MILLIMETER -> squareMillimeterToSquareMeter(input);
-            case SQUARE_CENTIMETER -> squareCentimeterToSquareMeter(input);
-            case SQUARE_KILOMETER -> squareKilometerToSquareMeter(input);
-            case SQUARE_INCH -> squareInchToSquareMeter(input);
-            case SQUARE_FOOT -> squareFootToSquareMeter(input);
-            case SQUARE_YARD -> squareYardToSquareMeter(input);
-            case SQUARE_MILE -> squareMileToSquareMeter(input);
-            case CENTIARE -> centiareToSquareMeter(input);
-            case ARE -> areToSquareMeter(input);
-            case DECARE -> decareToSquareMeter(input);
-            case HECTARE -> hectareToSquareMeter(input);
-            case ACRE -> acreToSquareMeter(input);
-            default -> input;
-        };
+        UnitsMetricsRegistry.conversion(MeasurementType.SURFACE, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
 
-        //convert from square meter to required output unit
-        return switch (outputUnit) {
-            case SQUARE_MILLIMETER -> squareMeterToSquareMillimeter(squareMeters);
-            case SQUARE_CENTIMETER -> squareMeterToSquareCentimeter(squareMeters);
-            case SQUARE_KILOMETER -> squareMeterToSquareKilometer(squareMeters);
-            case SQUARE_INCH -> squareMeterToSquareInch(squareMeters);
-            case SQUARE_FOOT -> squareMeterToSquareFoot(squareMeters);
-            case SQUARE_YARD -> squareMeterToSquareYard(squareMeters);
-            case SQUARE_MILE -> squareMeterToSquareMile(squareMeters);
-            case CENTIARE -> squareMeterToCentiare(squareMeters);
-            case ARE -> squareMeterToAre(squareMeters);
-            case DECARE -> squareMeterToDecare(squareMeters);
-            case HECTARE -> squareMeterToHectare(squareMeters);
-            case ACRE -> squareMeterToAcre(squareMeters);
-            default -> squareMeters;
-        };
+    /**
+     * Converts a surface value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      surface value.
+     * @param inputUnit  input surface unit.
+     * @param outputUnit output surface unit.
+     * @return converted surface value.
+     */
+    static double convertValue(final double input, final SurfaceUnit inputUnit, final SurfaceUnit outputUnit) {
+        return input * FACTORS[inputUnit.ordinal()][outputUnit.ordinal()];
+    }
+
+    /**
+     * Converts an array of surface values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing surface values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted surface values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input surface unit.
+     * @param outputUnit   output surface unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final SurfaceUnit inputUnit, final SurfaceUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.SURFACE, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining surface values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing surface values to be converted.
+     * @param output     buffer where converted surface values will be stored.
+     * @param inputUnit  input surface unit.
+     * @param outputUnit output surface unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final SurfaceUnit inputUnit,
+            final SurfaceUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.SURFACE, inputUnit, outputUnit, length);
     }
 
     /**
@@ -441,4 +528,54 @@ public class SurfaceConverter {
     public static double acreToSquareMeter(final double acre) {
         return acre * SQUARE_METERS_PER_ACRE;
     }
+
+    /**
+     * Converts a surface value from provided unit to square meters.
+     *
+     * @param input surface value.
+     * @param unit  unit of provided surface value.
+     * @return same surface converted to square meters.
+     */
+    private static double toSquareMeters(final double input, final SurfaceUnit unit) {
+        return switch (unit) {
+            case SQUARE_MILLIMETER -> squareMillimeterToSquareMeter(input);
+            case SQUARE_CENTIMETER -> squareCentimeterToSquareMeter(input);
+            case SQUARE_KILOMETER -> squareKilometerToSquareMeter(input);
+            case SQUARE_INCH -> squareInchToSquareMeter(input);
+            case SQUARE_FOOT -> squareFootToSquareMeter(input);
+            case SQUARE_YARD -> squareYardToSquareMeter(input);
+            case SQUARE_MILE -> squareMileToSquareMeter(input);
+            case CENTIARE -> centiareToSquareMeter(input);
+            case ARE -> areToSquareMeter(input);
+            case DECARE -> decareToSquareMeter(input);
+            case HECTARE -> hectareToSquareMeter(input);
+            case ACRE -> acreToSquareMeter(input);
+            default -> input;
+        };
+    }
+
+    /**
+     * Converts a surface value expressed in square meters to provided unit.
+     *
+     * @param squareMeters surface value expressed in square meters.
+     * @param unit         output surface unit.
+     * @return same surface converted to provided unit.
+     */
+    private static double fromSquareMeters(final double squareMeters, final SurfaceUnit unit) {
+        return switch (unit) {
+            case SQUARE_MILLIMETER -> squareMeterToSquareMillimeter(squareMeters);
+            case SQUARE_CENTIMETER -> squareMeterToSquareCentimeter(squareMeters);
+            case SQUARE_KILOMETER -> squareMeterToSquareKilometer(squareMeters);
+            case SQUARE_INCH -> squareMeterToSquareInch(squareMeters);
+            case SQUARE_FOOT -> squareMeterToSquareFoot(squareMeters);
+            case SQUARE_YARD -> squareMeterToSquareYard(squareMeters);
+            case SQUARE_MILE -> squareMeterToSquareMile(squareMeters);
+            case CENTIARE -> squareMeterToCentiare(squareMeters);
+            case ARE -> squareMeterToAre(squareMeters);
+            case DECARE -> squareMeterToDecare(squareMeters);
+            case HECTARE -> squareMeterToHectare(squareMeters);
+            case ACRE -> squareMeterToAcre(squareMeters);
+            default -> squareMeters;
+        };
+    }
 }
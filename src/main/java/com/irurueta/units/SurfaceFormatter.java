@@ -15,6 +15,7 @@
  */
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -87,6 +88,52 @@ public class SurfaceFormatter extends MeasureFormatter<Surface, SurfaceUnit> {
      */
     public static final String ACRE = "acre";
 
+    /**
+     * Scale of metric units used to format and convert surface values.
+     */
+    private static final UnitScale<SurfaceUnit> METRIC_SCALE = new UnitScale<>(
+            SurfaceUnit.class, SurfaceConverter::convertValue, new double[]{
+                    SurfaceConverter.SQUARE_METERS_PER_SQUARE_CENTIMETER
+                            / SurfaceConverter.SQUARE_METERS_PER_SQUARE_MILLIMETER,
+                    1.0 / SurfaceConverter.SQUARE_METERS_PER_SQUARE_CENTIMETER,
+                    SurfaceConverter.SQUARE_METERS_PER_SQUARE_KILOMETER
+            },
+            new SurfaceUnit[]{
+                    SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_METER,
+                    SurfaceUnit.SQUARE_KILOMETER
+            });
+
+    /**
+     * Scale of imperial units used to format and convert surface values.
+     */
+    private static final UnitScale<SurfaceUnit> IMPERIAL_SCALE = new UnitScale<>(
+            SurfaceUnit.class, SurfaceConverter::convertValue, new double[]{
+                    SurfaceConverter.SQUARE_METERS_PER_SQUARE_FOOT / SurfaceConverter.SQUARE_METERS_PER_SQUARE_INCH,
+                    SurfaceConverter.SQUARE_METERS_PER_SQUARE_YARD / SurfaceConverter.SQUARE_METERS_PER_SQUARE_FOOT,
+                    SurfaceConverter.SQUARE_METERS_PER_SQUARE_MILE / SurfaceConverter.SQUARE_METERS_PER_SQUARE_YARD
+            },
+            new SurfaceUnit[]{
+                    SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_MILE
+            });
+
+    /**
+     * Finds surface units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<SurfaceUnit> UNIT_MATCHER = new UnitSymbolMatcher<SurfaceUnit>()
+            .add(SQUARE_MILLIMETER, SurfaceUnit.SQUARE_MILLIMETER)
+            .add(SQUARE_CENTIMETER, SurfaceUnit.SQUARE_CENTIMETER)
+            .add(SQUARE_KILOMETER, SurfaceUnit.SQUARE_KILOMETER)
+            .add(SQUARE_INCH, SurfaceUnit.SQUARE_INCH)
+            .add(SQUARE_FOOT, SurfaceUnit.SQUARE_FOOT)
+            .add(SQUARE_YARD, SurfaceUnit.SQUARE_YARD)
+            .add(SQUARE_MILE, SurfaceUnit.SQUARE_MILE)
+            .add(CENTIARE, SurfaceUnit.CENTIARE)
+            .add(DECARE, SurfaceUnit.DECARE)
+            .add(HECTARE, SurfaceUnit.HECTARE)
+            .add(ACRE, SurfaceUnit.ACRE)
+            .add(ARE, SurfaceUnit.ARE)
+            .add(SQUARE_METER, SurfaceUnit.SQUARE_METER);
+
     /**
      * Constructor.
      */
@@ -177,47 +224,35 @@ public class SurfaceFormatter extends MeasureFormatter<Surface, SurfaceUnit> {
      */
     @Override
     public SurfaceUnit findUnit(final String source) {
-        if (source.contains(SQUARE_MILLIMETER + " ") || source.endsWith(SQUARE_MILLIMETER)) {
-            return SurfaceUnit.SQUARE_MILLIMETER;
-        }
-        if (source.contains(SQUARE_CENTIMETER + " ") || source.endsWith(SQUARE_CENTIMETER)) {
-            return SurfaceUnit.SQUARE_CENTIMETER;
-        }
-        if (source.contains(SQUARE_KILOMETER + " ") || source.endsWith(SQUARE_KILOMETER)) {
-            return SurfaceUnit.SQUARE_KILOMETER;
-        }
-        if (source.contains(SQUARE_INCH + " ") || source.endsWith(SQUARE_INCH)) {
-            return SurfaceUnit.SQUARE_INCH;
-        }
-        if (source.contains(SQUARE_FOOT + " ") || source.endsWith(SQUARE_FOOT)) {
-            return SurfaceUnit.SQUARE_FOOT;
-        }
-        if (source.contains(SQUARE_YARD + " ") || source.endsWith(SQUARE_YARD)) {
-            return SurfaceUnit.SQUARE_YARD;
-        }
-        if (source.contains(SQUARE_MILE + " ") || source.endsWith(SQUARE_MILE)) {
-            return SurfaceUnit.SQUARE_MILE;
-        }
-        if (source.contains(CENTIARE + " ") || source.endsWith(CENTIARE)) {
-            return SurfaceUnit.CENTIARE;
-        }
-        if (source.contains(DECARE + " ") || source.endsWith(DECARE)) {
-            return SurfaceUnit.DECARE;
-        }
-        if (source.contains(HECTARE + " ") || source.endsWith(HECTARE)) {
-            return SurfaceUnit.HECTARE;
-        }
-        if (source.contains(ACRE + " ") || source.endsWith(ACRE)) {
-            return SurfaceUnit.ACRE;
-        }
+        return UNIT_MATCHER.find(source);
+    }
 
-        if (source.contains(ARE + " ") || source.endsWith(ARE)) {
-            return SurfaceUnit.ARE;
-        }
-        if (source.contains(SQUARE_METER + " ") || source.endsWith(SQUARE_METER)) {
-            return SurfaceUnit.SQUARE_METER;
-        }
-        return null;
+    /**
+     * Attempts to determine a surface unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    SurfaceUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine a surface unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    SurfaceUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
@@ -254,25 +289,8 @@ public class SurfaceFormatter extends MeasureFormatter<Surface, SurfaceUnit> {
      */
     public String formatAndConvertMetric(final Number value, final SurfaceUnit unit) {
         final var v = value.doubleValue();
-
-        final var squareMillimeters = SurfaceConverter.convert(v, unit, SurfaceUnit.SQUARE_MILLIMETER);
-        if (Math.abs(squareMillimeters) < (SurfaceConverter.SQUARE_METERS_PER_SQUARE_CENTIMETER
-                / SurfaceConverter.SQUARE_METERS_PER_SQUARE_MILLIMETER)) {
-            return format(squareMillimeters, SurfaceUnit.SQUARE_MILLIMETER);
-        }
-
-        final var squareCentimeters = SurfaceConverter.convert(v, unit, SurfaceUnit.SQUARE_CENTIMETER);
-        if (Math.abs(squareCentimeters) < (1.0 / SurfaceConverter.SQUARE_METERS_PER_SQUARE_CENTIMETER)) {
-            return format(squareCentimeters, SurfaceUnit.SQUARE_CENTIMETER);
-        }
-
-        final var squareMeters = SurfaceConverter.convert(v, unit, SurfaceUnit.SQUARE_METER);
-        if (Math.abs(squareMeters) < SurfaceConverter.SQUARE_METERS_PER_SQUARE_KILOMETER) {
-            return format(squareMeters, SurfaceUnit.SQUARE_METER);
-        }
-
-        final var squareKilometers = SurfaceConverter.convert(v, unit, SurfaceUnit.SQUARE_KILOMETER);
-        return format(squareKilometers, SurfaceUnit.SQUARE_KILOMETER);
+        final var displayUnit = METRIC_SCALE.select(v, unit);
+        return format(SurfaceConverter.convertValue(v, unit, displayUnit), displayUnit);
     }
 
     /**
@@ -288,27 +306,8 @@ public class SurfaceFormatter extends MeasureFormatter<Surface, SurfaceUnit> {
      */
     public String formatAndConvertImperial(final Number value, final SurfaceUnit unit) {
         final var v = value.doubleValue();
-
-        final var squareInches = SurfaceConverter.convert(v, unit, SurfaceUnit.SQUARE_INCH);
-        if (Math.abs(squareInches) < (SurfaceConverter.SQUARE_METERS_PER_SQUARE_FOOT
-                / SurfaceConverter.SQUARE_METERS_PER_SQUARE_INCH)) {
-            return format(squareInches, SurfaceUnit.SQUARE_INCH);
-        }
-
-        final var squareFeet = SurfaceConverter.convert(v, unit, SurfaceUnit.SQUARE_FOOT);
-        if (Math.abs(squareFeet) < (SurfaceConverter.SQUARE_METERS_PER_SQUARE_YARD
-                / SurfaceConverter.SQUARE_METERS_PER_SQUARE_FOOT)) {
-            return format(squareFeet, SurfaceUnit.SQUARE_FOOT);
-        }
-
-        final var squareYards = SurfaceConverter.convert(v, unit, SurfaceUnit.SQUARE_YARD);
-        if (Math.abs(squareYards) < (SurfaceConverter.SQUARE_METERS_PER_SQUARE_MILE
-                / SurfaceConverter.SQUARE_METERS_PER_SQUARE_YARD)) {
-            return format(squareYards, SurfaceUnit.SQUARE_YARD);
-        }
-
-        final var squareMiles = SurfaceConverter.convert(v, unit, SurfaceUnit.SQUARE_MILE);
-        return format(squareMiles, SurfaceUnit.SQUARE_MILE);
+        final var displayUnit = IMPERIAL_SCALE.select(v, unit);
+        return format(SurfaceConverter.convertValue(v, unit, displayUnit), displayUnit);
     }
 
     /**
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable surface value and unit.
+ * Unlike {@link Surface}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value surface value.
+ * @param unit  unit of surface.
+ */
+public record SurfaceValue(double value, SurfaceUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value surface value.
+     * @param unit  unit of surface.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public SurfaceValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable surface value from provided mutable surface.
+     *
+     * @param surface surface to copy value and unit from.
+     * @return a new immutable surface value.
+     * @throws NullPointerException     if provided surface is null.
+     * @throws IllegalArgumentException if provided surface has no unit.
+     * @throws IllegalStateException    if provided surface has no value.
+     */
+    public static SurfaceValue from(final Surface surface) {
+        return new SurfaceValue(surface.getValueAsDouble(), surface.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable surface.
+     *
+     * @return a new mutable surface containing this value and unit.
+     */
+    public Surface toSurface() {
+        final var result = new Surface();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this surface to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return a surface value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public SurfaceValue convertTo(final SurfaceUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new SurfaceValue(SurfaceConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided surface value and unit to this instance.
+     *
+     * @param value surface value to be added.
+     * @param unit  unit of surface value to be added.
+     * @return a new surface value expressed in the unit of this instance.
+     */
+    public SurfaceValue add(final double value, final SurfaceUnit unit) {
+        return new SurfaceValue(Surface.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided surface to this instance.
+     *
+     * @param other surface to be added.
+     * @return a new surface value expressed in the unit of this instance.
+     */
+    public SurfaceValue add(final SurfaceValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided surface to this instance.
+     *
+     * @param other      surface to be added.
+     * @param resultUnit unit of returned surface.
+     * @return a new surface value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public SurfaceValue add(final SurfaceValue other, final SurfaceUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new SurfaceValue(Surface.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided surface value and unit from this instance.
+     *
+     * @param value surface value to be subtracted.
+     * @param unit  unit of surface value to be subtracted.
+     * @return a new surface value expressed in the unit of this instance.
+     */
+    public SurfaceValue subtract(final double value, final SurfaceUnit unit) {
+        return new SurfaceValue(Surface.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided surface from this instance.
+     *
+     * @param other surface to be subtracted.
+     * @return a new surface value expressed in the unit of this instance.
+     */
+    public SurfaceValue subtract(final SurfaceValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided surface from this instance.
+     *
+     * @param other      surface to be subtracted.
+     * @param resultUnit unit of returned surface.
+     * @return a new surface value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public SurfaceValue subtract(final SurfaceValue other, final SurfaceUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new SurfaceValue(Surface.subtract(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Determines if two surface values are equal up to a certain tolerance.
+     * If needed, provided surface is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another surface to compare.
+     * @param tolerance amount of tolerance to determine whether both surface values are
+     *                  equal or not.
+     * @return true if provided surface is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final SurfaceValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = SurfaceConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
@@ -60,8 +60,8 @@ public class Temperature extends Measurement<TemperatureUnit> {
             return false;
         }
 
-        final var otherValue = TemperatureConverter.convert(other.getValue().doubleValue(), other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        final var otherValue = TemperatureConverter.convertValue(other.getValueAsDouble(), other.getUnit(), getUnit());
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -79,10 +79,10 @@ public class Temperature extends Measurement<TemperatureUnit> {
             final double value2, final TemperatureUnit unit2,
             final TemperatureUnit resultUnit) {
         // 1st convert both values to common unit1
-        final var v2 = TemperatureConverter.convert(value2, unit2, unit1);
+        final var v2 = TemperatureConverter.convertValue(value2, unit2, unit1);
 
         // then add and convert to result unit
-        return TemperatureConverter.convert(value1 + v2, unit1, resultUnit);
+        return TemperatureConverter.convertValue(value1 + v2, unit1, resultUnit);
     }
 
     /**
@@ -110,7 +110,8 @@ public class Temperature extends Measurement<TemperatureUnit> {
      * @param result instance where result will be stored.
      */
     public static void add(final Temperature arg1, final Temperature arg2, final Temperature result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -141,7 +142,7 @@ public class Temperature extends Measurement<TemperatureUnit> {
             final double value, final TemperatureUnit unit, final TemperatureUnit resultUnit) {
         final var result = new Temperature();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -158,7 +159,7 @@ public class Temperature extends Measurement<TemperatureUnit> {
             final Number value, final TemperatureUnit unit, final TemperatureUnit resultUnit) {
         final var result = new Temperature();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -182,7 +183,7 @@ public class Temperature extends Measurement<TemperatureUnit> {
      * @param unit  unit of temperature value.
      */
     public void add(final double value, final TemperatureUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -193,7 +194,7 @@ public class Temperature extends Measurement<TemperatureUnit> {
      * @param unit  unit of temperature value.
      */
     public void add(final Number value, final TemperatureUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -231,10 +232,10 @@ public class Temperature extends Measurement<TemperatureUnit> {
             final double value2, final TemperatureUnit unit2,
             final TemperatureUnit resultUnit) {
         // 1st convert both values to common uni1
-        final var v2 = TemperatureConverter.convert(value2, unit2, unit1);
+        final var v2 = TemperatureConverter.convertValue(value2, unit2, unit1);
 
         // then subtract and convert to result unit
-        return TemperatureConverter.convert(value1 - v2, unit1, resultUnit);
+        return TemperatureConverter.convertValue(value1 - v2, unit1, resultUnit);
     }
 
     /**
@@ -263,7 +264,8 @@ public class Temperature extends Measurement<TemperatureUnit> {
      * @param result instance where result will be stored.
      */
     public static void subtract(final Temperature arg1, final Temperature arg2, final Temperature result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -295,7 +297,7 @@ public class Temperature extends Measurement<TemperatureUnit> {
             final double value, final TemperatureUnit unit, final TemperatureUnit resultUnit) {
         final var result = new Temperature();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -312,7 +314,7 @@ public class Temperature extends Measurement<TemperatureUnit> {
             final Number value, final TemperatureUnit unit, final TemperatureUnit resultUnit) {
         final var result = new Temperature();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -336,7 +338,7 @@ public class Temperature extends Measurement<TemperatureUnit> {
      * @param unit  unit of temperature value.
      */
     public void subtract(final double value, final TemperatureUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -347,7 +349,7 @@ public class Temperature extends Measurement<TemperatureUnit> {
      * @param unit  unit of temperature value.
      */
     public void subtract(final Number value, final TemperatureUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
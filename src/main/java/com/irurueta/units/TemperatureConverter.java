@@ -16,6 +16,8 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
 
 /**
  * Does temperature conversions to different units.
@@ -29,6 +31,38 @@ public class TemperatureConverter {
      */
     public static final double ABSOLUTE_ZERO = -273.15;
 
+    /**
+     * Factors to multiply values by to convert them between every pair of units,
+     * indexed by input and output unit ordinals.
+     * Every temperature conversion is an affine transformation, hence it can be
+     * done with a single multiplication and addition.
+     */
+    private static final double[][] SCALES = ConversionKernels.factors(TemperatureUnit.values(),
+            (inputUnit, outputUnit) -> celsiusDegreesPerDegree(inputUnit) / celsiusDegreesPerDegree(outputUnit));
+
+    /**
+     * Offsets to be added to scaled values to convert them between every pair of
+     * units, indexed by input and output unit ordinals.
+     */
+    private static final double[][] OFFSETS = ConversionKernels.factors(TemperatureUnit.values(),
+            (inputUnit, outputUnit) -> inputUnit == outputUnit
+                    ? 0.0 : fromCelsius(toCelsius(0.0, inputUnit), outputUnit));
+
+    /**
+     * Converts temperature values without binary floating point rounding, using
+     * degrees Rankine as base unit so that every unit has a decimal scale and offset.
+     */
+    private static final ExactConversion<TemperatureUnit> EXACT = new ExactConversion<>(TemperatureUnit.values(),
+            unit -> new BigDecimal(switch (unit) {
+                case CELSIUS, KELVIN -> "1.8";
+                case FAHRENHEIT -> "1";
+            }),
+            unit -> new BigDecimal(switch (unit) {
+                case CELSIUS -> "491.67";
+                case FAHRENHEIT -> "459.67";
+                case KELVIN -> "0";
+            }));
+
     /**
      * Constructor.
      * Prevents instantiation of helper class.
@@ -78,13 +112,16 @@ public class TemperatureConverter {
      * @param result     temperature unit where result will be stored.
      */
     public static void convert(final Temperature input, final TemperatureUnit outputUnit, final Temperature result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts a temperature value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      temperature value.
      * @param inputUnit  input temperature unit.
@@ -96,6 +133,33 @@ public class TemperatureConverter {
         return BigDecimal.valueOf(convert(input.doubleValue(), inputUnit, outputUnit));
     }
 
+    /**
+     * Converts a temperature value from input unit to provided output unit without binary
+     * floating point rounding.
+     * Result is computed from exact definitions of units using a single multiplication
+     * (or division when the factor between both units is not a terminating decimal) by
+     * a factor computed once for each pair of units, and it is rounded once using
+     * provided context. Hence, results are exact as long as provided context has
+     * enough precision (e.g. {@link MathContext#UNLIMITED} when factor between
+     * both units is a terminating decimal).
+     *
+     * @param input       temperature value.
+     * @param inputUnit   input temperature unit.
+     * @param outputUnit  output temperature unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted temperature value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    public static BigDecimal convert(
+            final BigDecimal input, final TemperatureUnit inputUnit, final TemperatureUnit outputUnit,
+            final MathContext mathContext) {
+        UnitsMetricsRegistry.conversion(MeasurementType.TEMPERATURE, inputUnit, outputUnit, 1);
+        return EXACT.convert(input, inputUnit, outputUnit, mathContext);
+    }
+
     /**
      * Converts a temperature value from input unit to provided output unit.
      *
@@ -106,20 +170,72 @@ public class TemperatureConverter {
      */
     public static double convert(
             final double input, final TemperatureUnit inputUnit, final TemperatureUnit outputUnit) {
+        UnitsMetricsRegistry.conversion(MeasurementType.TEMPERATURE, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
 
-        // convert to celsius
-        final var celsius = switch (inputUnit) {
-            case FAHRENHEIT -> fahrenheitToCelsius(input);
-            case KELVIN -> kelvinToCelsius(input);
-            default -> input;
-        };
+    /**
+     * Converts a temperature value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      temperature value.
+     * @param inputUnit  input temperature unit.
+     * @param outputUnit output temperature unit.
+     * @return converted temperature value.
+     */
+    static double convertValue(
+            final double input, final TemperatureUnit inputUnit, final TemperatureUnit outputUnit) {
+        final var i = inputUnit.ordinal();
+        final var o = outputUnit.ordinal();
+        return input * SCALES[i][o] + OFFSETS[i][o];
+    }
 
-        // convert from celsius to required output unit
-        return switch (outputUnit) {
-            case FAHRENHEIT -> celsiusToFahrenheit(celsius);
-            case KELVIN -> celsiusToKelvin(celsius);
-            default -> celsius;
-        };
+    /**
+     * Converts an array of temperature values from input unit to provided output unit.
+     * Input and output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing temperature values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted temperature values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input temperature unit.
+     * @param outputUnit   output temperature unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final TemperatureUnit inputUnit, final TemperatureUnit outputUnit) {
+        final var i = inputUnit.ordinal();
+        final var o = outputUnit.ordinal();
+        ConversionKernels.affine(input, inputOffset, output, outputOffset, length, SCALES[i][o], OFFSETS[i][o]);
+        UnitsMetricsRegistry.conversion(MeasurementType.TEMPERATURE, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining temperature values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing temperature values to be converted.
+     * @param output     buffer where converted temperature values will be stored.
+     * @param inputUnit  input temperature unit.
+     * @param outputUnit output temperature unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final TemperatureUnit inputUnit,
+            final TemperatureUnit outputUnit) {
+        final var length = input.remaining();
+        final var i = inputUnit.ordinal();
+        final var o = outputUnit.ordinal();
+        ConversionKernels.affine(input, output, SCALES[i][o], OFFSETS[i][o]);
+        UnitsMetricsRegistry.conversion(MeasurementType.TEMPERATURE, inputUnit, outputUnit, length);
     }
 
     /**
@@ -161,4 +277,44 @@ public class TemperatureConverter {
     public static double fahrenheitToCelsius(final double fahrenheit) {
         return (fahrenheit - 32.0) * 5.0 / 9.0;
     }
+
+    /**
+     * Converts a temperature value from provided unit to Celsius.
+     *
+     * @param input     temperature value.
+     * @param inputUnit input temperature unit.
+     * @return temperature value expressed in Celsius.
+     */
+    private static double toCelsius(final double input, final TemperatureUnit inputUnit) {
+        return switch (inputUnit) {
+            case FAHRENHEIT -> fahrenheitToCelsius(input);
+            case KELVIN -> kelvinToCelsius(input);
+            default -> input;
+        };
+    }
+
+    /**
+     * Converts a temperature value from Celsius to provided unit.
+     *
+     * @param celsius    temperature value expressed in Celsius.
+     * @param outputUnit output temperature unit.
+     * @return converted temperature value.
+     */
+    private static double fromCelsius(final double celsius, final TemperatureUnit outputUnit) {
+        return switch (outputUnit) {
+            case FAHRENHEIT -> celsiusToFahrenheit(celsius);
+            case KELVIN -> celsiusToKelvin(celsius);
+            default -> celsius;
+        };
+    }
+
+    /**
+     * Gets the size of a degree of provided unit expressed in Celsius degrees.
+     *
+     * @param unit a temperature unit.
+     * @return size of a degree of provided unit expressed in Celsius degrees.
+     */
+    private static double celsiusDegreesPerDegree(final TemperatureUnit unit) {
+        return unit == TemperatureUnit.FAHRENHEIT ? 5.0 / 9.0 : 1.0;
+    }
 }
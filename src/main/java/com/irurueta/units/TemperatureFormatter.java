@@ -1,5 +1,6 @@
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -23,6 +24,14 @@ public class TemperatureFormatter extends MeasureFormatter<Temperature, Temperat
      */
     public static final String KELVIN = "K";
 
+    /**
+     * Finds temperature units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<TemperatureUnit> UNIT_MATCHER = new UnitSymbolMatcher<TemperatureUnit>()
+            .add(CELSIUS, TemperatureUnit.CELSIUS)
+            .add(FAHRENHEIT, TemperatureUnit.FAHRENHEIT)
+            .add(KELVIN, TemperatureUnit.KELVIN);
+
     /**
      * Constructor.
      */
@@ -112,16 +121,35 @@ public class TemperatureFormatter extends MeasureFormatter<Temperature, Temperat
      */
     @Override
     public TemperatureUnit findUnit(final String source) {
-        if (source.contains(CELSIUS + " ") || source.endsWith(CELSIUS)) {
-            return TemperatureUnit.CELSIUS;
-        }
-        if (source.contains(FAHRENHEIT + " ") || source.endsWith(FAHRENHEIT)) {
-            return TemperatureUnit.FAHRENHEIT;
-        }
-        if (source.contains(KELVIN + " ") || source.endsWith(KELVIN)) {
-            return TemperatureUnit.KELVIN;
-        }
-        return null;
+        return UNIT_MATCHER.find(source);
+    }
+
+    /**
+     * Attempts to determine a temperature unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    TemperatureUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine a temperature unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    TemperatureUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable temperature value and unit.
+ * Unlike {@link Temperature}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value temperature value.
+ * @param unit  unit of temperature.
+ */
+public record TemperatureValue(double value, TemperatureUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value temperature value.
+     * @param unit  unit of temperature.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public TemperatureValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable temperature value from provided mutable temperature.
+     *
+     * @param temperature temperature to copy value and unit from.
+     * @return a new immutable temperature value.
+     * @throws NullPointerException     if provided temperature is null.
+     * @throws IllegalArgumentException if provided temperature has no unit.
+     * @throws IllegalStateException    if provided temperature has no value.
+     */
+    public static TemperatureValue from(final Temperature temperature) {
+        return new TemperatureValue(temperature.getValueAsDouble(), temperature.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable temperature.
+     *
+     * @return a new mutable temperature containing this value and unit.
+     */
+    public Temperature toTemperature() {
+        final var result = new Temperature();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this temperature to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return a temperature value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public TemperatureValue convertTo(final TemperatureUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new TemperatureValue(TemperatureConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided temperature value and unit to this instance.
+     *
+     * @param value temperature value to be added.
+     * @param unit  unit of temperature value to be added.
+     * @return a new temperature value expressed in the unit of this instance.
+     */
+    public TemperatureValue add(final double value, final TemperatureUnit unit) {
+        return new TemperatureValue(Temperature.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided temperature to this instance.
+     *
+     * @param other temperature to be added.
+     * @return a new temperature value expressed in the unit of this instance.
+     */
+    public TemperatureValue add(final TemperatureValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided temperature to this instance.
+     *
+     * @param other      temperature to be added.
+     * @param resultUnit unit of returned temperature.
+     * @return a new temperature value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public TemperatureValue add(final TemperatureValue other, final TemperatureUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new TemperatureValue(Temperature.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided temperature value and unit from this instance.
+     *
+     * @param value temperature value to be subtracted.
+     * @param unit  unit of temperature value to be subtracted.
+     * @return a new temperature value expressed in the unit of this instance.
+     */
+    public TemperatureValue subtract(final double value, final TemperatureUnit unit) {
+        return new TemperatureValue(Temperature.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided temperature from this instance.
+     *
+     * @param other temperature to be subtracted.
+     * @return a new temperature value expressed in the unit of this instance.
+     */
+    public TemperatureValue subtract(final TemperatureValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided temperature from this instance.
+     *
+     * @param other      temperature to be subtracted.
+     * @param resultUnit unit of returned temperature.
+     * @return a new temperature value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public TemperatureValue subtract(final TemperatureValue other, final TemperatureUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new TemperatureValue(Temperature.subtract(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Determines if two temperature values are equal up to a certain tolerance.
+     * If needed, provided temperature is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another temperature to compare.
+     * @param tolerance amount of tolerance to determine whether both temperature values are
+     *                  equal or not.
+     * @return true if provided temperature is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final TemperatureValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = TemperatureConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
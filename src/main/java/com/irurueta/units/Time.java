@@ -61,8 +61,8 @@ public class Time extends Measurement<TimeUnit> {
             return false;
         }
 
-        final var otherValue = TimeConverter.convert(other.getValue().doubleValue(), other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        final var otherValue = TimeConverter.convertValue(other.getValueAsDouble(), other.getUnit(), getUnit());
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -78,8 +78,8 @@ public class Time extends Measurement<TimeUnit> {
     public static double add(final double value1, final TimeUnit unit1,
                              final double value2, final TimeUnit unit2,
                              final TimeUnit resultUnit) {
-        final var v1 = TimeConverter.convert(value1, unit1, resultUnit);
-        final var v2 = TimeConverter.convert(value2, unit2, resultUnit);
+        final var v1 = TimeConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = TimeConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -107,7 +107,8 @@ public class Time extends Measurement<TimeUnit> {
      * @param result instance where result will be stored.
      */
     public static void add(final Time arg1, final Time arg2, final Time result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -139,7 +140,7 @@ public class Time extends Measurement<TimeUnit> {
             final TimeUnit resultUnit) {
         final var result = new Time();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -157,7 +158,7 @@ public class Time extends Measurement<TimeUnit> {
             final TimeUnit resultUnit) {
         final var result = new Time();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -180,7 +181,7 @@ public class Time extends Measurement<TimeUnit> {
      * @param unit  unit of time value.
      */
     public void add(final double value, final TimeUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -190,7 +191,7 @@ public class Time extends Measurement<TimeUnit> {
      * @param unit  unit of time value.
      */
     public void add(final Number value, final TimeUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -226,8 +227,8 @@ public class Time extends Measurement<TimeUnit> {
             final double value1, final TimeUnit unit1,
             final double value2, final TimeUnit unit2,
             final TimeUnit resultUnit) {
-        final var v1 = TimeConverter.convert(value1, unit1, resultUnit);
-        final var v2 = TimeConverter.convert(value2, unit2, resultUnit);
+        final var v1 = TimeConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = TimeConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -256,7 +257,8 @@ public class Time extends Measurement<TimeUnit> {
      * @param result instance where result will be stored.
      */
     public static void subtract(final Time arg1, final Time arg2, final Time result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -287,7 +289,7 @@ public class Time extends Measurement<TimeUnit> {
     public Time subtractAndReturnNew(final double value, final TimeUnit unit, final TimeUnit resultUnit) {
         final var result = new Time();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -303,7 +305,7 @@ public class Time extends Measurement<TimeUnit> {
     public Time subtractAndReturnNew(final Number value, final TimeUnit unit, final TimeUnit resultUnit) {
         final var result = new Time();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -326,7 +328,7 @@ public class Time extends Measurement<TimeUnit> {
      * @param unit  unit of time value.
      */
     public void subtract(final double value, final TimeUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -336,7 +338,7 @@ public class Time extends Measurement<TimeUnit> {
      * @param unit  unit of time value.
      */
     public void subtract(final Number value, final TimeUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Stores large amounts of time values sharing the same unit.
+ */
+public class TimeArray extends MeasurementArray<TimeUnit> {
+
+    /**
+     * Constructor.
+     * All values are initialized to zero.
+     *
+     * @param length number of time values.
+     * @param unit   unit shared by all time values.
+     * @throws IllegalArgumentException if length is negative or unit is null.
+     */
+    public TimeArray(final int length, final TimeUnit unit) {
+        super(length, unit);
+    }
+
+    /**
+     * Constructor.
+     * Provided values are not copied, hence any change made on them will be
+     * reflected on this instance.
+     *
+     * @param values time values to be stored.
+     * @param unit   unit shared by all time values.
+     * @throws IllegalArgumentException if either values or unit is null.
+     */
+    public TimeArray(final double[] values, final TimeUnit unit) {
+        super(values, unit);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param values array containing time values.
+     * @param offset position of first value within values array.
+     * @param length number of time values.
+     * @param unit   unit shared by all time values.
+     * @throws IllegalArgumentException if either values or unit is null, or if
+     *                                  offset and length exceed array bounds.
+     */
+    TimeArray(final double[] values, final int offset, final int length, final TimeUnit unit) {
+        super(values, offset, length, unit);
+    }
+
+    /**
+     * Gets time at provided position.
+     *
+     * @param index position of time to be returned.
+     * @return time value and unit at provided position.
+     * @throws IllegalArgumentException if index is out of bounds.
+     */
+    public TimeValue getValue(final int index) {
+        return new TimeValue(get(index), getUnit());
+    }
+
+    /**
+     * Converts all time values to provided unit.
+     *
+     * @param outputUnit unit to convert values to.
+     * @return a new instance containing converted values.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    @Override
+    public TimeArray convertTo(final TimeUnit outputUnit) {
+        return (TimeArray) super.convertTo(outputUnit);
+    }
+
+    /**
+     * Returns a view of a range of time values of this instance.
+     * Returned instance shares values with this instance, hence changes on
+     * either of them are reflected on the other one.
+     *
+     * @param fromIndex position of first value to be included (inclusive).
+     * @param toIndex   position of last value to be included (exclusive).
+     * @return a view of requested range of values.
+     * @throws IllegalArgumentException if indices are out of bounds or fromIndex is
+     *                                  greater than toIndex.
+     */
+    @Override
+    public TimeArray slice(final int fromIndex, final int toIndex) {
+        return (TimeArray) super.slice(fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param values array containing time values.
+     * @param offset position of first value within values array.
+     * @param length number of time values.
+     * @param unit   unit shared by all time values.
+     * @return a new instance.
+     */
+    @Override
+    TimeArray newInstance(final double[] values, final int offset, final int length, final TimeUnit unit) {
+        return new TimeArray(values, offset, length, unit);
+    }
+
+    /**
+     * Converts a time value from input unit to provided output unit.
+     *
+     * @param value      time value to be converted.
+     * @param inputUnit  input time unit.
+     * @param outputUnit output time unit.
+     * @return converted time value.
+     */
+    @Override
+    double convert(final double value, final TimeUnit inputUnit, final TimeUnit outputUnit) {
+        return TimeConverter.convert(value, inputUnit, outputUnit);
+    }
+
+    /**
+     * Converts an array of time values from input unit to provided output unit.
+     *
+     * @param input        array containing time values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted time values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input time unit.
+     * @param outputUnit   output time unit.
+     */
+    @Override
+    void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final TimeUnit inputUnit, final TimeUnit outputUnit) {
+        TimeConverter.convert(input, inputOffset, output, outputOffset, length, inputUnit, outputUnit);
+    }
+}
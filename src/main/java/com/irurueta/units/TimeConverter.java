@@ -16,6 +16,8 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
 
 /**
  * Does time conversions to different units.
@@ -75,6 +77,25 @@ public class TimeConverter {
      */
     static final double SECONDS_PER_CENTURY = 100 * SECONDS_PER_YEAR;
 
+    /**
+     * Converts time values without binary floating point rounding, using exact
+     * number of seconds in each unit.
+     */
+    private static final ExactConversion<TimeUnit> EXACT = new ExactConversion<>(TimeUnit.values(),
+            unit -> new BigDecimal(switch (unit) {
+                case NANOSECOND -> "0.000000001";
+                case MICROSECOND -> "0.000001";
+                case MILLISECOND -> "0.001";
+                case SECOND -> "1";
+                case MINUTE -> "60";
+                case HOUR -> "3600";
+                case DAY -> "86400";
+                case WEEK -> "604800";
+                case MONTH -> "2592000";
+                case YEAR -> "31536000";
+                case CENTURY -> "3153600000";
+            }));
+
     /**
      * Constructor.
      * Prevents instantiation of helper class.
@@ -124,13 +145,16 @@ public class TimeConverter {
      * @param result     time unit where result will be stored.
      */
     public static void convert(final Time input, final TimeUnit outputUnit, final Time result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts a time value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      time value.
      * @param inputUnit  input time unit.
@@ -141,6 +165,33 @@ public class TimeConverter {
         return BigDecimal.valueOf(convert(input.doubleValue(), inputUnit, outputUnit));
     }
 
+    /**
+     * Converts a time value from input unit to provided output unit without binary
+     * floating point rounding.
+     * Result is computed from exact definitions of units using a single multiplication
+     * (or division when the factor between both units is not a terminating decimal) by
+     * a factor computed once for each pair of units, and it is rounded once using
+     * provided context. Hence, results are exact as long as provided context has
+     * enough precision (e.g. {@link MathContext#UNLIMITED} when factor between
+     * both units is a terminating decimal).
+     *
+     * @param input       time value.
+     * @param inputUnit   input time unit.
+     * @param outputUnit  output time unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted time value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    public static BigDecimal convert(
+            final BigDecimal input, final TimeUnit inputUnit, final TimeUnit outputUnit,
+            final MathContext mathContext) {
+        UnitsMetricsRegistry.conversion(MeasurementType.TIME, inputUnit, outputUnit, 1);
+        return EXACT.convert(input, inputUnit, outputUnit, mathContext);
+    }
+
     /**
      * Converts a time value from input unit to provided output unit.
      *
@@ -151,6 +202,21 @@ public class TimeConverter {
      */
     public static double convert(
             final double input, final TimeUnit inputUnit, final TimeUnit outputUnit) {
+        UnitsMetricsRegistry.conversion(MeasurementType.TIME, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
+
+    /**
+     * Converts a time value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      time value.
+     * @param inputUnit  input time unit.
+     * @param outputUnit output time unit.
+     * @return converted time value.
+     */
+    static double convertValue(
+            final double input, final TimeUnit inputUnit, final TimeUnit outputUnit) {
         //convert to seconds
         final var seconds = switch (inputUnit) {
             case NANOSECOND -> nanosecondToSecond(input);
@@ -182,6 +248,51 @@ public class TimeConverter {
         };
     }
 
+    /**
+     * Converts an array of time values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing time values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted time values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input time unit.
+     * @param outputUnit   output time unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final TimeUnit inputUnit, final TimeUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                convertValue(1.0, inputUnit, outputUnit));
+        UnitsMetricsRegistry.conversion(MeasurementType.TIME, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining time values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing time values to be converted.
+     * @param output     buffer where converted time values will be stored.
+     * @param inputUnit  input time unit.
+     * @param outputUnit output time unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final TimeUnit inputUnit, final TimeUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, convertValue(1.0, inputUnit, outputUnit));
+        UnitsMetricsRegistry.conversion(MeasurementType.TIME, inputUnit, outputUnit, length);
+    }
+
     /**
      * Converts provided second value to nanoseconds.
      *
@@ -15,12 +15,12 @@
  */
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.FieldPosition;
 import java.text.MessageFormat;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
-import java.util.regex.Pattern;
 
 /**
  * Formats and parses time value and unit.
@@ -205,90 +205,25 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
     private static final String CENTURY_FORMAT_PATTERN = "{0}{1}";
 
     /**
-     * Minimum number of digits for hours and minutes.
-     */
-    private static final int INTEGER_DIGITS = 2;
-
-    /**
-     * Pattern to format hour and minutes (hh:mm.s).
-     */
-    private static final String HOUR_MINUTE_PATTERN = "^(\\d+):(\\d{2,})$";
-
-
-    /**
-     * Pattern to format hour, minutes and seconds (hh:mm:ss.ms).
-     */
-    private static final String HOUR_MINUTE_SECOND_PATTERN = "^(\\d+):(\\d{2}):(\\d{2,})$";
-
-    /**
-     * Pattern to parse 1st century format.
-     */
-    private static final String FIRST_CENTURY_PATTERN = "(.*)(\\s+)(\\d+)(\\s?st c.)(\\s+)(.*)";
-
-    /**
-     * Pattern to parse 2nd century format.
-     */
-    private static final String SECOND_CENTURY_PATTERN = "(.*)(\\s+)(\\d+)(\\s?nd c.)(\\s+)(.*)";
-
-    /**
-     * Pattern to parse 3rd century format.
-     */
-    private static final String THIRD_CENTURY_PATTERN = "(.*)(\\s+)(\\d+)(\\s?rd c.)(\\s+)(.*)";
-
-    /**
-     * Pattern to parse n-th century format.
-     */
-    private static final String CENTURY_PATTERN = "(.*)(\\s+)(\\d+)(\\s?th c.)(\\s+)(.*)";
-
-    /**
-     * Pattern to parse year format.
-     */
-    private static final String YEAR_PATTERN = "(.*)(\\s+)(\\d+)(\\s?yr)(\\s+)(.*)";
-
-    /**
-     * Pattern to parse month format.
-     */
-    private static final String MONTH_PATTERN = "(.*)(\\s+)(\\d+)(\\s?mon)(\\s+)(.*)";
-
-    /**
-     * Pattern to parse week format.
-     */
-    private static final String WEEK_PATTERN = "(.*)(\\s+)(\\d+)(\\s?wk)(\\s+)(.*)";
-
-    /**
-     * Pattern to parse day format.
-     */
-    private static final String DAY_PATTERN = "(.*)(\\s+)(\\d+)(\\s?d)(\\s+)(.*)";
-
-    /**
-     * Pattern to parse hour format.
-     */
-    private static final String HOUR_PATTERN = "(.*)(\\s+)(\\d+)(\\s?h)(\\s+)(.*)";
-
-    /**
-     * Pattern to parse minute format.
-     */
-    private static final String MINUTE_PATTERN = "(.*)(\\s+)(\\d+)(\\s?min)(\\s+)(.*)";
-
-    /**
-     * Pattern to parse second format.
+     * Pattern to format centuries compiled into literal segments and arguments.
      */
-    private static final String SECOND_PATTERN = "(.*)(\\s+)(\\d+)(\\s?s)(\\s+)(.*)";
+    private static final ValueAndUnitPattern CENTURY_COMPILED_PATTERN =
+            ValueAndUnitPattern.compile(CENTURY_FORMAT_PATTERN);
 
     /**
-     * Pattern to parse millisecond format.
+     * Minimum number of digits for hours and minutes.
      */
-    private static final String MILLISECOND_PATTERN = "(.*)(\\s+)(\\d+)(\\s?ms)(\\s+)(.*)";
+    private static final int INTEGER_DIGITS = 2;
 
     /**
-     * Pattern to parse microsecond format.
+     * Separator of hours, minutes and seconds.
      */
-    private static final String MICROSECOND_PATTERN = "(.*)(\\s+)(\\d+)(\\s?µs)(\\s+)(.*)";
+    private static final char TIME_SEPARATOR = ':';
 
     /**
-     * Pattern to parse nanosecond format.
+     * Smallest integer value that cannot be exactly represented by a double (2^53).
      */
-    private static final String NANOSECOND_PATTERN = "(.*)(\\s+)(\\d+)(\\s?ns)(\\s+)(.*)";
+    private static final double MAX_EXACT_INTEGER = 9007199254740992.0;
 
     /**
      * Defines a space.
@@ -296,84 +231,72 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
     private static final String SPACE = " ";
 
     /**
-     * Pattern to parse time in hour and minute format (hh:mm.s)
-     */
-    private Pattern hourMinutePattern;
-
-    /**
-     * Pattern to parse time in hour, minute and second format (hh:mm:ss.ms).
-     */
-    private Pattern hourMinuteSecondPattern;
-
-    /**
-     * Pattern to parse 1st century format.
-     */
-    private Pattern firstCenturyPattern;
-
-    /**
-     * Pattern to parse 2nd century format.
-     */
-    private Pattern secondCenturyPattern;
-
-    /**
-     * Pattern to parse 3rd century format.
-     */
-    private Pattern thirdCenturyPattern;
-
-    /**
-     * Pattern to parse n-th century format.
-     */
-    private Pattern centuryPattern;
-
-    /**
-     * Pattern to parse year format.
+     * Symbols recognized when parsing multiple units.
+     * The first {@link #MULTIPLE_CENTURY_SYMBOLS} symbols are century symbols sorted by
+     * increasing precedence, followed by the remaining symbols sorted by decreasing unit size.
      */
-    private Pattern yearPattern;
+    private static final String[] MULTIPLE_SYMBOLS = {
+            FIRST_CENTURY_SYMBOL, SECOND_CENTURY_SYMBOL, THIRD_CENTURY_SIMBOL, CENTURY_SYMBOL,
+            YEAR_SYMBOL, MONTH_SYMBOL, WEEK_SYMBOL, DAY_SYMBOL, HOUR_SYMBOL, MINUTE_SYMBOL, SECOND_SYMBOL,
+            MILLISECOND_SYMBOL, MICROSECOND_SYMBOL, NANOSECOND_SYMBOL
+    };
 
     /**
-     * Pattern to parse month format.
+     * Units of symbols recognized when parsing multiple units.
      */
-    private Pattern monthPattern;
+    private static final TimeUnit[] MULTIPLE_UNITS = {
+            TimeUnit.CENTURY, TimeUnit.CENTURY, TimeUnit.CENTURY, TimeUnit.CENTURY,
+            TimeUnit.YEAR, TimeUnit.MONTH, TimeUnit.WEEK, TimeUnit.DAY, TimeUnit.HOUR, TimeUnit.MINUTE,
+            TimeUnit.SECOND, TimeUnit.MILLISECOND, TimeUnit.MICROSECOND, TimeUnit.NANOSECOND
+    };
 
     /**
-     * Pattern to parse week format.
+     * Number of century symbols at the beginning of {@link #MULTIPLE_SYMBOLS}.
      */
-    private Pattern weekPattern;
+    private static final int MULTIPLE_CENTURY_SYMBOLS = 4;
 
     /**
-     * Pattern to parse day format.
+     * Maximum number of digits that always fit in a long value.
      */
-    private Pattern dayPattern;
+    private static final int MAX_LONG_DIGITS = 18;
 
     /**
-     * Pattern to parse hour format.
+     * Finds time units within measurement string representations.
+     * Century symbols are found anywhere, since they are preceded by an ordinal suffix.
      */
-    private Pattern hourPattern;
+    private static final UnitSymbolMatcher<TimeUnit> UNIT_MATCHER = new UnitSymbolMatcher<TimeUnit>()
+            .add(NANOSECOND_SYMBOL, TimeUnit.NANOSECOND)
+            .add(MICROSECOND_SYMBOL, TimeUnit.MICROSECOND)
+            .add(MILLISECOND_SYMBOL, TimeUnit.MILLISECOND)
+            .add(SECOND_SYMBOL, TimeUnit.SECOND)
+            .add(MINUTE_SYMBOL, TimeUnit.MINUTE)
+            .add(WEEK_SYMBOL, TimeUnit.WEEK)
+            .add(MONTH_SYMBOL, TimeUnit.MONTH)
+            .add(YEAR_SYMBOL, TimeUnit.YEAR)
+            .addUndelimited(CENTURY_SYMBOL, TimeUnit.CENTURY)
+            .addUndelimited(FIRST_CENTURY_SYMBOL, TimeUnit.CENTURY)
+            .addUndelimited(SECOND_CENTURY_SYMBOL, TimeUnit.CENTURY)
+            .addUndelimited(THIRD_CENTURY_SIMBOL, TimeUnit.CENTURY)
+            .add(DAY_SYMBOL, TimeUnit.DAY)
+            .add(HOUR_SYMBOL, TimeUnit.HOUR);
 
     /**
-     * Pattern to parse minute format.
+     * Format of integer components (hours and minutes) of hour, minute and second
+     * formats, or null if not created yet.
      */
-    private Pattern minutePattern;
+    private FastNumberFormat integerComponentFormat;
 
     /**
-     * Pattern to parse second format.
+     * Format of last component (minutes or seconds) of hour, minute and second formats,
+     * used when fast number formatting is enabled, or null if not created yet.
      */
-    private Pattern secondPattern;
+    private FastNumberFormat fractionComponentFormat;
 
     /**
-     * Pattern to parse millisecond format.
+     * Number format of last component (minutes or seconds) of hour, minute and second
+     * formats, or null if not created yet.
      */
-    private Pattern millisecondPattern;
-
-    /**
-     * Pattern to parse microsecond format.
-     */
-    private Pattern microsecondPattern;
-
-    /**
-     * Pattern to parse nanosecond format.
-     */
-    private Pattern nanosecondPattern;
+    private NumberFormat fractionComponentNumberFormat;
 
     /**
      * Constructor.
@@ -402,22 +325,6 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
      */
     public TimeFormatter(final TimeFormatter formatter) {
         this(formatter.getLocale());
-        hourMinutePattern = formatter.hourMinutePattern;
-        hourMinuteSecondPattern = formatter.hourMinuteSecondPattern;
-        firstCenturyPattern = formatter.firstCenturyPattern;
-        secondCenturyPattern = formatter.secondCenturyPattern;
-        thirdCenturyPattern = formatter.thirdCenturyPattern;
-        centuryPattern = formatter.centuryPattern;
-        yearPattern = formatter.yearPattern;
-        monthPattern = formatter.monthPattern;
-        weekPattern = formatter.weekPattern;
-        dayPattern = formatter.dayPattern;
-        hourPattern = formatter.hourPattern;
-        minutePattern = formatter.minutePattern;
-        secondPattern = formatter.secondPattern;
-        millisecondPattern = formatter.millisecondPattern;
-        microsecondPattern = formatter.microsecondPattern;
-        nanosecondPattern = formatter.nanosecondPattern;
     }
 
     /**
@@ -463,30 +370,39 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
     }
 
     /**
-     * Formats provided time value and unit into a string representation.
+     * Formats provided time value and unit into a string representation
+     * and appends the result into provided string builder.
      *
      * @param value a time value.
      * @param unit  a time unit.
-     * @return string representation of provided measurement value and unit.
+     * @param out   builder to append the result to.
+     * @return provided string builder where result is appended.
      */
     @Override
-    public String format(final Number value, final TimeUnit unit) {
+    public StringBuilder formatTo(final Number value, final TimeUnit unit, final StringBuilder out) {
         if (unit == TimeUnit.CENTURY) {
-            final var v = value.doubleValue();
-
-            final String symbol;
-            if (Math.abs(v) <= 1.0) {
-                symbol = FIRST_CENTURY_SYMBOL;
-            } else if (Math.abs(v) <= 2.0) {
-                symbol = SECOND_CENTURY_SYMBOL;
-            } else if (Math.abs(v) <= 3.0) {
-                symbol = THIRD_CENTURY_SIMBOL;
-            } else {
-                symbol = CENTURY_SYMBOL;
-            }
-            return MessageFormat.format(CENTURY_FORMAT_PATTERN, numberFormat.format(value), symbol);
+            return formatTo(formatNumber(value), getCenturySymbol(value.doubleValue()), CENTURY_COMPILED_PATTERN,
+                    out);
+        } else {
+            return super.formatTo(value, unit, out);
+        }
+    }
+
+    /**
+     * Formats provided time value and unit into a string representation
+     * and appends the result into provided string builder.
+     *
+     * @param value a time value.
+     * @param unit  a time unit.
+     * @param out   builder to append the result to.
+     * @return provided string builder where result is appended.
+     */
+    @Override
+    public StringBuilder formatTo(final double value, final TimeUnit unit, final StringBuilder out) {
+        if (unit == TimeUnit.CENTURY) {
+            return formatTo(formatNumber(value), getCenturySymbol(value), CENTURY_COMPILED_PATTERN, out);
         } else {
-            return super.format(value, unit);
+            return super.formatTo(value, unit, out);
         }
     }
 
@@ -504,21 +420,9 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
     public StringBuffer format(
             final Number value, final TimeUnit unit, final StringBuffer toAppendTo, final FieldPosition pos) {
         if (unit == TimeUnit.CENTURY) {
-            final var v = value.doubleValue();
-
-            final String symbol;
-            if (Math.abs(v) <= 1.0) {
-                symbol = FIRST_CENTURY_SYMBOL;
-            } else if (Math.abs(v) <= 2.0) {
-                symbol = SECOND_CENTURY_SYMBOL;
-            } else if (Math.abs(v) <= 3.0) {
-                symbol = THIRD_CENTURY_SIMBOL;
-            } else {
-                symbol = CENTURY_SYMBOL;
-            }
-
             final var format = new MessageFormat(CENTURY_FORMAT_PATTERN);
-            return format.format(new Object[]{numberFormat.format(value), symbol}, toAppendTo, pos);
+            return format.format(new Object[]{getNumberFormatInstance().format(value),
+                    getCenturySymbol(value.doubleValue())}, toAppendTo, pos);
         } else {
             return super.format(value, unit, toAppendTo, pos);
         }
@@ -541,57 +445,57 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
             final Number value, final TimeUnit unit, final UnitSystem system) {
         final var v = value.doubleValue();
 
-        final var nanoseconds = TimeConverter.convert(v, unit, TimeUnit.NANOSECOND);
+        final var nanoseconds = TimeConverter.convertValue(v, unit, TimeUnit.NANOSECOND);
         if (Math.abs(nanoseconds) < (TimeConverter.SECONDS_PER_MICROSECOND / TimeConverter.SECONDS_PER_NANOSECOND)) {
             return format(nanoseconds, TimeUnit.NANOSECOND);
         }
 
-        final var microseconds = TimeConverter.convert(v, unit, TimeUnit.MICROSECOND);
+        final var microseconds = TimeConverter.convertValue(v, unit, TimeUnit.MICROSECOND);
         if (Math.abs(microseconds) < (TimeConverter.SECONDS_PER_MILLISECOND / TimeConverter.SECONDS_PER_MICROSECOND)) {
             return format(microseconds, TimeUnit.MICROSECOND);
         }
 
-        final var milliseconds = TimeConverter.convert(v, unit, TimeUnit.MILLISECOND);
+        final var milliseconds = TimeConverter.convertValue(v, unit, TimeUnit.MILLISECOND);
         if (Math.abs(milliseconds) < (1.0 / TimeConverter.SECONDS_PER_MILLISECOND)) {
             return format(milliseconds, TimeUnit.MILLISECOND);
         }
 
-        final var seconds = TimeConverter.convert(v, unit, TimeUnit.SECOND);
+        final var seconds = TimeConverter.convertValue(v, unit, TimeUnit.SECOND);
         if (Math.abs(seconds) < TimeConverter.SECONDS_PER_MINUTE) {
             return format(seconds, TimeUnit.SECOND);
         }
 
-        final var minutes = TimeConverter.convert(v, unit, TimeUnit.MINUTE);
+        final var minutes = TimeConverter.convertValue(v, unit, TimeUnit.MINUTE);
         if (Math.abs(minutes) < (TimeConverter.SECONDS_PER_HOUR / TimeConverter.SECONDS_PER_MINUTE)) {
             return format(minutes, TimeUnit.MINUTE);
         }
 
-        final var hours = TimeConverter.convert(v, unit, TimeUnit.HOUR);
+        final var hours = TimeConverter.convertValue(v, unit, TimeUnit.HOUR);
         if (Math.abs(hours) < (TimeConverter.SECONDS_PER_DAY / TimeConverter.SECONDS_PER_HOUR)) {
             return format(hours, TimeUnit.HOUR);
         }
 
-        final var days = TimeConverter.convert(v, unit, TimeUnit.DAY);
+        final var days = TimeConverter.convertValue(v, unit, TimeUnit.DAY);
         if (Math.abs(days) < (TimeConverter.SECONDS_PER_WEEK / TimeConverter.SECONDS_PER_DAY)) {
             return format(days, TimeUnit.DAY);
         }
 
-        final var weeks = TimeConverter.convert(v, unit, TimeUnit.WEEK);
+        final var weeks = TimeConverter.convertValue(v, unit, TimeUnit.WEEK);
         if (Math.abs(weeks) < (TimeConverter.SECONDS_PER_MONTH / TimeConverter.SECONDS_PER_WEEK)) {
             return format(weeks, TimeUnit.WEEK);
         }
 
-        final var months = TimeConverter.convert(v, unit, TimeUnit.MONTH);
+        final var months = TimeConverter.convertValue(v, unit, TimeUnit.MONTH);
         if (Math.abs(months) < (TimeConverter.SECONDS_PER_YEAR / TimeConverter.SECONDS_PER_MONTH)) {
             return format(months, TimeUnit.MONTH);
         }
 
-        final var years = TimeConverter.convert(v, unit, TimeUnit.YEAR);
+        final var years = TimeConverter.convertValue(v, unit, TimeUnit.YEAR);
         if (Math.abs(years) < (TimeConverter.SECONDS_PER_CENTURY / TimeConverter.SECONDS_PER_YEAR)) {
             return format(years, TimeUnit.YEAR);
         }
 
-        final var centuries = TimeConverter.convert(v, unit, TimeUnit.CENTURY);
+        final var centuries = TimeConverter.convertValue(v, unit, TimeUnit.CENTURY);
         return format(centuries, TimeUnit.CENTURY);
     }
 
@@ -628,43 +532,35 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
      */
     @Override
     public TimeUnit findUnit(final String source) {
-        if (source.contains(NANOSECOND_SYMBOL + " ") || source.endsWith(NANOSECOND_SYMBOL)) {
-            return TimeUnit.NANOSECOND;
-        }
-        if (source.contains(MICROSECOND_SYMBOL + " ") || source.endsWith(MICROSECOND_SYMBOL)) {
-            return TimeUnit.MICROSECOND;
-        }
-        if (source.contains(MILLISECOND_SYMBOL + " ") || source.endsWith(MILLISECOND_SYMBOL)) {
-            return TimeUnit.MILLISECOND;
-        }
-        if (source.contains(SECOND_SYMBOL + " ") || source.endsWith(SECOND_SYMBOL)) {
-            return TimeUnit.SECOND;
-        }
-        if (source.contains(MINUTE_SYMBOL + " ") || source.endsWith(MINUTE_SYMBOL)) {
-            return TimeUnit.MINUTE;
-        }
-        if (source.contains(WEEK_SYMBOL + " ") || source.endsWith(WEEK_SYMBOL)) {
-            return TimeUnit.WEEK;
-        }
-        if (source.contains(MONTH_SYMBOL + " ") || source.endsWith(MONTH_SYMBOL)) {
-            return TimeUnit.MONTH;
-        }
-        if (source.contains(YEAR_SYMBOL + " ") || source.endsWith(YEAR_SYMBOL)) {
-            return TimeUnit.YEAR;
-        }
-        if (source.contains(CENTURY_SYMBOL) || source.contains(FIRST_CENTURY_SYMBOL)
-                || source.contains(SECOND_CENTURY_SYMBOL) || source.contains(THIRD_CENTURY_SIMBOL)) {
-            return TimeUnit.CENTURY;
-        }
+        return UNIT_MATCHER.find(source);
+    }
 
-        if (source.contains(DAY_SYMBOL + " ") || source.endsWith(DAY_SYMBOL)) {
-            return TimeUnit.DAY;
-        }
-        if (source.contains(HOUR_SYMBOL + " ") || source.endsWith(HOUR_SYMBOL)) {
-            return TimeUnit.HOUR;
-        }
+    /**
+     * Attempts to determine a time unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    TimeUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
 
-        return null;
+    /**
+     * Attempts to determine a time unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    TimeUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
@@ -698,32 +594,26 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
      * minute format (hh:mm.ms).
      */
     public String formatHourMinute(final Time time) {
-        final var exactHours = TimeConverter.convert(time.getValue().doubleValue(), time.getUnit(), TimeUnit.HOUR);
+        return formatHourMinuteTo(time, new StringBuilder()).toString();
+    }
+
+    /**
+     * Formats time instance using hour and minute format (hh:mm.ms) and appends the
+     * result into provided string builder.
+     *
+     * @param time time to be formatted.
+     * @param out  builder to append the result to.
+     * @return provided string builder where result is appended.
+     */
+    public StringBuilder formatHourMinuteTo(final Time time, final StringBuilder out) {
+        final var exactHours = TimeConverter.convertValue(time.getValueAsDouble(), time.getUnit(), TimeUnit.HOUR);
         final var hours = Math.floor(exactHours);
         final var diffHours = exactHours - hours;
 
-        final var minutes = TimeConverter.convert(diffHours, TimeUnit.HOUR, TimeUnit.MINUTE);
+        final var minutes = TimeConverter.convertValue(diffHours, TimeUnit.HOUR, TimeUnit.MINUTE);
 
-        final var hourFormat = NumberFormat.getInstance(getLocale());
-        hourFormat.setMinimumIntegerDigits(INTEGER_DIGITS);
-        hourFormat.setMinimumFractionDigits(0);
-        hourFormat.setMaximumFractionDigits(0);
-
-        final var minuteFormat = NumberFormat.getInstance(getLocale());
-        minuteFormat.setMinimumIntegerDigits(INTEGER_DIGITS);
-        minuteFormat.setMaximumIntegerDigits(INTEGER_DIGITS);
-
-        if (numberFormat != null) {
-            hourFormat.setMaximumIntegerDigits(numberFormat.getMaximumIntegerDigits());
-            hourFormat.setRoundingMode(numberFormat.getRoundingMode());
-            hourFormat.setGroupingUsed(numberFormat.isGroupingUsed());
-
-            minuteFormat.setMinimumFractionDigits(numberFormat.getMinimumFractionDigits());
-            minuteFormat.setMaximumFractionDigits(numberFormat.getMaximumFractionDigits());
-            minuteFormat.setRoundingMode(numberFormat.getRoundingMode());
-            minuteFormat.setGroupingUsed(numberFormat.isGroupingUsed());
-        }
-        return hourFormat.format(hours) + ":" + minuteFormat.format(minutes);
+        appendIntegerComponent(hours, out).append(TIME_SEPARATOR);
+        return appendFractionComponent(minutes, out);
     }
 
     /**
@@ -737,25 +627,37 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
      */
     public Time parseHourMinute(final CharSequence source)
             throws ParseException, UnknownUnitException {
-        if (hourMinutePattern == null) {
-            hourMinutePattern = Pattern.compile(HOUR_MINUTE_PATTERN);
-        }
+        final var result = new Time(0.0, TimeUnit.MINUTE);
+        parseHourMinute(source, result);
+        return result;
+    }
 
-        final var matcher = hourMinutePattern.matcher(source);
-        if (!matcher.matches()) {
+    /**
+     * Parses provided string representation using hour and minute format (hh:mm)
+     * and stores the result in minutes into provided instance.
+     * Note: decimals are not accepted on either hour or minute values.
+     *
+     * @param source string to be parsed.
+     * @param result instance where parsed time will be stored.
+     * @throws UnknownUnitException if format is not recognized.
+     */
+    public void parseHourMinute(final CharSequence source, final Time result) throws UnknownUnitException {
+        final var length = source.length();
+        final var hourEnd = skipDigits(source, 0);
+        if (hourEnd == 0 || hourEnd == length || source.charAt(hourEnd) != TIME_SEPARATOR) {
             throw new UnknownUnitException();
         }
 
-        final var hourString = matcher.group(1);
-        final var minuteString = matcher.group(2);
-
-        final var hour = numberFormat.parse(hourString);
-        final var minute = numberFormat.parse(minuteString);
+        final var minuteStart = hourEnd + 1;
+        final var minuteEnd = skipDigits(source, minuteStart);
+        if (minuteEnd != length || minuteEnd - minuteStart < INTEGER_DIGITS) {
+            throw new UnknownUnitException();
+        }
 
-        final var result = new Time(hour, TimeUnit.HOUR);
-        TimeConverter.convert(result, TimeUnit.MINUTE);
-        result.add(new Time(minute, TimeUnit.MINUTE));
-        return result;
+        result.setValueAsDouble(Time.add(
+                TimeConverter.convertValue(digitsValue(source, 0, hourEnd), TimeUnit.HOUR, TimeUnit.MINUTE),
+                TimeUnit.MINUTE, digitsValue(source, minuteStart, minuteEnd), TimeUnit.MINUTE, TimeUnit.MINUTE));
+        result.setUnit(TimeUnit.MINUTE);
     }
 
     /**
@@ -766,45 +668,31 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
      * and second format (hh:mm:ss.ms).
      */
     public String formatHourMinuteSecond(final Time time) {
-        final var exactHours = TimeConverter.convert(time.getValue().doubleValue(), time.getUnit(), TimeUnit.HOUR);
+        return formatHourMinuteSecondTo(time, new StringBuilder()).toString();
+    }
+
+    /**
+     * Formats this instance using hour, minute and second format (hh:mm::ss.ms) and
+     * appends the result into provided string builder.
+     *
+     * @param time time to be formatted.
+     * @param out  builder to append the result to.
+     * @return provided string builder where result is appended.
+     */
+    public StringBuilder formatHourMinuteSecondTo(final Time time, final StringBuilder out) {
+        final var exactHours = TimeConverter.convertValue(time.getValueAsDouble(), time.getUnit(), TimeUnit.HOUR);
         final var hours = Math.floor(exactHours);
         final var diffHours = exactHours - hours;
 
-        final var exactMinutes = TimeConverter.convert(diffHours, TimeUnit.HOUR, TimeUnit.MINUTE);
+        final var exactMinutes = TimeConverter.convertValue(diffHours, TimeUnit.HOUR, TimeUnit.MINUTE);
         final var minutes = Math.floor(exactMinutes);
         final var diffMinutes = exactMinutes - minutes;
 
-        final var seconds = TimeConverter.convert(diffMinutes, TimeUnit.MINUTE, TimeUnit.SECOND);
-
-        final var hourFormat = NumberFormat.getInstance(getLocale());
-        hourFormat.setMinimumIntegerDigits(INTEGER_DIGITS);
-        hourFormat.setMinimumFractionDigits(0);
-        hourFormat.setMaximumFractionDigits(0);
-
-        final var minuteFormat = NumberFormat.getInstance(getLocale());
-        minuteFormat.setMinimumIntegerDigits(INTEGER_DIGITS);
-        minuteFormat.setMinimumFractionDigits(0);
-        minuteFormat.setMaximumFractionDigits(0);
-
-        final var secondFormat = NumberFormat.getInstance(getLocale());
-        secondFormat.setMinimumIntegerDigits(INTEGER_DIGITS);
-        secondFormat.setMaximumIntegerDigits(INTEGER_DIGITS);
+        final var seconds = TimeConverter.convertValue(diffMinutes, TimeUnit.MINUTE, TimeUnit.SECOND);
 
-        if (numberFormat != null) {
-            hourFormat.setMaximumIntegerDigits(numberFormat.getMaximumIntegerDigits());
-            hourFormat.setRoundingMode(numberFormat.getRoundingMode());
-            hourFormat.setGroupingUsed(numberFormat.isGroupingUsed());
-
-            minuteFormat.setMaximumIntegerDigits(numberFormat.getMaximumIntegerDigits());
-            minuteFormat.setRoundingMode(numberFormat.getRoundingMode());
-            minuteFormat.setGroupingUsed(numberFormat.isGroupingUsed());
-
-            secondFormat.setMinimumFractionDigits(numberFormat.getMinimumFractionDigits());
-            secondFormat.setMaximumFractionDigits(numberFormat.getMaximumFractionDigits());
-            secondFormat.setRoundingMode(numberFormat.getRoundingMode());
-            secondFormat.setGroupingUsed(numberFormat.isGroupingUsed());
-        }
-        return hourFormat.format(hours) + ":" + minuteFormat.format(minutes) + ":" + secondFormat.format(seconds);
+        appendIntegerComponent(hours, out).append(TIME_SEPARATOR);
+        appendIntegerComponent(minutes, out).append(TIME_SEPARATOR);
+        return appendFractionComponent(seconds, out);
     }
 
     /**
@@ -817,29 +705,57 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
      * @throws UnknownUnitException if format is not recognized.
      */
     public Time parseHourMinuteSecond(final CharSequence source) throws ParseException, UnknownUnitException {
-        if (hourMinuteSecondPattern == null) {
-            hourMinuteSecondPattern = Pattern.compile(HOUR_MINUTE_SECOND_PATTERN);
-        }
+        return new Time(parseHourMinuteSecondToSeconds(source), TimeUnit.SECOND);
+    }
 
-        final var matcher = hourMinuteSecondPattern.matcher(source);
-        if (!matcher.matches()) {
+    /**
+     * Parses provided string representation using hour, minute and second format (hh:mm:ss)
+     * and stores the result in seconds into provided instance.
+     * Note: decimals are not accepted on either hour, minute or seconds values
+     *
+     * @param source string to be parsed.
+     * @param result instance where parsed time will be stored.
+     * @throws UnknownUnitException if format is not recognized.
+     */
+    public void parseHourMinuteSecond(final CharSequence source, final Time result) throws UnknownUnitException {
+        result.setValueAsDouble(parseHourMinuteSecondToSeconds(source));
+        result.setUnit(TimeUnit.SECOND);
+    }
+
+    /**
+     * Parses provided string representation using hour, minute and second format (hh:mm:ss)
+     * into an amount of seconds, without creating any intermediate object.
+     * Note: decimals are not accepted on either hour, minute or seconds values
+     *
+     * @param source string to be parsed.
+     * @return parsed amount of seconds.
+     * @throws UnknownUnitException if format is not recognized.
+     */
+    public double parseHourMinuteSecondToSeconds(final CharSequence source) throws UnknownUnitException {
+        final var length = source.length();
+        final var hourEnd = skipDigits(source, 0);
+        if (hourEnd == 0 || hourEnd == length || source.charAt(hourEnd) != TIME_SEPARATOR) {
             throw new UnknownUnitException();
         }
 
-        final var hourString = matcher.group(1);
-        final var minuteString = matcher.group(2);
-        final var secondString = matcher.group(3);
+        final var minuteStart = hourEnd + 1;
+        final var minuteEnd = skipDigits(source, minuteStart);
+        if (minuteEnd - minuteStart != INTEGER_DIGITS || minuteEnd == length
+                || source.charAt(minuteEnd) != TIME_SEPARATOR) {
+            throw new UnknownUnitException();
+        }
 
-        final var hour = numberFormat.parse(hourString);
-        final var minute = numberFormat.parse(minuteString);
-        final var second = numberFormat.parse(secondString);
+        final var secondStart = minuteEnd + 1;
+        final var secondEnd = skipDigits(source, secondStart);
+        if (secondEnd != length || secondEnd - secondStart < INTEGER_DIGITS) {
+            throw new UnknownUnitException();
+        }
 
-        final var result = new Time(hour, TimeUnit.HOUR);
-        TimeConverter.convert(result, TimeUnit.MINUTE);
-        result.add(new Time(minute, TimeUnit.MINUTE));
-        TimeConverter.convert(result, TimeUnit.SECOND);
-        result.add(new Time(second, TimeUnit.SECOND));
-        return result;
+        final var minutes = Time.add(
+                TimeConverter.convertValue(digitsValue(source, 0, hourEnd), TimeUnit.HOUR, TimeUnit.MINUTE),
+                TimeUnit.MINUTE, digitsValue(source, minuteStart, minuteEnd), TimeUnit.MINUTE, TimeUnit.MINUTE);
+        return Time.add(TimeConverter.convertValue(minutes, TimeUnit.MINUTE, TimeUnit.SECOND), TimeUnit.SECOND,
+                digitsValue(source, secondStart, secondEnd), TimeUnit.SECOND, TimeUnit.SECOND);
     }
 
     /**
@@ -868,7 +784,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
     public String formatMultiple(final Time time, final int flags, final boolean onlyNonZero) {
 
         // centuries
-        final var exactCenturies = TimeConverter.convert(time.getValue().doubleValue(), time.getUnit(),
+        final var exactCenturies = TimeConverter.convertValue(time.getValueAsDouble(), time.getUnit(),
                 TimeUnit.CENTURY);
         var centuries = 0.0;
         double diffCenturies;
@@ -886,7 +802,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         }
 
         // years
-        final var exactYears = TimeConverter.convert(diffCenturies, TimeUnit.CENTURY, TimeUnit.YEAR);
+        final var exactYears = TimeConverter.convertValue(diffCenturies, TimeUnit.CENTURY, TimeUnit.YEAR);
         var years = 0.0;
         double diffYears;
         if ((flags & FORMAT_YEARS) != 0) {
@@ -903,7 +819,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         }
 
         // months
-        final var exactMonths = TimeConverter.convert(diffYears, TimeUnit.YEAR, TimeUnit.MONTH);
+        final var exactMonths = TimeConverter.convertValue(diffYears, TimeUnit.YEAR, TimeUnit.MONTH);
         var months = 0.0;
         double diffMonths;
         if ((flags & FORMAT_MONTHS) != 0) {
@@ -920,7 +836,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         }
 
         // weeks
-        final var exactWeeks = TimeConverter.convert(diffMonths, TimeUnit.MONTH, TimeUnit.WEEK);
+        final var exactWeeks = TimeConverter.convertValue(diffMonths, TimeUnit.MONTH, TimeUnit.WEEK);
         var weeks = 0.0;
         double diffWeeks;
         if ((flags & FORMAT_WEEKS) != 0) {
@@ -937,7 +853,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         }
 
         // days
-        final var exactDays = TimeConverter.convert(diffWeeks, TimeUnit.WEEK, TimeUnit.DAY);
+        final var exactDays = TimeConverter.convertValue(diffWeeks, TimeUnit.WEEK, TimeUnit.DAY);
         var days = 0.0;
         double diffDays;
         if ((flags & FORMAT_DAYS) != 0) {
@@ -954,7 +870,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         }
 
         // hours
-        final var exactHours = TimeConverter.convert(diffDays, TimeUnit.DAY, TimeUnit.HOUR);
+        final var exactHours = TimeConverter.convertValue(diffDays, TimeUnit.DAY, TimeUnit.HOUR);
         var hours = 0.0;
         double diffHours;
         if ((flags & FORMAT_HOURS) != 0) {
@@ -971,7 +887,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         }
 
         // minutes
-        final var exactMinutes = TimeConverter.convert(diffHours, TimeUnit.HOUR, TimeUnit.MINUTE);
+        final var exactMinutes = TimeConverter.convertValue(diffHours, TimeUnit.HOUR, TimeUnit.MINUTE);
         var minutes = 0.0;
         double diffMinutes;
         if ((flags & FORMAT_MINUTES) != 0) {
@@ -987,7 +903,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         }
 
         // seconds
-        final var exactSeconds = TimeConverter.convert(diffMinutes, TimeUnit.MINUTE, TimeUnit.SECOND);
+        final var exactSeconds = TimeConverter.convertValue(diffMinutes, TimeUnit.MINUTE, TimeUnit.SECOND);
         var seconds = 0.0;
         double diffSeconds;
         if ((flags & FORMAT_SECONDS) != 0) {
@@ -1003,7 +919,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         }
 
         // milliseconds
-        final var exactMilliseconds = TimeConverter.convert(diffSeconds, TimeUnit.SECOND, TimeUnit.MILLISECOND);
+        final var exactMilliseconds = TimeConverter.convertValue(diffSeconds, TimeUnit.SECOND, TimeUnit.MILLISECOND);
         var milliseconds = 0.0;
         double diffMilliseconds;
         if ((flags & FORMAT_MILLISECONDS) != 0) {
@@ -1019,7 +935,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         }
 
         // microseconds
-        final var exactMicroseconds = TimeConverter.convert(diffMilliseconds, TimeUnit.MILLISECOND,
+        final var exactMicroseconds = TimeConverter.convertValue(diffMilliseconds, TimeUnit.MILLISECOND,
                 TimeUnit.MICROSECOND);
         var microseconds = 0.0;
         double diffMicroseconds;
@@ -1037,7 +953,7 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         // nanoseconds
         var nanoseconds = 0.0;
         if ((flags & FORMAT_NANOSECONDS) != 0) {
-            nanoseconds = TimeConverter.convert(diffMicroseconds, TimeUnit.MICROSECOND, TimeUnit.NANOSECOND);
+            nanoseconds = TimeConverter.convertValue(diffMicroseconds, TimeUnit.MICROSECOND, TimeUnit.NANOSECOND);
         }
 
         // format result
@@ -1091,125 +1007,48 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
      * @throws UnknownUnitException if format is not recognized.
      */
     public Time parseMultiple(final CharSequence source) throws ParseException, UnknownUnitException {
-        final var wrapped = " " + source + " ";
-        Time result = null;
-
-        final var firstCentury = parse1stCentury(wrapped);
-        final var secondCentury = parse2ndCentury(wrapped);
-        final var thirdCentury = parse3rdCentury(wrapped);
-        final var century = parseCentury(wrapped);
-        final var year = parseYear(wrapped);
-        final var month = parseMonth(wrapped);
-        final var week = parseWeek(wrapped);
-        final var day = parseDay(wrapped);
-        final var hour = parseHour(wrapped);
-        final var minute = parseMinute(wrapped);
-        final var second = parseSecond(wrapped);
-        final var millisecond = parseMillisecond(wrapped);
-        final var microsecond = parseMicrosecond(wrapped);
-        final var nanosecond = parseNanosecond(wrapped);
-
-        // century
-        if (firstCentury != null) {
-            result = firstCentury;
-        }
-        if (secondCentury != null) {
-            result = secondCentury;
-        }
-        if (thirdCentury != null) {
-            result = thirdCentury;
-        }
-        if (century != null) {
-            result = century;
-        }
-
-        // year
-        if (year != null) {
-            if (result == null) {
-                result = year;
-            } else {
-                result.add(year);
+        // values found for each symbol, where only the last occurrence of each symbol is kept
+        final var values = new Number[MULTIPLE_SYMBOLS.length];
+
+        final var length = source.length();
+        var i = 0;
+        while (i < length) {
+            if (!isDigit(source.charAt(i))) {
+                i++;
+                continue;
             }
-        }
 
-        // month
-        if (month != null) {
-            if (result == null) {
-                result = month;
-            } else {
-                result.add(month);
+            final var start = i;
+            while (i < length && isDigit(source.charAt(i))) {
+                i++;
             }
-        }
 
-        // week
-        if (week != null) {
-            if (result == null) {
-                result = week;
-            } else {
-                result.add(week);
+            // values must be preceded by whitespace
+            if (start == 0 || isWhitespace(source.charAt(start - 1))) {
+                final var index = findMultipleSymbol(source, i);
+                if (index >= 0) {
+                    values[index] = parseDigits(source, start, i);
+                }
             }
         }
 
-        // day
-        if (day != null) {
-            if (result == null) {
-                result = day;
-            } else {
-                result.add(day);
-            }
-        }
-
-        // hour
-        if (hour != null) {
-            if (result == null) {
-                result = hour;
-            } else {
-                result.add(hour);
-            }
-        }
-
-        // minute
-        if (minute != null) {
-            if (result == null) {
-                result = minute;
-            } else {
-                result.add(minute);
-            }
-        }
-
-        // second
-        if (second != null) {
-            if (result == null) {
-                result = second;
-            } else {
-                result.add(second);
-            }
-        }
-
-        // millisecond
-        if (millisecond != null) {
-            if (result == null) {
-                result = millisecond;
-            } else {
-                result.add(millisecond);
-            }
-        }
+        Time result = null;
 
-        // microsecond
-        if (microsecond != null) {
-            if (result == null) {
-                result = microsecond;
-            } else {
-                result.add(microsecond);
+        // century (symbols with higher precedence replace the others)
+        for (var index = MULTIPLE_CENTURY_SYMBOLS - 1; index >= 0 && result == null; index--) {
+            if (values[index] != null) {
+                result = new Time(values[index], TimeUnit.CENTURY);
             }
         }
 
-        // nanosecond
-        if (nanosecond != null) {
-            if (result == null) {
-                result = nanosecond;
-            } else {
-                result.add(nanosecond);
+        // remaining units are added from larger to smaller
+        for (var index = MULTIPLE_CENTURY_SYMBOLS; index < values.length; index++) {
+            if (values[index] != null) {
+                if (result == null) {
+                    result = new Time(values[index], MULTIPLE_UNITS[index]);
+                } else {
+                    result.add(values[index], MULTIPLE_UNITS[index]);
+                }
             }
         }
 
@@ -1222,311 +1061,243 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
     }
 
     /**
-     * Parses string as 1st century format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Finds symbol of multiple units format following a value.
+     * Symbol can be separated from value by a single whitespace and must be followed
+     * by whitespace or by the end of source.
      *
-     * @param source string to be parsed.
-     * @return parsed time in century units.
-     * @throws ParseException if parsing fails.
-     */
-    private Time parse1stCentury(final CharSequence source) throws ParseException {
-        if (firstCenturyPattern == null) {
-            firstCenturyPattern = Pattern.compile(FIRST_CENTURY_PATTERN);
-        }
-
-        final var matcher = firstCenturyPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
+     * @param source string being parsed.
+     * @param end    position where value ends.
+     * @return index of found symbol within {@link #MULTIPLE_SYMBOLS} or -1 if no symbol
+     * is found.
+     */
+    private static int findMultipleSymbol(final CharSequence source, final int end) {
+        final var length = source.length();
+        final var start = end < length && isWhitespace(source.charAt(end)) ? end + 1 : end;
+        for (var index = 0; index < MULTIPLE_SYMBOLS.length; index++) {
+            final var symbol = MULTIPLE_SYMBOLS[index];
+            final var symbolEnd = start + symbol.length();
+            if (symbolEnd <= length && matches(source, start, symbol)
+                    && (symbolEnd == length || isWhitespace(source.charAt(symbolEnd)))) {
+                return index;
+            }
         }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.CENTURY);
+        return -1;
     }
 
     /**
-     * Parses string as 2nd century format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Indicates whether source contains provided symbol at provided position.
      *
-     * @param source string to be parsed.
-     * @return parsed time in century units.
-     * @throws ParseException if parsing fails.
-     */
-    private Time parse2ndCentury(final CharSequence source) throws ParseException {
-        if (secondCenturyPattern == null) {
-            secondCenturyPattern = Pattern.compile(SECOND_CENTURY_PATTERN);
-        }
-
-        final var matcher = secondCenturyPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
+     * @param source   string being parsed.
+     * @param position position where symbol is checked.
+     * @param symbol   symbol to be checked.
+     * @return true if symbol is found at position, false otherwise.
+     */
+    private static boolean matches(final CharSequence source, final int position, final String symbol) {
+        for (var i = 0; i < symbol.length(); i++) {
+            if (source.charAt(position + i) != symbol.charAt(i)) {
+                return false;
+            }
         }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.CENTURY);
+        return true;
     }
 
     /**
-     * Parses string as 3rd century format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Parses a value containing only digits.
      *
-     * @param source string to be parsed.
-     * @return parsed time in century units.
+     * @param source string being parsed.
+     * @param start  position where digits start (inclusive).
+     * @param end    position where digits end (exclusive).
+     * @return parsed value.
      * @throws ParseException if parsing fails.
      */
-    private Time parse3rdCentury(final CharSequence source) throws ParseException {
-        if (thirdCenturyPattern == null) {
-            thirdCenturyPattern = Pattern.compile(THIRD_CENTURY_PATTERN);
+    private Number parseDigits(final CharSequence source, final int start, final int end) throws ParseException {
+        if (end - start > MAX_LONG_DIGITS) {
+            return getNumberFormatInstance().parse(source.subSequence(start, end).toString());
         }
 
-        final var matcher = thirdCenturyPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
+        var value = 0L;
+        for (var i = start; i < end; i++) {
+            value = 10 * value + (source.charAt(i) - '0');
         }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.CENTURY);
+        return value;
     }
 
     /**
-     * Parses string as n-th century format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Indicates whether provided character is an ASCII digit.
      *
-     * @param source string to be parsed.
-     * @return parsed time in century units.
-     * @throws ParseException if parsing fails.
+     * @param c character to be checked.
+     * @return true if character is an ASCII digit, false otherwise.
      */
-    private Time parseCentury(final CharSequence source) throws ParseException {
-        if (centuryPattern == null) {
-            centuryPattern = Pattern.compile(CENTURY_PATTERN);
-        }
-
-        final var matcher = centuryPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
-        }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.CENTURY);
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
     }
 
     /**
-     * Parses string as year format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Indicates whether provided character is an ASCII whitespace.
      *
-     * @param source string to be parsed.
-     * @return parsed time in year units.
-     * @throws ParseException if parsing fails.
+     * @param c character to be checked.
+     * @return true if character is an ASCII whitespace, false otherwise.
      */
-    private Time parseYear(final CharSequence source) throws ParseException {
-        if (yearPattern == null) {
-            yearPattern = Pattern.compile(YEAR_PATTERN);
-        }
-
-        final var matcher = yearPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
-        }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.YEAR);
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
-     * Parses string as month format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Gets position after a run of ASCII digits.
      *
-     * @param source string to be parsed.
-     * @return parsed time in month units.
-     * @throws ParseException if parsing fails.
+     * @param source string being parsed.
+     * @param start  position where digits start.
+     * @return position of first character that is not a digit, or length of source.
      */
-    private Time parseMonth(final CharSequence source) throws ParseException {
-        if (monthPattern == null) {
-            monthPattern = Pattern.compile(MONTH_PATTERN);
-        }
-
-        final var matcher = monthPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
+    private static int skipDigits(final CharSequence source, final int start) {
+        final var length = source.length();
+        var i = start;
+        while (i < length && isDigit(source.charAt(i))) {
+            i++;
         }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.MONTH);
+        return i;
     }
 
     /**
-     * Parses string as week format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Gets value of a run of ASCII digits.
      *
-     * @param source string to be parsed.
-     * @return parsed time in week units.
-     * @throws ParseException if parsing fails.
+     * @param source string being parsed.
+     * @param start  position where digits start (inclusive).
+     * @param end    position where digits end (exclusive).
+     * @return value of digits.
      */
-    private Time parseWeek(final CharSequence source) throws ParseException {
-        if (weekPattern == null) {
-            weekPattern = Pattern.compile(WEEK_PATTERN);
+    private static double digitsValue(final CharSequence source, final int start, final int end) {
+        if (end - start > MAX_LONG_DIGITS) {
+            return Double.parseDouble(source.subSequence(start, end).toString());
         }
 
-        final var matcher = weekPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
+        var value = 0L;
+        for (var i = start; i < end; i++) {
+            value = 10 * value + (source.charAt(i) - '0');
         }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.WEEK);
+        return value;
     }
 
     /**
-     * Parses string as day format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Appends an integer component (hours or minutes) of hour, minute and second
+     * formats into provided builder, using at least two digits.
      *
-     * @param source string to be parsed.
-     * @return parsed time in day units.
-     * @throws ParseException if parsing fails.
+     * @param value value of component.
+     * @param out   builder to append the result to.
+     * @return provided builder.
      */
-    private Time parseDay(final CharSequence source) throws ParseException {
-        if (dayPattern == null) {
-            dayPattern = Pattern.compile(DAY_PATTERN);
+    private StringBuilder appendIntegerComponent(final double value, final StringBuilder out) {
+        // frozen formatters build component formats when frozen, so they are never created here
+        var format = integerComponentFormat;
+        if (format == null && !isFrozen()) {
+            format = FastNumberFormat.from(createComponentFormat(true));
+            integerComponentFormat = format;
         }
 
-        final var matcher = dayPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
+        // integer values are formatted exactly as number format does, except negative zero
+        if (format != null && Math.abs(value) < MAX_EXACT_INTEGER
+                && Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(-0.0)) {
+            return format.format(value, out);
         }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.DAY);
+        return out.append(createComponentFormat(true).format(value));
     }
 
     /**
-     * Parses string as hour format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Appends last component (minutes or seconds) of hour, minute and second formats
+     * into provided builder, using two integer digits and fraction digits of this
+     * formatter.
      *
-     * @param source string to be parsed.
-     * @return parsed time in hour units.
-     * @throws ParseException if parsing fails.
-     */
-    private Time parseHour(final CharSequence source) throws ParseException {
-        if (hourPattern == null) {
-            hourPattern = Pattern.compile(HOUR_PATTERN);
-        }
-
-        final var matcher = hourPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
+     * @param value value of component.
+     * @param out   builder to append the result to.
+     * @return provided builder.
+     */
+    private StringBuilder appendFractionComponent(final double value, final StringBuilder out) {
+        final var frozen = isFrozen();
+        if (frozen || isFastNumberFormattingEnabled()) {
+            var format = fractionComponentFormat;
+            if (format == null && !frozen) {
+                format = FastNumberFormat.from(createComponentFormat(false));
+                fractionComponentFormat = format;
+            }
+            if (format != null && Double.isFinite(value)) {
+                return format.format(value, out);
+            }
         }
 
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.HOUR);
-    }
-
-    /**
-     * Parses string as minute format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
-     *
-     * @param source string to be parsed.
-     * @return parsed time in minute units.
-     * @throws ParseException if parsing fails.
-     */
-    private Time parseMinute(final CharSequence source) throws ParseException {
-        if (minutePattern == null) {
-            minutePattern = Pattern.compile(MINUTE_PATTERN);
+        if (frozen) {
+            // number formats are not thread-safe, hence a copy is used by frozen formatters
+            return out.append(((NumberFormat) fractionComponentNumberFormat.clone()).format(value));
         }
-
-        final var matcher = minutePattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
+        if (fractionComponentNumberFormat == null) {
+            fractionComponentNumberFormat = createComponentFormat(false);
         }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.MINUTE);
+        return out.append(fractionComponentNumberFormat.format(value));
     }
 
     /**
-     * Parses string as second format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Creates number format for components of hour, minute and second formats.
      *
-     * @param source string to be parsed.
-     * @return parsed time in second units.
-     * @throws ParseException if parsing fails.
-     */
-    private Time parseSecond(final CharSequence source) throws ParseException {
-        if (secondPattern == null) {
-            secondPattern = Pattern.compile(SECOND_PATTERN);
-        }
-
-        final var matcher = secondPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
+     * @param integer true to create format of integer components (hours and minutes),
+     *                false to create format of last component (minutes or seconds).
+     * @return a new number format.
+     */
+    private NumberFormat createComponentFormat(final boolean integer) {
+        final var format = NumberFormat.getInstance(getLocale());
+        format.setMinimumIntegerDigits(INTEGER_DIGITS);
+        if (integer) {
+            format.setMinimumFractionDigits(0);
+            format.setMaximumFractionDigits(0);
+            format.setMaximumIntegerDigits(getMaximumIntegerDigits());
+        } else {
+            format.setMaximumIntegerDigits(INTEGER_DIGITS);
+            format.setMinimumFractionDigits(getMinimumFractionDigits());
+            format.setMaximumFractionDigits(getMaximumFractionDigits());
         }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.SECOND);
+        format.setRoundingMode(getRoundingMode());
+        format.setGroupingUsed(isGroupingUsed());
+        return format;
     }
 
     /**
-     * Parses string as millisecond format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Freezes this formatter so that it becomes immutable and thread-safe.
+     * Formats of hour, minute and second components are built before freezing, so that
+     * frozen formatters never create them while formatting.
      *
-     * @param source string to be parsed.
-     * @return parsed time in millisecond units.
-     * @throws ParseException if parsing fails.
+     * @return this formatter.
      */
-    private Time parseMillisecond(final CharSequence source) throws ParseException {
-        if (millisecondPattern == null) {
-            millisecondPattern = Pattern.compile(MILLISECOND_PATTERN);
-        }
-
-        final var matcher = millisecondPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
+    @Override
+    public MeasureFormatter<Time, TimeUnit> freeze() {
+        if (!isFrozen()) {
+            integerComponentFormat = FastNumberFormat.from(createComponentFormat(true));
+            fractionComponentNumberFormat = createComponentFormat(false);
+            fractionComponentFormat = FastNumberFormat.from(fractionComponentNumberFormat);
         }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.MILLISECOND);
+        return super.freeze();
     }
 
     /**
-     * Parses string as microsecond format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
-     *
-     * @param source string to be parsed.
-     * @return parsed time in microsecond units.
-     * @throws ParseException if parsing fails.
+     * Invalidates formats of hour, minute and second components after number format
+     * settings change.
      */
-    private Time parseMicrosecond(final CharSequence source) throws ParseException {
-        if (microsecondPattern == null) {
-            microsecondPattern = Pattern.compile(MICROSECOND_PATTERN);
-        }
-
-        final var matcher = microsecondPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
-        }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.MICROSECOND);
+    @Override
+    void numberFormatChanged() {
+        super.numberFormatChanged();
+        integerComponentFormat = null;
+        fractionComponentFormat = null;
+        fractionComponentNumberFormat = null;
     }
 
     /**
-     * Parses string as nanosecond format.
-     * This method does not allow decimal values with fractions or thousand
-     * separators.
+     * Internal method to clone this formatter, so that number formats of hour, minute
+     * and second components are not shared.
      *
-     * @param source string to be parsed.
-     * @return parsed time in nanosecond units.
-     * @throws ParseException if parsing fails.
+     * @param copy an instantiated copy of a time formatter that needs to be initialized.
+     * @return provided copy.
      */
-    private Time parseNanosecond(final CharSequence source) throws ParseException {
-        if (nanosecondPattern == null) {
-            nanosecondPattern = Pattern.compile(NANOSECOND_PATTERN);
-        }
-
-        final var matcher = nanosecondPattern.matcher(source);
-        if (!matcher.matches()) {
-            return null;
-        }
-
-        return new Time(numberFormat.parse(matcher.group(3)), TimeUnit.NANOSECOND);
+    @Override
+    MeasureFormatter<Time, TimeUnit> internalClone(final MeasureFormatter<Time, TimeUnit> copy) {
+        ((TimeFormatter) copy).fractionComponentNumberFormat = null;
+        return super.internalClone(copy);
     }
 
     /**
@@ -1541,4 +1312,23 @@ public class TimeFormatter extends MeasureFormatter<Time, TimeUnit> {
         }
         return builder;
     }
+
+    /**
+     * Gets symbol to format provided amount of centuries.
+     *
+     * @param value amount of centuries.
+     * @return century symbol.
+     */
+    private static String getCenturySymbol(final double value) {
+        final var v = Math.abs(value);
+        if (v <= 1.0) {
+            return FIRST_CENTURY_SYMBOL;
+        } else if (v <= 2.0) {
+            return SECOND_CENTURY_SYMBOL;
+        } else if (v <= 3.0) {
+            return THIRD_CENTURY_SIMBOL;
+        } else {
+            return CENTURY_SYMBOL;
+        }
+    }
 }
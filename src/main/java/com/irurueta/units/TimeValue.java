@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable time value and unit.
+ * Unlike {@link Time}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value time value.
+ * @param unit  unit of time.
+ */
+public record TimeValue(double value, TimeUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value time value.
+     * @param unit  unit of time.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public TimeValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable time value from provided mutable time.
+     *
+     * @param time time to copy value and unit from.
+     * @return a new immutable time value.
+     * @throws NullPointerException     if provided time is null.
+     * @throws IllegalArgumentException if provided time has no unit.
+     * @throws IllegalStateException    if provided time has no value.
+     */
+    public static TimeValue from(final Time time) {
+        return new TimeValue(time.getValueAsDouble(), time.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable time.
+     *
+     * @return a new mutable time containing this value and unit.
+     */
+    public Time toTime() {
+        final var result = new Time();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this time to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return a time value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public TimeValue convertTo(final TimeUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new TimeValue(TimeConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided time value and unit to this instance.
+     *
+     * @param value time value to be added.
+     * @param unit  unit of time value to be added.
+     * @return a new time value expressed in the unit of this instance.
+     */
+    public TimeValue add(final double value, final TimeUnit unit) {
+        return new TimeValue(Time.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided time to this instance.
+     *
+     * @param other time to be added.
+     * @return a new time value expressed in the unit of this instance.
+     */
+    public TimeValue add(final TimeValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided time to this instance.
+     *
+     * @param other      time to be added.
+     * @param resultUnit unit of returned time.
+     * @return a new time value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public TimeValue add(final TimeValue other, final TimeUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new TimeValue(Time.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided time value and unit from this instance.
+     *
+     * @param value time value to be subtracted.
+     * @param unit  unit of time value to be subtracted.
+     * @return a new time value expressed in the unit of this instance.
+     */
+    public TimeValue subtract(final double value, final TimeUnit unit) {
+        return new TimeValue(Time.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided time from this instance.
+     *
+     * @param other time to be subtracted.
+     * @return a new time value expressed in the unit of this instance.
+     */
+    public TimeValue subtract(final TimeValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided time from this instance.
+     *
+     * @param other      time to be subtracted.
+     * @param resultUnit unit of returned time.
+     * @return a new time value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public TimeValue subtract(final TimeValue other, final TimeUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new TimeValue(Time.subtract(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Determines if two time values are equal up to a certain tolerance.
+     * If needed, provided time is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another time to compare.
+     * @param tolerance amount of tolerance to determine whether both time values are
+     *                  equal or not.
+     * @return true if provided time is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final TimeValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = TimeConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Selects the unit used to display a value when it is formatted and converted,
+ * among a scale of units of a unit system sorted by increasing size.
+ * Each unit of the scale is selected while the value converted into such unit is
+ * smaller (in absolute value) than a limit expressed in that unit, otherwise the
+ * next unit is checked, and the last unit is selected if no limit is satisfied.
+ * Limits are translated once into thresholds expressed in every input unit, so that
+ * a unit is selected by a binary search over thresholds without converting the value,
+ * while obtaining exactly the same unit as converting the value into each candidate
+ * unit and comparing it with its limit.
+ * This class is immutable and thread-safe.
+ *
+ * @param <U> type of unit.
+ */
+final class UnitScale<U extends Enum<U>> {
+
+    /**
+     * Units of the scale sorted by increasing size.
+     */
+    private final U[] units;
+
+    /**
+     * Thresholds of every unit of the scale except the last one, expressed in each
+     * input unit and indexed by its ordinal.
+     */
+    private final double[][] thresholds;
+
+    /**
+     * Constructor.
+     *
+     * @param unitClass  class of units.
+     * @param conversion converts values between units.
+     * @param units      units of the scale sorted by increasing size.
+     * @param limits     limits of every unit of the scale except the last one,
+     *                   expressed in such unit.
+     * @throws IllegalArgumentException if no units are provided, if the number of
+     *                                  limits does not match, or if limits are not
+     *                                  increasing when expressed in the same unit.
+     */
+    UnitScale(final Class<U> unitClass, final Conversion<U> conversion, final double[] limits, final U[] units) {
+        if (units.length == 0 || limits.length != units.length - 1) {
+            throw new IllegalArgumentException();
+        }
+
+        this.units = units.clone();
+
+        final var inputUnits = unitClass.getEnumConstants();
+        thresholds = new double[inputUnits.length][];
+        for (final var inputUnit : inputUnits) {
+            final var t = new double[limits.length];
+            for (var i = 0; i < limits.length; i++) {
+                t[i] = threshold(conversion, limits[i], inputUnit, units[i]);
+                if (i > 0 && !(t[i] >= t[i - 1])) {
+                    throw new IllegalArgumentException();
+                }
+            }
+            thresholds[inputUnit.ordinal()] = t;
+        }
+    }
+
+    /**
+     * Selects the unit to display provided value.
+     *
+     * @param value value to be displayed.
+     * @param unit  unit of value.
+     * @return selected unit.
+     */
+    U select(final double value, final U unit) {
+        final var t = thresholds[unit.ordinal()];
+        final var abs = Math.abs(value);
+
+        // find first threshold larger than value
+        var low = 0;
+        var high = t.length;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (abs < t[mid]) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return units[low];
+    }
+
+    /**
+     * Finds the smallest positive value in provided input unit whose conversion into
+     * output unit reaches provided limit.
+     * Since conversions are monotonic, any smaller value converts to a value smaller
+     * than the limit.
+     *
+     * @param conversion converts values between units.
+     * @param limit      limit expressed in output unit.
+     * @param inputUnit  input unit.
+     * @param outputUnit output unit.
+     * @return threshold expressed in input unit.
+     */
+    private static <U> double threshold(
+            final Conversion<U> conversion, final double limit, final U inputUnit, final U outputUnit) {
+        var t = limit / conversion.convert(1.0, inputUnit, outputUnit);
+        while (t > 0.0 && conversion.convert(t, inputUnit, outputUnit) >= limit) {
+            t = Math.nextDown(t);
+        }
+        while (conversion.convert(t, inputUnit, outputUnit) < limit) {
+            t = Math.nextUp(t);
+        }
+        return t;
+    }
+
+    /**
+     * Converts values between units.
+     *
+     * @param <U> type of unit.
+     */
+    interface Conversion<U> {
+
+        /**
+         * Converts a value from input unit to output unit.
+         *
+         * @param value      value to be converted.
+         * @param inputUnit  input unit.
+         * @param outputUnit output unit.
+         * @return converted value.
+         */
+        double convert(final double value, final U inputUnit, final U outputUnit);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Finds unit symbols within measurement string representations.
+ * Symbols are stored in a trie so that all of them are searched in a single pass
+ * over the input without creating intermediate strings.
+ * Symbols are registered in priority order. When several symbols are found, the
+ * unit of the one registered first is returned, which is equivalent to checking
+ * each symbol in registration order and stopping at the first one being found.
+ * By default, a symbol is only found when it is followed by a space or it is
+ * located at the end of the input (i.e. {@code source.contains(symbol + " ") ||
+ * source.endsWith(symbol)}), although symbols can also be registered to be found
+ * anywhere within the input (i.e. {@code source.contains(symbol)}).
+ * Symbols can also be found within UTF-8 encoded text without decoding it, since
+ * they are also stored as UTF-8 bytes. UTF-8 is self-synchronizing, hence encoded
+ * symbols are only found at character boundaries, and the same unit is found as when
+ * searching decoded text.
+ * Instances must be fully configured before being shared, after which they can be
+ * safely used concurrently.
+ *
+ * @param <U> type of unit.
+ */
+final class UnitSymbolMatcher<U> {
+
+    /**
+     * Indicates that no symbol has been found.
+     */
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    /**
+     * Root node of the trie.
+     */
+    private final Node root = new Node();
+
+    /**
+     * Root node of the trie containing UTF-8 encoded symbols.
+     */
+    private final Node byteRoot = new Node();
+
+    /**
+     * Units of registered symbols indexed by their priority.
+     */
+    private Object[] units = new Object[0];
+
+    /**
+     * Registers a symbol that is found when it is followed by a space or it is
+     * located at the end of the input.
+     *
+     * @param symbol symbol to be registered.
+     * @param unit   unit to be returned when symbol is found.
+     * @return this instance.
+     * @throws IllegalArgumentException if symbol is null or empty, or if unit is null.
+     */
+    UnitSymbolMatcher<U> add(final String symbol, final U unit) {
+        return add(symbol, unit, true);
+    }
+
+    /**
+     * Registers a symbol that is found anywhere within the input.
+     *
+     * @param symbol symbol to be registered.
+     * @param unit   unit to be returned when symbol is found.
+     * @return this instance.
+     * @throws IllegalArgumentException if symbol is null or empty, or if unit is null.
+     */
+    UnitSymbolMatcher<U> addUndelimited(final String symbol, final U unit) {
+        return add(symbol, unit, false);
+    }
+
+    /**
+     * Finds the unit of the registered symbol with the highest priority contained
+     * within provided input.
+     *
+     * @param source input to be searched.
+     * @return unit of found symbol or null if none is found.
+     */
+    U find(final CharSequence source) {
+        return find(source, 0, source.length());
+    }
+
+    /**
+     * Finds the unit of the registered symbol with the highest priority contained
+     * within provided region of the input.
+     * End of region is considered the end of the input.
+     *
+     * @param source input to be searched.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return unit of found symbol or null if none is found.
+     */
+    @SuppressWarnings("unchecked")
+    U find(final CharSequence source, final int start, final int end) {
+        var best = NOT_FOUND;
+        for (var i = start; i < end && best > 0; i++) {
+            var node = root;
+            for (var j = i; j < end; j++) {
+                node = node.child(source.charAt(j));
+                if (node == null) {
+                    break;
+                }
+
+                if (node.undelimitedPriority < best) {
+                    best = node.undelimitedPriority;
+                }
+                if (node.delimitedPriority < best && (j + 1 == end || source.charAt(j + 1) == ' ')) {
+                    best = node.delimitedPriority;
+                }
+            }
+        }
+        return best != NOT_FOUND ? (U) units[best] : null;
+    }
+
+    /**
+     * Finds the unit of the registered symbol with the highest priority contained
+     * within provided region of UTF-8 encoded text.
+     * End of region is considered the end of the input.
+     *
+     * @param source buffer containing UTF-8 encoded text.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return unit of found symbol or null if none is found.
+     */
+    @SuppressWarnings("unchecked")
+    U find(final ByteBuffer source, final int start, final int end) {
+        var best = NOT_FOUND;
+        for (var i = start; i < end && best > 0; i++) {
+            var node = byteRoot;
+            for (var j = i; j < end; j++) {
+                node = node.child((char) (source.get(j) & 0xFF));
+                if (node == null) {
+                    break;
+                }
+
+                if (node.undelimitedPriority < best) {
+                    best = node.undelimitedPriority;
+                }
+                if (node.delimitedPriority < best && (j + 1 == end || source.get(j + 1) == ' ')) {
+                    best = node.delimitedPriority;
+                }
+            }
+        }
+        return best != NOT_FOUND ? (U) units[best] : null;
+    }
+
+    /**
+     * Registers a symbol.
+     *
+     * @param symbol    symbol to be registered.
+     * @param unit      unit to be returned when symbol is found.
+     * @param delimited true if symbol must be followed by a space or the end of the
+     *                  input, false if it is found anywhere.
+     * @return this instance.
+     * @throws IllegalArgumentException if symbol is null or empty, or if unit is null.
+     */
+    private UnitSymbolMatcher<U> add(final String symbol, final U unit, final boolean delimited) {
+        if (symbol == null || symbol.isEmpty() || unit == null) {
+            throw new IllegalArgumentException();
+        }
+
+        var node = root;
+        for (var i = 0; i < symbol.length(); i++) {
+            node = node.getOrCreateChild(symbol.charAt(i));
+        }
+
+        var byteNode = byteRoot;
+        for (final var b : symbol.getBytes(StandardCharsets.UTF_8)) {
+            byteNode = byteNode.getOrCreateChild((char) (b & 0xFF));
+        }
+
+        final var priority = units.length;
+        if (delimited) {
+            if (node.delimitedPriority != NOT_FOUND) {
+                // symbol already registered with higher priority
+                return this;
+            }
+            node.delimitedPriority = priority;
+            byteNode.delimitedPriority = priority;
+        } else {
+            if (node.undelimitedPriority != NOT_FOUND) {
+                // symbol already registered with higher priority
+                return this;
+            }
+            node.undelimitedPriority = priority;
+            byteNode.undelimitedPriority = priority;
+        }
+
+        final var newUnits = new Object[priority + 1];
+        System.arraycopy(units, 0, newUnits, 0, priority);
+        newUnits[priority] = unit;
+        units = newUnits;
+        return this;
+    }
+
+    /**
+     * Node of the trie.
+     */
+    private static final class Node {
+
+        /**
+         * Characters of child nodes.
+         */
+        private char[] keys = new char[0];
+
+        /**
+         * Child nodes.
+         */
+        private Node[] children = new Node[0];
+
+        /**
+         * Priority of delimited symbol ending at this node, or {@link #NOT_FOUND} if none.
+         */
+        private int delimitedPriority = NOT_FOUND;
+
+        /**
+         * Priority of undelimited symbol ending at this node, or {@link #NOT_FOUND} if none.
+         */
+        private int undelimitedPriority = NOT_FOUND;
+
+        /**
+         * Gets child node for provided character.
+         *
+         * @param c character.
+         * @return child node or null if there is none.
+         */
+        private Node child(final char c) {
+            final var k = keys;
+            for (var i = 0; i < k.length; i++) {
+                if (k[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Gets child node for provided character, creating it if needed.
+         *
+         * @param c character.
+         * @return child node.
+         */
+        private Node getOrCreateChild(final char c) {
+            final var existing = child(c);
+            if (existing != null) {
+                return existing;
+            }
+
+            final var length = keys.length;
+            final var newKeys = new char[length + 1];
+            final var newChildren = new Node[length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, length);
+            System.arraycopy(children, 0, newChildren, 0, length);
+
+            final var result = new Node();
+            newKeys[length] = c;
+            newChildren[length] = result;
+            keys = newKeys;
+            children = newChildren;
+            return result;
+        }
+    }
+}
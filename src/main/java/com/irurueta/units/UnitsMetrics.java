@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Listener notified about conversions, parsing and formatting performed by this
+ * library, so that they can be monitored (e.g. to find which unit pairs or parsing
+ * failures dominate the cost of a data pipeline).
+ * Listeners are enabled by registering them with {@link UnitsMetricsRegistry}. When
+ * no listener is registered, instrumented operations only check a field, hence their
+ * cost is negligible.
+ * All methods do nothing by default, so that implementations only override those
+ * events they are interested in. Implementations must be thread-safe, and they should
+ * be fast, since they are notified synchronously from instrumented operations.
+ *
+ * @see RecordingUnitsMetrics
+ */
+public interface UnitsMetrics {
+
+    /**
+     * Called when values are converted between units.
+     * Conversions of single values (either as primitive values, numbers or
+     * measurements) are notified with a count of 1, and conversions of arrays or
+     * buffers are notified once with the number of converted values.
+     * Only conversions requested through converters, value records, measurement
+     * arrays or {@link MeasurementType#convert(double, Enum, Enum)} are notified.
+     * Conversions performed internally (e.g. when measurements are added or compared,
+     * or when values are formatted and converted) are not notified.
+     *
+     * @param type       type of converted measurements.
+     * @param inputUnit  input unit.
+     * @param outputUnit output unit.
+     * @param count      number of converted values.
+     */
+    default void onConversion(
+            final MeasurementType type, final Enum<?> inputUnit, final Enum<?> outputUnit, final int count) {
+    }
+
+    /**
+     * Called when a measurement has been parsed, either successfully or not.
+     * Failures of methods throwing exceptions are reported as
+     * {@link ParseStatus#INVALID_VALUE} when a {@link java.text.ParseException} is
+     * thrown and as {@link ParseStatus#UNKNOWN_UNIT} when an
+     * {@link UnknownUnitException} is thrown.
+     *
+     * @param formatter formatter used to parse the measurement.
+     * @param status    result of parsing.
+     */
+    default void onParse(final MeasureFormatter<?, ?> formatter, final ParseStatus status) {
+    }
+
+    /**
+     * Called when a measurement has been formatted into a string, including
+     * measurements formatted by formatAndConvert methods.
+     *
+     * @param formatter    formatter used to format the measurement.
+     * @param elapsedNanos time spent formatting the measurement expressed in
+     *                     nanoseconds.
+     */
+    default void onFormat(final MeasureFormatter<?, ?> formatter, final long elapsedNanos) {
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+/**
+ * Holds the metrics listener notified about operations of this library.
+ * No listener is registered by default.
+ * This class is thread-safe.
+ */
+public final class UnitsMetricsRegistry {
+
+    /**
+     * Registered listener or null if metrics are disabled.
+     */
+    private static volatile UnitsMetrics metrics;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of utility class.
+     */
+    private UnitsMetricsRegistry() {
+    }
+
+    /**
+     * Gets registered metrics listener.
+     *
+     * @return registered listener or null if metrics are disabled.
+     */
+    public static UnitsMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Registers metrics listener, replacing any previously registered one.
+     *
+     * @param metrics listener to be registered or null to disable metrics.
+     */
+    public static void setMetrics(final UnitsMetrics metrics) {
+        UnitsMetricsRegistry.metrics = metrics;
+    }
+
+    /**
+     * Indicates whether a metrics listener is registered.
+     *
+     * @return true if metrics are enabled, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return metrics != null;
+    }
+
+    /**
+     * Notifies registered listener, if any, that values have been converted.
+     *
+     * @param type       type of converted measurements.
+     * @param inputUnit  input unit.
+     * @param outputUnit output unit.
+     * @param count      number of converted values.
+     */
+    static void conversion(
+            final MeasurementType type, final Enum<?> inputUnit, final Enum<?> outputUnit, final int count) {
+        final var m = metrics;
+        if (m != null) {
+            m.onConversion(type, inputUnit, outputUnit, count);
+        }
+    }
+
+    /**
+     * Notifies registered listener, if any, that a measurement has been parsed.
+     *
+     * @param formatter formatter used to parse the measurement.
+     * @param status    result of parsing.
+     * @return provided status.
+     */
+    static ParseStatus parse(final MeasureFormatter<?, ?> formatter, final ParseStatus status) {
+        final var m = metrics;
+        if (m != null) {
+            m.onParse(formatter, status);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.util.ArrayList;
+
+/**
+ * Precompiled pattern to format values and units together into a single string.
+ * Patterns are compiled once into a sequence of literal segments separated by value
+ * ({0}) and unit ({1}) arguments following {@link java.text.MessageFormat} quoting
+ * rules, so that formatting does not need to parse the pattern again.
+ * Patterns containing any other kind of format element (i.e. format types or other
+ * argument indices) cannot be compiled and must be formatted using
+ * {@link java.text.MessageFormat}.
+ */
+final class ValueAndUnitPattern {
+
+    /**
+     * Argument corresponding to the value part.
+     */
+    static final int VALUE = 0;
+
+    /**
+     * Argument corresponding to the unit part.
+     */
+    static final int UNIT = 1;
+
+    /**
+     * Quote character used to escape literal text.
+     */
+    private static final char QUOTE = '\'';
+
+    /**
+     * Original pattern.
+     */
+    private final String pattern;
+
+    /**
+     * Literal segments. Literal at position i precedes argument at position i, and last
+     * literal follows last argument. Null if pattern could not be compiled.
+     */
+    private final String[] literals;
+
+    /**
+     * Arguments (either {@link #VALUE} or {@link #UNIT}) found in pattern.
+     * Null if pattern could not be compiled.
+     */
+    private final int[] arguments;
+
+    /**
+     * Constructor.
+     *
+     * @param pattern   original pattern.
+     * @param literals  literal segments or null if pattern could not be compiled.
+     * @param arguments arguments or null if pattern could not be compiled.
+     */
+    private ValueAndUnitPattern(final String pattern, final String[] literals, final int[] arguments) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Compiles provided pattern.
+     *
+     * @param pattern pattern to be compiled.
+     * @return compiled pattern.
+     * @throws IllegalArgumentException if provided pattern is null.
+     */
+    static ValueAndUnitPattern compile(final String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var literals = new ArrayList<String>();
+        final var arguments = new ArrayList<Integer>();
+        final var literal = new StringBuilder();
+        final var length = pattern.length();
+        var inQuote = false;
+        for (var i = 0; i < length; i++) {
+            final var c = pattern.charAt(i);
+            if (c == QUOTE) {
+                if (i + 1 < length && pattern.charAt(i + 1) == QUOTE) {
+                    // two consecutive quotes are a literal quote, both inside and outside quoted text
+                    literal.append(c);
+                    i++;
+                } else {
+                    inQuote = !inQuote;
+                }
+            } else if (c == '{' && !inQuote) {
+                final var end = pattern.indexOf('}', i + 1);
+                final var argument = end == i + 2 ? pattern.charAt(i + 1) - '0' : -1;
+                if (argument != VALUE && argument != UNIT) {
+                    // unsupported or malformed format element
+                    return new ValueAndUnitPattern(pattern, null, null);
+                }
+
+                literals.add(literal.toString());
+                arguments.add(argument);
+                literal.setLength(0);
+                i = end;
+            } else {
+                literal.append(c);
+            }
+        }
+        literals.add(literal.toString());
+
+        final var compiledArguments = new int[arguments.size()];
+        for (var i = 0; i < compiledArguments.length; i++) {
+            compiledArguments[i] = arguments.get(i);
+        }
+        return new ValueAndUnitPattern(pattern, literals.toArray(new String[0]), compiledArguments);
+    }
+
+    /**
+     * Gets original pattern.
+     *
+     * @return original pattern.
+     */
+    String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Indicates whether pattern could be compiled into literals and arguments.
+     *
+     * @return true if pattern was compiled, false if it must be formatted using
+     * {@link java.text.MessageFormat}.
+     */
+    boolean isCompiled() {
+        return literals != null;
+    }
+
+    /**
+     * Gets number of arguments found in compiled pattern.
+     *
+     * @return number of arguments.
+     */
+    int getArgumentCount() {
+        return arguments.length;
+    }
+
+    /**
+     * Gets argument at provided position.
+     *
+     * @param index position of argument.
+     * @return either {@link #VALUE} or {@link #UNIT}.
+     */
+    int getArgument(final int index) {
+        return arguments[index];
+    }
+
+    /**
+     * Gets literal segment preceding argument at provided position, or following last
+     * argument if position is equal to the number of arguments.
+     *
+     * @param index position of literal.
+     * @return literal segment.
+     */
+    String getLiteral(final int index) {
+        return literals[index];
+    }
+}
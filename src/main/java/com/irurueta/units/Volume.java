@@ -59,9 +59,9 @@ public class Volume extends Measurement<VolumeUnit> {
             return false;
         }
 
-        final var otherValue = VolumeConverter.convert(
-                other.getValue().doubleValue(), other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        final var otherValue = VolumeConverter.convertValue(
+                other.getValueAsDouble(), other.getUnit(), getUnit());
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -78,8 +78,8 @@ public class Volume extends Measurement<VolumeUnit> {
             final double value1, final VolumeUnit unit1,
             final double value2, final VolumeUnit unit2,
             final VolumeUnit resultUnit) {
-        final var v1 = VolumeConverter.convert(value1, unit1, resultUnit);
-        final var v2 = VolumeConverter.convert(value2, unit2, resultUnit);
+        final var v1 = VolumeConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = VolumeConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -108,7 +108,8 @@ public class Volume extends Measurement<VolumeUnit> {
      * @param result instance where result will be stored.
      */
     public static void add(final Volume arg1, final Volume arg2, final Volume result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -141,7 +142,7 @@ public class Volume extends Measurement<VolumeUnit> {
             final VolumeUnit resultUnit) {
         final var result = new Volume();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -159,7 +160,7 @@ public class Volume extends Measurement<VolumeUnit> {
             final VolumeUnit resultUnit) {
         final var result = new Volume();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -181,7 +182,7 @@ public class Volume extends Measurement<VolumeUnit> {
      * @param unit  unit of volume value.
      */
     public void add(final double value, final VolumeUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -191,7 +192,7 @@ public class Volume extends Measurement<VolumeUnit> {
      * @param unit  unit of volume value.
      */
     public void add(final Number value, final VolumeUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -227,8 +228,8 @@ public class Volume extends Measurement<VolumeUnit> {
             final double value1, final VolumeUnit unit1,
             final double value2, final VolumeUnit unit2,
             final VolumeUnit resultUnit) {
-        final var v1 = VolumeConverter.convert(value1, unit1, resultUnit);
-        final var v2 = VolumeConverter.convert(value2, unit2, resultUnit);
+        final var v1 = VolumeConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = VolumeConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -257,7 +258,8 @@ public class Volume extends Measurement<VolumeUnit> {
      * @param result instance where result will be stored.
      */
     public static void subtract(final Volume arg1, final Volume arg2, final Volume result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -287,7 +289,7 @@ public class Volume extends Measurement<VolumeUnit> {
     public Volume subtractAndReturnNew(final double value, final VolumeUnit unit, final VolumeUnit resultUnit) {
         final var result = new Volume();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -303,7 +305,7 @@ public class Volume extends Measurement<VolumeUnit> {
     public Volume subtractAndReturnNew(final Number value, final VolumeUnit unit, final VolumeUnit resultUnit) {
         final var result = new Volume();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -327,7 +329,7 @@ public class Volume extends Measurement<VolumeUnit> {
      * @param unit  unit of volume value.
      */
     public void subtract(final double value, final VolumeUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -338,7 +340,7 @@ public class Volume extends Measurement<VolumeUnit> {
      * @param unit  unit of volume value.
      */
     public void subtract(final Number value, final VolumeUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -16,6 +16,8 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
 
 /**
  * Does volume conversions to different units.
@@ -74,6 +76,30 @@ public class VolumeConverter {
      */
     static final double CUBIC_METER_PER_BARREL = 0.158987294928;
 
+    /**
+     * Factors to convert volume values between every pair of units, indexed by input
+     * and output unit ordinals.
+     */
+    private static final double[][] FACTORS = ConversionKernels.factors(VolumeUnit.values(),
+            (inputUnit, outputUnit) -> fromCubicMeters(toCubicMeters(1.0, inputUnit), outputUnit));
+
+    /**
+     * Converts volume values without binary floating point rounding, using exact
+     * number of cubic meters in each unit.
+     */
+    private static final ExactConversion<VolumeUnit> EXACT = new ExactConversion<>(VolumeUnit.values(),
+            unit -> new BigDecimal(switch (unit) {
+                case CUBIC_CENTIMETER, MILLILITER -> "0.000001";
+                case CUBIC_DECIMETER, LITER -> "0.001";
+                case HECTOLITER -> "0.1";
+                case CUBIC_METER -> "1";
+                case CUBIC_INCH -> "0.000016387064";
+                case PINT -> "0.000473176473";
+                case GALLON -> "0.003785411784";
+                case CUBIC_FOOT -> "0.028316846592";
+                case BARREL -> "0.158987294928";
+            }));
+
     /**
      * Constructor.
      * Prevents instantiation of helper class.
@@ -124,13 +150,16 @@ public class VolumeConverter {
      * @param result     volume instance where result will be stored.
      */
     public static void convert(final Volume input, final VolumeUnit outputUnit, final Volume result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts a volume value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      volume value.
      * @param inputUnit  input volume unit.
@@ -141,6 +170,33 @@ public class VolumeConverter {
         return BigDecimal.valueOf(convert(input.doubleValue(), inputUnit, outputUnit));
     }
 
+    /**
+     * Converts a volume value from input unit to provided output unit without binary
+     * floating point rounding.
+     * Result is computed from exact definitions of units using a single multiplication
+     * (or division when the factor between both units is not a terminating decimal) by
+     * a factor computed once for each pair of units, and it is rounded once using
+     * provided context. Hence, results are exact as long as provided context has
+     * enough precision (e.g. {@link MathContext#UNLIMITED} when factor between
+     * both units is a terminating decimal).
+     *
+     * @param input       volume value.
+     * @param inputUnit   input volume unit.
+     * @param outputUnit  output volume unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted volume value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    public static BigDecimal convert(
+            final BigDecimal input, final VolumeUnit inputUnit, final VolumeUnit outputUnit,
+            final MathContext mathContext) {
+        UnitsMetricsRegistry.conversion(MeasurementType.VOLUME, inputUnit, outputUnit, 1);
+        return EXACT.convert(input, inputUnit, outputUnit, mathContext);
+    }
+
     /**
      * Converts a volume value from input unit to provided output unit.
      *
@@ -150,35 +206,67 @@ public class VolumeConverter {
      * @return converted volume value.
      */
     public static double convert(final double input, final VolumeUnit inputUnit, final VolumeUnit outputUnit) {
-        // convert to cubic meters
-        final var cubicMeters = switch (inputUnit) {
-            case CUBIC_CENTIMETER -> cubicCentimeterToCubicMeter(input);
-            case MILLILITER -> milliliterToCubicMeter(input);
-            case CUBIC_DECIMETER -> cubicDecimeterToCubicMeter(input);
-            case LITER -> literToCubicMeter(input);
-            case HECTOLITER -> hectoliterToCubicMeter(input);
-            case CUBIC_INCH -> cubicInchToCubicMeter(input);
-            case PINT -> pintToCubicMeter(input);
-            case GALLON -> gallonToCubicMeter(input);
-            case CUBIC_FOOT -> cubicFootToCubicMeter(input);
-            case BARREL -> barrelToCubicMeter(input);
-            default -> input;
-        };
+        UnitsMetricsRegistry.conversion(MeasurementType.VOLUME, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
 
-        // convert from cubic meters to output unit
-        return switch (outputUnit) {
-            case CUBIC_CENTIMETER -> cubicMeterToCubicCentimeter(cubicMeters);
-            case MILLILITER -> cubicMeterToMilliliter(cubicMeters);
-            case CUBIC_DECIMETER -> cubicMeterToCubicDecimeter(cubicMeters);
-            case LITER -> cubicMeterToLiter(cubicMeters);
-            case HECTOLITER -> cubicMeterToHectoliter(cubicMeters);
-            case CUBIC_INCH -> cubicMeterToCubicInch(cubicMeters);
-            case PINT -> cubicMeterToPint(cubicMeters);
-            case GALLON -> cubicMeterToGallon(cubicMeters);
-            case CUBIC_FOOT -> cubicMeterToCubicFoot(cubicMeters);
-            case BARREL -> cubicMeterToBarrel(cubicMeters);
-            default -> cubicMeters;
-        };
+    /**
+     * Converts a volume value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      volume value.
+     * @param inputUnit  input volume unit.
+     * @param outputUnit output volume unit.
+     * @return converted volume value.
+     */
+    static double convertValue(final double input, final VolumeUnit inputUnit, final VolumeUnit outputUnit) {
+        return input * FACTORS[inputUnit.ordinal()][outputUnit.ordinal()];
+    }
+
+    /**
+     * Converts an array of volume values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing volume values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted volume values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input volume unit.
+     * @param outputUnit   output volume unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final VolumeUnit inputUnit, final VolumeUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.VOLUME, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining volume values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing volume values to be converted.
+     * @param output     buffer where converted volume values will be stored.
+     * @param inputUnit  input volume unit.
+     * @param outputUnit output volume unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final VolumeUnit inputUnit,
+            final VolumeUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.VOLUME, inputUnit, outputUnit, length);
     }
 
     /**
@@ -380,4 +468,50 @@ public class VolumeConverter {
     public static double barrelToCubicMeter(final double barrel) {
         return barrel * CUBIC_METER_PER_BARREL;
     }
+
+    /**
+     * Converts a volume value from provided unit to cubic meters.
+     *
+     * @param input volume value.
+     * @param unit  unit of provided volume value.
+     * @return same volume converted to cubic meters.
+     */
+    private static double toCubicMeters(final double input, final VolumeUnit unit) {
+        return switch (unit) {
+            case CUBIC_CENTIMETER -> cubicCentimeterToCubicMeter(input);
+            case MILLILITER -> milliliterToCubicMeter(input);
+            case CUBIC_DECIMETER -> cubicDecimeterToCubicMeter(input);
+            case LITER -> literToCubicMeter(input);
+            case HECTOLITER -> hectoliterToCubicMeter(input);
+            case CUBIC_INCH -> cubicInchToCubicMeter(input);
+            case PINT -> pintToCubicMeter(input);
+            case GALLON -> gallonToCubicMeter(input);
+            case CUBIC_FOOT -> cubicFootToCubicMeter(input);
+            case BARREL -> barrelToCubicMeter(input);
+            default -> input;
+        };
+    }
+
+    /**
+     * Converts a volume value expressed in cubic meters to provided unit.
+     *
+     * @param cubicMeters volume value expressed in cubic meters.
+     * @param unit        output volume unit.
+     * @return same volume converted to provided unit.
+     */
+    private static double fromCubicMeters(final double cubicMeters, final VolumeUnit unit) {
+        return switch (unit) {
+            case CUBIC_CENTIMETER -> cubicMeterToCubicCentimeter(cubicMeters);
+            case MILLILITER -> cubicMeterToMilliliter(cubicMeters);
+            case CUBIC_DECIMETER -> cubicMeterToCubicDecimeter(cubicMeters);
+            case LITER -> cubicMeterToLiter(cubicMeters);
+            case HECTOLITER -> cubicMeterToHectoliter(cubicMeters);
+            case CUBIC_INCH -> cubicMeterToCubicInch(cubicMeters);
+            case PINT -> cubicMeterToPint(cubicMeters);
+            case GALLON -> cubicMeterToGallon(cubicMeters);
+            case CUBIC_FOOT -> cubicMeterToCubicFoot(cubicMeters);
+            case BARREL -> cubicMeterToBarrel(cubicMeters);
+            default -> cubicMeters;
+        };
+    }
 }
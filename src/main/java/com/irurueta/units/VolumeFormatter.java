@@ -15,6 +15,7 @@
  */
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -78,6 +79,49 @@ public class VolumeFormatter extends MeasureFormatter<Volume, VolumeUnit> {
      */
     public static final String BARREL = "bbl";
 
+    /**
+     * Scale of metric units used to format and convert volume values.
+     */
+    private static final UnitScale<VolumeUnit> METRIC_SCALE = new UnitScale<>(
+            VolumeUnit.class, VolumeConverter::convertValue, new double[]{
+                    VolumeConverter.CUBIC_METER_PER_LITER / VolumeConverter.CUBIC_METER_PER_CUBIC_CENTIMETER,
+                    VolumeConverter.CUBIC_METER_PER_HECTOLITER / VolumeConverter.CUBIC_METER_PER_LITER,
+                    1.0 / VolumeConverter.CUBIC_METER_PER_HECTOLITER
+            },
+            new VolumeUnit[]{
+                    VolumeUnit.CUBIC_CENTIMETER, VolumeUnit.LITER, VolumeUnit.HECTOLITER, VolumeUnit.CUBIC_METER
+            });
+
+    /**
+     * Scale of imperial units used to format and convert volume values.
+     */
+    private static final UnitScale<VolumeUnit> IMPERIAL_SCALE = new UnitScale<>(
+            VolumeUnit.class, VolumeConverter::convertValue, new double[]{
+                    VolumeConverter.CUBIC_METER_PER_PINT / VolumeConverter.CUBIC_METER_PER_CUBIC_INCH,
+                    VolumeConverter.CUBIC_METER_PER_GALLON / VolumeConverter.CUBIC_METER_PER_PINT,
+                    VolumeConverter.CUBIC_METER_PER_CUBIC_FOOT / VolumeConverter.CUBIC_METER_PER_GALLON,
+                    VolumeConverter.CUBIC_METER_PER_BARREL / VolumeConverter.CUBIC_METER_PER_CUBIC_FOOT
+            },
+            new VolumeUnit[]{
+                    VolumeUnit.CUBIC_INCH, VolumeUnit.PINT, VolumeUnit.GALLON, VolumeUnit.CUBIC_FOOT, VolumeUnit.BARREL
+            });
+
+    /**
+     * Finds volume units within measurement string representations.
+     */
+    private static final UnitSymbolMatcher<VolumeUnit> UNIT_MATCHER = new UnitSymbolMatcher<VolumeUnit>()
+            .add(CUBIC_CENTIMETER, VolumeUnit.CUBIC_CENTIMETER)
+            .add(MILLILITER, VolumeUnit.MILLILITER)
+            .add(CUBIC_DECIMETER, VolumeUnit.CUBIC_DECIMETER)
+            .add(HECTOLITER, VolumeUnit.HECTOLITER)
+            .add(LITER, VolumeUnit.LITER)
+            .add(CUBIC_METER, VolumeUnit.CUBIC_METER)
+            .add(CUBIC_INCH, VolumeUnit.CUBIC_INCH)
+            .add(PINT, VolumeUnit.PINT)
+            .add(GALLON, VolumeUnit.GALLON)
+            .add(CUBIC_FOOT, VolumeUnit.CUBIC_FOOT)
+            .add(BARREL, VolumeUnit.BARREL);
+
     /**
      * Constructor.
      */
@@ -164,41 +208,35 @@ public class VolumeFormatter extends MeasureFormatter<Volume, VolumeUnit> {
      */
     @Override
     public VolumeUnit findUnit(final String source) {
-        if (source.contains(CUBIC_CENTIMETER + " ") || source.endsWith(CUBIC_CENTIMETER)) {
-            return VolumeUnit.CUBIC_CENTIMETER;
-        }
-        if (source.contains(MILLILITER + " ") || source.endsWith(MILLILITER)) {
-            return VolumeUnit.MILLILITER;
-        }
-        if (source.contains(CUBIC_DECIMETER + " ") || source.endsWith(CUBIC_DECIMETER)) {
-            return VolumeUnit.CUBIC_DECIMETER;
-        }
-        if (source.contains(HECTOLITER + " ") || source.endsWith(HECTOLITER)) {
-            return VolumeUnit.HECTOLITER;
-        }
-        if (source.contains(LITER + " ") || source.endsWith(LITER)) {
-            return VolumeUnit.LITER;
-        }
-        if (source.contains(CUBIC_METER + " ") || source.endsWith(CUBIC_METER)) {
-            return VolumeUnit.CUBIC_METER;
-        }
-        if (source.contains(CUBIC_INCH + " ") || source.endsWith(CUBIC_INCH)) {
-            return VolumeUnit.CUBIC_INCH;
-        }
-        if (source.contains(PINT + " ") || source.endsWith(PINT)) {
-            return VolumeUnit.PINT;
-        }
-        if (source.contains(GALLON + " ") || source.endsWith(GALLON)) {
-            return VolumeUnit.GALLON;
-        }
-        if (source.contains(CUBIC_FOOT + " ") || source.endsWith(CUBIC_FOOT)) {
-            return VolumeUnit.CUBIC_FOOT;
-        }
-        if (source.contains(BARREL + " ") || source.endsWith(BARREL)) {
-            return VolumeUnit.BARREL;
-        }
+        return UNIT_MATCHER.find(source);
+    }
 
-        return null;
+    /**
+     * Attempts to determine a volume unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    VolumeUnit findUnit(final CharSequence source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
+    }
+
+    /**
+     * Attempts to determine a volume unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    VolumeUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return UNIT_MATCHER.find(source, start, end);
     }
 
     /**
@@ -232,25 +270,8 @@ public class VolumeFormatter extends MeasureFormatter<Volume, VolumeUnit> {
      */
     public String formatAndConvertMetric(final Number value, final VolumeUnit unit) {
         final var v = value.doubleValue();
-
-        final var cubicCentimeter = VolumeConverter.convert(v, unit, VolumeUnit.CUBIC_CENTIMETER);
-        if (Math.abs(cubicCentimeter) < (VolumeConverter.CUBIC_METER_PER_LITER
-                / VolumeConverter.CUBIC_METER_PER_CUBIC_CENTIMETER)) {
-            return format(cubicCentimeter, VolumeUnit.CUBIC_CENTIMETER);
-        }
-
-        final var liter = VolumeConverter.convert(v, unit, VolumeUnit.LITER);
-        if (Math.abs(liter) < (VolumeConverter.CUBIC_METER_PER_HECTOLITER / VolumeConverter.CUBIC_METER_PER_LITER)) {
-            return format(liter, VolumeUnit.LITER);
-        }
-
-        final var hectoliter = VolumeConverter.convert(v, unit, VolumeUnit.HECTOLITER);
-        if (Math.abs(hectoliter) < (1.0 / VolumeConverter.CUBIC_METER_PER_HECTOLITER)) {
-            return format(hectoliter, VolumeUnit.HECTOLITER);
-        }
-
-        final var cubicMeter = VolumeConverter.convert(v, unit, VolumeUnit.CUBIC_METER);
-        return format(cubicMeter, VolumeUnit.CUBIC_METER);
+        final var displayUnit = METRIC_SCALE.select(v, unit);
+        return format(VolumeConverter.convertValue(v, unit, displayUnit), displayUnit);
     }
 
     /**
@@ -265,30 +286,8 @@ public class VolumeFormatter extends MeasureFormatter<Volume, VolumeUnit> {
      */
     public String formatAndConvertImperial(final Number value, final VolumeUnit unit) {
         final var v = value.doubleValue();
-
-        final var cubicInch = VolumeConverter.convert(v, unit, VolumeUnit.CUBIC_INCH);
-        if (Math.abs(cubicInch) < (VolumeConverter.CUBIC_METER_PER_PINT / VolumeConverter.CUBIC_METER_PER_CUBIC_INCH)) {
-            return format(cubicInch, VolumeUnit.CUBIC_INCH);
-        }
-
-        final var pint = VolumeConverter.convert(v, unit, VolumeUnit.PINT);
-        if (Math.abs(pint) < (VolumeConverter.CUBIC_METER_PER_GALLON / VolumeConverter.CUBIC_METER_PER_PINT)) {
-            return format(pint, VolumeUnit.PINT);
-        }
-
-        final var gallon = VolumeConverter.convert(v, unit, VolumeUnit.GALLON);
-        if (Math.abs(gallon) < (VolumeConverter.CUBIC_METER_PER_CUBIC_FOOT / VolumeConverter.CUBIC_METER_PER_GALLON)) {
-            return format(gallon, VolumeUnit.GALLON);
-        }
-
-        final var cubicFoot = VolumeConverter.convert(v, unit, VolumeUnit.CUBIC_FOOT);
-        if (Math.abs(cubicFoot) < (VolumeConverter.CUBIC_METER_PER_BARREL
-                / VolumeConverter.CUBIC_METER_PER_CUBIC_FOOT)) {
-            return format(cubicFoot, VolumeUnit.CUBIC_FOOT);
-        }
-
-        final var barrel = VolumeConverter.convert(v, unit, VolumeUnit.BARREL);
-        return format(barrel, VolumeUnit.BARREL);
+        final var displayUnit = IMPERIAL_SCALE.select(v, unit);
+        return format(VolumeConverter.convertValue(v, unit, displayUnit), displayUnit);
     }
 
     /**
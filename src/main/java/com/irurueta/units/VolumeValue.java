@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable volume value and unit.
+ * Unlike {@link Volume}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value volume value.
+ * @param unit  unit of volume.
+ */
+public record VolumeValue(double value, VolumeUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value volume value.
+     * @param unit  unit of volume.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public VolumeValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable volume value from provided mutable volume.
+     *
+     * @param volume volume to copy value and unit from.
+     * @return a new immutable volume value.
+     * @throws NullPointerException     if provided volume is null.
+     * @throws IllegalArgumentException if provided volume has no unit.
+     * @throws IllegalStateException    if provided volume has no value.
+     */
+    public static VolumeValue from(final Volume volume) {
+        return new VolumeValue(volume.getValueAsDouble(), volume.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable volume.
+     *
+     * @return a new mutable volume containing this value and unit.
+     */
+    public Volume toVolume() {
+        final var result = new Volume();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this volume to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return a volume value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public VolumeValue convertTo(final VolumeUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new VolumeValue(VolumeConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided volume value and unit to this instance.
+     *
+     * @param value volume value to be added.
+     * @param unit  unit of volume value to be added.
+     * @return a new volume value expressed in the unit of this instance.
+     */
+    public VolumeValue add(final double value, final VolumeUnit unit) {
+        return new VolumeValue(Volume.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided volume to this instance.
+     *
+     * @param other volume to be added.
+     * @return a new volume value expressed in the unit of this instance.
+     */
+    public VolumeValue add(final VolumeValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided volume to this instance.
+     *
+     * @param other      volume to be added.
+     * @param resultUnit unit of returned volume.
+     * @return a new volume value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public VolumeValue add(final VolumeValue other, final VolumeUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new VolumeValue(Volume.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided volume value and unit from this instance.
+     *
+     * @param value volume value to be subtracted.
+     * @param unit  unit of volume value to be subtracted.
+     * @return a new volume value expressed in the unit of this instance.
+     */
+    public VolumeValue subtract(final double value, final VolumeUnit unit) {
+        return new VolumeValue(Volume.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided volume from this instance.
+     *
+     * @param other volume to be subtracted.
+     * @return a new volume value expressed in the unit of this instance.
+     */
+    public VolumeValue subtract(final VolumeValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided volume from this instance.
+     *
+     * @param other      volume to be subtracted.
+     * @param resultUnit unit of returned volume.
+     * @return a new volume value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public VolumeValue subtract(final VolumeValue other, final VolumeUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new VolumeValue(Volume.subtract(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Determines if two volume values are equal up to a certain tolerance.
+     * If needed, provided volume is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another volume to compare.
+     * @param tolerance amount of tolerance to determine whether both volume values are
+     *                  equal or not.
+     * @return true if provided volume is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final VolumeValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = VolumeConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
@@ -60,8 +60,8 @@ public class Weight extends Measurement<WeightUnit> {
             return false;
         }
 
-        final var otherValue = WeightConverter.convert(other.getValue().doubleValue(), other.getUnit(), getUnit());
-        return Math.abs(getValue().doubleValue() - otherValue) <= tolerance;
+        final var otherValue = WeightConverter.convertValue(other.getValueAsDouble(), other.getUnit(), getUnit());
+        return Math.abs(getValueAsDouble() - otherValue) <= tolerance;
     }
 
     /**
@@ -78,8 +78,8 @@ public class Weight extends Measurement<WeightUnit> {
             final double value1, final WeightUnit unit1,
             final double value2, final WeightUnit unit2,
             final WeightUnit resultUnit) {
-        final var v1 = WeightConverter.convert(value1, unit1, resultUnit);
-        final var v2 = WeightConverter.convert(value2, unit2, resultUnit);
+        final var v1 = WeightConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = WeightConverter.convertValue(value2, unit2, resultUnit);
         return v1 + v2;
     }
 
@@ -108,7 +108,8 @@ public class Weight extends Measurement<WeightUnit> {
      * @param result instance where result will be stored.
      */
     public static void add(final Weight arg1, final Weight arg2, final Weight result) {
-        result.setValue(add(arg1.getValue(), arg1.getUnit(), arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(add(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -138,7 +139,7 @@ public class Weight extends Measurement<WeightUnit> {
     public Weight addAndReturnNew(final double value, final WeightUnit unit, final WeightUnit resultUnit) {
         final var result = new Weight();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -154,7 +155,7 @@ public class Weight extends Measurement<WeightUnit> {
     public Weight addAndReturnNew(final Number value, final WeightUnit unit, final WeightUnit resultUnit) {
         final var result = new Weight();
         result.setUnit(resultUnit);
-        result.setValue(add(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -176,7 +177,7 @@ public class Weight extends Measurement<WeightUnit> {
      * @param unit  unit of weight value.
      */
     public void add(final double value, final WeightUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -186,7 +187,7 @@ public class Weight extends Measurement<WeightUnit> {
      * @param unit  unit of weight value.
      */
     public void add(final Number value, final WeightUnit unit) {
-        setValue(add(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(add(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -222,8 +223,8 @@ public class Weight extends Measurement<WeightUnit> {
             final double value1, final WeightUnit unit1,
             final double value2, final WeightUnit unit2,
             final WeightUnit resultUnit) {
-        final var v1 = WeightConverter.convert(value1, unit1, resultUnit);
-        final var v2 = WeightConverter.convert(value2, unit2, resultUnit);
+        final var v1 = WeightConverter.convertValue(value1, unit1, resultUnit);
+        final var v2 = WeightConverter.convertValue(value2, unit2, resultUnit);
         return v1 - v2;
     }
 
@@ -252,8 +253,8 @@ public class Weight extends Measurement<WeightUnit> {
      * @param result instance where result will be stored.
      */
     public static void subtract(final Weight arg1, final Weight arg2, final Weight result) {
-        result.setValue(subtract(arg1.getValue(), arg1.getUnit(),
-                arg2.getValue(), arg2.getUnit(), result.getUnit()));
+        result.setValueAsDouble(subtract(arg1.getValueAsDouble(), arg1.getUnit(),
+                arg2.getValueAsDouble(), arg2.getUnit(), result.getUnit()));
     }
 
     /**
@@ -283,7 +284,7 @@ public class Weight extends Measurement<WeightUnit> {
     public Weight subtractAndReturnNew(final double value, final WeightUnit unit, final WeightUnit resultUnit) {
         final var result = new Weight();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue().doubleValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, resultUnit));
         return result;
     }
 
@@ -299,7 +300,7 @@ public class Weight extends Measurement<WeightUnit> {
     public Weight subtractAndReturnNew(final Number value, final WeightUnit unit, final WeightUnit resultUnit) {
         final var result = new Weight();
         result.setUnit(resultUnit);
-        result.setValue(subtract(getValue(), getUnit(), value, unit, resultUnit));
+        result.setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, resultUnit));
         return result;
     }
 
@@ -323,7 +324,7 @@ public class Weight extends Measurement<WeightUnit> {
      * @param unit  unit of weight value.
      */
     public void subtract(final double value, final WeightUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value, unit, getUnit()));
     }
 
     /**
@@ -334,7 +335,7 @@ public class Weight extends Measurement<WeightUnit> {
      * @param unit  unit of weight value.
      */
     public void subtract(final Number value, final WeightUnit unit) {
-        setValue(subtract(getValue(), getUnit(), value, unit, getUnit()));
+        setValueAsDouble(subtract(getValueAsDouble(), getUnit(), value.doubleValue(), unit, getUnit()));
     }
 
     /**
@@ -16,6 +16,8 @@
 package com.irurueta.units;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
 
 /**
  * Does weight conversions to different units.
@@ -79,6 +81,33 @@ public class WeightConverter {
      */
     static final double GRAMS_PER_OUNCE = 28.35;
 
+    /**
+     * Factors to convert weight values between every pair of units, indexed by input
+     * and output unit ordinals.
+     */
+    private static final double[][] FACTORS = ConversionKernels.factors(WeightUnit.values(),
+            (inputUnit, outputUnit) -> fromGrams(toGrams(1.0, inputUnit), outputUnit));
+
+    /**
+     * Converts weight values without binary floating point rounding, using exact
+     * number of grams in each unit.
+     */
+    private static final ExactConversion<WeightUnit> EXACT = new ExactConversion<>(WeightUnit.values(),
+            unit -> new BigDecimal(switch (unit) {
+                case PICOGRAM -> "0.000000000001";
+                case NANOGRAM -> "0.000000001";
+                case MICROGRAM -> "0.000001";
+                case MILLIGRAM -> "0.001";
+                case GRAM -> "1";
+                case KILOGRAM -> "1000";
+                case TONNE -> "1000000";
+                case MEGATONNE -> "1000000000000";
+                case US_TON -> "907000";
+                case UK_TON -> "1016000";
+                case POUND -> "453.59";
+                case OUNCE -> "28.35";
+            }));
+
     /**
      * Constructor.
      * Prevents instantiation of helper class.
@@ -129,13 +158,16 @@ public class WeightConverter {
      */
     public static void convert(
             final Weight input, final WeightUnit outputUnit, final Weight result) {
-        final var value = convert(input.getValue(), input.getUnit(), outputUnit);
-        result.setValue(value);
+        final var value = convert(input.getValueAsDouble(), input.getUnit(), outputUnit);
+        result.setValueAsDouble(value);
         result.setUnit(outputUnit);
     }
 
     /**
      * Converts a weight value from input unit to provided output unit.
+     * Value is converted using double precision and the result is only wrapped into
+     * a {@link BigDecimal}, hence no decimal precision is gained.
+     * Use the primitive overload instead to avoid allocations.
      *
      * @param input      weight value.
      * @param inputUnit  input weight unit.
@@ -146,6 +178,33 @@ public class WeightConverter {
         return BigDecimal.valueOf(convert(input.doubleValue(), inputUnit, outputUnit));
     }
 
+    /**
+     * Converts a weight value from input unit to provided output unit without binary
+     * floating point rounding.
+     * Result is computed from exact definitions of units using a single multiplication
+     * (or division when the factor between both units is not a terminating decimal) by
+     * a factor computed once for each pair of units, and it is rounded once using
+     * provided context. Hence, results are exact as long as provided context has
+     * enough precision (e.g. {@link MathContext#UNLIMITED} when factor between
+     * both units is a terminating decimal).
+     *
+     * @param input       weight value.
+     * @param inputUnit   input weight unit.
+     * @param outputUnit  output weight unit.
+     * @param mathContext precision and rounding mode of result.
+     * @return converted weight value.
+     * @throws ArithmeticException if result is not a terminating decimal and
+     *                             precision of provided context is unlimited, or if
+     *                             rounding is required but rounding mode is
+     *                             {@link java.math.RoundingMode#UNNECESSARY}.
+     */
+    public static BigDecimal convert(
+            final BigDecimal input, final WeightUnit inputUnit, final WeightUnit outputUnit,
+            final MathContext mathContext) {
+        UnitsMetricsRegistry.conversion(MeasurementType.WEIGHT, inputUnit, outputUnit, 1);
+        return EXACT.convert(input, inputUnit, outputUnit, mathContext);
+    }
+
     /**
      * Converts a weight value from input unit to provided output unit.
      *
@@ -155,38 +214,67 @@ public class WeightConverter {
      * @return converted weight value.
      */
     public static double convert(final double input, final WeightUnit inputUnit, final WeightUnit outputUnit) {
-        // convert to grams
-        final var grams = switch (inputUnit) {
-            case PICOGRAM -> picogramToGram(input);
-            case NANOGRAM -> nanogramToGram(input);
-            case MICROGRAM -> microgramToGram(input);
-            case MILLIGRAM -> milligramToGram(input);
-            case KILOGRAM -> kilogramToGram(input);
-            case TONNE -> tonneToGram(input);
-            case MEGATONNE -> megatonneToGram(input);
-            case US_TON -> usTonToGram(input);
-            case UK_TON -> ukTonToGram(input);
-            case POUND -> poundToGram(input);
-            case OUNCE -> ounceToGram(input);
-            default -> input;
-        };
+        UnitsMetricsRegistry.conversion(MeasurementType.WEIGHT, inputUnit, outputUnit, 1);
+        return convertValue(input, inputUnit, outputUnit);
+    }
 
-        // convert from gram to output unit
-        return switch (outputUnit) {
-            case PICOGRAM -> gramToPicogram(grams);
-            case NANOGRAM -> gramToNanogram(grams);
-            case MICROGRAM -> gramToMicrogram(grams);
-            case MILLIGRAM -> gramToMilligram(grams);
-            case KILOGRAM -> gramToKilogram(grams);
-            case TONNE -> gramToTonne(grams);
-            case MEGATONNE -> gramToMegatonne(grams);
-            case US_TON -> gramToUsTon(grams);
-            case UK_TON -> gramToUkTon(grams);
-            case POUND -> gramToPound(grams);
-            case OUNCE -> gramToOunce(grams);
-            default -> grams;
-        };
+    /**
+     * Converts a weight value from input unit to provided output unit.
+     * Conversions are not notified to registered metrics.
+     *
+     * @param input      weight value.
+     * @param inputUnit  input weight unit.
+     * @param outputUnit output weight unit.
+     * @return converted weight value.
+     */
+    static double convertValue(final double input, final WeightUnit inputUnit, final WeightUnit outputUnit) {
+        return input * FACTORS[inputUnit.ordinal()][outputUnit.ordinal()];
+    }
 
+    /**
+     * Converts an array of weight values from input unit to provided output unit.
+     * Conversion between both units is resolved once for all values, and input and
+     * output arrays can be the same instance to convert values in place.
+     *
+     * @param input        array containing weight values to be converted.
+     * @param inputOffset  position of first value to be converted within input array.
+     * @param output       array where converted weight values will be stored.
+     * @param outputOffset position where first converted value will be stored within output array.
+     * @param length       number of values to be converted.
+     * @param inputUnit    input weight unit.
+     * @param outputUnit   output weight unit.
+     * @throws IllegalArgumentException if offsets or length are negative or exceed array bounds.
+     */
+    public static void convert(
+            final double[] input, final int inputOffset, final double[] output, final int outputOffset,
+            final int length, final WeightUnit inputUnit, final WeightUnit outputUnit) {
+        ConversionKernels.scale(input, inputOffset, output, outputOffset, length,
+                FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.WEIGHT, inputUnit, outputUnit, length);
+    }
+
+    /**
+     * Converts all remaining weight values of input buffer from input unit to
+     * provided output unit and stores them into output buffer.
+     * Buffers can be backed by off-heap memory (e.g. views of direct byte buffers read
+     * from a channel), in which case values are converted without being copied into
+     * arrays.
+     * Positions of both buffers are advanced by the number of converted values.
+     * Input and output buffers can be the same instance to convert values in place.
+     *
+     * @param input      buffer containing weight values to be converted.
+     * @param output     buffer where converted weight values will be stored.
+     * @param inputUnit  input weight unit.
+     * @param outputUnit output weight unit.
+     * @throws IllegalArgumentException if output buffer has less remaining space than
+     *                                  values remaining in input buffer.
+     */
+    public static void convert(
+            final DoubleBuffer input, final DoubleBuffer output, final WeightUnit inputUnit,
+            final WeightUnit outputUnit) {
+        final var length = input.remaining();
+        ConversionKernels.scale(input, output, FACTORS[inputUnit.ordinal()][outputUnit.ordinal()]);
+        UnitsMetricsRegistry.conversion(MeasurementType.WEIGHT, inputUnit, outputUnit, length);
     }
 
     /**
@@ -408,4 +496,52 @@ public class WeightConverter {
     public static double ounceToGram(final double ounce) {
         return ounce * GRAMS_PER_OUNCE;
     }
+
+    /**
+     * Converts a weight value from provided unit to grams.
+     *
+     * @param input weight value.
+     * @param unit  unit of provided weight value.
+     * @return same weight converted to grams.
+     */
+    private static double toGrams(final double input, final WeightUnit unit) {
+        return switch (unit) {
+            case PICOGRAM -> picogramToGram(input);
+            case NANOGRAM -> nanogramToGram(input);
+            case MICROGRAM -> microgramToGram(input);
+            case MILLIGRAM -> milligramToGram(input);
+            case KILOGRAM -> kilogramToGram(input);
+            case TONNE -> tonneToGram(input);
+            case MEGATONNE -> megatonneToGram(input);
+            case US_TON -> usTonToGram(input);
+            case UK_TON -> ukTonToGram(input);
+            case POUND -> poundToGram(input);
+            case OUNCE -> ounceToGram(input);
+            default -> input;
+        };
+    }
+
+    /**
+     * Converts a weight value expressed in grams to provided unit.
+     *
+     * @param grams weight value expressed in grams.
+     * @param unit  output weight unit.
+     * @return same weight converted to provided unit.
+     */
+    private static double fromGrams(final double grams, final WeightUnit unit) {
+        return switch (unit) {
+            case PICOGRAM -> gramToPicogram(grams);
+            case NANOGRAM -> gramToNanogram(grams);
+            case MICROGRAM -> gramToMicrogram(grams);
+            case MILLIGRAM -> gramToMilligram(grams);
+            case KILOGRAM -> gramToKilogram(grams);
+            case TONNE -> gramToTonne(grams);
+            case MEGATONNE -> gramToMegatonne(grams);
+            case US_TON -> gramToUsTon(grams);
+            case UK_TON -> gramToUkTon(grams);
+            case POUND -> gramToPound(grams);
+            case OUNCE -> gramToOunce(grams);
+            default -> grams;
+        };
+    }
 }
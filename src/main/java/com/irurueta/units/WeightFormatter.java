@@ -15,6 +15,7 @@
  */
 package com.irurueta.units;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -78,6 +79,65 @@ public class WeightFormatter extends MeasureFormatter<Weight, WeightUnit> {
      */
     public static final String OUNCE = "oz";
 
+    /**
+     * Scale of metric units used to format and convert weight values.
+     */
+    private static final UnitScale<WeightUnit> METRIC_SCALE = new UnitScale<>(
+            WeightUnit.class, WeightConverter::convertValue, new double[]{
+                    WeightConverter.GRAMS_PER_NANOGRAM / WeightConverter.GRAMS_PER_PICOGRAM,
+                    WeightConverter.GRAMS_PER_MICROGRAM / WeightConverter.GRAMS_PER_NANOGRAM,
+                    WeightConverter.GRAMS_PER_MILLIGRAM / WeightConverter.GRAMS_PER_MICROGRAM,
+                    1.0 / WeightConverter.GRAMS_PER_MILLIGRAM,
+                    WeightConverter.GRAMS_PER_KILOGRAM,
+                    WeightConverter.GRAMS_PER_TONNE / WeightConverter.GRAMS_PER_KILOGRAM,
+                    WeightConverter.GRAMS_PER_MEGATONNE / WeightConverter.GRAMS_PER_TONNE
+            },
+            new WeightUnit[]{
+                    WeightUnit.PICOGRAM, WeightUnit.NANOGRAM, WeightUnit.MICROGRAM, WeightUnit.MILLIGRAM,
+                    WeightUnit.GRAM, WeightUnit.KILOGRAM, WeightUnit.TONNE, WeightUnit.MEGATONNE
+            });
+
+    /**
+     * Scale of imperial units used to format and convert weight values in the UK.
+     */
+    private static final UnitScale<WeightUnit> UK_IMPERIAL_SCALE = new UnitScale<>(
+            WeightUnit.class, WeightConverter::convertValue, new double[]{
+                    WeightConverter.GRAMS_PER_POUND / WeightConverter.GRAMS_PER_OUNCE,
+                    WeightConverter.GRAMS_PER_UK_TON / WeightConverter.GRAMS_PER_POUND
+            },
+            new WeightUnit[]{
+                    WeightUnit.OUNCE, WeightUnit.POUND, WeightUnit.UK_TON
+            });
+
+    /**
+     * Scale of imperial units used to format and convert weight values outside the UK.
+     */
+    private static final UnitScale<WeightUnit> US_IMPERIAL_SCALE = new UnitScale<>(
+            WeightUnit.class, WeightConverter::convertValue, new double[]{
+                    WeightConverter.GRAMS_PER_POUND / WeightConverter.GRAMS_PER_OUNCE,
+                    WeightConverter.GRAMS_PER_US_TON / WeightConverter.GRAMS_PER_POUND
+            },
+            new WeightUnit[]{
+                    WeightUnit.OUNCE, WeightUnit.POUND, WeightUnit.US_TON
+            });
+
+    /**
+     * Finds weight units within measurement string representations.
+     * Ton symbol is registered as US ton and resolved depending on locale.
+     */
+    private static final UnitSymbolMatcher<WeightUnit> UNIT_MATCHER = new UnitSymbolMatcher<WeightUnit>()
+            .add(PICOGRAM, WeightUnit.PICOGRAM)
+            .add(NANOGRAM, WeightUnit.NANOGRAM)
+            .add(MICROGRAM, WeightUnit.MICROGRAM)
+            .add(MILLIGRAM, WeightUnit.MILLIGRAM)
+            .add(KILOGRAM, WeightUnit.KILOGRAM)
+            .add(MEGATONNE, WeightUnit.MEGATONNE)
+            .add(POUND, WeightUnit.POUND)
+            .add(OUNCE, WeightUnit.OUNCE)
+            .add(US_UK_TON, WeightUnit.US_TON)
+            .add(TONNE, WeightUnit.TONNE)
+            .add(GRAM, WeightUnit.GRAM);
+
     /**
      * Constructor.
      */
@@ -166,50 +226,35 @@ public class WeightFormatter extends MeasureFormatter<Weight, WeightUnit> {
      */
     @Override
     public WeightUnit findUnit(final String source) {
-        if (source.contains(PICOGRAM + " ") || source.endsWith(PICOGRAM)) {
-            return WeightUnit.PICOGRAM;
-        }
-        if (source.contains(NANOGRAM + " ") || source.endsWith(NANOGRAM)) {
-            return WeightUnit.NANOGRAM;
-        }
-        if (source.contains(MICROGRAM + " ") || source.endsWith(MICROGRAM)) {
-            return WeightUnit.MICROGRAM;
-        }
-        if (source.contains(MILLIGRAM + " ") || source.endsWith(MILLIGRAM)) {
-            return WeightUnit.MILLIGRAM;
-        }
-        if (source.contains(KILOGRAM + " ") || source.endsWith(KILOGRAM)) {
-            return WeightUnit.KILOGRAM;
-        }
-        if (source.contains(MEGATONNE + " ") || source.endsWith(MEGATONNE)) {
-            return WeightUnit.MEGATONNE;
-        }
-        if (source.contains(POUND + " ") || source.endsWith(POUND)) {
-            return WeightUnit.POUND;
-        }
-        if (source.contains(OUNCE + " ") || source.endsWith(OUNCE)) {
-            return WeightUnit.OUNCE;
-        }
-
-        if (source.contains(US_UK_TON + " ") || source.endsWith(US_UK_TON)) {
-            final var locale = getLocale();
-            if (Locale.UK.getCountry().equals(locale.getCountry())) {
-                // UK
-                return WeightUnit.UK_TON;
-            } else {
-                // US
-                return WeightUnit.US_TON;
-            }
-        }
+        return resolveTon(UNIT_MATCHER.find(source));
+    }
 
-        if (source.contains(TONNE + " ") || source.endsWith(TONNE)) {
-            return WeightUnit.TONNE;
-        }
-        if (source.contains(GRAM + " ") || source.endsWith(GRAM)) {
-            return WeightUnit.GRAM;
-        }
+    /**
+     * Attempts to determine a weight unit within a region of a measurement
+     * representation without creating a substring.
+     *
+     * @param source a measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    WeightUnit findUnit(final CharSequence source, final int start, final int end) {
+        return resolveTon(UNIT_MATCHER.find(source, start, end));
+    }
 
-        return null;
+    /**
+     * Attempts to determine a weight unit within a region of a UTF-8 encoded
+     * measurement representation without decoding it.
+     *
+     * @param source buffer containing UTF-8 encoded measurement representation.
+     * @param start  position where region starts (inclusive).
+     * @param end    position where region ends (exclusive).
+     * @return a unit, or null if none can be determined.
+     */
+    @Override
+    WeightUnit findUnit(final ByteBuffer source, final int start, final int end) {
+        return resolveTon(UNIT_MATCHER.find(source, start, end));
     }
 
     /**
@@ -246,44 +291,8 @@ public class WeightFormatter extends MeasureFormatter<Weight, WeightUnit> {
      */
     public String formatAndConvertMetric(final Number value, final WeightUnit unit) {
         final var v = value.doubleValue();
-
-        final var picogram = WeightConverter.convert(v, unit, WeightUnit.PICOGRAM);
-        if (Math.abs(picogram) < (WeightConverter.GRAMS_PER_NANOGRAM / WeightConverter.GRAMS_PER_PICOGRAM)) {
-            return format(picogram, WeightUnit.PICOGRAM);
-        }
-
-        final var nanogram = WeightConverter.convert(v, unit, WeightUnit.NANOGRAM);
-        if (Math.abs(nanogram) < (WeightConverter.GRAMS_PER_MICROGRAM / WeightConverter.GRAMS_PER_NANOGRAM)) {
-            return format(nanogram, WeightUnit.NANOGRAM);
-        }
-
-        final var microgram = WeightConverter.convert(v, unit, WeightUnit.MICROGRAM);
-        if (Math.abs(microgram) < (WeightConverter.GRAMS_PER_MILLIGRAM / WeightConverter.GRAMS_PER_MICROGRAM)) {
-            return format(microgram, WeightUnit.MICROGRAM);
-        }
-
-        final var milligram = WeightConverter.convert(v, unit, WeightUnit.MILLIGRAM);
-        if (Math.abs(milligram) < (1.0 / WeightConverter.GRAMS_PER_MILLIGRAM)) {
-            return format(milligram, WeightUnit.MILLIGRAM);
-        }
-
-        final var gram = WeightConverter.convert(v, unit, WeightUnit.GRAM);
-        if (Math.abs(gram) < WeightConverter.GRAMS_PER_KILOGRAM) {
-            return format(gram, WeightUnit.GRAM);
-        }
-
-        final var kilogram = WeightConverter.convert(v, unit, WeightUnit.KILOGRAM);
-        if (Math.abs(kilogram) < (WeightConverter.GRAMS_PER_TONNE / WeightConverter.GRAMS_PER_KILOGRAM)) {
-            return format(kilogram, WeightUnit.KILOGRAM);
-        }
-
-        final var tonne = WeightConverter.convert(v, unit, WeightUnit.TONNE);
-        if (Math.abs(tonne) < (WeightConverter.GRAMS_PER_MEGATONNE / WeightConverter.GRAMS_PER_TONNE)) {
-            return format(tonne, WeightUnit.TONNE);
-        }
-
-        final var megatonne = WeightConverter.convert(v, unit, WeightUnit.MEGATONNE);
-        return format(megatonne, WeightUnit.MEGATONNE);
+        final var displayUnit = METRIC_SCALE.select(v, unit);
+        return format(WeightConverter.convertValue(v, unit, displayUnit), displayUnit);
     }
 
 
@@ -300,32 +309,10 @@ public class WeightFormatter extends MeasureFormatter<Weight, WeightUnit> {
      */
     public String formatAndConvertImperial(final Number value, final WeightUnit unit) {
         final var v = value.doubleValue();
-
-        final var ounce = WeightConverter.convert(v, unit, WeightUnit.OUNCE);
-        if (Math.abs(ounce) < (WeightConverter.GRAMS_PER_POUND / WeightConverter.GRAMS_PER_OUNCE)) {
-            return format(ounce, WeightUnit.OUNCE);
-        }
-
-        final var pound = WeightConverter.convert(v, unit, WeightUnit.POUND);
-
-        final var locale = getLocale();
-        if (Locale.UK.getCountry().equals(locale.getCountry())) {
-            // UK
-            if (Math.abs(pound) < (WeightConverter.GRAMS_PER_UK_TON / WeightConverter.GRAMS_PER_POUND)) {
-                return format(pound, WeightUnit.POUND);
-            }
-
-            final var ton = WeightConverter.convert(v, unit, WeightUnit.UK_TON);
-            return format(ton, WeightUnit.UK_TON);
-        } else {
-            // US
-            if (Math.abs(pound) < (WeightConverter.GRAMS_PER_US_TON / WeightConverter.GRAMS_PER_POUND)) {
-                return format(pound, WeightUnit.POUND);
-            }
-
-            final var ton = WeightConverter.convert(v, unit, WeightUnit.US_TON);
-            return format(ton, WeightUnit.US_TON);
-        }
+        final var scale = Locale.UK.getCountry().equals(getLocale().getCountry()) ? UK_IMPERIAL_SCALE
+                : US_IMPERIAL_SCALE;
+        final var displayUnit = scale.select(v, unit);
+        return format(WeightConverter.convertValue(v, unit, displayUnit), displayUnit);
     }
 
     /**
@@ -350,4 +337,23 @@ public class WeightFormatter extends MeasureFormatter<Weight, WeightUnit> {
             default -> GRAM;
         };
     }
+
+    /**
+     * Resolves found unit taking into account that the same symbol is used for UK
+     * and US tons, hence UK tons are assumed when using UK locale.
+     *
+     * @param unit found unit.
+     * @return resolved unit.
+     */
+    private WeightUnit resolveTon(final WeightUnit unit) {
+        if (unit == WeightUnit.US_TON) {
+            // same symbol is used for UK and US tons
+            final var locale = getLocale();
+            if (Locale.UK.getCountry().equals(locale.getCountry())) {
+                // UK
+                return WeightUnit.UK_TON;
+            }
+        }
+        return unit;
+    }
 }
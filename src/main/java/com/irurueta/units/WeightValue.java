@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import java.io.Serializable;
+
+/**
+ * Immutable weight value and unit.
+ * Unlike {@link Weight}, instances of this class can be safely shared among threads
+ * or cached, and all operations return new instances.
+ *
+ * @param value weight value.
+ * @param unit  unit of weight.
+ */
+public record WeightValue(double value, WeightUnit unit) implements Serializable {
+
+    /**
+     * Constructor.
+     *
+     * @param value weight value.
+     * @param unit  unit of weight.
+     * @throws IllegalArgumentException if unit is null.
+     */
+    public WeightValue {
+        if (unit == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Creates an immutable weight value from provided mutable weight.
+     *
+     * @param weight weight to copy value and unit from.
+     * @return a new immutable weight value.
+     * @throws NullPointerException     if provided weight is null.
+     * @throws IllegalArgumentException if provided weight has no unit.
+     * @throws IllegalStateException    if provided weight has no value.
+     */
+    public static WeightValue from(final Weight weight) {
+        return new WeightValue(weight.getValueAsDouble(), weight.getUnit());
+    }
+
+    /**
+     * Converts this instance into a mutable weight.
+     *
+     * @return a new mutable weight containing this value and unit.
+     */
+    public Weight toWeight() {
+        final var result = new Weight();
+        result.setValueAsDouble(value);
+        result.setUnit(unit);
+        return result;
+    }
+
+    /**
+     * Converts this weight to provided unit.
+     *
+     * @param outputUnit unit to convert to.
+     * @return a weight value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public WeightValue convertTo(final WeightUnit outputUnit) {
+        if (outputUnit == unit) {
+            return this;
+        }
+        if (outputUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new WeightValue(WeightConverter.convert(value, unit, outputUnit), outputUnit);
+    }
+
+    /**
+     * Adds provided weight value and unit to this instance.
+     *
+     * @param value weight value to be added.
+     * @param unit  unit of weight value to be added.
+     * @return a new weight value expressed in the unit of this instance.
+     */
+    public WeightValue add(final double value, final WeightUnit unit) {
+        return new WeightValue(Weight.add(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Adds provided weight to this instance.
+     *
+     * @param other weight to be added.
+     * @return a new weight value expressed in the unit of this instance.
+     */
+    public WeightValue add(final WeightValue other) {
+        return add(other, unit);
+    }
+
+    /**
+     * Adds provided weight to this instance.
+     *
+     * @param other      weight to be added.
+     * @param resultUnit unit of returned weight.
+     * @return a new weight value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public WeightValue add(final WeightValue other, final WeightUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new WeightValue(Weight.add(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Subtracts provided weight value and unit from this instance.
+     *
+     * @param value weight value to be subtracted.
+     * @param unit  unit of weight value to be subtracted.
+     * @return a new weight value expressed in the unit of this instance.
+     */
+    public WeightValue subtract(final double value, final WeightUnit unit) {
+        return new WeightValue(Weight.subtract(this.value, this.unit, value, unit, this.unit), this.unit);
+    }
+
+    /**
+     * Subtracts provided weight from this instance.
+     *
+     * @param other weight to be subtracted.
+     * @return a new weight value expressed in the unit of this instance.
+     */
+    public WeightValue subtract(final WeightValue other) {
+        return subtract(other, unit);
+    }
+
+    /**
+     * Subtracts provided weight from this instance.
+     *
+     * @param other      weight to be subtracted.
+     * @param resultUnit unit of returned weight.
+     * @return a new weight value expressed in provided unit.
+     * @throws IllegalArgumentException if provided unit is null.
+     */
+    public WeightValue subtract(final WeightValue other, final WeightUnit resultUnit) {
+        if (resultUnit == null) {
+            throw new IllegalArgumentException();
+        }
+        return new WeightValue(Weight.subtract(value, unit, other.value, other.unit, resultUnit), resultUnit);
+    }
+
+    /**
+     * Determines if two weight values are equal up to a certain tolerance.
+     * If needed, provided weight is converted to the unit of this instance to
+     * compare both values.
+     *
+     * @param other     another weight to compare.
+     * @param tolerance amount of tolerance to determine whether both weight values are
+     *                  equal or not.
+     * @return true if provided weight is assumed to be equal to this instance, false otherwise.
+     */
+    public boolean equals(final WeightValue other, final double tolerance) {
+        if (other == null) {
+            return false;
+        }
+        if (other.unit == unit) {
+            return Math.abs(value - other.value) <= tolerance;
+        }
+
+        final var otherValue = WeightConverter.convertValue(other.value, other.unit, unit);
+        return Math.abs(value - otherValue) <= tolerance;
+    }
+}
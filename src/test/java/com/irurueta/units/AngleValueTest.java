@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AngleValueTest {
+
+    private static final double ERROR = 1e-6;
+
+    private static final AngleUnit UNIT1 = AngleUnit.RADIANS;
+
+    private static final AngleUnit UNIT2 = AngleUnit.DEGREES;
+
+    @Test
+    void testConvertTo() {
+        final var value = new Random().nextDouble();
+        final var v = new AngleValue(value, UNIT1);
+
+        final var result = v.convertTo(UNIT2);
+
+        // check
+        assertEquals(AngleConverter.convert(value, UNIT1, UNIT2), result.value(), 0.0);
+        assertEquals(UNIT2, result.unit());
+    }
+
+    @Test
+    void testAdd() {
+        final var random = new Random();
+        final var value1 = random.nextDouble();
+        final var value2 = random.nextDouble();
+        final var v1 = new AngleValue(value1, UNIT1);
+        final var v2 = new AngleValue(value2, UNIT2);
+
+        final var expected = Angle.add(value1, UNIT1, value2, UNIT2, UNIT1);
+
+        var result = v1.add(v2);
+
+        // check
+        assertEquals(expected, result.value(), ERROR);
+        assertEquals(UNIT1, result.unit());
+        assertEquals(value1, v1.value(), 0.0);
+
+        result = v1.add(value2, UNIT2);
+
+        // check
+        assertEquals(expected, result.value(), ERROR);
+        assertEquals(UNIT1, result.unit());
+
+        result = v1.add(v2, UNIT2);
+
+        // check
+        assertEquals(Angle.add(value1, UNIT1, value2, UNIT2, UNIT2), result.value(), ERROR);
+        assertEquals(UNIT2, result.unit());
+    }
+
+    @Test
+    void testSubtract() {
+        final var random = new Random();
+        final var value1 = random.nextDouble();
+        final var value2 = random.nextDouble();
+        final var v1 = new AngleValue(value1, UNIT1);
+        final var v2 = new AngleValue(value2, UNIT2);
+
+        final var expected = Angle.subtract(value1, UNIT1, value2, UNIT2, UNIT1);
+
+        var result = v1.subtract(v2);
+
+        // check
+        assertEquals(expected, result.value(), ERROR);
+        assertEquals(UNIT1, result.unit());
+        assertEquals(value1, v1.value(), 0.0);
+
+        result = v1.subtract(value2, UNIT2);
+
+        // check
+        assertEquals(expected, result.value(), ERROR);
+        assertEquals(UNIT1, result.unit());
+
+        result = v1.subtract(v2, UNIT2);
+
+        // check
+        assertEquals(Angle.subtract(value1, UNIT1, value2, UNIT2, UNIT2), result.value(), ERROR);
+        assertEquals(UNIT2, result.unit());
+    }
+}
@@ -18,14 +18,21 @@ package com.irurueta.units;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.Random;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class AngularAccelerationConverterTest {
 
     private static final double ERROR = 1e-6;
 
+    private static final double RELATIVE_ERROR = 1e-12;
+
+    private static final int LENGTH = 10;
+
     @Test
     void testRadiansPerSquaredSecondDegreesPerSquaredSecond() {
         final var inputValue = new Random().nextDouble();
@@ -123,6 +130,7 @@ class AngularAccelerationConverterTest {
         assertEquals(AngularAccelerationUnit.RADIANS_PER_SQUARED_SECOND, output.getUnit());
         assertEquals(AngularAccelerationConverter.convert(value, input.getUnit(), output.getUnit()),
                 output.getValue().doubleValue(), 0.0);
+        assertInstanceOf(Double.class, output.getValue());
     }
 
     @Test
@@ -142,4 +150,122 @@ class AngularAccelerationConverterTest {
         assertEquals(AngularAccelerationConverter.convert(value, input.getUnit(), output.getUnit()),
                 output.getValue().doubleValue(), 0.0);
     }
+
+    @Test
+    void testConvertArray() {
+        final var random = new Random();
+        final var input = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            input[i] = random.nextDouble();
+        }
+
+        for (final var inputUnit : AngularAccelerationUnit.values()) {
+            for (final var outputUnit : AngularAccelerationUnit.values()) {
+                final var output = new double[LENGTH + 1];
+                AngularAccelerationConverter.convert(input, 1, output, 2, LENGTH - 1, inputUnit, outputUnit);
+
+                // check
+                assertEquals(0.0, output[0], 0.0);
+                assertEquals(0.0, output[1], 0.0);
+                for (var i = 1; i < LENGTH; i++) {
+                    final var expected = AngularAccelerationConverter.convert(input[i], inputUnit, outputUnit);
+                    assertEquals(expected, output[i + 1], Math.abs(expected) * RELATIVE_ERROR);
+                }
+            }
+        }
+
+        // convert in place with overlapping regions
+        final var unit1 = AngularAccelerationUnit.RADIANS_PER_SQUARED_SECOND;
+        final var unit2 = AngularAccelerationUnit.DEGREES_PER_SQUARED_SECOND;
+        final var values = Arrays.copyOf(input, LENGTH);
+        AngularAccelerationConverter.convert(values, 0, values, 1, LENGTH - 1, unit1, unit2);
+
+        // check
+        assertEquals(input[0], values[0], 0.0);
+        for (var i = 1; i < LENGTH; i++) {
+            final var expected = AngularAccelerationConverter.convert(input[i - 1], unit1, unit2);
+            assertEquals(expected, values[i], Math.abs(expected) * RELATIVE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var output = new double[LENGTH];
+        assertThrows(IllegalArgumentException.class,
+                () -> AngularAccelerationConverter.convert(input, -1, output, 0, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> AngularAccelerationConverter.convert(input, 0, output, -1, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> AngularAccelerationConverter.convert(input, 0, output, 0, -1, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> AngularAccelerationConverter.convert(input, 1, output, 0, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> AngularAccelerationConverter.convert(input, 0, output, 1, LENGTH, unit1, unit2));
+    }
+
+    @Test
+    void testConvertDoubleBuffer() {
+        final var random = new Random();
+        final var values = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            values[i] = random.nextDouble();
+        }
+
+        for (final var inputUnit : AngularAccelerationUnit.values()) {
+            for (final var outputUnit : AngularAccelerationUnit.values()) {
+                // heap buffers
+                final var input = DoubleBuffer.wrap(values);
+                final var output = DoubleBuffer.allocate(LENGTH);
+                AngularAccelerationConverter.convert(input, output, inputUnit, outputUnit);
+
+                // check
+                assertFalse(input.hasRemaining());
+                assertFalse(output.hasRemaining());
+                for (var i = 0; i < LENGTH; i++) {
+                    final var expected = AngularAccelerationConverter.convert(values[i], inputUnit, outputUnit);
+                    assertEquals(expected, output.get(i), Math.abs(expected) * RELATIVE_ERROR);
+                }
+
+                // direct buffers
+                final var directInput = directBuffer(values);
+                final var directOutput = directBuffer(new double[LENGTH]);
+                AngularAccelerationConverter.convert(directInput, directOutput, inputUnit, outputUnit);
+
+                // check
+                assertFalse(directInput.hasRemaining());
+                assertFalse(directOutput.hasRemaining());
+                for (var i = 0; i < LENGTH; i++) {
+                    assertEquals(output.get(i), directOutput.get(i), 0.0);
+                }
+            }
+        }
+
+        // convert in place
+        final var unit1 = AngularAccelerationUnit.RADIANS_PER_SQUARED_SECOND;
+        final var unit2 = AngularAccelerationUnit.DEGREES_PER_SQUARED_SECOND;
+        final var buffer = directBuffer(values);
+        buffer.position(1);
+        AngularAccelerationConverter.convert(buffer, buffer, unit1, unit2);
+
+        // check
+        assertEquals(LENGTH, buffer.position());
+        assertEquals(values[0], buffer.get(0), 0.0);
+        for (var i = 1; i < LENGTH; i++) {
+            final var expected = AngularAccelerationConverter.convert(values[i], unit1, unit2);
+            assertEquals(expected, buffer.get(i), Math.abs(expected) * RELATIVE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var input = DoubleBuffer.wrap(values);
+        final var output = DoubleBuffer.allocate(LENGTH - 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> AngularAccelerationConverter.convert(input, output, unit1, unit2));
+        assertEquals(0, input.position());
+        assertEquals(0, output.position());
+    }
+
+    private static DoubleBuffer directBuffer(final double[] values) {
+        final var result = ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer();
+        result.put(values);
+        result.flip();
+        return result;
+    }
 }
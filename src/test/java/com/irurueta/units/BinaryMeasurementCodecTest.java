@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryMeasurementCodecTest {
+
+    @Test
+    void testEncodeDecodeAllTypes() {
+        final var random = new Random();
+        final var codec = new BinaryMeasurementCodec();
+
+        final var measurements = new ArrayList<Measurement<?>>();
+        for (final var type : MeasurementType.values()) {
+            for (final var unit : type.getUnitClass().getEnumConstants()) {
+                measurements.add(type.createMeasurement(random.nextDouble(), unit));
+            }
+        }
+
+        final var buffer = ByteBuffer.allocate(measurements.size() * BinaryMeasurementCodec.ENCODED_SIZE);
+        for (final var measurement : measurements) {
+            assertEquals(BinaryMeasurementCodec.ENCODED_SIZE, codec.getEncodedSize(measurement));
+            codec.encode(measurement, buffer);
+        }
+        assertFalse(buffer.hasRemaining());
+
+        buffer.flip();
+        for (final var measurement : measurements) {
+            final var result = codec.decode(buffer);
+
+            // check
+            assertSame(measurement.getClass(), result.getClass());
+            assertEquals(measurement, result);
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testLayout() {
+        final var codec = new BinaryMeasurementCodec();
+        final var buffer = ByteBuffer.allocate(BinaryMeasurementCodec.ENCODED_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        codec.encode(new Weight(2.5, WeightUnit.KILOGRAM), buffer);
+
+        // check
+        assertEquals(MeasurementType.WEIGHT.getCode(), buffer.get(0));
+        assertEquals(WeightUnit.KILOGRAM.ordinal(), buffer.get(1));
+        assertEquals(2.5, buffer.getDouble(2), 0.0);
+
+        final var result = (Weight) codec.decode(buffer.flip());
+        assertEquals(2.5, result.getValueAsDouble(), 0.0);
+        assertEquals(WeightUnit.KILOGRAM, result.getUnit());
+    }
+
+    @Test
+    void testInvalidData() {
+        final var codec = new BinaryMeasurementCodec();
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(new Time(), ByteBuffer.allocate(16)));
+        final var invalidType = ByteBuffer.wrap(new byte[]{0, 100, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+        invalidType.position(1);
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(invalidType));
+        assertEquals(1, invalidType.position());
+        final var invalidUnit = ByteBuffer.wrap(
+                new byte[]{(byte) MeasurementType.TIME.getCode(), 100, 0, 0, 0, 0, 0, 0, 0, 0});
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(invalidUnit));
+        assertEquals(0, invalidUnit.position());
+
+        // Force BufferOverflowException
+        assertThrows(BufferOverflowException.class,
+                () -> codec.encode(new Time(1.0, TimeUnit.SECOND), ByteBuffer.allocate(4)));
+
+        // Force BufferUnderflowException
+        assertThrows(BufferUnderflowException.class, () -> codec.decode(ByteBuffer.allocate(4)));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionKernelsTest {
+
+    private static final double FACTOR = AccelerationConverter.convert(1.0, AccelerationUnit.G,
+            AccelerationUnit.METERS_PER_SQUARED_SECOND);
+
+    private static final double OFFSET = 273.15;
+
+    @Test
+    void testIsVectorized() {
+        // vectorized kernel is only available when built with the vector profile
+        final var available = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        if (!available) {
+            assertFalse(ConversionKernels.isVectorized());
+        }
+    }
+
+    @Test
+    void testScaleAndAffineMatchScalarConversion() {
+        final var random = new Random();
+        for (var length = 0; length < 70; length++) {
+            final var input = createValues(random, length + 3);
+
+            for (final var inputOffset : new int[]{0, 1, 3}) {
+                final var n = length + 3 - inputOffset;
+                final var scaled = new double[n + 2];
+                ConversionKernels.scale(input, inputOffset, scaled, 2, n, FACTOR);
+                final var translated = new double[n + 2];
+                ConversionKernels.affine(input, inputOffset, translated, 2, n, FACTOR, OFFSET);
+
+                for (var i = 0; i < n; i++) {
+                    final var value = input[inputOffset + i];
+                    assertEquals(Double.doubleToLongBits(value * FACTOR), Double.doubleToLongBits(scaled[2 + i]));
+                    assertEquals(Double.doubleToLongBits(value * FACTOR + OFFSET),
+                            Double.doubleToLongBits(translated[2 + i]));
+                }
+                assertEquals(0.0, scaled[0]);
+                assertEquals(0.0, translated[1]);
+            }
+        }
+    }
+
+    @Test
+    void testConvertInPlace() {
+        final var random = new Random();
+        for (final var shift : new int[]{-9, -4, -1, 0, 1, 4, 9}) {
+            final var length = 50;
+            final var values = createValues(random, length + 9);
+            final var expected = values.clone();
+            final var inputOffset = shift < 0 ? -shift : 0;
+            final var outputOffset = shift > 0 ? shift : 0;
+            for (var i = 0; i < length; i++) {
+                expected[outputOffset + i] = values[inputOffset + i] * FACTOR + OFFSET;
+            }
+
+            ConversionKernels.affine(values, inputOffset, values, outputOffset, length, FACTOR, OFFSET);
+            assertArrayEquals(expected, values, 0.0);
+        }
+    }
+
+    @Test
+    void testConvertDirectBuffer() {
+        final var random = new Random();
+        final var values = createValues(random, 37);
+        final var input = ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer();
+        input.put(values).flip();
+        final var output = ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer();
+
+        ConversionKernels.affine(input, output, FACTOR, OFFSET);
+
+        assertEquals(values.length, input.position());
+        assertEquals(values.length, output.position());
+        for (var i = 0; i < values.length; i++) {
+            assertEquals(values[i] * FACTOR + OFFSET, output.get(i), 0.0);
+        }
+    }
+
+    @Test
+    void testConvertOverlappingDirectBufferViews() {
+        final var random = new Random();
+        final var values = createValues(random, 37);
+        final var shift = 3;
+        final var length = values.length - shift;
+
+        // output view starts after input
+        final var input = ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer();
+        input.put(values).flip().limit(length);
+        final var output = input.duplicate().clear().position(shift);
+
+        ConversionKernels.affine(input, output, FACTOR, OFFSET);
+
+        assertEquals(length, input.position());
+        assertEquals(values.length, output.position());
+        for (var i = 0; i < length; i++) {
+            assertEquals(values[i] * FACTOR + OFFSET, output.get(shift + i), 0.0);
+        }
+
+        // output view starts before input
+        final var input2 = ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer();
+        input2.put(values).position(shift);
+        final var output2 = input2.duplicate().clear();
+
+        ConversionKernels.scale(input2, output2, FACTOR);
+
+        assertEquals(values.length, input2.position());
+        assertEquals(length, output2.position());
+        for (var i = 0; i < length; i++) {
+            assertEquals(values[shift + i] * FACTOR, output2.get(i), 0.0);
+        }
+    }
+
+    @Test
+    void testBounds() {
+        final var values = new double[10];
+        assertThrows(IllegalArgumentException.class,
+                () -> ConversionKernels.scale(values, -1, values, 0, 1, FACTOR));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConversionKernels.scale(values, 0, values, 5, 6, FACTOR));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConversionKernels.affine(values, 5, values, 0, 6, FACTOR, OFFSET));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConversionKernels.affine(values, 0, values, 0, -1, FACTOR, OFFSET));
+    }
+
+    private static double[] createValues(final Random random, final int length) {
+        final var result = new double[length];
+        for (var i = 0; i < length; i++) {
+            result[i] = (random.nextDouble() - 0.5) * Math.pow(10.0, random.nextInt(10) - 5);
+        }
+        if (length > 0) {
+            result[0] = -0.0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistanceArrayTest {
+
+    private static final double ERROR = 1e-6;
+
+    private static final int LENGTH = 10;
+
+    private static final DistanceUnit UNIT1 = DistanceUnit.MILLIMETER;
+
+    private static final DistanceUnit UNIT2 = DistanceUnit.MILE;
+
+    @Test
+    void testConstructor() {
+        var array = new DistanceArray(LENGTH, UNIT1);
+
+        // check
+        assertEquals(LENGTH, array.length());
+        assertEquals(UNIT1, array.getUnit());
+        assertArrayEquals(new double[LENGTH], array.toArray(), 0.0);
+
+        final var values = randomValues();
+        array = new DistanceArray(values, UNIT2);
+
+        // check
+        assertEquals(LENGTH, array.length());
+        assertEquals(UNIT2, array.getUnit());
+        assertArrayEquals(values, array.toArray(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new DistanceArray(-1, UNIT1));
+        assertThrows(IllegalArgumentException.class, () -> new DistanceArray(LENGTH, null));
+        assertThrows(IllegalArgumentException.class, () -> new DistanceArray(null, UNIT1));
+        assertThrows(IllegalArgumentException.class, () -> new DistanceArray(values, null));
+    }
+
+    @Test
+    void testGetSet() {
+        final var array = new DistanceArray(LENGTH, UNIT1);
+        final var value = new Random().nextDouble();
+
+        array.set(1, value);
+
+        // check
+        assertEquals(value, array.get(1), 0.0);
+        assertEquals(new DistanceValue(value, UNIT1), array.getValue(1));
+
+        array.set(2, value, UNIT2);
+
+        // check
+        assertEquals(DistanceConverter.convert(value, UNIT2, UNIT1), array.get(2), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> array.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> array.get(LENGTH));
+        assertThrows(IllegalArgumentException.class, () -> array.set(LENGTH, value));
+        assertThrows(IllegalArgumentException.class, () -> array.set(0, value, null));
+    }
+
+    @Test
+    void testToArray() {
+        final var values = randomValues();
+        final var array = new DistanceArray(values, UNIT1);
+
+        final var result = new double[LENGTH + 1];
+        array.toArray(result, 1);
+
+        // check
+        assertEquals(0.0, result[0], 0.0);
+        for (var i = 0; i < LENGTH; i++) {
+            assertEquals(values[i], result[i + 1], 0.0);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> array.toArray(result, 2));
+    }
+
+    @Test
+    void testConvertTo() {
+        final var values = randomValues();
+        final var array = new DistanceArray(values, UNIT1);
+
+        final var result = array.convertTo(UNIT2);
+
+        // check
+        assertEquals(UNIT2, result.getUnit());
+        assertEquals(LENGTH, result.length());
+        for (var i = 0; i < LENGTH; i++) {
+            assertEquals(DistanceConverter.convert(values[i], UNIT1, UNIT2), result.get(i), ERROR);
+            assertEquals(values[i], array.get(i), 0.0);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> array.convertTo(null));
+    }
+
+    @Test
+    void testAdd() {
+        final var values1 = randomValues();
+        final var values2 = randomValues();
+        final var array1 = new DistanceArray(values1.clone(), UNIT1);
+        final var array2 = new DistanceArray(values2, UNIT1);
+        final var array3 = new DistanceArray(values2, UNIT2);
+
+        array1.add(array2);
+
+        // check
+        for (var i = 0; i < LENGTH; i++) {
+            assertEquals(values1[i] + values2[i], array1.get(i), 0.0);
+        }
+
+        final var array4 = new DistanceArray(values1.clone(), UNIT1);
+        array4.add(array3);
+
+        // check
+        for (var i = 0; i < LENGTH; i++) {
+            final var expected = Distance.add(values1[i], UNIT1, values2[i], UNIT2, UNIT1);
+            assertEquals(expected, array4.get(i), ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var array5 = new DistanceArray(LENGTH - 1, UNIT1);
+        assertThrows(IllegalArgumentException.class, () -> array1.add(array5));
+        assertThrows(IllegalArgumentException.class, () -> array1.add(null));
+    }
+
+    @Test
+    void testSubtract() {
+        final var values1 = randomValues();
+        final var values2 = randomValues();
+        final var array1 = new DistanceArray(values1.clone(), UNIT1);
+        final var array2 = new DistanceArray(values2, UNIT1);
+        final var array3 = new DistanceArray(values2, UNIT2);
+
+        array1.subtract(array2);
+
+        // check
+        for (var i = 0; i < LENGTH; i++) {
+            assertEquals(values1[i] - values2[i], array1.get(i), 0.0);
+        }
+
+        final var array4 = new DistanceArray(values1.clone(), UNIT1);
+        array4.subtract(array3);
+
+        // check
+        for (var i = 0; i < LENGTH; i++) {
+            final var expected = Distance.subtract(values1[i], UNIT1, values2[i], UNIT2, UNIT1);
+            assertEquals(expected, array4.get(i), ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var array5 = new DistanceArray(LENGTH - 1, UNIT1);
+        assertThrows(IllegalArgumentException.class, () -> array1.subtract(array5));
+        assertThrows(IllegalArgumentException.class, () -> array1.subtract(null));
+    }
+
+    @Test
+    void testSumMinMax() {
+        final var values = randomValues();
+        final var array = new DistanceArray(values, UNIT1);
+
+        var sum = 0.0;
+        var min = Double.MAX_VALUE;
+        var max = -Double.MAX_VALUE;
+        for (final var value : values) {
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        // check
+        assertEquals(sum, array.sum(), ERROR);
+        assertEquals(min, array.min(), 0.0);
+        assertEquals(max, array.max(), 0.0);
+
+        final var empty = new DistanceArray(0, UNIT1);
+        assertEquals(0.0, empty.sum(), 0.0);
+        assertTrue(Double.isNaN(empty.min()));
+        assertTrue(Double.isNaN(empty.max()));
+    }
+
+    @Test
+    void testSlice() {
+        final var values = randomValues();
+        final var array = new DistanceArray(values, UNIT1);
+
+        final var slice = array.slice(2, 5);
+
+        // check
+        assertEquals(3, slice.length());
+        assertEquals(UNIT1, slice.getUnit());
+        for (var i = 0; i < 3; i++) {
+            assertEquals(values[i + 2], slice.get(i), 0.0);
+        }
+        assertEquals(values[2] + values[3] + values[4], slice.sum(), ERROR);
+
+        // slices share values
+        slice.set(0, 1.0);
+        assertEquals(1.0, array.get(2), 0.0);
+
+        // slices of slices
+        final var slice2 = slice.slice(1, 3);
+        assertEquals(2, slice2.length());
+        assertEquals(values[3], slice2.get(0), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> slice.get(3));
+        assertThrows(IllegalArgumentException.class, () -> array.slice(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> array.slice(5, 2));
+        assertThrows(IllegalArgumentException.class, () -> array.slice(0, LENGTH + 1));
+    }
+
+    @Test
+    void testAddSubtractOverlappingSlices() {
+        // output starts after operand
+        var array = new DistanceArray(new double[]{1.0, 1.0, 1.0, 1.0}, UNIT1);
+        array.slice(1, 4).add(array.slice(0, 3));
+
+        // check
+        assertArrayEquals(new double[]{1.0, 2.0, 2.0, 2.0}, array.toArray(), 0.0);
+
+        // output starts before operand
+        array = new DistanceArray(new double[]{1.0, 2.0, 3.0, 4.0}, UNIT1);
+        array.slice(0, 3).subtract(array.slice(1, 4));
+
+        // check
+        assertArrayEquals(new double[]{-1.0, -1.0, -1.0, 4.0}, array.toArray(), 0.0);
+
+        array = new DistanceArray(new double[]{1.0, 2.0, 3.0, 4.0}, UNIT1);
+        array.slice(1, 4).subtract(array.slice(0, 3));
+
+        // check
+        assertArrayEquals(new double[]{1.0, 1.0, 1.0, 1.0}, array.toArray(), 0.0);
+    }
+
+    private static double[] randomValues() {
+        final var random = new Random();
+        final var result = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            result[i] = random.nextDouble();
+        }
+        return result;
+    }
+}
@@ -18,6 +18,9 @@ package com.irurueta.units;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +37,10 @@ class DistanceConverterTest {
 
     private static final double ERROR = 1e-6;
 
+    private static final double RELATIVE_ERROR = 1e-12;
+
+    private static final int LENGTH = 10;
+
     @Test
     void testMetersMillimeters() {
         final var inputValue = new Random().nextDouble();
@@ -289,6 +296,7 @@ class DistanceConverterTest {
         assertEquals(DistanceUnit.KILOMETER, outputDistance.getUnit());
         assertEquals(DistanceConverter.convert(value, inputDistance.getUnit(), outputDistance.getUnit()),
                 outputDistance.getValue().doubleValue(), 0.0);
+        assertInstanceOf(Double.class, outputDistance.getValue());
     }
 
     @Test
@@ -308,4 +316,122 @@ class DistanceConverterTest {
         assertEquals(DistanceConverter.convert(value, inputDistance.getUnit(), outputDistance.getUnit()),
                 outputDistance.getValue().doubleValue(), 0.0);
     }
+
+    @Test
+    void testConvertArray() {
+        final var random = new Random();
+        final var input = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            input[i] = random.nextDouble();
+        }
+
+        for (final var inputUnit : DistanceUnit.values()) {
+            for (final var outputUnit : DistanceUnit.values()) {
+                final var output = new double[LENGTH + 1];
+                DistanceConverter.convert(input, 1, output, 2, LENGTH - 1, inputUnit, outputUnit);
+
+                // check
+                assertEquals(0.0, output[0], 0.0);
+                assertEquals(0.0, output[1], 0.0);
+                for (var i = 1; i < LENGTH; i++) {
+                    final var expected = DistanceConverter.convert(input[i], inputUnit, outputUnit);
+                    assertEquals(expected, output[i + 1], Math.abs(expected) * RELATIVE_ERROR);
+                }
+            }
+        }
+
+        // convert in place with overlapping regions
+        final var unit1 = DistanceUnit.MILLIMETER;
+        final var unit2 = DistanceUnit.MILE;
+        final var values = Arrays.copyOf(input, LENGTH);
+        DistanceConverter.convert(values, 0, values, 1, LENGTH - 1, unit1, unit2);
+
+        // check
+        assertEquals(input[0], values[0], 0.0);
+        for (var i = 1; i < LENGTH; i++) {
+            final var expected = DistanceConverter.convert(input[i - 1], unit1, unit2);
+            assertEquals(expected, values[i], Math.abs(expected) * RELATIVE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var output = new double[LENGTH];
+        assertThrows(IllegalArgumentException.class,
+                () -> DistanceConverter.convert(input, -1, output, 0, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> DistanceConverter.convert(input, 0, output, -1, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> DistanceConverter.convert(input, 0, output, 0, -1, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> DistanceConverter.convert(input, 1, output, 0, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> DistanceConverter.convert(input, 0, output, 1, LENGTH, unit1, unit2));
+    }
+
+    @Test
+    void testConvertDoubleBuffer() {
+        final var random = new Random();
+        final var values = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            values[i] = random.nextDouble();
+        }
+
+        for (final var inputUnit : DistanceUnit.values()) {
+            for (final var outputUnit : DistanceUnit.values()) {
+                // heap buffers
+                final var input = DoubleBuffer.wrap(values);
+                final var output = DoubleBuffer.allocate(LENGTH);
+                DistanceConverter.convert(input, output, inputUnit, outputUnit);
+
+                // check
+                assertFalse(input.hasRemaining());
+                assertFalse(output.hasRemaining());
+                for (var i = 0; i < LENGTH; i++) {
+                    final var expected = DistanceConverter.convert(values[i], inputUnit, outputUnit);
+                    assertEquals(expected, output.get(i), Math.abs(expected) * RELATIVE_ERROR);
+                }
+
+                // direct buffers
+                final var directInput = directBuffer(values);
+                final var directOutput = directBuffer(new double[LENGTH]);
+                DistanceConverter.convert(directInput, directOutput, inputUnit, outputUnit);
+
+                // check
+                assertFalse(directInput.hasRemaining());
+                assertFalse(directOutput.hasRemaining());
+                for (var i = 0; i < LENGTH; i++) {
+                    assertEquals(output.get(i), directOutput.get(i), 0.0);
+                }
+            }
+        }
+
+        // convert in place
+        final var unit1 = DistanceUnit.MILLIMETER;
+        final var unit2 = DistanceUnit.MILE;
+        final var buffer = directBuffer(values);
+        buffer.position(1);
+        DistanceConverter.convert(buffer, buffer, unit1, unit2);
+
+        // check
+        assertEquals(LENGTH, buffer.position());
+        assertEquals(values[0], buffer.get(0), 0.0);
+        for (var i = 1; i < LENGTH; i++) {
+            final var expected = DistanceConverter.convert(values[i], unit1, unit2);
+            assertEquals(expected, buffer.get(i), Math.abs(expected) * RELATIVE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var input = DoubleBuffer.wrap(values);
+        final var output = DoubleBuffer.allocate(LENGTH - 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> DistanceConverter.convert(input, output, unit1, unit2));
+        assertEquals(0, input.position());
+        assertEquals(0, output.position());
+    }
+
+    private static DoubleBuffer directBuffer(final double[] values) {
+        final var result = ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer();
+        result.put(values);
+        result.flip();
+        return result;
+    }
 }
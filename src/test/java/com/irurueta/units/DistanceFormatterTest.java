@@ -17,12 +17,19 @@ package com.irurueta.units;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.FieldPosition;
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -243,6 +250,66 @@ class DistanceFormatterTest {
                 new FieldPosition(0)).toString());
     }
 
+    @Test
+    void testFormatToStringBuilder() {
+        final var value = 5.50;
+        final var l = new Locale("es", "ES");
+
+        final var formatter = new DistanceFormatter(l);
+
+        final var builder = new StringBuilder("Distance: ");
+        assertSame(builder, formatter.formatTo(value, DistanceUnit.METER, builder));
+        assertEquals("Distance: 5,5 m", builder.toString());
+
+        builder.append(", ");
+        assertSame(builder, formatter.formatTo(new BigDecimal(value), DistanceUnit.KILOMETER, builder));
+        assertEquals("Distance: 5,5 m, 5,5 Km", builder.toString());
+
+        for (final var unit : DistanceUnit.values()) {
+            builder.setLength(0);
+            assertEquals(formatter.format(value, unit), formatter.formatTo(value, unit, builder).toString());
+        }
+    }
+
+    @Test
+    void testFormatToAppendable() throws IOException {
+        final var value = 5.50;
+        final var l = new Locale("es", "ES");
+
+        final var formatter = new DistanceFormatter(l);
+
+        final var writer = new StringWriter();
+        assertSame(writer, formatter.formatTo(value, DistanceUnit.METER, writer));
+        writer.append(", ");
+        formatter.formatTo(value, DistanceUnit.MILE, writer);
+        assertEquals("5,5 m, 5,5 mi", writer.toString());
+
+        final Appendable builder = new StringBuilder();
+        assertSame(builder, formatter.formatTo(value, DistanceUnit.FOOT, builder));
+        assertEquals("5,5 ft", builder.toString());
+    }
+
+    @Test
+    void testFormatToWithPattern() {
+        final var value = 5.50;
+        final var l = new Locale("es", "ES");
+
+        final var formatter = new DistanceFormatter(l);
+        final var builder = new StringBuilder();
+
+        formatter.setValueAndUnitFormatPattern("'{'{1}'}' = {0}");
+        assertEquals("{m} = 5,5", formatter.formatTo(value, DistanceUnit.METER, builder).toString());
+        assertEquals("{m} = 5,5", formatter.format(value, DistanceUnit.METER));
+        assertEquals("{m} = 5,5", formatter.format(value, DistanceUnit.METER, new StringBuffer(),
+                new FieldPosition(0)).toString());
+
+        // patterns that cannot be compiled are formatted using MessageFormat
+        formatter.setValueAndUnitFormatPattern("{0} {1} {2}");
+        builder.setLength(0);
+        assertEquals("5,5 m {2}", formatter.formatTo(value, DistanceUnit.METER, builder).toString());
+        assertEquals("5,5 m {2}", formatter.format(value, DistanceUnit.METER));
+    }
+
     @Test
     void testFormatDistance() {
         final var value = 5.50;
@@ -610,6 +677,142 @@ class DistanceFormatterTest {
         assertEquals(formatter.isParseIntegerOnly(), !NumberFormat.getInstance().isParseIntegerOnly());
     }
 
+    @Test
+    void testIsSetFastNumberFormattingEnabled() {
+        final var formatter = new DistanceFormatter(new Locale("es", "ES"));
+
+        assertFalse(formatter.isFastNumberFormattingEnabled());
+
+        // new value
+        formatter.setFastNumberFormattingEnabled(true);
+
+        // check
+        assertTrue(formatter.isFastNumberFormattingEnabled());
+    }
+
+    @Test
+    void testFastNumberFormatting() {
+        final var random = new Random();
+        final var formatter = new DistanceFormatter(new Locale("es", "ES"));
+        final var fastFormatter = new DistanceFormatter(new Locale("es", "ES"));
+        fastFormatter.setFastNumberFormattingEnabled(true);
+
+        for (var i = 0; i < 100; i++) {
+            final var value = random.nextGaussian() * Math.pow(10.0, random.nextInt(12) - 6);
+            for (final var unit : DistanceUnit.values()) {
+                assertEquals(formatter.format(value, unit), fastFormatter.format(value, unit));
+                assertEquals(formatter.formatAndConvert(value, unit), fastFormatter.formatAndConvert(value, unit));
+            }
+        }
+
+        // settings changes are taken into account
+        formatter.setMaximumFractionDigits(1);
+        fastFormatter.setMaximumFractionDigits(1);
+        formatter.setRoundingMode(RoundingMode.UP);
+        fastFormatter.setRoundingMode(RoundingMode.UP);
+        formatter.setGroupingUsed(false);
+        fastFormatter.setGroupingUsed(false);
+        assertEquals("1234,6 m", fastFormatter.format(1234.51, DistanceUnit.METER));
+        assertEquals(formatter.format(1234.51, DistanceUnit.METER),
+                fastFormatter.format(1234.51, DistanceUnit.METER));
+
+        // unsupported settings and values are formatted using number format
+        fastFormatter.setRoundingMode(RoundingMode.UNNECESSARY);
+        assertEquals("1234,5 m", fastFormatter.format(1234.5, DistanceUnit.METER));
+        assertThrows(NumberFormatException.class, () -> fastFormatter.format(Double.NaN, DistanceUnit.METER));
+    }
+
+    @Test
+    void testFreeze() throws CloneNotSupportedException, ParseException, UnknownUnitException {
+        final var formatter = new DistanceFormatter(new Locale("es", "ES"));
+        formatter.setMaximumFractionDigits(2);
+
+        assertFalse(formatter.isFrozen());
+
+        // freeze
+        assertSame(formatter, formatter.freeze());
+
+        // check
+        assertTrue(formatter.isFrozen());
+        assertSame(formatter, formatter.freeze());
+        assertEquals(2, formatter.getMaximumFractionDigits());
+        assertEquals("5,56 m", formatter.format(5.555, DistanceUnit.METER));
+        assertEquals("5,56 m", formatter.format(new BigDecimal("5.555"), DistanceUnit.METER));
+        assertEquals("5,56 m", formatter.format(new Distance(new BigDecimal("5.555"), DistanceUnit.METER)));
+        assertEquals("5,56 m", formatter.format(5.555, DistanceUnit.METER, new StringBuffer(),
+                new FieldPosition(0)).toString());
+        assertEquals("5,56 m", formatter.formatTo(5.555, DistanceUnit.METER, new StringBuilder()).toString());
+        assertEquals("5,56 Km", formatter.formatAndConvert(5555.0, DistanceUnit.METER, UnitSystem.METRIC));
+        final var distance = formatter.parse("5,5 m");
+        assertEquals(5.5, distance.getValueAsDouble(), 0.0);
+        assertEquals(DistanceUnit.METER, distance.getUnit());
+        assertTrue(formatter.isValidMeasurement("5,5 m"));
+
+        // Force UnsupportedOperationException
+        assertThrows(UnsupportedOperationException.class, () -> formatter.setMaximumFractionDigits(3));
+        assertThrows(UnsupportedOperationException.class, () -> formatter.setMaximumIntegerDigits(3));
+        assertThrows(UnsupportedOperationException.class, () -> formatter.setMinimumFractionDigits(3));
+        assertThrows(UnsupportedOperationException.class, () -> formatter.setMinimumIntegerDigits(3));
+        assertThrows(UnsupportedOperationException.class, () -> formatter.setRoundingMode(RoundingMode.UP));
+        assertThrows(UnsupportedOperationException.class, () -> formatter.setGroupingUsed(false));
+        assertThrows(UnsupportedOperationException.class, () -> formatter.setParseIntegerOnly(true));
+        assertThrows(UnsupportedOperationException.class, () -> formatter.setFastNumberFormattingEnabled(true));
+        assertThrows(UnsupportedOperationException.class, () -> formatter.setValueAndUnitFormatPattern("{0}{1}"));
+
+        // clones are not frozen
+        final var clone = (DistanceFormatter) formatter.clone();
+        assertFalse(clone.isFrozen());
+        assertEquals(formatter, clone);
+        clone.setMaximumFractionDigits(3);
+        assertEquals("5,555 m", clone.format(5.555, DistanceUnit.METER));
+        assertEquals("5,56 m", formatter.format(5.555, DistanceUnit.METER));
+    }
+
+    @Test
+    void testFrozenFormatterIsThreadSafe() throws InterruptedException, ExecutionException, ParseException,
+            UnknownUnitException {
+        final var locale = new Locale("es", "ES");
+        final var formatter = new DistanceFormatter(locale);
+        formatter.setMaximumFractionDigits(3);
+        formatter.freeze();
+
+        final var reference = new DistanceFormatter(locale);
+        reference.setMaximumFractionDigits(3);
+
+        final var random = new Random();
+        final var values = new double[1000];
+        final var expected = new String[values.length];
+        final var expectedDistances = new Distance[values.length];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian() * Math.pow(10.0, random.nextInt(10) - 5);
+            expected[i] = reference.formatAndConvert(values[i], DistanceUnit.METER, UnitSystem.METRIC);
+            expectedDistances[i] = reference.parse(expected[i]);
+        }
+
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            final var tasks = new ArrayList<Callable<Boolean>>();
+            for (var t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    for (var i = 0; i < values.length; i++) {
+                        final var result = formatter.formatAndConvert(values[i], DistanceUnit.METER,
+                                UnitSystem.METRIC);
+                        if (!expected[i].equals(result) || !expectedDistances[i].equals(formatter.parse(result))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+
+            for (final var future : executor.invokeAll(tasks)) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void testGetSetValueAndUnitFormatPattern() {
         final var formatter = new DistanceFormatter();
@@ -848,6 +1051,74 @@ class DistanceFormatterTest {
         assertThrows(ParseException.class, () -> formatter.parse("m"));
     }
 
+    @Test
+    void testParseCharSequence() throws ParseException, UnknownUnitException {
+        final var formatter = new DistanceFormatter(new Locale("es", "ES"));
+        final var d = new Distance();
+
+        assertEquals(ParseStatus.SUCCESS, formatter.parse("5,5 mm", d));
+        assertEquals(5.5, d.getValueAsDouble(), 0.0);
+        assertEquals(DistanceUnit.MILLIMETER, d.getUnit());
+
+        assertEquals(ParseStatus.SUCCESS, formatter.parse(new StringBuilder("-1.234,5 Km"), d));
+        assertEquals(-1234.5, d.getValueAsDouble(), 0.0);
+        assertEquals(DistanceUnit.KILOMETER, d.getUnit());
+
+        // parse region within a line
+        final var line = "5,5 mm;7 m;3 mi";
+        assertEquals(ParseStatus.SUCCESS, formatter.parse(line, 7, 10, d));
+        assertEquals(7.0, d.getValueAsDouble(), 0.0);
+        assertEquals(DistanceUnit.METER, d.getUnit());
+        assertEquals(ParseStatus.SUCCESS, formatter.parse(line, 11, 15, d));
+        assertEquals(3.0, d.getValueAsDouble(), 0.0);
+        assertEquals(DistanceUnit.MILE, d.getUnit());
+        assertEquals(ParseStatus.SUCCESS, formatter.parse(line, 0, 6, d));
+        assertEquals(5.5, d.getValueAsDouble(), 0.0);
+        assertEquals(DistanceUnit.MILLIMETER, d.getUnit());
+
+        // same results as parsing strings
+        for (final var text : new String[]{"5,5 mm", "5 cm", "1e3 m", "0,001 Km", "12 in", "-3 ft", "2 yd"}) {
+            final var expected = formatter.parse(text);
+            assertEquals(ParseStatus.SUCCESS, formatter.parse(text, d));
+            assertEquals(expected.getValue().doubleValue(), d.getValueAsDouble(), 0.0);
+            assertEquals(expected.getUnit(), d.getUnit());
+        }
+
+        // failures do not modify measurement
+        assertEquals(ParseStatus.UNKNOWN_UNIT, formatter.parse("5,5 s", d));
+        assertEquals(ParseStatus.INVALID_VALUE, formatter.parse("m", d));
+        assertEquals(ParseStatus.INVALID_VALUE, formatter.parse("", d));
+        assertEquals(2.0, d.getValueAsDouble(), 0.0);
+        assertEquals(DistanceUnit.YARD, d.getUnit());
+
+        // frozen formatters and formatters not supporting fast parsing
+        formatter.freeze();
+        assertEquals(ParseStatus.SUCCESS, formatter.parse("5,5 mm", d));
+        assertEquals(5.5, d.getValueAsDouble(), 0.0);
+
+        final var arabicFormatter = new DistanceFormatter(new Locale("ar", "EG"));
+        final var text = arabicFormatter.format(5.5, DistanceUnit.METER);
+        assertEquals(ParseStatus.SUCCESS, arabicFormatter.parse(text, d));
+        assertEquals(5.5, d.getValueAsDouble(), 0.0);
+        assertEquals(DistanceUnit.METER, d.getUnit());
+
+        // parse integer only
+        final var integerFormatter = new DistanceFormatter(Locale.ENGLISH);
+        assertEquals(ParseStatus.SUCCESS, integerFormatter.parse("5.5 m", d));
+        assertEquals(5.5, d.getValueAsDouble(), 0.0);
+        integerFormatter.setParseIntegerOnly(true);
+        assertEquals(ParseStatus.SUCCESS, integerFormatter.parse("5.5 m", d));
+        assertEquals(integerFormatter.parse("5.5 m").getValue().doubleValue(), d.getValueAsDouble(), 0.0);
+        assertEquals(5.0, d.getValueAsDouble(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse(null, d));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse("5 m", null));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse("5 m", -1, 3, d));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse("5 m", 2, 1, d));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse("5 m", 0, 4, d));
+    }
+
     @Test
     void testFindUnit() {
         final var formatter = new DistanceFormatter(new Locale("es", "ES"));
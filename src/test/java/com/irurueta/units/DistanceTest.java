@@ -114,6 +114,37 @@ class DistanceTest {
         assertThrows(IllegalArgumentException.class, () -> d.setValue(null));
     }
 
+    @Test
+    void testGetSetValueAsDouble() {
+        final var d = new Distance(BigDecimal.ONE, DistanceUnit.METER);
+
+        // check
+        assertEquals(1.0, d.getValueAsDouble(), 0.0);
+        assertEquals(BigDecimal.ONE, d.getValue());
+
+        // set new value
+        d.setValueAsDouble(2.5);
+
+        // check
+        assertEquals(2.5, d.getValueAsDouble(), 0.0);
+        assertEquals(2.5, d.getValue());
+        assertEquals(new Distance(2.5, DistanceUnit.METER), d);
+        assertEquals(new Distance(2.5, DistanceUnit.METER).hashCode(), d.hashCode());
+
+        // values set as numbers are kept as they are
+        d.setValue(5);
+        assertEquals(5, d.getValue());
+        assertEquals(5.0, d.getValueAsDouble(), 0.0);
+        assertEquals(new Distance(5, DistanceUnit.METER), d);
+        assertEquals(new Distance(5, DistanceUnit.METER).hashCode(), d.hashCode());
+
+        // a distance without value has no double value either
+        final var d2 = new Distance();
+        assertNull(d2.getValue());
+        assertThrows(IllegalStateException.class, d2::getValueAsDouble);
+        assertNotEquals(d2, new Distance(0.0, DistanceUnit.METER));
+    }
+
     @Test
     void testGetSetUnit() {
         final var d = new Distance(1, DistanceUnit.METER);
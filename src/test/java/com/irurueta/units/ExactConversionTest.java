@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExactConversionTest {
+
+    private static final double RELATIVE_ERROR = 1e-12;
+
+    private static final Map<MeasurementType, ExactConverter> EXACT_CONVERTERS =
+            new EnumMap<>(MeasurementType.class);
+
+    static {
+        EXACT_CONVERTERS.put(MeasurementType.ACCELERATION, (value, inputUnit, outputUnit, mathContext) ->
+                AccelerationConverter.convert(value, (AccelerationUnit) inputUnit, (AccelerationUnit) outputUnit,
+                        mathContext));
+        EXACT_CONVERTERS.put(MeasurementType.DISTANCE, (value, inputUnit, outputUnit, mathContext) ->
+                DistanceConverter.convert(value, (DistanceUnit) inputUnit, (DistanceUnit) outputUnit, mathContext));
+        EXACT_CONVERTERS.put(MeasurementType.FREQUENCY, (value, inputUnit, outputUnit, mathContext) ->
+                FrequencyConverter.convert(value, (FrequencyUnit) inputUnit, (FrequencyUnit) outputUnit,
+                        mathContext));
+        EXACT_CONVERTERS.put(MeasurementType.MAGNETIC_FLUX_DENSITY, (value, inputUnit, outputUnit, mathContext) ->
+                MagneticFluxDensityConverter.convert(value, (MagneticFluxDensityUnit) inputUnit,
+                        (MagneticFluxDensityUnit) outputUnit, mathContext));
+        EXACT_CONVERTERS.put(MeasurementType.SPEED, (value, inputUnit, outputUnit, mathContext) ->
+                SpeedConverter.convert(value, (SpeedUnit) inputUnit, (SpeedUnit) outputUnit, mathContext));
+        EXACT_CONVERTERS.put(MeasurementType.SURFACE, (value, inputUnit, outputUnit, mathContext) ->
+                SurfaceConverter.convert(value, (SurfaceUnit) inputUnit, (SurfaceUnit) outputUnit, mathContext));
+        EXACT_CONVERTERS.put(MeasurementType.TEMPERATURE, (value, inputUnit, outputUnit, mathContext) ->
+                TemperatureConverter.convert(value, (TemperatureUnit) inputUnit, (TemperatureUnit) outputUnit,
+                        mathContext));
+        EXACT_CONVERTERS.put(MeasurementType.TIME, (value, inputUnit, outputUnit, mathContext) ->
+                TimeConverter.convert(value, (TimeUnit) inputUnit, (TimeUnit) outputUnit, mathContext));
+        EXACT_CONVERTERS.put(MeasurementType.VOLUME, (value, inputUnit, outputUnit, mathContext) ->
+                VolumeConverter.convert(value, (VolumeUnit) inputUnit, (VolumeUnit) outputUnit, mathContext));
+        EXACT_CONVERTERS.put(MeasurementType.WEIGHT, (value, inputUnit, outputUnit, mathContext) ->
+                WeightConverter.convert(value, (WeightUnit) inputUnit, (WeightUnit) outputUnit, mathContext));
+    }
+
+    @Test
+    void testConvertMatchesDoubleConversion() {
+        final var values = new BigDecimal[]{
+                BigDecimal.ZERO, BigDecimal.ONE, new BigDecimal("-0.1"), new BigDecimal("12345.678")
+        };
+        for (final var entry : EXACT_CONVERTERS.entrySet()) {
+            final var type = entry.getKey();
+            for (final var inputUnit : type.getUnitClass().getEnumConstants()) {
+                for (final var outputUnit : type.getUnitClass().getEnumConstants()) {
+                    for (final var value : values) {
+                        final var exact = entry.getValue().convert(value, inputUnit, outputUnit,
+                                MathContext.DECIMAL128).doubleValue();
+                        final var expected = type.convert(value.doubleValue(), inputUnit, outputUnit);
+                        assertEquals(expected, exact, Math.max(Math.abs(expected) * RELATIVE_ERROR, 1e-9),
+                                () -> type + " " + value + " " + inputUnit + " " + outputUnit);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testConvertExactly() {
+        assertEquals(new BigDecimal("160.9344"), DistanceConverter.convert(new BigDecimal("0.1"),
+                DistanceUnit.MILE, DistanceUnit.METER, MathContext.UNLIMITED));
+        assertEquals(new BigDecimal("63360"), DistanceConverter.convert(BigDecimal.ONE,
+                DistanceUnit.MILE, DistanceUnit.INCH, MathContext.UNLIMITED));
+        assertEquals(new BigDecimal("0.45359"), WeightConverter.convert(BigDecimal.ONE,
+                WeightUnit.POUND, WeightUnit.KILOGRAM, MathContext.UNLIMITED));
+        assertEquals(new BigDecimal("3.785411784"), VolumeConverter.convert(BigDecimal.ONE,
+                VolumeUnit.GALLON, VolumeUnit.LITER, MathContext.UNLIMITED));
+        assertEquals(new BigDecimal("68.0"), TemperatureConverter.convert(new BigDecimal("20"),
+                TemperatureUnit.CELSIUS, TemperatureUnit.FAHRENHEIT, MathContext.UNLIMITED));
+        assertEquals(new BigDecimal("20.0"), TemperatureConverter.convert(new BigDecimal("68"),
+                TemperatureUnit.FAHRENHEIT, TemperatureUnit.CELSIUS, MathContext.UNLIMITED));
+        assertEquals(new BigDecimal("-273.15"), TemperatureConverter.convert(BigDecimal.ZERO,
+                TemperatureUnit.KELVIN, TemperatureUnit.CELSIUS, MathContext.UNLIMITED));
+        assertEquals(new BigDecimal("2.5"), TimeConverter.convert(new BigDecimal("150"),
+                TimeUnit.MINUTE, TimeUnit.HOUR, MathContext.UNLIMITED));
+    }
+
+    @Test
+    void testConvertRounding() {
+        // 1 meter is 39.370078740157... inches
+        assertEquals(new BigDecimal("39.37007874015748"), DistanceConverter.convert(BigDecimal.ONE,
+                DistanceUnit.METER, DistanceUnit.INCH, MathContext.DECIMAL64));
+        assertEquals(new BigDecimal("39.4"), DistanceConverter.convert(BigDecimal.ONE,
+                DistanceUnit.METER, DistanceUnit.INCH, new MathContext(3, RoundingMode.HALF_EVEN)));
+        assertEquals(new BigDecimal("1.61E+3"), DistanceConverter.convert(BigDecimal.ONE,
+                DistanceUnit.MILE, DistanceUnit.METER, new MathContext(3, RoundingMode.HALF_EVEN)));
+        assertEquals(new BigDecimal("-17.77777777777778"), TemperatureConverter.convert(BigDecimal.ZERO,
+                TemperatureUnit.FAHRENHEIT, TemperatureUnit.CELSIUS, MathContext.DECIMAL64));
+
+        // Force ArithmeticException
+        assertThrows(ArithmeticException.class, () -> DistanceConverter.convert(BigDecimal.ONE,
+                DistanceUnit.METER, DistanceUnit.INCH, MathContext.UNLIMITED));
+        assertThrows(ArithmeticException.class, () -> DistanceConverter.convert(BigDecimal.ONE,
+                DistanceUnit.MILE, DistanceUnit.METER, new MathContext(3, RoundingMode.UNNECESSARY)));
+    }
+
+    @Test
+    void testConvertNotifiesMetrics() {
+        final var metrics = new RecordingUnitsMetrics();
+        UnitsMetricsRegistry.setMetrics(metrics);
+        try {
+            WeightConverter.convert(BigDecimal.ONE, WeightUnit.POUND, WeightUnit.KILOGRAM, MathContext.UNLIMITED);
+        } finally {
+            UnitsMetricsRegistry.setMetrics(null);
+        }
+        assertEquals(1, metrics.getConversionCount(MeasurementType.WEIGHT, WeightUnit.POUND, WeightUnit.KILOGRAM));
+    }
+
+    private interface ExactConverter {
+        BigDecimal convert(final BigDecimal value, final Enum<?> inputUnit, final Enum<?> outputUnit,
+                           final MathContext mathContext);
+    }
+}
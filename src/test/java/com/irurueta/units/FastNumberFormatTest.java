@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastNumberFormatTest {
+
+    private static final int TIMES = 2000;
+
+    private static final Locale[] LOCALES = {
+            Locale.ENGLISH, new Locale("es", "ES"), Locale.FRANCE, Locale.GERMANY, new Locale("de", "CH"),
+            new Locale("ar", "EG"), new Locale("hi", "IN")
+    };
+
+    private static final double[] SPECIAL_VALUES = {
+            0.0, -0.0, 1.0, -1.0, 0.5, 1.5, 2.5, -2.5, 0.125, 0.0005, 0.0009, 0.005, -0.0005, 0.05, 9.9995,
+            99.5, 999.9999, 1234.5, 1e7, 1.2345678e7, 9007199254740991.0, 9007199254740992.0, 1e22, 1e23,
+            2e23, 1.7976931348623157e308, 4.9e-324, 1e-5, 1.0e-10, 123456789.987654321, 0.1, 0.2, 0.3,
+            1.005, 2.675, 1.45, 5.55, Math.PI, Math.E
+    };
+
+    @Test
+    void testFromUnsupportedFormats() {
+        assertNotNull(FastNumberFormat.from(NumberFormat.getInstance(Locale.ENGLISH)));
+        assertNull(FastNumberFormat.from(NumberFormat.getCurrencyInstance(Locale.ENGLISH)));
+        assertNull(FastNumberFormat.from(NumberFormat.getPercentInstance(Locale.ENGLISH)));
+        assertNull(FastNumberFormat.from(new DecimalFormat("0.###E0")));
+
+        final var format = NumberFormat.getInstance(Locale.ENGLISH);
+        format.setRoundingMode(RoundingMode.UNNECESSARY);
+        assertNull(FastNumberFormat.from(format));
+    }
+
+    @Test
+    void testFormatSpecialValues() {
+        for (final var locale : LOCALES) {
+            for (final var roundingMode : RoundingMode.values()) {
+                if (roundingMode == RoundingMode.UNNECESSARY) {
+                    continue;
+                }
+
+                for (var fractionDigits = 0; fractionDigits <= 4; fractionDigits++) {
+                    final var format = NumberFormat.getInstance(locale);
+                    format.setRoundingMode(roundingMode);
+                    format.setMaximumFractionDigits(fractionDigits);
+
+                    for (final var value : SPECIAL_VALUES) {
+                        assertFormat(format, value);
+                        assertFormat(format, -value);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFormatRandomValues() {
+        final var random = new Random();
+        final var roundingModes = new RoundingMode[]{
+                RoundingMode.HALF_EVEN, RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.UP,
+                RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR
+        };
+
+        for (var t = 0; t < TIMES; t++) {
+            final var format = NumberFormat.getInstance(LOCALES[random.nextInt(LOCALES.length)]);
+            format.setRoundingMode(roundingModes[random.nextInt(roundingModes.length)]);
+            format.setMaximumFractionDigits(random.nextInt(8));
+            format.setMinimumFractionDigits(random.nextInt(3));
+            format.setMinimumIntegerDigits(random.nextInt(3));
+            format.setGroupingUsed(random.nextBoolean());
+
+            // decimal values with few digits exercise ties, random bits exercise any magnitude
+            assertFormat(format, (random.nextInt(2000001) - 1000000) / Math.pow(10.0, random.nextInt(8)));
+            assertFormat(format, random.nextGaussian() * Math.pow(10.0, random.nextInt(30) - 15));
+            assertFormat(format, (double) (random.nextLong() >> random.nextInt(64)));
+            final var bits = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(bits)) {
+                assertFormat(format, bits);
+            }
+        }
+    }
+
+    @Test
+    void testFormatWithMaximumIntegerDigits() {
+        final var format = NumberFormat.getInstance(Locale.ENGLISH);
+        format.setMaximumIntegerDigits(2);
+
+        assertFormat(format, 1997.25);
+        assertFormat(format, 5.0);
+        assertFormat(format, 0.25);
+
+        format.setMaximumIntegerDigits(0);
+        assertFormat(format, 1997.25);
+        assertFormat(format, 1997.0);
+    }
+
+    @Test
+    void testFormatWithDecimalSeparatorAlwaysShown() {
+        final var format = (DecimalFormat) NumberFormat.getInstance(Locale.ENGLISH);
+        format.setDecimalSeparatorAlwaysShown(true);
+
+        assertFormat(format, 5.0);
+        assertFormat(format, 5.25);
+        assertFormat(format, 0.0);
+    }
+
+    @Test
+    void testFormatAppendsResult() {
+        final var fastFormat = FastNumberFormat.from(NumberFormat.getInstance(Locale.ENGLISH));
+        assertNotNull(fastFormat);
+
+        final var builder = new StringBuilder("value: ");
+        assertSame(builder, fastFormat.format(1234.5, builder));
+        assertEquals("value: 1,234.5", builder.toString());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> fastFormat.format(Double.NaN, builder));
+        assertThrows(IllegalArgumentException.class,
+                () -> fastFormat.format(Double.POSITIVE_INFINITY, builder));
+    }
+
+    private static void assertFormat(final NumberFormat format, final double value) {
+        final var fastFormat = FastNumberFormat.from(format);
+        assertNotNull(fastFormat);
+
+        final var expected = format.format(BigDecimal.valueOf(value));
+        final var result = fastFormat.format(value, new StringBuilder()).toString();
+        assertEquals(expected, result, () -> value + " " + ((DecimalFormat) format).toPattern() + " "
+                + format.getRoundingMode());
+    }
+}
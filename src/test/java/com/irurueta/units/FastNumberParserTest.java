@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastNumberParserTest {
+
+    private static final int TIMES = 5000;
+
+    private static final Locale[] LOCALES = {
+            Locale.ENGLISH, new Locale("es", "ES"), Locale.FRANCE, Locale.GERMANY, new Locale("de", "CH"),
+            new Locale("sv", "SE")
+    };
+
+    private static final String[] SPECIAL_VALUES = {
+            "0", "-0", "5", "-5", "5.5", "-5.5", ".5", "-.5", "1.", "00012.500", "0.000", "0.0001", "1,5",
+            "1,,2", "1.2,3", "5,", "5, m", "1,.5", "1E3", "1E+3", "1E-3", "1E", "1e3", "1.E2", "1E-3.5",
+            "E3", "-", ".", "", "m", "5 m", "-5,5 mm", "123456789012345", "1234567890123456",
+            "12345678901234567890", "0.1234567890123456789", "1E22", "1E23", "1E-22", "1E-23",
+            "1E999999999", "1E9999999999", "9007199254740993", "NaN", "-NaN", "∞", "-∞", "١٢", "1١"
+    };
+
+    private static final String[] FRAGMENTS = {
+            "0", "1", "5", "9", "00", "123", ".", ",", "-", "E", "E-", " ", "m", " ", " "
+    };
+
+    @Test
+    void testFromUnsupportedFormats() {
+        assertNotNull(FastNumberParser.from(NumberFormat.getInstance(Locale.ENGLISH)));
+        assertNull(FastNumberParser.from(NumberFormat.getCurrencyInstance(Locale.ENGLISH)));
+        assertNull(FastNumberParser.from(NumberFormat.getPercentInstance(Locale.ENGLISH)));
+        assertNull(FastNumberParser.from(NumberFormat.getInstance(new Locale("ar", "EG"))));
+
+        final var format = new DecimalFormat();
+        format.setParseBigDecimal(true);
+        assertNull(FastNumberParser.from(format));
+    }
+
+    @Test
+    void testParseSpecialValues() {
+        for (final var locale : LOCALES) {
+            for (final var integerOnly : new boolean[]{false, true}) {
+                for (final var groupingUsed : new boolean[]{false, true}) {
+                    final var format = NumberFormat.getInstance(locale);
+                    format.setParseIntegerOnly(integerOnly);
+                    format.setGroupingUsed(groupingUsed);
+
+                    for (final var value : SPECIAL_VALUES) {
+                        assertParse(format, value);
+                        assertParse(format, localize(value, format));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testParseRandomValues() {
+        final var random = new Random();
+        for (final var locale : LOCALES) {
+            final var format = NumberFormat.getInstance(locale);
+            for (var t = 0; t < TIMES; t++) {
+                final var builder = new StringBuilder();
+                final var n = random.nextInt(10);
+                for (var i = 0; i < n; i++) {
+                    builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                }
+                assertParse(format, builder.toString());
+            }
+
+            for (var t = 0; t < TIMES; t++) {
+                final var value = random.nextDouble() * Math.pow(10.0, random.nextInt(20) - 10);
+                assertParse(format, format.format(random.nextBoolean() ? value : -value));
+            }
+        }
+    }
+
+    @Test
+    void testParseRegion() {
+        final var parser = FastNumberParser.from(NumberFormat.getInstance(Locale.ENGLISH));
+        assertNotNull(parser);
+        final var cursor = new FastNumberParser.Cursor();
+
+        // end of region is considered end of input
+        assertTrue(parser.parse("x12.5E3x", 1, 5, cursor));
+        assertEquals(12.5, cursor.value, 0.0);
+        assertEquals(5, cursor.index);
+
+        assertTrue(parser.parse("x12.5E3x", 1, 7, cursor));
+        assertEquals(12500.0, cursor.value, 0.0);
+        assertEquals(7, cursor.index);
+
+        assertFalse(parser.parse("x12.5E3x", 0, 8, cursor));
+        assertFalse(parser.parse("x12.5E3x", 1, 1, cursor));
+    }
+
+    private static String localize(final String value, final NumberFormat format) {
+        final var symbols = ((DecimalFormat) format).getDecimalFormatSymbols();
+        final var builder = new StringBuilder(value.length());
+        for (var i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c == '.') {
+                builder.append(symbols.getDecimalSeparator());
+            } else if (c == ',') {
+                builder.append(symbols.getGroupingSeparator());
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void assertParse(final NumberFormat format, final String value) {
+        final var parser = FastNumberParser.from(format);
+        assertNotNull(parser);
+
+        final var position = new ParsePosition(0);
+        final var expected = format.parse(value, position);
+
+        final var cursor = new FastNumberParser.Cursor();
+        final var parsed = parser.parse(value, 0, value.length(), cursor);
+        if (expected == null) {
+            assertFalse(parsed, value);
+        } else {
+            assertTrue(parsed, value);
+            assertEquals(expected.doubleValue(), cursor.value, 0.0, value);
+            assertEquals(Double.doubleToLongBits(expected.doubleValue()), Double.doubleToLongBits(cursor.value),
+                    value);
+            assertEquals(position.getIndex(), cursor.index, value);
+        }
+    }
+}
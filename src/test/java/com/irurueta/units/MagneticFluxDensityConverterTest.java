@@ -18,9 +18,12 @@ package com.irurueta.units;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.Random;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class MagneticFluxDensityConverterTest {
 
@@ -33,6 +36,10 @@ class MagneticFluxDensityConverterTest {
 
     private static final double ERROR = 1e-6;
 
+    private static final double RELATIVE_ERROR = 1e-12;
+
+    private static final int LENGTH = 10;
+
     @Test
     void testTeslaNanoTesla() {
         final var inputValue = new Random().nextDouble();
@@ -97,182 +104,184 @@ class MagneticFluxDensityConverterTest {
     void testConvertDouble() {
         final var inputValue = new Random().nextDouble();
 
-        assertEquals(inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.NANOTESLA,
-                        MagneticFluxDensityUnit.NANOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMicroTesla(
+        assertConversion(inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.NANOTESLA,
+                        MagneticFluxDensityUnit.NANOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMicroTesla(
                 MagneticFluxDensityConverter.nanoTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.NANOTESLA,
-                        MagneticFluxDensityUnit.MICROTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMilliTesla(
+                        MagneticFluxDensityUnit.MICROTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMilliTesla(
                 MagneticFluxDensityConverter.nanoTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.NANOTESLA,
-                        MagneticFluxDensityUnit.MILLITESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.nanoTeslaToTesla(inputValue),
+                        MagneticFluxDensityUnit.MILLITESLA));
+        assertConversion(MagneticFluxDensityConverter.nanoTeslaToTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.NANOTESLA,
-                        MagneticFluxDensityUnit.TESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToKiloTesla(
+                        MagneticFluxDensityUnit.TESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToKiloTesla(
                 MagneticFluxDensityConverter.nanoTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.NANOTESLA,
-                        MagneticFluxDensityUnit.KILOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMegaTesla(
+                        MagneticFluxDensityUnit.KILOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMegaTesla(
                 MagneticFluxDensityConverter.nanoTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.NANOTESLA,
-                        MagneticFluxDensityUnit.MEGATESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToGigaTesla(
+                        MagneticFluxDensityUnit.MEGATESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToGigaTesla(
                 MagneticFluxDensityConverter.nanoTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.NANOTESLA,
-                        MagneticFluxDensityUnit.GIGATESLA), ERROR);
+                        MagneticFluxDensityUnit.GIGATESLA));
 
-        assertEquals(MagneticFluxDensityConverter.teslaToNanoTesla(
+        assertConversion(MagneticFluxDensityConverter.teslaToNanoTesla(
                 MagneticFluxDensityConverter.microTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MICROTESLA,
-                        MagneticFluxDensityUnit.NANOTESLA), ERROR);
-        assertEquals(inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MICROTESLA,
-                        MagneticFluxDensityUnit.MICROTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMilliTesla(
+                        MagneticFluxDensityUnit.NANOTESLA));
+        assertConversion(
+                inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MICROTESLA,
+                        MagneticFluxDensityUnit.MICROTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMilliTesla(
                 MagneticFluxDensityConverter.microTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MICROTESLA,
-                        MagneticFluxDensityUnit.MILLITESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.microTeslaToTesla(inputValue),
+                        MagneticFluxDensityUnit.MILLITESLA));
+        assertConversion(MagneticFluxDensityConverter.microTeslaToTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MICROTESLA,
-                        MagneticFluxDensityUnit.TESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToKiloTesla(
+                        MagneticFluxDensityUnit.TESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToKiloTesla(
                 MagneticFluxDensityConverter.microTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MICROTESLA,
-                        MagneticFluxDensityUnit.KILOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMegaTesla(
+                        MagneticFluxDensityUnit.KILOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMegaTesla(
                 MagneticFluxDensityConverter.microTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MICROTESLA,
-                        MagneticFluxDensityUnit.MEGATESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToGigaTesla(
+                        MagneticFluxDensityUnit.MEGATESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToGigaTesla(
                 MagneticFluxDensityConverter.microTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MICROTESLA,
-                        MagneticFluxDensityUnit.GIGATESLA), ERROR);
+                        MagneticFluxDensityUnit.GIGATESLA));
 
-        assertEquals(MagneticFluxDensityConverter.teslaToNanoTesla(
+        assertConversion(MagneticFluxDensityConverter.teslaToNanoTesla(
                 MagneticFluxDensityConverter.milliTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MILLITESLA,
-                        MagneticFluxDensityUnit.NANOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMicroTesla(
+                        MagneticFluxDensityUnit.NANOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMicroTesla(
                 MagneticFluxDensityConverter.milliTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MILLITESLA,
-                        MagneticFluxDensityUnit.MICROTESLA), ERROR);
-        assertEquals(inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MILLITESLA,
-                        MagneticFluxDensityUnit.MILLITESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.milliTeslaToTesla(inputValue),
+                        MagneticFluxDensityUnit.MICROTESLA));
+        assertConversion(
+                inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MILLITESLA,
+                        MagneticFluxDensityUnit.MILLITESLA));
+        assertConversion(MagneticFluxDensityConverter.milliTeslaToTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MILLITESLA,
-                        MagneticFluxDensityUnit.TESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToKiloTesla(
+                        MagneticFluxDensityUnit.TESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToKiloTesla(
                 MagneticFluxDensityConverter.milliTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MILLITESLA,
-                        MagneticFluxDensityUnit.KILOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMegaTesla(
+                        MagneticFluxDensityUnit.KILOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMegaTesla(
                 MagneticFluxDensityConverter.milliTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MILLITESLA,
-                        MagneticFluxDensityUnit.MEGATESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToGigaTesla(
+                        MagneticFluxDensityUnit.MEGATESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToGigaTesla(
                 MagneticFluxDensityConverter.milliTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MILLITESLA,
-                        MagneticFluxDensityUnit.GIGATESLA), ERROR);
+                        MagneticFluxDensityUnit.GIGATESLA));
 
-        assertEquals(MagneticFluxDensityConverter.teslaToNanoTesla(inputValue),
+        assertConversion(MagneticFluxDensityConverter.teslaToNanoTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.TESLA,
-                        MagneticFluxDensityUnit.NANOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMicroTesla(inputValue),
+                        MagneticFluxDensityUnit.NANOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMicroTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.TESLA,
-                        MagneticFluxDensityUnit.MICROTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMilliTesla(inputValue),
+                        MagneticFluxDensityUnit.MICROTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMilliTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.TESLA,
-                        MagneticFluxDensityUnit.MILLITESLA), ERROR);
-        assertEquals(inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.TESLA,
-                        MagneticFluxDensityUnit.TESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToKiloTesla(inputValue),
+                        MagneticFluxDensityUnit.MILLITESLA));
+        assertConversion(inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.TESLA,
+                        MagneticFluxDensityUnit.TESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToKiloTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.TESLA,
-                        MagneticFluxDensityUnit.KILOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMegaTesla(inputValue),
+                        MagneticFluxDensityUnit.KILOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMegaTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.TESLA,
-                        MagneticFluxDensityUnit.MEGATESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToGigaTesla(inputValue),
+                        MagneticFluxDensityUnit.MEGATESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToGigaTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.TESLA,
-                        MagneticFluxDensityUnit.GIGATESLA), ERROR);
+                        MagneticFluxDensityUnit.GIGATESLA));
 
-        assertEquals(MagneticFluxDensityConverter.teslaToNanoTesla(
+        assertConversion(MagneticFluxDensityConverter.teslaToNanoTesla(
                 MagneticFluxDensityConverter.kiloTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.KILOTESLA,
-                        MagneticFluxDensityUnit.NANOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMicroTesla(
+                        MagneticFluxDensityUnit.NANOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMicroTesla(
                 MagneticFluxDensityConverter.kiloTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.KILOTESLA,
-                        MagneticFluxDensityUnit.MICROTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMilliTesla(
+                        MagneticFluxDensityUnit.MICROTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMilliTesla(
                 MagneticFluxDensityConverter.kiloTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.KILOTESLA,
-                        MagneticFluxDensityUnit.MILLITESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.kiloTeslaToTesla(inputValue),
+                        MagneticFluxDensityUnit.MILLITESLA));
+        assertConversion(MagneticFluxDensityConverter.kiloTeslaToTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.KILOTESLA,
-                        MagneticFluxDensityUnit.TESLA), ERROR);
-        assertEquals(inputValue, MagneticFluxDensityConverter.convert(inputValue,
-                        MagneticFluxDensityUnit.KILOTESLA, MagneticFluxDensityUnit.KILOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMegaTesla(
+                        MagneticFluxDensityUnit.TESLA));
+        assertConversion(inputValue, MagneticFluxDensityConverter.convert(inputValue,
+                        MagneticFluxDensityUnit.KILOTESLA, MagneticFluxDensityUnit.KILOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMegaTesla(
                 MagneticFluxDensityConverter.kiloTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.KILOTESLA,
-                        MagneticFluxDensityUnit.MEGATESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToGigaTesla(
+                        MagneticFluxDensityUnit.MEGATESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToGigaTesla(
                 MagneticFluxDensityConverter.kiloTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.KILOTESLA,
-                        MagneticFluxDensityUnit.GIGATESLA), ERROR);
+                        MagneticFluxDensityUnit.GIGATESLA));
 
-        assertEquals(MagneticFluxDensityConverter.teslaToNanoTesla(
+        assertConversion(MagneticFluxDensityConverter.teslaToNanoTesla(
                 MagneticFluxDensityConverter.megaTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MEGATESLA,
-                        MagneticFluxDensityUnit.NANOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMicroTesla(
+                        MagneticFluxDensityUnit.NANOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMicroTesla(
                 MagneticFluxDensityConverter.megaTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MEGATESLA,
-                        MagneticFluxDensityUnit.MICROTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMilliTesla(
+                        MagneticFluxDensityUnit.MICROTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMilliTesla(
                 MagneticFluxDensityConverter.megaTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MEGATESLA,
-                        MagneticFluxDensityUnit.MILLITESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.megaTeslaToTesla(inputValue),
+                        MagneticFluxDensityUnit.MILLITESLA));
+        assertConversion(MagneticFluxDensityConverter.megaTeslaToTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MEGATESLA,
-                        MagneticFluxDensityUnit.TESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToKiloTesla(
+                        MagneticFluxDensityUnit.TESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToKiloTesla(
                 MagneticFluxDensityConverter.megaTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MEGATESLA,
-                        MagneticFluxDensityUnit.KILOTESLA), ERROR);
-        assertEquals(inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MEGATESLA,
-                        MagneticFluxDensityUnit.MEGATESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToGigaTesla(
+                        MagneticFluxDensityUnit.KILOTESLA));
+        assertConversion(inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MEGATESLA,
+                        MagneticFluxDensityUnit.MEGATESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToGigaTesla(
                 MagneticFluxDensityConverter.megaTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.MEGATESLA,
-                        MagneticFluxDensityUnit.GIGATESLA), ERROR);
+                        MagneticFluxDensityUnit.GIGATESLA));
 
-        assertEquals(MagneticFluxDensityConverter.teslaToNanoTesla(
+        assertConversion(MagneticFluxDensityConverter.teslaToNanoTesla(
                 MagneticFluxDensityConverter.gigaTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.GIGATESLA,
-                        MagneticFluxDensityUnit.NANOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMicroTesla(
+                        MagneticFluxDensityUnit.NANOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMicroTesla(
                 MagneticFluxDensityConverter.gigaTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.GIGATESLA,
-                        MagneticFluxDensityUnit.MICROTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMilliTesla(
+                        MagneticFluxDensityUnit.MICROTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMilliTesla(
                 MagneticFluxDensityConverter.gigaTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.GIGATESLA,
-                        MagneticFluxDensityUnit.MILLITESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.gigaTeslaToTesla(inputValue),
+                        MagneticFluxDensityUnit.MILLITESLA));
+        assertConversion(MagneticFluxDensityConverter.gigaTeslaToTesla(inputValue),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.GIGATESLA,
-                        MagneticFluxDensityUnit.TESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToKiloTesla(
+                        MagneticFluxDensityUnit.TESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToKiloTesla(
                 MagneticFluxDensityConverter.gigaTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.GIGATESLA,
-                        MagneticFluxDensityUnit.KILOTESLA), ERROR);
-        assertEquals(MagneticFluxDensityConverter.teslaToMegaTesla(
+                        MagneticFluxDensityUnit.KILOTESLA));
+        assertConversion(MagneticFluxDensityConverter.teslaToMegaTesla(
                 MagneticFluxDensityConverter.gigaTeslaToTesla(inputValue)),
                 MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.GIGATESLA,
-                        MagneticFluxDensityUnit.MEGATESLA), ERROR);
-        assertEquals(inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.GIGATESLA,
-                        MagneticFluxDensityUnit.GIGATESLA), ERROR);
+                        MagneticFluxDensityUnit.MEGATESLA));
+        assertConversion(inputValue, MagneticFluxDensityConverter.convert(inputValue, MagneticFluxDensityUnit.GIGATESLA,
+                        MagneticFluxDensityUnit.GIGATESLA));
     }
 
     @Test
@@ -327,6 +336,7 @@ class MagneticFluxDensityConverterTest {
         assertEquals(MagneticFluxDensityUnit.TESLA, outputB.getUnit());
         assertEquals(MagneticFluxDensityConverter.convert(value, inputB.getUnit(), outputB.getUnit()),
                 outputB.getValue().doubleValue(), 0.0);
+        assertInstanceOf(Double.class, outputB.getValue());
     }
 
     @Test
@@ -346,4 +356,128 @@ class MagneticFluxDensityConverterTest {
         assertEquals(MagneticFluxDensityConverter.convert(value, inputB.getUnit(), outputB.getUnit()),
                 outputB.getValue().doubleValue(), 0.0);
     }
+
+    @Test
+    void testConvertArray() {
+        final var random = new Random();
+        final var input = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            input[i] = random.nextDouble();
+        }
+
+        for (final var inputUnit : MagneticFluxDensityUnit.values()) {
+            for (final var outputUnit : MagneticFluxDensityUnit.values()) {
+                final var output = new double[LENGTH + 1];
+                MagneticFluxDensityConverter.convert(input, 1, output, 2, LENGTH - 1, inputUnit, outputUnit);
+
+                // check
+                assertEquals(0.0, output[0], 0.0);
+                assertEquals(0.0, output[1], 0.0);
+                for (var i = 1; i < LENGTH; i++) {
+                    final var expected = MagneticFluxDensityConverter.convert(input[i], inputUnit, outputUnit);
+                    assertEquals(expected, output[i + 1], Math.abs(expected) * RELATIVE_ERROR);
+                }
+            }
+        }
+
+        // convert in place with overlapping regions
+        final var unit1 = MagneticFluxDensityUnit.NANOTESLA;
+        final var unit2 = MagneticFluxDensityUnit.GIGATESLA;
+        final var values = Arrays.copyOf(input, LENGTH);
+        MagneticFluxDensityConverter.convert(values, 0, values, 1, LENGTH - 1, unit1, unit2);
+
+        // check
+        assertEquals(input[0], values[0], 0.0);
+        for (var i = 1; i < LENGTH; i++) {
+            final var expected = MagneticFluxDensityConverter.convert(input[i - 1], unit1, unit2);
+            assertEquals(expected, values[i], Math.abs(expected) * RELATIVE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var output = new double[LENGTH];
+        assertThrows(IllegalArgumentException.class,
+                () -> MagneticFluxDensityConverter.convert(input, -1, output, 0, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> MagneticFluxDensityConverter.convert(input, 0, output, -1, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> MagneticFluxDensityConverter.convert(input, 0, output, 0, -1, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> MagneticFluxDensityConverter.convert(input, 1, output, 0, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> MagneticFluxDensityConverter.convert(input, 0, output, 1, LENGTH, unit1, unit2));
+    }
+
+    private static void assertConversion(final double expected, final double actual) {
+        // factors between units spanning many orders of magnitude are precomputed, hence
+        // results can differ from a two-step conversion in their last bits
+        assertEquals(expected, actual, Math.max(ERROR, Math.abs(expected) * RELATIVE_ERROR));
+    }
+
+    @Test
+    void testConvertDoubleBuffer() {
+        final var random = new Random();
+        final var values = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            values[i] = random.nextDouble();
+        }
+
+        for (final var inputUnit : MagneticFluxDensityUnit.values()) {
+            for (final var outputUnit : MagneticFluxDensityUnit.values()) {
+                // heap buffers
+                final var input = DoubleBuffer.wrap(values);
+                final var output = DoubleBuffer.allocate(LENGTH);
+                MagneticFluxDensityConverter.convert(input, output, inputUnit, outputUnit);
+
+                // check
+                assertFalse(input.hasRemaining());
+                assertFalse(output.hasRemaining());
+                for (var i = 0; i < LENGTH; i++) {
+                    final var expected = MagneticFluxDensityConverter.convert(values[i], inputUnit, outputUnit);
+                    assertEquals(expected, output.get(i), Math.abs(expected) * RELATIVE_ERROR);
+                }
+
+                // direct buffers
+                final var directInput = directBuffer(values);
+                final var directOutput = directBuffer(new double[LENGTH]);
+                MagneticFluxDensityConverter.convert(directInput, directOutput, inputUnit, outputUnit);
+
+                // check
+                assertFalse(directInput.hasRemaining());
+                assertFalse(directOutput.hasRemaining());
+                for (var i = 0; i < LENGTH; i++) {
+                    assertEquals(output.get(i), directOutput.get(i), 0.0);
+                }
+            }
+        }
+
+        // convert in place
+        final var unit1 = MagneticFluxDensityUnit.NANOTESLA;
+        final var unit2 = MagneticFluxDensityUnit.GIGATESLA;
+        final var buffer = directBuffer(values);
+        buffer.position(1);
+        MagneticFluxDensityConverter.convert(buffer, buffer, unit1, unit2);
+
+        // check
+        assertEquals(LENGTH, buffer.position());
+        assertEquals(values[0], buffer.get(0), 0.0);
+        for (var i = 1; i < LENGTH; i++) {
+            final var expected = MagneticFluxDensityConverter.convert(values[i], unit1, unit2);
+            assertEquals(expected, buffer.get(i), Math.abs(expected) * RELATIVE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var input = DoubleBuffer.wrap(values);
+        final var output = DoubleBuffer.allocate(LENGTH - 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> MagneticFluxDensityConverter.convert(input, output, unit1, unit2));
+        assertEquals(0, input.position());
+        assertEquals(0, output.position());
+    }
+
+    private static DoubleBuffer directBuffer(final double[] values) {
+        final var result = ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer();
+        result.put(values);
+        result.flip();
+        return result;
+    }
 }
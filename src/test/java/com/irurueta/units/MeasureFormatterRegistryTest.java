@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeasureFormatterRegistryTest {
+
+    private static final Locale LOCALE = new Locale("es", "ES");
+
+    @Test
+    void testConstructor() {
+        var registry = new MeasureFormatterRegistry();
+
+        // check
+        assertEquals(MeasureFormatterRegistry.DEFAULT_MAXIMUM_SIZE, registry.getMaximumSize());
+        assertEquals(0, registry.size());
+        assertEquals(0, registry.getHitCount());
+        assertEquals(0, registry.getMissCount());
+        assertEquals(0, registry.getEvictionCount());
+        assertEquals(0.0, registry.getHitRate(), 0.0);
+
+        registry = new MeasureFormatterRegistry(2);
+
+        // check
+        assertEquals(2, registry.getMaximumSize());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new MeasureFormatterRegistry(0));
+    }
+
+    @Test
+    void testGet() {
+        final var registry = new MeasureFormatterRegistry();
+
+        final var formatter1 = registry.get(DistanceFormatter.class, MeasurementType.DISTANCE, LOCALE);
+
+        // check
+        assertTrue(formatter1.isFrozen());
+        assertEquals(LOCALE, formatter1.getLocale());
+        assertEquals(NumberFormat.getInstance(LOCALE).getMaximumFractionDigits(),
+                formatter1.getMaximumFractionDigits());
+        assertEquals(MeasureFormatter.DEFAULT_VALUE_AND_UNIT_FORMAT_PATTERN,
+                formatter1.getValueAndUnitFormatPattern());
+        assertEquals("5,5 m", formatter1.format(5.5, DistanceUnit.METER));
+        assertEquals(1, registry.size());
+        assertEquals(0, registry.getHitCount());
+        assertEquals(1, registry.getMissCount());
+
+        final var formatter2 = registry.get(DistanceFormatter.class, MeasurementType.DISTANCE, LOCALE);
+
+        // check
+        assertSame(formatter1, formatter2);
+        assertEquals(1, registry.getHitCount());
+        assertEquals(1, registry.getMissCount());
+        assertEquals(0.5, registry.getHitRate(), 0.0);
+
+        final var formatter3 = registry.get(SpeedFormatter.class, MeasurementType.SPEED, LOCALE, 1);
+
+        // check
+        assertEquals(1, formatter3.getMaximumFractionDigits());
+        assertEquals("5,6 m/s", formatter3.format(5.55, SpeedUnit.METERS_PER_SECOND));
+        assertNotSame(formatter3, registry.get(MeasurementType.SPEED, LOCALE, 2));
+        assertSame(formatter3, registry.get(MeasurementType.SPEED, LOCALE, 1));
+
+        final var formatter4 = registry.get(DistanceFormatter.class, MeasurementType.DISTANCE, LOCALE, 2, "{1}: {0}");
+
+        // check
+        assertEquals("m: 5,55", formatter4.format(5.55, DistanceUnit.METER));
+        assertNotSame(formatter1, formatter4);
+        assertNotSame(formatter1, registry.get(MeasurementType.DISTANCE, Locale.ENGLISH));
+        assertEquals(5, registry.size());
+        assertEquals(2, registry.getHitCount());
+        assertEquals(5, registry.getMissCount());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> registry.get(null, LOCALE));
+        assertThrows(IllegalArgumentException.class, () -> registry.get(MeasurementType.DISTANCE, null));
+        assertThrows(IllegalArgumentException.class, () -> registry.get(MeasurementType.DISTANCE, LOCALE, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.get(MeasurementType.DISTANCE, LOCALE, 2, null));
+        assertThrows(IllegalArgumentException.class, () -> registry.get(null, MeasurementType.DISTANCE, LOCALE));
+
+        // Force ClassCastException
+        assertThrows(ClassCastException.class,
+                () -> registry.get(SpeedFormatter.class, MeasurementType.DISTANCE, LOCALE));
+        assertThrows(ClassCastException.class,
+                () -> registry.get(SpeedFormatter.class, MeasurementType.DISTANCE, LOCALE, 2));
+        assertThrows(ClassCastException.class,
+                () -> registry.get(SpeedFormatter.class, MeasurementType.DISTANCE, LOCALE, 2, "{1}: {0}"));
+    }
+
+    @Test
+    void testGetAllTypes() {
+        final var registry = new MeasureFormatterRegistry();
+        for (final var type : MeasurementType.values()) {
+            final MeasureFormatter<?, ?> formatter = registry.get(type, LOCALE);
+
+            // check
+            assertTrue(formatter.isFrozen());
+            assertSame(formatter, registry.get(type, LOCALE));
+        }
+        assertEquals(MeasurementType.values().length, registry.size());
+    }
+
+    @Test
+    void testEviction() {
+        final var registry = new MeasureFormatterRegistry(2);
+
+        final var distanceFormatter = registry.get(DistanceFormatter.class, MeasurementType.DISTANCE, LOCALE);
+        final var speedFormatter = registry.get(SpeedFormatter.class, MeasurementType.SPEED, LOCALE);
+
+        // access distance formatter, so that speed formatter becomes least recently used
+        assertSame(distanceFormatter, registry.get(MeasurementType.DISTANCE, LOCALE));
+        registry.get(MeasurementType.TIME, LOCALE);
+
+        // check
+        assertEquals(2, registry.size());
+        assertEquals(1, registry.getEvictionCount());
+        assertSame(distanceFormatter, registry.get(MeasurementType.DISTANCE, LOCALE));
+        assertNotSame(speedFormatter, registry.get(MeasurementType.SPEED, LOCALE));
+        assertEquals(2, registry.getEvictionCount());
+    }
+
+    @Test
+    void testClearAndResetStatistics() {
+        final var registry = new MeasureFormatterRegistry();
+        final var formatter = registry.get(DistanceFormatter.class, MeasurementType.DISTANCE, LOCALE);
+        registry.get(MeasurementType.DISTANCE, LOCALE);
+
+        registry.clear();
+
+        // check
+        assertEquals(0, registry.size());
+        assertEquals(1, registry.getHitCount());
+        assertEquals(1, registry.getMissCount());
+        assertNotSame(formatter, registry.get(MeasurementType.DISTANCE, LOCALE));
+
+        registry.resetStatistics();
+
+        // check
+        assertEquals(0, registry.getHitCount());
+        assertEquals(0, registry.getMissCount());
+        assertEquals(0, registry.getEvictionCount());
+    }
+
+    @Test
+    void testConcurrentGet() throws InterruptedException, ExecutionException {
+        final var registry = new MeasureFormatterRegistry(4);
+        final var locales = new Locale[]{LOCALE, Locale.ENGLISH, Locale.FRANCE, Locale.GERMANY, Locale.ITALY};
+
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            final var tasks = new ArrayList<Callable<Boolean>>();
+            for (var t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    for (var i = 0; i < 1000; i++) {
+                        final var locale = locales[i % locales.length];
+                        final var formatter = registry.get(DistanceFormatter.class, MeasurementType.DISTANCE, locale);
+                        if (!formatter.getLocale().equals(locale) || !formatter.isFrozen()) {
+                            return false;
+                        }
+                        formatter.format(1.5, DistanceUnit.METER);
+                    }
+                    return true;
+                });
+            }
+
+            for (final var future : executor.invokeAll(tasks)) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // check
+        assertTrue(registry.size() <= 4);
+        assertEquals(8000, registry.getHitCount() + registry.getMissCount());
+    }
+}
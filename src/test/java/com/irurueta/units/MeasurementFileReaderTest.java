@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeasurementFileReaderTest {
+
+    private static final int LENGTH = 100;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void testConstructor() throws IOException {
+        final var values = randomValues();
+        final var path = write(values, DistanceUnit.FOOT);
+
+        try (final var reader = new MeasurementFileReader(path)) {
+            // check
+            assertEquals(MeasurementType.DISTANCE, reader.getType());
+            assertEquals(DistanceUnit.FOOT, reader.getUnit());
+            assertEquals(LENGTH, reader.length());
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new MeasurementFileReader(null));
+    }
+
+    @Test
+    void testInvalidFiles() throws IOException {
+        // too short
+        final var path = folder.resolve("invalid.bin");
+        Files.write(path, new byte[8]);
+        assertThrows(IOException.class, () -> new MeasurementFileReader(path));
+
+        // wrong magic number
+        final var header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0, 0x12345678);
+        Files.write(path, header.array());
+        assertThrows(IOException.class, () -> new MeasurementFileReader(path));
+
+        // unknown type
+        header.putInt(0, MeasurementFileFormat.MAGIC);
+        header.put(4, MeasurementFileFormat.VERSION);
+        header.put(5, (byte) 100);
+        Files.write(path, header.array());
+        assertThrows(IOException.class, () -> new MeasurementFileReader(path));
+
+        // unknown unit
+        header.put(5, (byte) MeasurementType.DISTANCE.getCode());
+        header.put(6, (byte) 100);
+        Files.write(path, header.array());
+        assertThrows(IOException.class, () -> new MeasurementFileReader(path));
+
+        // truncated values
+        header.put(6, (byte) 0);
+        header.putLong(8, 10L);
+        Files.write(path, header.array());
+        assertThrows(IOException.class, () -> new MeasurementFileReader(path));
+
+        // valid empty file
+        header.putLong(8, 0L);
+        Files.write(path, header.array());
+        try (final var reader = new MeasurementFileReader(path)) {
+            assertEquals(0, reader.length());
+        }
+    }
+
+    @Test
+    void testGetAndRead() throws IOException {
+        final var values = randomValues();
+        final var path = write(values, TimeUnit.MILLISECOND);
+
+        try (final var reader = new MeasurementFileReader(path)) {
+            for (var i = 0; i < LENGTH; i++) {
+                assertEquals(values[i], reader.get(i), 0.0);
+            }
+
+            final var output = new double[LENGTH + 1];
+            reader.read(10, output, 1, LENGTH - 10);
+
+            // check
+            assertEquals(0.0, output[0], 0.0);
+            for (var i = 10; i < LENGTH; i++) {
+                assertEquals(values[i], output[i - 9], 0.0);
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> reader.get(-1));
+            assertThrows(IllegalArgumentException.class, () -> reader.get(LENGTH));
+            assertThrows(IllegalArgumentException.class, () -> reader.read(-1, output, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> reader.read(1, output, 0, LENGTH));
+            assertThrows(IllegalArgumentException.class, () -> reader.read(0, output, 2, LENGTH));
+        }
+    }
+
+    @Test
+    void testView() throws IOException {
+        final var path = write(randomValues(), DistanceUnit.FOOT);
+
+        try (final var reader = new MeasurementFileReader(path)) {
+            final var view = reader.view(DistanceUnit.METER);
+
+            // check
+            assertEquals(DistanceUnit.METER, view.getUnit());
+            assertEquals(LENGTH, view.length());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> reader.view(TimeUnit.SECOND));
+            assertThrows(IllegalArgumentException.class, () -> reader.view((DistanceUnit) null));
+        }
+    }
+
+    private <U extends Enum<U>> Path write(final double[] values, final U unit) throws IOException {
+        final var path = folder.resolve("values.bin");
+        try (final var writer = new MeasurementFileWriter<>(path, unit)) {
+            writer.write(values, 0, values.length);
+        }
+        return path;
+    }
+
+    private static double[] randomValues() {
+        final var random = new Random();
+        final var result = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            result[i] = random.nextDouble();
+        }
+        return result;
+    }
+}
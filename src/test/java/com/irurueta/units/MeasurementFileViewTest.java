@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeasurementFileViewTest {
+
+    private static final int LENGTH = 100;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void testGetAndRead() throws IOException {
+        final var random = new Random();
+        final var values = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            values[i] = random.nextDouble();
+        }
+
+        final var path = folder.resolve("temperatures.bin");
+        try (final var writer = new MeasurementFileWriter<>(path, TemperatureUnit.FAHRENHEIT)) {
+            writer.write(values, 0, LENGTH);
+        }
+
+        try (final var reader = new MeasurementFileReader(path)) {
+            final var view = reader.view(TemperatureUnit.KELVIN);
+
+            // check
+            assertEquals(TemperatureUnit.KELVIN, view.getUnit());
+            assertEquals(LENGTH, view.length());
+            for (var i = 0; i < LENGTH; i++) {
+                assertEquals(TemperatureConverter.convert(values[i], TemperatureUnit.FAHRENHEIT,
+                        TemperatureUnit.KELVIN), view.get(i), 0.0);
+            }
+
+            final var output = new double[LENGTH];
+            view.read(0, output, 0, LENGTH);
+
+            // check
+            for (var i = 0; i < LENGTH; i++) {
+                assertEquals(view.get(i), output[i], 0.0);
+            }
+
+            // values are not modified
+            assertEquals(values[0], reader.get(0), 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> view.get(LENGTH));
+            assertThrows(IllegalArgumentException.class, () -> view.read(1, output, 0, LENGTH));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeasurementFileWriterTest {
+
+    private static final double ERROR = 1e-6;
+
+    private static final int LENGTH = 100;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void testConstructor() throws IOException {
+        final var path = folder.resolve("distances.bin");
+        try (final var writer = new MeasurementFileWriter<>(path, DistanceUnit.FOOT)) {
+            // check
+            assertEquals(MeasurementType.DISTANCE, writer.getType());
+            assertEquals(DistanceUnit.FOOT, writer.getUnit());
+            assertEquals(0, writer.getCount());
+        }
+
+        // check header
+        final var bytes = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(16, bytes.limit());
+        assertEquals('I', bytes.get(0));
+        assertEquals('U', bytes.get(1));
+        assertEquals('M', bytes.get(2));
+        assertEquals('F', bytes.get(3));
+        assertEquals(1, bytes.get(4));
+        assertEquals(MeasurementType.DISTANCE.getCode(), bytes.get(5));
+        assertEquals(DistanceUnit.FOOT.ordinal(), bytes.get(6));
+        assertEquals(0L, bytes.getLong(8));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new MeasurementFileWriter<>(null, DistanceUnit.FOOT));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MeasurementFileWriter<DistanceUnit>(path, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MeasurementFileWriter<>(path, DistanceUnit.FOOT, 0));
+    }
+
+    @Test
+    void testWrite() throws IOException {
+        final var random = new Random();
+        final var values = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            values[i] = random.nextDouble();
+        }
+
+        final var path = folder.resolve("speeds.bin");
+        try (final var writer = new MeasurementFileWriter<>(path, SpeedUnit.METERS_PER_SECOND, 16)) {
+            // values smaller and larger than buffer
+            writer.write(values, 0, 10);
+            writer.write(values, 10, 40);
+            assertEquals(50, writer.getCount());
+
+            for (var i = 50; i < 60; i++) {
+                writer.write(values[i]);
+            }
+
+            for (var i = 60; i < 70; i++) {
+                writer.write(SpeedConverter.convert(values[i], SpeedUnit.METERS_PER_SECOND,
+                        SpeedUnit.KILOMETERS_PER_HOUR), SpeedUnit.KILOMETERS_PER_HOUR);
+            }
+
+            for (var i = 70; i < 80; i++) {
+                writer.write(new Speed(values[i], SpeedUnit.METERS_PER_SECOND));
+            }
+
+            writer.write(new SpeedArray(Arrays.copyOfRange(values, 80, 90), SpeedUnit.METERS_PER_SECOND));
+            writer.write(new SpeedArray(Arrays.copyOfRange(values, 90, 100), SpeedUnit.METERS_PER_SECOND)
+                    .convertTo(SpeedUnit.MILES_PER_HOUR));
+
+            assertEquals(LENGTH, writer.getCount());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> writer.write(values, 1, LENGTH));
+        }
+
+        try (final var reader = new MeasurementFileReader(path)) {
+            // check
+            assertEquals(MeasurementType.SPEED, reader.getType());
+            assertEquals(SpeedUnit.METERS_PER_SECOND, reader.getUnit());
+            assertEquals(LENGTH, reader.length());
+            for (var i = 0; i < LENGTH; i++) {
+                assertEquals(values[i], reader.get(i), ERROR);
+            }
+        }
+        assertEquals(16 + LENGTH * Double.BYTES, Files.size(path));
+    }
+
+    @Test
+    void testWriteArrayLargerThanBuffer() throws IOException {
+        final var random = new Random();
+        final var values = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            values[i] = random.nextDouble();
+        }
+
+        final var path = folder.resolve("weights.bin");
+        try (final var writer = new MeasurementFileWriter<>(path, WeightUnit.KILOGRAM, 16)) {
+            writer.write(1.0);
+            writer.write(new WeightArray(values, WeightUnit.GRAM));
+            writer.write(values, 0, LENGTH);
+
+            assertEquals(2 * LENGTH + 1, writer.getCount());
+        }
+
+        try (final var reader = new MeasurementFileReader(path)) {
+            // check
+            assertEquals(2 * LENGTH + 1, reader.length());
+            assertEquals(1.0, reader.get(0), 0.0);
+            for (var i = 0; i < LENGTH; i++) {
+                assertEquals(values[i] / 1000.0, reader.get(i + 1), ERROR);
+                assertEquals(values[i], reader.get(i + LENGTH + 1), 0.0);
+            }
+        }
+        assertEquals(16 + (2 * LENGTH + 1) * Double.BYTES, Files.size(path));
+    }
+
+    @Test
+    void testCloseTwice() throws IOException {
+        final var path = folder.resolve("times.bin");
+        final var writer = new MeasurementFileWriter<>(path, TimeUnit.SECOND);
+        writer.write(1.0);
+        writer.close();
+        writer.close();
+
+        try (final var reader = new MeasurementFileReader(path)) {
+            assertEquals(1, reader.length());
+            assertEquals(1.0, reader.get(0), 0.0);
+        }
+    }
+}
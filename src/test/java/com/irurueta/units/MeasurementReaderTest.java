@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeasurementReaderTest {
+
+    private static final double ERROR = 1e-6;
+
+    private static final int LINES = 200000;
+
+    private static final DistanceUnit[] UNITS = {
+            DistanceUnit.MILLIMETER, DistanceUnit.CENTIMETER, DistanceUnit.METER, DistanceUnit.KILOMETER,
+            DistanceUnit.INCH, DistanceUnit.FOOT, DistanceUnit.YARD, DistanceUnit.MILE
+    };
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void testConstructor() {
+        final var reader = new MeasurementReader<>(new DistanceFormatter(), DistanceUnit.METER);
+
+        // check default values
+        assertEquals(DistanceUnit.METER, reader.getUnit());
+        assertEquals(MeasurementReader.DEFAULT_DELIMITER, reader.getDelimiter());
+        assertEquals(0, reader.getColumn());
+        assertFalse(reader.isSkipHeader());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new MeasurementReader<Distance, DistanceUnit>(null, DistanceUnit.METER));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MeasurementReader<>(new DistanceFormatter(), null));
+    }
+
+    @Test
+    void testGetSetDelimiter() {
+        final var reader = new MeasurementReader<>(new DistanceFormatter(), DistanceUnit.METER);
+
+        reader.setDelimiter('\t');
+        assertEquals('\t', reader.getDelimiter());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> reader.setDelimiter('"'));
+        assertThrows(IllegalArgumentException.class, () -> reader.setDelimiter('\n'));
+        assertThrows(IllegalArgumentException.class, () -> reader.setDelimiter('\r'));
+    }
+
+    @Test
+    void testGetSetColumn() {
+        final var reader = new MeasurementReader<>(new DistanceFormatter(), DistanceUnit.METER);
+
+        reader.setColumn(2);
+        assertEquals(2, reader.getColumn());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> reader.setColumn(-1));
+    }
+
+    @Test
+    void testIsSetSkipHeader() {
+        final var reader = new MeasurementReader<>(new DistanceFormatter(), DistanceUnit.METER);
+
+        reader.setSkipHeader(true);
+        assertTrue(reader.isSkipHeader());
+    }
+
+    @Test
+    void testReadText() {
+        final var reader = new MeasurementReader<>(new DistanceFormatter(new Locale("es", "ES")),
+                DistanceUnit.METER);
+        reader.setColumn(1);
+        reader.setSkipHeader(true);
+
+        final var text = "id,distance,other\r\n"
+                + "1,\"5,5 mm\",x\r\n"
+                + "2,  7 m ,y\n"
+                + "\n"
+                + "3,2 Km\n"
+                + "4,bad\n"
+                + "5\n"
+                + "6,\"1.000 cm\"";
+        final var values = reader.read(text);
+
+        assertEquals(6, values.length);
+        assertEquals(0.0055, values[0], ERROR);
+        assertEquals(7.0, values[1], ERROR);
+        assertEquals(2000.0, values[2], ERROR);
+        assertTrue(Double.isNaN(values[3]));
+        assertTrue(Double.isNaN(values[4]));
+        assertEquals(10.0, values[5], ERROR);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> reader.read((CharSequence) null));
+    }
+
+    @Test
+    void testReadTsv() {
+        final var reader = new MeasurementReader<>(new TemperatureFormatter(Locale.ENGLISH),
+                TemperatureUnit.KELVIN);
+        reader.setDelimiter('\t');
+
+        final var values = reader.read("0 ºC\t1\n32 ºF\t2\n5 K\t3");
+
+        assertEquals(3, values.length);
+        assertEquals(273.15, values[0], ERROR);
+        assertEquals(273.15, values[1], ERROR);
+        assertEquals(5.0, values[2], ERROR);
+    }
+
+    @Test
+    void testReadMatchesParse() throws IOException, ParseException, UnknownUnitException {
+        final var formatter = new DistanceFormatter(Locale.ENGLISH);
+        final var text = createText(formatter);
+        final var expected = parse(formatter, text);
+
+        final var reader = new MeasurementReader<>(formatter, DistanceUnit.METER);
+        reader.setColumn(1);
+
+        assertArrayEquals(expected, reader.read(text), ERROR);
+        assertArrayEquals(expected, reader.read(new StringReader(text)), ERROR);
+
+        final var bytes = text.getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, reader.read(Channels.newChannel(new ByteArrayInputStream(bytes))), ERROR);
+
+        final var path = folder.resolve("distances.csv");
+        Files.write(path, bytes);
+        assertArrayEquals(expected, reader.read(path), ERROR);
+
+        final var pool = new ForkJoinPool(4);
+        try {
+            assertArrayEquals(expected, reader.read(path, pool), ERROR);
+        } finally {
+            pool.shutdown();
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> reader.read((Reader) null));
+        assertThrows(IllegalArgumentException.class, () -> reader.read((ReadableByteChannel) null));
+        assertThrows(IllegalArgumentException.class, () -> reader.read(path, null));
+        assertThrows(IllegalArgumentException.class, () -> reader.read(null, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void testReadEmptyFile() throws IOException {
+        final var reader = new MeasurementReader<>(new DistanceFormatter(), DistanceUnit.METER);
+
+        final var path = folder.resolve("empty.csv");
+        Files.write(path, new byte[0]);
+        assertEquals(0, reader.read(path).length);
+        assertEquals(0, reader.read("").length);
+    }
+
+    @Test
+    void testReadSkipsFirstNonEmptyLineAsHeader() throws IOException {
+        final var reader = new MeasurementReader<>(new DistanceFormatter(Locale.ENGLISH), DistanceUnit.METER);
+        reader.setColumn(1);
+        reader.setSkipHeader(true);
+
+        final var text = "\n\r\nid,distance\r\n1,5 m\n\n2,3 m";
+        final var expected = new double[]{5.0, 3.0};
+        assertArrayEquals(expected, reader.read(text), ERROR);
+        assertArrayEquals(expected, reader.read(new StringReader(text)), ERROR);
+
+        final var path = folder.resolve("header.csv");
+        Files.writeString(path, text);
+        assertArrayEquals(expected, reader.read(path), ERROR);
+
+        // a file only containing a header has no values
+        Files.writeString(path, "\nid,distance");
+        assertEquals(0, reader.read(path).length);
+    }
+
+    @Test
+    void testFindHeaderEnd() throws IOException {
+        final var path = folder.resolve("header.csv");
+
+        Files.writeString(path, "\r\n\nid\r\n1 m\n");
+        try (final var channel = FileChannel.open(path)) {
+            assertEquals(7, MeasurementReader.findHeaderEnd(channel));
+        }
+
+        Files.writeString(path, "\n\r\n");
+        try (final var channel = FileChannel.open(path)) {
+            assertEquals(3, MeasurementReader.findHeaderEnd(channel));
+        }
+    }
+
+    @Test
+    void testSplit() throws IOException {
+        // lines of 11 bytes, so that parts are extended beyond their nominal size of 10 bytes
+        final var path = folder.resolve("lines.csv");
+        Files.writeString(path, "0123456789\n".repeat(10));
+
+        try (final var channel = FileChannel.open(path)) {
+            assertArrayEquals(new long[]{0, 11, 22, 33, 44, 55, 66, 77, 88, 99, 110},
+                    MeasurementReader.split(channel, 0, 11, 11));
+            assertArrayEquals(new long[]{22, 77, 110}, MeasurementReader.split(channel, 22, 2, 55));
+            assertArrayEquals(new long[]{0, 110}, MeasurementReader.split(channel, 0, 1, 110));
+
+            // Force IOException
+            final var e = assertThrows(IOException.class, () -> MeasurementReader.split(channel, 0, 11, 10));
+            assertNotNull(e.getMessage());
+            assertThrows(IOException.class, () -> MeasurementReader.split(channel, 0, 1, 109));
+        }
+    }
+
+    private static String createText(final DistanceFormatter formatter) {
+        final var random = new Random();
+        final var builder = new StringBuilder();
+        for (var i = 0; i < LINES; i++) {
+            final var unit = UNITS[random.nextInt(UNITS.length)];
+            builder.append(i).append(',');
+            if (random.nextInt(100) == 0) {
+                builder.append("invalid");
+            } else {
+                builder.append('"').append(formatter.format(random.nextDouble() * 10000.0, unit)).append('"');
+            }
+            builder.append(",x\n");
+        }
+        return builder.toString();
+    }
+
+    private static double[] parse(final DistanceFormatter formatter, final String text)
+            throws ParseException, UnknownUnitException {
+        final var lines = text.split("\n");
+        final var result = new double[lines.length];
+        for (var i = 0; i < lines.length; i++) {
+            final var cell = lines[i].split("\"");
+            if (cell.length < 2) {
+                result[i] = Double.NaN;
+                continue;
+            }
+            final var distance = formatter.parse(cell[1]);
+            result[i] = DistanceConverter.convert(distance.getValue().doubleValue(), distance.getUnit(),
+                    DistanceUnit.METER);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeasurementSerializationProxyTest {
+
+    @Test
+    void testSerializeDeserializeAllTypes() throws IOException, ClassNotFoundException {
+        final var random = new Random();
+
+        final var measurements = new ArrayList<Measurement<?>>();
+        for (final var type : MeasurementType.values()) {
+            for (final var unit : type.getUnitClass().getEnumConstants()) {
+                measurements.add(type.createMeasurement(random.nextDouble(), unit));
+            }
+        }
+
+        final var bytes = SerializationHelper.serialize(measurements);
+        final ArrayList<Measurement<?>> result = SerializationHelper.deserialize(bytes);
+
+        // check
+        assertEquals(measurements.size(), result.size());
+        for (var i = 0; i < measurements.size(); i++) {
+            assertSame(measurements.get(i).getClass(), result.get(i).getClass());
+            assertEquals(measurements.get(i), result.get(i));
+        }
+    }
+
+    @Test
+    void testSerializeDeserializeDecimalValue() throws IOException, ClassNotFoundException {
+        final var value = new BigDecimal("1.10");
+        final var t1 = new Time(value, TimeUnit.HOUR);
+
+        final var bytes = SerializationHelper.serialize(t1);
+        final Time t2 = SerializationHelper.deserialize(bytes);
+
+        // check
+        assertEquals(t1, t2);
+        assertEquals(value, t2.getValue());
+        assertEquals(TimeUnit.HOUR, t2.getUnit());
+    }
+
+    @Test
+    void testSerializeDeserializeWithoutValue() throws IOException, ClassNotFoundException {
+        final var w1 = new Weight();
+
+        final var bytes = SerializationHelper.serialize(w1);
+        final Weight w2 = SerializationHelper.deserialize(bytes);
+
+        // check
+        assertNull(w2.getValue());
+        assertNull(w2.getUnit());
+    }
+
+    @Test
+    void testSerializeDeserializePrimitiveValue() throws IOException, ClassNotFoundException {
+        final var d1 = new Distance();
+        d1.setUnit(DistanceUnit.KILOMETER);
+        d1.setValueAsDouble(2.5);
+
+        final var bytes = SerializationHelper.serialize(d1);
+        final Distance d2 = SerializationHelper.deserialize(bytes);
+
+        // check
+        assertEquals(d1, d2);
+        assertEquals(2.5, d2.getValueAsDouble(), 0.0);
+    }
+
+    @Test
+    void testDeserializeLegacyStream() throws IOException, ClassNotFoundException {
+        // stream written by releases storing only value and unit
+        try (final var stream = getClass().getResourceAsStream("legacy-measurements.ser");
+             final var in = new ObjectInputStream(stream)) {
+            final var distance = (Distance) in.readObject();
+            final var temperature = (Temperature) in.readObject();
+            final var time = (Time) in.readObject();
+
+            // check
+            assertEquals(new Distance(5, DistanceUnit.METER), distance);
+            assertEquals(5, distance.getValue());
+            assertEquals(5.0, distance.getValueAsDouble(), 0.0);
+
+            assertEquals(new BigDecimal("21.5"), temperature.getValue());
+            assertEquals(TemperatureUnit.CELSIUS, temperature.getUnit());
+            assertEquals(21.5, temperature.getValueAsDouble(), 0.0);
+
+            assertEquals(new Time(2.5, TimeUnit.HOUR), time);
+            assertEquals(2.5, time.getValueAsDouble(), 0.0);
+        }
+    }
+
+    @Test
+    void testCompactSize() throws IOException {
+        final var weights = new ArrayList<Weight>();
+        for (var i = 0; i < 100; i++) {
+            weights.add(new Weight((double) i, WeightUnit.KILOGRAM));
+        }
+
+        // each measurement only adds a few bytes besides its value
+        final var size1 = serializedSize(new ArrayList<>(weights.subList(0, 1)));
+        final var size100 = serializedSize(weights);
+        assertTrue((size100 - size1) / 99 <= 2 * BinaryMeasurementCodec.ENCODED_SIZE);
+    }
+
+    private static int serializedSize(final Serializable object) throws IOException {
+        try (final var bytes = new ByteArrayOutputStream();
+             final var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+            out.flush();
+            return bytes.size();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeasurementTypeTest {
+
+    private static final int LENGTH = 10;
+
+    @Test
+    void testCodes() {
+        final var codes = new HashSet<Integer>();
+        for (final var type : MeasurementType.values()) {
+            assertTrue(codes.add(type.getCode()));
+            assertSame(type, MeasurementType.fromCode(type.getCode()));
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> MeasurementType.fromCode(0));
+    }
+
+    @Test
+    void testUnits() {
+        for (final var type : MeasurementType.values()) {
+            final var units = type.getUnitClass().getEnumConstants();
+            for (final var unit : units) {
+                assertSame(unit, type.getUnit(unit.ordinal()));
+                assertSame(type, MeasurementType.fromUnit(unit));
+            }
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> type.getUnit(-1));
+            assertThrows(IllegalArgumentException.class, () -> type.getUnit(units.length));
+        }
+
+        assertSame(MeasurementType.DISTANCE, MeasurementType.fromUnit(DistanceUnit.METER));
+        assertSame(DistanceUnit.class, MeasurementType.DISTANCE.getUnitClass());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> MeasurementType.fromUnit(null));
+        assertThrows(IllegalArgumentException.class, () -> MeasurementType.fromUnit(UnitSystem.METRIC));
+    }
+
+    @Test
+    void testConvert() {
+        final var value = new Random().nextDouble();
+
+        assertEquals(DistanceConverter.convert(value, DistanceUnit.FOOT, DistanceUnit.METER),
+                MeasurementType.DISTANCE.convert(value, DistanceUnit.FOOT, DistanceUnit.METER), 0.0);
+        assertEquals(TemperatureConverter.convert(value, TemperatureUnit.FAHRENHEIT, TemperatureUnit.KELVIN),
+                MeasurementType.TEMPERATURE.convert(value, TemperatureUnit.FAHRENHEIT, TemperatureUnit.KELVIN),
+                0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> MeasurementType.DISTANCE.convert(value, TimeUnit.SECOND, DistanceUnit.METER));
+        assertThrows(IllegalArgumentException.class,
+                () -> MeasurementType.DISTANCE.convert(value, DistanceUnit.METER, null));
+    }
+
+    @Test
+    void testConvertArray() {
+        final var random = new Random();
+        final var input = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            input[i] = random.nextDouble();
+        }
+
+        final var output = new double[LENGTH];
+        MeasurementType.SPEED.convert(input, 0, output, 0, LENGTH, SpeedUnit.MILES_PER_HOUR,
+                SpeedUnit.METERS_PER_SECOND);
+
+        // check
+        for (var i = 0; i < LENGTH; i++) {
+            assertEquals(SpeedConverter.convert(input[i], SpeedUnit.MILES_PER_HOUR, SpeedUnit.METERS_PER_SECOND),
+                    output[i], 0.0);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> MeasurementType.SPEED.convert(input, 0, output, 0,
+                LENGTH, DistanceUnit.METER, SpeedUnit.METERS_PER_SECOND));
+        assertThrows(IllegalArgumentException.class, () -> MeasurementType.SPEED.convert(input, 1, output, 0,
+                LENGTH, SpeedUnit.MILES_PER_HOUR, SpeedUnit.METERS_PER_SECOND));
+    }
+
+    @Test
+    void testCreateFormatter() {
+        final var locale = new Locale("es", "ES");
+        for (final var type : MeasurementType.values()) {
+            final var formatter = type.createFormatter(locale);
+
+            // check
+            assertEquals(type.getUnitClass().getSimpleName().replace("Unit", "Formatter"),
+                    formatter.getClass().getSimpleName());
+            assertEquals(locale, formatter.getLocale());
+            assertFalse(formatter.isFrozen());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> type.createFormatter(null));
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks behaviour shared by all measurement value records (e.g. {@link DistanceValue}).
+ * Conversions specific to each measurement are checked by their own tests.
+ */
+class MeasurementValueTest {
+
+    private static final double ERROR = 1e-6;
+
+    private static final int TIMES = 100;
+
+    @ParameterizedTest
+    @EnumSource(MeasurementType.class)
+    void testConstructor(final MeasurementType type) {
+        final var values = new ValueType(type);
+        final var value = new Random().nextDouble();
+        final var v = values.create(value, values.unit1);
+
+        // check
+        assertEquals(value, values.value(v), 0.0);
+        assertEquals(values.unit1, values.unit(v));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> values.create(value, null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MeasurementType.class)
+    void testFromAndToMeasurement(final MeasurementType type) {
+        final var values = new ValueType(type);
+        final var value = new Random().nextDouble();
+        final var measurement = type.createMeasurement(value, values.unit2);
+
+        final var v = values.invokeStatic("from", measurement);
+
+        // check
+        assertEquals(value, values.value(v), 0.0);
+        assertEquals(values.unit2, values.unit(v));
+
+        final var result = (Measurement<?>) values.invoke(v, "to" + values.measurementClass.getSimpleName());
+
+        // check
+        assertSame(values.measurementClass, result.getClass());
+        assertEquals(measurement, result);
+        assertNotSame(measurement, result);
+        assertEquals(value, result.getValueAsDouble(), 0.0);
+        assertEquals(values.unit2, result.getUnit());
+
+        // Force IllegalStateException
+        final var empty = values.createEmptyMeasurement();
+        assertThrows(IllegalStateException.class, () -> values.invokeStatic("from", empty));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MeasurementType.class)
+    void testEqualsAndHashCode(final MeasurementType type) {
+        final var values = new ValueType(type);
+        final var value = new Random().nextDouble();
+        final var v1 = values.create(value, values.unit1);
+        final var v2 = values.create(value, values.unit1);
+        final var v3 = values.create(value + 1.0, values.unit1);
+        final var v4 = values.create(value, values.unit2);
+
+        // check
+        assertEquals(v1, v2);
+        assertEquals(v1.hashCode(), v2.hashCode());
+        assertNotEquals(v1, v3);
+        assertNotEquals(v1, v4);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MeasurementType.class)
+    void testEqualsWithTolerance(final MeasurementType type) {
+        final var values = new ValueType(type);
+        final var value = new Random().nextDouble();
+        final var v1 = values.create(value, values.unit1);
+        final var v2 = values.invoke(v1, "convertTo", values.unit2);
+        final var v3 = values.create(value + 1.0, values.unit1);
+
+        // check
+        assertEquals(true, values.invoke(v1, "equals", v1, 0.0));
+        assertEquals(true, values.invoke(v1, "equals", v2, ERROR));
+        assertEquals(false, values.invoke(v1, "equals", v3, ERROR));
+        assertEquals(true, values.invoke(v1, "equals", v3, 1.0 + ERROR));
+        assertEquals(false, values.invoke(v1, "equals", null, ERROR));
+
+        // values having the same unit are compared without any conversion
+        final var random = new Random();
+        for (var i = 0; i < TIMES; i++) {
+            final var v = values.create(random.nextDouble(), values.unit1);
+            assertEquals(true, values.invoke(v, "equals", v, 0.0));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(MeasurementType.class)
+    void testConvertTo(final MeasurementType type) {
+        final var values = new ValueType(type);
+        final var value = new Random().nextDouble();
+        final var v = values.create(value, values.unit1);
+
+        final var result = values.invoke(v, "convertTo", values.unit2);
+
+        // check
+        assertEquals(type.convert(value, values.unit1, values.unit2), values.value(result), 0.0);
+        assertEquals(values.unit2, values.unit(result));
+        assertSame(v, values.invoke(v, "convertTo", values.unit1));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> values.invoke(v, "convertTo", (Object) null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MeasurementType.class)
+    void testAddAndSubtractDoNotModifyOperands(final MeasurementType type) {
+        final var values = new ValueType(type);
+        final var random = new Random();
+        final var value1 = random.nextDouble();
+        final var value2 = random.nextDouble();
+        final var v1 = values.create(value1, values.unit1);
+        final var v2 = values.create(value2, values.unit2);
+
+        for (final var operation : new String[]{"add", "subtract"}) {
+            final var result1 = values.invoke(v1, operation, v2);
+            final var result2 = values.invoke(v1, operation, value2, values.unit2);
+            final var result3 = values.invoke(v1, operation, v2, values.unit2);
+
+            // check
+            assertEquals(values.unit1, values.unit(result1));
+            assertEquals(values.value(result1), values.value(result2), 0.0);
+            assertEquals(values.unit1, values.unit(result2));
+            assertEquals(values.unit2, values.unit(result3));
+            assertEquals(value1, values.value(v1), 0.0);
+            assertEquals(value2, values.value(v2), 0.0);
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> values.invoke(v1, operation, v2, null));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(MeasurementType.class)
+    void testSerializeDeserialize(final MeasurementType type) throws IOException, ClassNotFoundException {
+        final var values = new ValueType(type);
+        final var v1 = (Serializable) values.create(new Random().nextDouble(), values.unit1);
+
+        final var bytes = SerializationHelper.serialize(v1);
+        final Serializable v2 = SerializationHelper.deserialize(bytes);
+
+        // check
+        assertSame(values.valueClass, v2.getClass());
+        assertEquals(v1, v2);
+        assertNotSame(v1, v2);
+    }
+
+    /**
+     * Accesses the value record of a measurement type through reflection, since
+     * value records do not share any interface.
+     */
+    private static final class ValueType {
+
+        private final Class<?> measurementClass;
+
+        private final Class<?> valueClass;
+
+        private final Class<?> unitClass;
+
+        private final Enum<?> unit1;
+
+        private final Enum<?> unit2;
+
+        ValueType(final MeasurementType type) {
+            unitClass = type.getUnitClass();
+            final var units = type.getUnitClass().getEnumConstants();
+            unit1 = units[0];
+            unit2 = units[1];
+            measurementClass = type.createMeasurement(0.0, unit1).getClass();
+            try {
+                valueClass = Class.forName(measurementClass.getName() + "Value");
+            } catch (final ClassNotFoundException e) {
+                throw new AssertionError(e);
+            }
+            assertTrue(valueClass.isRecord());
+        }
+
+        Object create(final double value, final Enum<?> unit) {
+            try {
+                return valueClass.getConstructor(double.class, unitClass).newInstance(value, unit);
+            } catch (final InvocationTargetException e) {
+                throw rethrow(e);
+            } catch (final ReflectiveOperationException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        Object createEmptyMeasurement() {
+            try {
+                return measurementClass.getDeclaredConstructor().newInstance();
+            } catch (final ReflectiveOperationException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        double value(final Object v) {
+            return (double) invoke(v, "value");
+        }
+
+        Object unit(final Object v) {
+            return invoke(v, "unit");
+        }
+
+        Object invokeStatic(final String name, final Object arg) {
+            try {
+                return valueClass.getMethod(name, measurementClass).invoke(null, arg);
+            } catch (final InvocationTargetException e) {
+                throw rethrow(e);
+            } catch (final ReflectiveOperationException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        Object invoke(final Object target, final String name, final Object... args) {
+            final var parameterTypes = new Class<?>[args.length];
+            for (var i = 0; i < args.length; i++) {
+                parameterTypes[i] = parameterType(name, args[i]);
+            }
+
+            try {
+                return valueClass.getMethod(name, parameterTypes).invoke(target, args);
+            } catch (final InvocationTargetException e) {
+                throw rethrow(e);
+            } catch (final ReflectiveOperationException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        private Class<?> parameterType(final String name, final Object arg) {
+            if (arg instanceof Double) {
+                return double.class;
+            } else if (arg instanceof Enum<?>) {
+                return unitClass;
+            } else if (arg == null) {
+                // null arguments are provided as units, except when comparing values
+                return "equals".equals(name) ? valueClass : unitClass;
+            } else {
+                return valueClass;
+            }
+        }
+
+        private static RuntimeException rethrow(final InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new AssertionError(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordingUnitsMetricsTest {
+
+    @Test
+    void testConversionCounts() {
+        final var metrics = new RecordingUnitsMetrics();
+
+        metrics.onConversion(MeasurementType.SPEED, SpeedUnit.KILOMETERS_PER_HOUR, SpeedUnit.MILES_PER_HOUR, 1);
+        metrics.onConversion(MeasurementType.SPEED, SpeedUnit.KILOMETERS_PER_HOUR, SpeedUnit.MILES_PER_HOUR, 10);
+        metrics.onConversion(MeasurementType.SPEED, SpeedUnit.MILES_PER_HOUR, SpeedUnit.KILOMETERS_PER_HOUR, 2);
+
+        assertEquals(11, metrics.getConversionCount(MeasurementType.SPEED, SpeedUnit.KILOMETERS_PER_HOUR,
+                SpeedUnit.MILES_PER_HOUR));
+        assertEquals(2, metrics.getConversionCount(MeasurementType.SPEED, SpeedUnit.MILES_PER_HOUR,
+                SpeedUnit.KILOMETERS_PER_HOUR));
+        assertEquals(0, metrics.getConversionCount(MeasurementType.SPEED, SpeedUnit.MILES_PER_HOUR,
+                SpeedUnit.MILES_PER_HOUR));
+        assertEquals(13, metrics.getConversionCount(MeasurementType.SPEED));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> metrics.getConversionCount(MeasurementType.SPEED,
+                DistanceUnit.METER, SpeedUnit.MILES_PER_HOUR));
+        assertThrows(IllegalArgumentException.class, () -> metrics.getConversionCount(MeasurementType.SPEED,
+                SpeedUnit.MILES_PER_HOUR, null));
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getConversionCount(MeasurementType.SPEED));
+    }
+
+    @Test
+    void testParseCounts() {
+        final var metrics = new RecordingUnitsMetrics();
+        final var distanceFormatter = new DistanceFormatter(Locale.ENGLISH);
+        final var timeFormatter = new TimeFormatter(Locale.ENGLISH);
+
+        metrics.onParse(distanceFormatter, ParseStatus.SUCCESS);
+        metrics.onParse(distanceFormatter, ParseStatus.UNKNOWN_UNIT);
+        metrics.onParse(new DistanceFormatter(Locale.FRENCH), ParseStatus.UNKNOWN_UNIT);
+        metrics.onParse(timeFormatter, ParseStatus.UNKNOWN_UNIT);
+
+        assertEquals(1, metrics.getParseCount(DistanceFormatter.class, ParseStatus.SUCCESS));
+        assertEquals(2, metrics.getParseCount(DistanceFormatter.class, ParseStatus.UNKNOWN_UNIT));
+        assertEquals(0, metrics.getParseCount(DistanceFormatter.class, ParseStatus.INVALID_VALUE));
+        assertEquals(1, metrics.getParseCount(TimeFormatter.class, ParseStatus.UNKNOWN_UNIT));
+        assertEquals(0, metrics.getParseCount(WeightFormatter.class, ParseStatus.UNKNOWN_UNIT));
+        assertEquals(3, metrics.getParseCount(ParseStatus.UNKNOWN_UNIT));
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getParseCount(ParseStatus.UNKNOWN_UNIT));
+    }
+
+    @Test
+    void testFormatLatencyHistogram() {
+        final var metrics = new RecordingUnitsMetrics();
+        final var formatter = new DistanceFormatter(Locale.ENGLISH);
+
+        metrics.onFormat(formatter, 0);
+        metrics.onFormat(formatter, -5);
+        metrics.onFormat(formatter, 1);
+        metrics.onFormat(formatter, 1000);
+        metrics.onFormat(formatter, 1023);
+        metrics.onFormat(formatter, 1024);
+        metrics.onFormat(formatter, Long.MAX_VALUE);
+
+        final var histogram = metrics.getFormatLatencyHistogram(DistanceFormatter.class);
+        assertEquals(RecordingUnitsMetrics.LATENCY_BUCKETS, histogram.length);
+        assertEquals(2, histogram[0]);
+        assertEquals(1, histogram[1]);
+        assertEquals(2, histogram[10]);
+        assertEquals(1, histogram[11]);
+        assertEquals(1, histogram[63]);
+        assertEquals(7, metrics.getFormatCount(DistanceFormatter.class));
+
+        assertEquals(0, metrics.getFormatCount(TimeFormatter.class));
+        assertArrayEquals(new long[RecordingUnitsMetrics.LATENCY_BUCKETS],
+                metrics.getFormatLatencyHistogram(TimeFormatter.class));
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getFormatCount(DistanceFormatter.class));
+    }
+
+    @Test
+    void testGetLatencyBucket() {
+        assertEquals(0, RecordingUnitsMetrics.getLatencyBucket(Long.MIN_VALUE));
+        assertEquals(0, RecordingUnitsMetrics.getLatencyBucket(0));
+        assertEquals(1, RecordingUnitsMetrics.getLatencyBucket(1));
+        assertEquals(2, RecordingUnitsMetrics.getLatencyBucket(2));
+        assertEquals(2, RecordingUnitsMetrics.getLatencyBucket(3));
+        assertEquals(3, RecordingUnitsMetrics.getLatencyBucket(4));
+        assertEquals(63, RecordingUnitsMetrics.getLatencyBucket(Long.MAX_VALUE));
+    }
+}
@@ -18,9 +18,12 @@ package com.irurueta.units;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.Random;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class SurfaceConverterTest {
 
@@ -46,6 +49,10 @@ class SurfaceConverterTest {
 
     private static final double ERROR = 1e-6;
 
+    private static final double RELATIVE_ERROR = 1e-12;
+
+    private static final int LENGTH = 10;
+
     @Test
     void testSquareMetersSquareMillimeters() {
         final var inputValue = new Random().nextDouble();
@@ -170,427 +177,430 @@ class SurfaceConverterTest {
     void testConvertDouble() {
         final var inputValue = new Random().nextDouble();
 
-        assertEquals(inputValue,
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_MILLIMETER),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(
+        assertConversion(inputValue,
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(
                 SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_CENTIMETER),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMillimeterToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_METER),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.squareMillimeterToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_METER));
+        assertConversion(SurfaceConverter.squareMeterToSquareKilometer(
                 SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_KILOMETER),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(
                 SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(
                 SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(
                 SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(
                 SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(
                 SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.ARE));
+        assertConversion(
+                SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.DECARE));
+        assertConversion(
+                SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareMillimeterToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILLIMETER, SurfaceUnit.ACRE));
+
+        assertConversion(SurfaceConverter.squareMeterToSquareMillimeter(
                 SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_MILLIMETER),
-                ERROR);
-        assertEquals(inputValue,
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_CENTIMETER),
-                ERROR);
-        assertEquals(SurfaceConverter.squareCentimeterToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(inputValue,
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.squareCentimeterToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_METER));
+        assertConversion(SurfaceConverter.squareMeterToSquareKilometer(
                 SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_KILOMETER),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(
                 SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(
                 SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(
                 SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(
                 SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_MILLIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(inputValue,
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.SQUARE_MILE));
+        assertConversion(
+                SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.ARE));
+        assertConversion(
+                SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.DECARE));
+        assertConversion(
+                SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareCentimeterToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_CENTIMETER, SurfaceUnit.ACRE));
+
+        assertConversion(SurfaceConverter.squareMeterToSquareMillimeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(inputValue,
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_METER));
+        assertConversion(SurfaceConverter.squareMeterToSquareKilometer(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.ARE));
+        assertConversion(SurfaceConverter.squareMeterToDecare(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.DECARE));
+        assertConversion(SurfaceConverter.squareMeterToHectare(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_METER, SurfaceUnit.ACRE));
+
+        assertConversion(SurfaceConverter.squareMeterToSquareMillimeter(
                 SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_MILLIMETER),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(
                 SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_CENTIMETER),
-                ERROR);
-        assertEquals(SurfaceConverter.squareKilometerToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_METER),
-                ERROR);
-        assertEquals(inputValue,
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_KILOMETER),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.squareKilometerToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_METER));
+        assertConversion(inputValue,
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(
                 SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(
                 SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(
                 SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(
                 SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.SQUARE_MILE));
+        assertConversion(
+                SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.ARE));
+        assertConversion(
+                SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.DECARE));
+        assertConversion(
+                SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareKilometerToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_KILOMETER, SurfaceUnit.ACRE));
+
+        assertConversion(SurfaceConverter.squareMeterToSquareMillimeter(
                 SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_MILLIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(
                 SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareInchToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.squareInchToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_METER));
+        assertConversion(SurfaceConverter.squareMeterToSquareKilometer(
                 SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_INCH),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareInchToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(
+                inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.squareInchToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.squareInchToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.squareInchToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareInchToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareInchToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.ARE));
+        assertConversion(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareInchToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.DECARE));
+        assertConversion(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareInchToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareInchToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_INCH, SurfaceUnit.ACRE));
+
+        assertConversion(SurfaceConverter.squareMeterToSquareMillimeter(
                 SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_MILLIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(
                 SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareFootToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.squareFootToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_METER));
+        assertConversion(SurfaceConverter.squareMeterToSquareKilometer(
                 SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_FOOT),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareFootToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.squareFootToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_INCH));
+        assertConversion(
+                inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.squareFootToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.squareFootToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareFootToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareFootToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.ARE));
+        assertConversion(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareFootToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.DECARE));
+        assertConversion(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareFootToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareFootToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_FOOT, SurfaceUnit.ACRE));
+
+        assertConversion(SurfaceConverter.squareMeterToSquareMillimeter(
                 SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_MILLIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(
                 SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareYardToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.squareYardToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_METER));
+        assertConversion(SurfaceConverter.squareMeterToSquareKilometer(
                 SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_YARD),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareYardToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.squareYardToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.squareYardToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(
+                inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.squareYardToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareYardToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareYardToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.ARE));
+        assertConversion(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareYardToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.DECARE));
+        assertConversion(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareYardToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareYardToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_YARD, SurfaceUnit.ACRE));
+
+        assertConversion(SurfaceConverter.squareMeterToSquareMillimeter(
                 SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_MILLIMETER),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(
                 SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMileToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.squareMileToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_METER));
+        assertConversion(SurfaceConverter.squareMeterToSquareKilometer(
                 SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_MILE),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_YARD));
+        assertConversion(
+                inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.ARE));
+        assertConversion(SurfaceConverter.squareMeterToDecare(
                 SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.ACRE), ERROR);
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.DECARE));
+        assertConversion(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.ACRE));
 
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(
+        assertConversion(SurfaceConverter.squareMeterToSquareMillimeter(
                 SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_MILLIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(
                 SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMileToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.squareMileToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_METER));
+        assertConversion(SurfaceConverter.squareMeterToSquareKilometer(
                 SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_MILE),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareMileToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(SurfaceConverter.squareMeterToCentiare(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_MILLIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(SurfaceConverter.centiareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(SurfaceConverter.centiareToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(SurfaceConverter.squareMeterToCentiare(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.centiareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.centiareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.centiareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.centiareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.CENTIARE),
-                ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.centiareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.centiareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.centiareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.centiareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_MILLIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(SurfaceConverter.areToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.areToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_MILLIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_YARD));
+        assertConversion(
+                inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.ARE));
+        assertConversion(SurfaceConverter.squareMeterToDecare(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.DECARE));
+        assertConversion(SurfaceConverter.squareMeterToHectare(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.squareMileToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.SQUARE_MILE, SurfaceUnit.ACRE));
+
+        assertConversion(
+                SurfaceConverter.squareMeterToSquareMillimeter(SurfaceConverter.squareMeterToCentiare(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(
+                SurfaceConverter.squareMeterToSquareCentimeter(SurfaceConverter.centiareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.centiareToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_METER));
+        assertConversion(
+                SurfaceConverter.squareMeterToSquareKilometer(SurfaceConverter.squareMeterToCentiare(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.centiareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.centiareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.centiareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.centiareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.SQUARE_MILE));
+        assertConversion(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.centiareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.ARE));
+        assertConversion(SurfaceConverter.squareMeterToDecare(SurfaceConverter.centiareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.DECARE));
+        assertConversion(SurfaceConverter.squareMeterToHectare(SurfaceConverter.centiareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.centiareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.CENTIARE, SurfaceUnit.ACRE));
+
+        assertConversion(SurfaceConverter.squareMeterToSquareMillimeter(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.areToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_METER));
+        assertConversion(SurfaceConverter.squareMeterToSquareKilometer(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.CENTIARE));
+        assertConversion(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.ARE));
+        assertConversion(SurfaceConverter.squareMeterToDecare(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.DECARE));
+        assertConversion(SurfaceConverter.squareMeterToHectare(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.areToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ARE, SurfaceUnit.ACRE));
+
+        assertConversion(
+                SurfaceConverter.squareMeterToSquareMillimeter(SurfaceConverter.decareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(
                 SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(SurfaceConverter.decareToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.ARE), ERROR);
-        assertEquals(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.decareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_MILLIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(SurfaceConverter.hectareToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.DECARE), ERROR);
-        assertEquals(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAcre(SurfaceConverter.hectareToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.ACRE), ERROR);
-
-        assertEquals(SurfaceConverter.squareMeterToSquareMillimeter(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_MILLIMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareCentimeter(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_CENTIMETER), ERROR);
-        assertEquals(SurfaceConverter.acreToSquareMeter(inputValue),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_METER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareKilometer(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_KILOMETER), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_INCH), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_FOOT), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_YARD), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_MILE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.CENTIARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToAre(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.ARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToDecare(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.DECARE), ERROR);
-        assertEquals(SurfaceConverter.squareMeterToHectare(SurfaceConverter.acreToSquareMeter(inputValue)),
-                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.HECTARE), ERROR);
-        assertEquals(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.ACRE), ERROR);
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.decareToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_METER));
+        assertConversion(
+                SurfaceConverter.squareMeterToSquareKilometer(SurfaceConverter.decareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.decareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.decareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.decareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.decareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.decareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.decareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.ARE));
+        assertConversion(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.DECARE));
+        assertConversion(SurfaceConverter.squareMeterToHectare(SurfaceConverter.decareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.decareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.DECARE, SurfaceUnit.ACRE));
+
+        assertConversion(
+                SurfaceConverter.squareMeterToSquareMillimeter(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(
+                SurfaceConverter.squareMeterToSquareCentimeter(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.hectareToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_METER));
+        assertConversion(
+                SurfaceConverter.squareMeterToSquareKilometer(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.ARE));
+        assertConversion(SurfaceConverter.squareMeterToDecare(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.DECARE));
+        assertConversion(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.HECTARE));
+        assertConversion(SurfaceConverter.squareMeterToAcre(SurfaceConverter.hectareToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.HECTARE, SurfaceUnit.ACRE));
+
+        assertConversion(SurfaceConverter.squareMeterToSquareMillimeter(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_MILLIMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareCentimeter(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_CENTIMETER));
+        assertConversion(SurfaceConverter.acreToSquareMeter(inputValue),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_METER));
+        assertConversion(SurfaceConverter.squareMeterToSquareKilometer(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_KILOMETER));
+        assertConversion(SurfaceConverter.squareMeterToSquareInch(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_INCH));
+        assertConversion(SurfaceConverter.squareMeterToSquareFoot(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_FOOT));
+        assertConversion(SurfaceConverter.squareMeterToSquareYard(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_YARD));
+        assertConversion(SurfaceConverter.squareMeterToSquareMile(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.SQUARE_MILE));
+        assertConversion(SurfaceConverter.squareMeterToCentiare(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.CENTIARE));
+        assertConversion(SurfaceConverter.squareMeterToAre(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.ARE));
+        assertConversion(SurfaceConverter.squareMeterToDecare(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.DECARE));
+        assertConversion(SurfaceConverter.squareMeterToHectare(SurfaceConverter.acreToSquareMeter(inputValue)),
+                SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.HECTARE));
+        assertConversion(inputValue, SurfaceConverter.convert(inputValue, SurfaceUnit.ACRE, SurfaceUnit.ACRE));
     }
 
     @Test
@@ -645,6 +655,7 @@ class SurfaceConverterTest {
         assertEquals(SurfaceUnit.SQUARE_KILOMETER, outputSurface.getUnit());
         assertEquals(SurfaceConverter.convert(value, inputSurface.getUnit(), outputSurface.getUnit()),
                 outputSurface.getValue().doubleValue(), 0.0);
+        assertInstanceOf(Double.class, outputSurface.getValue());
     }
 
     @Test
@@ -664,4 +675,128 @@ class SurfaceConverterTest {
         assertEquals(SurfaceConverter.convert(value, inputSurface.getUnit(), outputSurface.getUnit()),
                 outputSurface.getValue().doubleValue(), 0.0);
     }
+
+    @Test
+    void testConvertArray() {
+        final var random = new Random();
+        final var input = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            input[i] = random.nextDouble();
+        }
+
+        for (final var inputUnit : SurfaceUnit.values()) {
+            for (final var outputUnit : SurfaceUnit.values()) {
+                final var output = new double[LENGTH + 1];
+                SurfaceConverter.convert(input, 1, output, 2, LENGTH - 1, inputUnit, outputUnit);
+
+                // check
+                assertEquals(0.0, output[0], 0.0);
+                assertEquals(0.0, output[1], 0.0);
+                for (var i = 1; i < LENGTH; i++) {
+                    final var expected = SurfaceConverter.convert(input[i], inputUnit, outputUnit);
+                    assertEquals(expected, output[i + 1], Math.abs(expected) * RELATIVE_ERROR);
+                }
+            }
+        }
+
+        // convert in place with overlapping regions
+        final var unit1 = SurfaceUnit.SQUARE_MILLIMETER;
+        final var unit2 = SurfaceUnit.ACRE;
+        final var values = Arrays.copyOf(input, LENGTH);
+        SurfaceConverter.convert(values, 0, values, 1, LENGTH - 1, unit1, unit2);
+
+        // check
+        assertEquals(input[0], values[0], 0.0);
+        for (var i = 1; i < LENGTH; i++) {
+            final var expected = SurfaceConverter.convert(input[i - 1], unit1, unit2);
+            assertEquals(expected, values[i], Math.abs(expected) * RELATIVE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var output = new double[LENGTH];
+        assertThrows(IllegalArgumentException.class,
+                () -> SurfaceConverter.convert(input, -1, output, 0, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> SurfaceConverter.convert(input, 0, output, -1, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> SurfaceConverter.convert(input, 0, output, 0, -1, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> SurfaceConverter.convert(input, 1, output, 0, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> SurfaceConverter.convert(input, 0, output, 1, LENGTH, unit1, unit2));
+    }
+
+    private static void assertConversion(final double expected, final double actual) {
+        // factors between units spanning many orders of magnitude are precomputed, hence
+        // results can differ from a two-step conversion in their last bits
+        assertEquals(expected, actual, Math.max(ERROR, Math.abs(expected) * RELATIVE_ERROR));
+    }
+
+    @Test
+    void testConvertDoubleBuffer() {
+        final var random = new Random();
+        final var values = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            values[i] = random.nextDouble();
+        }
+
+        for (final var inputUnit : SurfaceUnit.values()) {
+            for (final var outputUnit : SurfaceUnit.values()) {
+                // heap buffers
+                final var input = DoubleBuffer.wrap(values);
+                final var output = DoubleBuffer.allocate(LENGTH);
+                SurfaceConverter.convert(input, output, inputUnit, outputUnit);
+
+                // check
+                assertFalse(input.hasRemaining());
+                assertFalse(output.hasRemaining());
+                for (var i = 0; i < LENGTH; i++) {
+                    final var expected = SurfaceConverter.convert(values[i], inputUnit, outputUnit);
+                    assertEquals(expected, output.get(i), Math.abs(expected) * RELATIVE_ERROR);
+                }
+
+                // direct buffers
+                final var directInput = directBuffer(values);
+                final var directOutput = directBuffer(new double[LENGTH]);
+                SurfaceConverter.convert(directInput, directOutput, inputUnit, outputUnit);
+
+                // check
+                assertFalse(directInput.hasRemaining());
+                assertFalse(directOutput.hasRemaining());
+                for (var i = 0; i < LENGTH; i++) {
+                    assertEquals(output.get(i), directOutput.get(i), 0.0);
+                }
+            }
+        }
+
+        // convert in place
+        final var unit1 = SurfaceUnit.SQUARE_MILLIMETER;
+        final var unit2 = SurfaceUnit.ACRE;
+        final var buffer = directBuffer(values);
+        buffer.position(1);
+        SurfaceConverter.convert(buffer, buffer, unit1, unit2);
+
+        // check
+        assertEquals(LENGTH, buffer.position());
+        assertEquals(values[0], buffer.get(0), 0.0);
+        for (var i = 1; i < LENGTH; i++) {
+            final var expected = SurfaceConverter.convert(values[i], unit1, unit2);
+            assertEquals(expected, buffer.get(i), Math.abs(expected) * RELATIVE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var input = DoubleBuffer.wrap(values);
+        final var output = DoubleBuffer.allocate(LENGTH - 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> SurfaceConverter.convert(input, output, unit1, unit2));
+        assertEquals(0, input.position());
+        assertEquals(0, output.position());
+    }
+
+    private static DoubleBuffer directBuffer(final double[] values) {
+        final var result = ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer();
+        result.put(values);
+        result.flip();
+        return result;
+    }
 }
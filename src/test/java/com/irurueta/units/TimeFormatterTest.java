@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.FieldPosition;
 import java.text.NumberFormat;
 import java.text.ParseException;
@@ -243,6 +245,64 @@ class TimeFormatterTest {
         assertEquals("4th c.", formatter.format(4.0, TimeUnit.CENTURY));
     }
 
+    @Test
+    void testFormatToStringBuilder() {
+        final var value = 3.0;
+        final var l = new Locale("es", "ES");
+
+        final var formatter = new TimeFormatter(l);
+
+        final var builder = new StringBuilder();
+        for (final var unit : TimeUnit.values()) {
+            builder.setLength(0);
+            assertEquals(formatter.format(value, unit), formatter.formatTo(value, unit, builder).toString());
+        }
+
+        builder.setLength(0);
+        assertEquals("1st c.", formatter.formatTo(1.0, TimeUnit.CENTURY, builder).toString());
+        builder.setLength(0);
+        assertEquals("2nd c.", formatter.formatTo(2.0, TimeUnit.CENTURY, builder).toString());
+        builder.setLength(0);
+        assertEquals("3rd c.", formatter.formatTo(3.0, TimeUnit.CENTURY, builder).toString());
+        builder.setLength(0);
+        assertEquals("4th c.", formatter.formatTo(4.0, TimeUnit.CENTURY, builder).toString());
+    }
+
+    @Test
+    void testFreeze() throws ParseException, UnknownUnitException {
+        final var formatter = new TimeFormatter(new Locale("es", "ES"));
+        formatter.freeze();
+
+        // check
+        assertTrue(formatter.isFrozen());
+        assertEquals("3 h", formatter.format(3.0, TimeUnit.HOUR));
+        assertEquals("3rd c.", formatter.format(3.0, TimeUnit.CENTURY));
+        var time = formatter.parse("3 h");
+        assertEquals(3.0, time.getValueAsDouble(), 0.0);
+        assertEquals(TimeUnit.HOUR, time.getUnit());
+        time = formatter.parse("2nd c.");
+        assertEquals(2.0, time.getValueAsDouble(), 0.0);
+        assertEquals(TimeUnit.CENTURY, time.getUnit());
+        assertEquals(90.0, formatter.parseHourMinute("01:30").getValueAsDouble(), 0.0);
+    }
+
+    @Test
+    void testFreezeFormatsHourMinuteSecondAsNotFrozen() {
+        final var l = new Locale("es", "ES");
+        final var formatter = new TimeFormatter(l);
+        formatter.setMaximumFractionDigits(3);
+        final var frozen = new TimeFormatter(l);
+        frozen.setMaximumFractionDigits(3);
+        frozen.freeze();
+
+        // check
+        for (final var value : new double[]{0.0, -0.0, 90.5, -3723.25, 1e20, Double.NaN}) {
+            final var time = new Time(value, TimeUnit.SECOND);
+            assertEquals(formatter.formatHourMinuteSecond(time), frozen.formatHourMinuteSecond(time));
+            assertEquals(formatter.formatHourMinute(time), frozen.formatHourMinute(time));
+        }
+    }
+
     @Test
     void testFormatDoubleAndStringBuffer() {
         final var value = 3.0;
@@ -884,6 +944,83 @@ class TimeFormatterTest {
         assertThrows(ParseException.class, () -> formatter.parse("m"));
     }
 
+    @Test
+    void testParseBytes() throws ParseException, UnknownUnitException {
+        final var formatter = new TimeFormatter(new Locale("es", "ES"));
+        final var t = new Time();
+
+        final var texts = new String[]{
+                "5 ns", "5,5 µs", "5µs", "-1.234,5 ms", "5 s", "5 min", "5 h", "5 d", "5 wk", "5 mon", "5 yr",
+                "1st c.", "2nd c.", "3rd c.", "21th c.", "1e3 µs"
+        };
+        for (final var text : texts) {
+            final var expected = formatter.parse(text);
+            final var bytes = text.getBytes(StandardCharsets.UTF_8);
+
+            assertEquals(ParseStatus.SUCCESS, formatter.parse(bytes, 0, bytes.length, t), text);
+            assertEquals(expected.getValue().doubleValue(), t.getValueAsDouble(), 0.0, text);
+            assertEquals(expected.getUnit(), t.getUnit(), text);
+
+            // parse region of a direct buffer placed after other text
+            final var prefix = "ºx;".getBytes(StandardCharsets.UTF_8);
+            final var buffer = ByteBuffer.allocateDirect(prefix.length + bytes.length);
+            buffer.put(prefix).put(bytes).flip();
+            assertEquals(ParseStatus.SUCCESS, formatter.parse(buffer, prefix.length, buffer.limit(), t), text);
+            assertEquals(expected.getValue().doubleValue(), t.getValueAsDouble(), 0.0, text);
+            assertEquals(expected.getUnit(), t.getUnit(), text);
+            assertEquals(0, buffer.position());
+        }
+
+        // end of region is considered end of input
+        final var bytes = "5 µs;7 ms".getBytes(StandardCharsets.UTF_8);
+        assertEquals(ParseStatus.SUCCESS, formatter.parse(bytes, 0, 5, t));
+        assertEquals(5.0, t.getValueAsDouble(), 0.0);
+        assertEquals(TimeUnit.MICROSECOND, t.getUnit());
+        assertEquals(ParseStatus.SUCCESS, formatter.parse(bytes, 6, bytes.length, t));
+        assertEquals(7.0, t.getValueAsDouble(), 0.0);
+        assertEquals(TimeUnit.MILLISECOND, t.getUnit());
+
+        // failures
+        assertEquals(ParseStatus.UNKNOWN_UNIT, formatter.parse("5,5 µm".getBytes(StandardCharsets.UTF_8), 0, 7, t));
+        assertEquals(ParseStatus.INVALID_VALUE, formatter.parse("µs".getBytes(StandardCharsets.UTF_8), 0, 3, t));
+        assertEquals(ParseStatus.INVALID_VALUE, formatter.parse("m".getBytes(StandardCharsets.UTF_8), 0, 1, t));
+        assertEquals(ParseStatus.INVALID_VALUE, formatter.parse(new byte[0], 0, 0, t));
+        assertEquals(7.0, t.getValueAsDouble(), 0.0);
+        assertEquals(TimeUnit.MILLISECOND, t.getUnit());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse((byte[]) null, 0, 0, t));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse((ByteBuffer) null, 0, 0, t));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse(bytes, 0, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse(bytes, -1, 1, t));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse(bytes, 2, 1, t));
+        assertThrows(IllegalArgumentException.class, () -> formatter.parse(bytes, 0, bytes.length + 1, t));
+    }
+
+    @Test
+    void testParseBytesDecoded() throws ParseException, UnknownUnitException {
+        // locales whose number symbols are not ASCII characters, or not using ASCII digits
+        for (final var locale : new Locale[]{Locale.FRANCE, new Locale("sv", "SE"), new Locale("ar", "EG")}) {
+            final var formatter = new TimeFormatter(locale);
+            final var t = new Time();
+
+            for (final var value : new double[]{5.5, -1234.5, 1234567.0}) {
+                final var text = formatter.format(value, TimeUnit.MICROSECOND);
+                final var expected = formatter.parse(text);
+                final var bytes = text.getBytes(StandardCharsets.UTF_8);
+
+                assertEquals(ParseStatus.SUCCESS, formatter.parse(bytes, 0, bytes.length, t), text);
+                assertEquals(expected.getValue().doubleValue(), t.getValueAsDouble(), 0.0, text);
+                assertEquals(TimeUnit.MICROSECOND, t.getUnit(), text);
+            }
+
+            formatter.freeze();
+            final var bytes = formatter.format(5.5, TimeUnit.MICROSECOND).getBytes(StandardCharsets.UTF_8);
+            assertEquals(ParseStatus.SUCCESS, formatter.parse(bytes, 0, bytes.length, t));
+            assertEquals(5.5, t.getValueAsDouble(), 0.0);
+        }
+    }
+
     @Test
     void testFindUnit() {
         final var formatter = new TimeFormatter(new Locale("es", "ES"));
@@ -1094,6 +1231,86 @@ class TimeFormatterTest {
         assertThrows(UnknownUnitException.class, () -> formatter.parseHourMinuteSecond("03:25:30,5"));
     }
 
+    @Test
+    void testParseHourMinuteSecondInto() throws UnknownUnitException {
+        final var formatter = new TimeFormatter(new Locale("es", "ES"));
+
+        assertEquals(12330.0, formatter.parseHourMinuteSecondToSeconds("03:25:30"), 0.0);
+        assertEquals(36001.0 * 3600.0 + 61.0, formatter.parseHourMinuteSecondToSeconds("36001:00:61"), 0.0);
+
+        final var t = new Time(1.0, TimeUnit.DAY);
+        formatter.parseHourMinuteSecond("04:02:01", t);
+        assertEquals(TimeUnit.SECOND, t.getUnit());
+        assertEquals(14521.0, t.getValueAsDouble(), 0.0);
+
+        formatter.parseHourMinute("04:02", t);
+        assertEquals(TimeUnit.MINUTE, t.getUnit());
+        assertEquals(242.0, t.getValueAsDouble(), 0.0);
+
+        // Force UnknownUnitException
+        for (final var text : new String[]{"", ":", "03:25", "3:5:30", "03:250:30", "03:25:3", ":25:30",
+                "03:25:30 ", "03-25-30", "03:25:30:00", "-03:25:30", "03:25:+3"}) {
+            assertThrows(UnknownUnitException.class, () -> formatter.parseHourMinuteSecondToSeconds(text), text);
+            assertThrows(UnknownUnitException.class, () -> formatter.parseHourMinuteSecond(text, t), text);
+        }
+        for (final var text : new String[]{"", ":", "03:5", ":25", "03:25 ", "03:25:30", "03:2,5"}) {
+            assertThrows(UnknownUnitException.class, () -> formatter.parseHourMinute(text, t), text);
+        }
+        assertEquals(TimeUnit.MINUTE, t.getUnit());
+        assertEquals(242.0, t.getValueAsDouble(), 0.0);
+    }
+
+    @Test
+    void testFormatHourMinuteSecondTo() {
+        final var formatter = new TimeFormatter(new Locale("es", "ES"));
+        final var builder = new StringBuilder("t=");
+
+        assertSame(builder, formatter.formatHourMinuteSecondTo(new Time(12330.5, TimeUnit.SECOND), builder));
+        assertEquals("t=03:25:30,5", builder.toString());
+        assertSame(builder, formatter.formatHourMinuteTo(new Time(3.425, TimeUnit.HOUR), builder.append(' ')));
+        assertEquals("t=03:25:30,5 03:25,5", builder.toString());
+
+        // fast number formatting, frozen formatters and changed settings obtain the same results
+        final var times = new Time[]{
+                new Time(0.0, TimeUnit.SECOND), new Time(12330.5, TimeUnit.SECOND),
+                new Time(-12330.25, TimeUnit.SECOND), new Time(1234.0, TimeUnit.DAY),
+                new Time(0.123456, TimeUnit.SECOND), new Time(59.9999, TimeUnit.SECOND)
+        };
+        for (final var maximumFractionDigits : new int[]{0, 2, 3}) {
+            formatter.setMaximumFractionDigits(maximumFractionDigits);
+            final var fast = new TimeFormatter(new Locale("es", "ES"));
+            fast.setMaximumFractionDigits(maximumFractionDigits);
+            fast.setFastNumberFormattingEnabled(true);
+            final var frozen = new TimeFormatter(new Locale("es", "ES"));
+            frozen.setMaximumFractionDigits(maximumFractionDigits);
+            frozen.freeze();
+
+            for (final var time : times) {
+                final var expected = formatHourMinuteSecond(maximumFractionDigits, time);
+                assertEquals(expected, formatter.formatHourMinuteSecond(time));
+                assertEquals(expected, fast.formatHourMinuteSecond(time));
+                assertEquals(expected, frozen.formatHourMinuteSecond(time));
+            }
+        }
+    }
+
+    private static String formatHourMinuteSecond(final int maximumFractionDigits, final Time time) {
+        final var locale = new Locale("es", "ES");
+        final var seconds = TimeConverter.convert(time.getValueAsDouble(), time.getUnit(), TimeUnit.SECOND);
+        final var hours = Math.floor(seconds / 3600.0);
+        final var minutes = Math.floor((seconds - hours * 3600.0) / 60.0);
+
+        final var integerFormat = NumberFormat.getInstance(locale);
+        integerFormat.setMinimumIntegerDigits(2);
+        integerFormat.setMaximumFractionDigits(0);
+        final var secondFormat = NumberFormat.getInstance(locale);
+        secondFormat.setMinimumIntegerDigits(2);
+        secondFormat.setMaximumIntegerDigits(2);
+        secondFormat.setMaximumFractionDigits(maximumFractionDigits);
+        return integerFormat.format(hours) + ":" + integerFormat.format(minutes) + ":"
+                + secondFormat.format(seconds - hours * 3600.0 - minutes * 60.0);
+    }
+
     @Test
     void testFormatMultiple() {
         final var formatter = new TimeFormatter(new Locale("es", "ES"));
@@ -1480,4 +1697,48 @@ class TimeFormatterTest {
         assertThrows(UnknownUnitException.class, () -> formatter.parseMultiple("1.500 µs"));
         assertThrows(UnknownUnitException.class, () -> formatter.parseMultiple("1.500 ns"));
     }
+
+    @Test
+    void testParseMultipleTokens() throws ParseException, UnknownUnitException {
+        final var formatter = new TimeFormatter(Locale.ENGLISH);
+
+        // single component keeps integer value and unit
+        var t = formatter.parseMultiple("45 min");
+        assertEquals(45L, t.getValue());
+        assertEquals(TimeUnit.MINUTE, t.getUnit());
+
+        // components are summed in the unit of the largest one, regardless of their order
+        t = formatter.parseMultiple("5 s 1 h 30 min");
+        assertEquals(TimeUnit.HOUR, t.getUnit());
+        assertEquals(5405.0, TimeConverter.convert(t.getValueAsDouble(), t.getUnit(), TimeUnit.SECOND), ERROR);
+
+        // any whitespace separates components, and last occurrence of a unit is kept
+        t = formatter.parseMultiple("\t1h\n2 h\t30 min\r");
+        assertEquals(9000.0, TimeConverter.convert(t.getValueAsDouble(), t.getUnit(), TimeUnit.SECOND), ERROR);
+
+        // values not preceded or followed by whitespace are ignored
+        t = formatter.parseMultiple("x5 h 2 hx 3 min 7  s");
+        assertEquals(3L, t.getValue());
+        assertEquals(TimeUnit.MINUTE, t.getUnit());
+
+        // n-th century takes precedence over 3rd, 2nd and 1st centuries
+        t = formatter.parseMultiple("4th c. 1st c. 2 yr");
+        assertEquals(TimeUnit.CENTURY, t.getUnit());
+        assertEquals(4.02, t.getValueAsDouble(), ERROR);
+
+        // values too large for a long
+        t = formatter.parseMultiple("12345678901234567890 ns");
+        assertEquals(12345678901234567890.0, t.getValueAsDouble(), 0.0);
+
+        // large inputs are parsed
+        final var builder = new StringBuilder();
+        for (var i = 0; i < 100000; i++) {
+            builder.append("1 h 30 min 5 s ");
+        }
+        t = formatter.parseMultiple(builder);
+        assertEquals(5405.0, TimeConverter.convert(t.getValueAsDouble(), t.getUnit(), TimeUnit.SECOND), ERROR);
+
+        assertThrows(UnknownUnitException.class, () -> formatter.parseMultiple(""));
+        assertThrows(UnknownUnitException.class, () -> formatter.parseMultiple("1 hour"));
+    }
 }
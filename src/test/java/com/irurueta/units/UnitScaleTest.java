@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnitScaleTest {
+
+    private static final int TIMES = 10000;
+
+    private static final DistanceUnit[] IMPERIAL_UNITS = {
+            DistanceUnit.INCH, DistanceUnit.FOOT, DistanceUnit.YARD, DistanceUnit.MILE
+    };
+
+    private static final double[] IMPERIAL_LIMITS = {
+            DistanceConverter.METERS_PER_FOOT / DistanceConverter.METERS_PER_INCH,
+            DistanceConverter.METERS_PER_YARD / DistanceConverter.METERS_PER_FOOT,
+            DistanceConverter.METERS_PER_MILE / DistanceConverter.METERS_PER_YARD
+    };
+
+    private static final WeightUnit[] METRIC_WEIGHT_UNITS = {
+            WeightUnit.PICOGRAM, WeightUnit.NANOGRAM, WeightUnit.MICROGRAM, WeightUnit.MILLIGRAM,
+            WeightUnit.GRAM, WeightUnit.KILOGRAM, WeightUnit.TONNE, WeightUnit.MEGATONNE
+    };
+
+    private static final double[] METRIC_WEIGHT_LIMITS = {1000.0, 1000.0, 1000.0, 1000.0, 1000.0, 1000.0, 1e6};
+
+    @Test
+    void testConstructor() {
+        // Force IllegalArgumentException
+        final UnitScale.Conversion<DistanceUnit> conversion = DistanceConverter::convert;
+        assertThrows(IllegalArgumentException.class,
+                () -> new UnitScale<>(DistanceUnit.class, conversion, new double[0],
+                        new DistanceUnit[0]));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UnitScale<>(DistanceUnit.class, conversion, new double[]{1.0, 2.0},
+                        new DistanceUnit[]{DistanceUnit.METER, DistanceUnit.KILOMETER}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UnitScale<>(DistanceUnit.class, conversion, new double[]{1000.0},
+                        new DistanceUnit[]{DistanceUnit.KILOMETER, DistanceUnit.METER, DistanceUnit.CENTIMETER}));
+    }
+
+    @Test
+    void testSelectSingleUnit() {
+        final var scale = new UnitScale<>(DistanceUnit.class, DistanceConverter::convert, new double[0],
+                new DistanceUnit[]{DistanceUnit.METER});
+        for (final var unit : DistanceUnit.values()) {
+            assertEquals(DistanceUnit.METER, scale.select(1.0, unit));
+            assertEquals(DistanceUnit.METER, scale.select(Double.NaN, unit));
+        }
+    }
+
+    @Test
+    void testSelectMatchesConversions() {
+        final var scale = new UnitScale<>(DistanceUnit.class, DistanceConverter::convert, IMPERIAL_LIMITS,
+                IMPERIAL_UNITS);
+        final var weightScale = new UnitScale<>(WeightUnit.class, WeightConverter::convert,
+                METRIC_WEIGHT_LIMITS, METRIC_WEIGHT_UNITS);
+
+        final var random = new Random();
+        for (final var unit : DistanceUnit.values()) {
+            // values around limits of each unit
+            for (var i = 0; i < IMPERIAL_LIMITS.length; i++) {
+                final var limit = DistanceConverter.convert(IMPERIAL_LIMITS[i], IMPERIAL_UNITS[i], unit);
+                var value = limit;
+                for (var j = 0; j < 5; j++) {
+                    value = Math.nextDown(value);
+                }
+                for (var j = 0; j < 10; j++) {
+                    assertSelect(scale, value, unit);
+                    assertSelect(scale, -value, unit);
+                    value = Math.nextUp(value);
+                }
+            }
+
+            for (var t = 0; t < TIMES; t++) {
+                assertSelect(scale, random.nextDouble() * Math.pow(10.0, random.nextInt(20) - 10), unit);
+            }
+
+            for (final var value : new double[]{0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE}) {
+                assertSelect(scale, value, unit);
+            }
+        }
+
+        for (final var unit : WeightUnit.values()) {
+            for (var t = 0; t < TIMES; t++) {
+                final var value = random.nextDouble() * Math.pow(10.0, random.nextInt(40) - 20);
+                assertEquals(select(value, unit), weightScale.select(value, unit));
+            }
+        }
+    }
+
+    private static void assertSelect(final UnitScale<DistanceUnit> scale, final double value,
+                                     final DistanceUnit unit) {
+        // reference selection converting value into each candidate unit
+        var expected = IMPERIAL_UNITS[IMPERIAL_UNITS.length - 1];
+        for (var i = 0; i < IMPERIAL_LIMITS.length; i++) {
+            if (Math.abs(DistanceConverter.convert(value, unit, IMPERIAL_UNITS[i])) < IMPERIAL_LIMITS[i]) {
+                expected = IMPERIAL_UNITS[i];
+                break;
+            }
+        }
+        assertEquals(expected, scale.select(value, unit), () -> value + " " + unit);
+    }
+
+    private static WeightUnit select(final double value, final WeightUnit unit) {
+        for (var i = 0; i < METRIC_WEIGHT_LIMITS.length; i++) {
+            if (Math.abs(WeightConverter.convert(value, unit, METRIC_WEIGHT_UNITS[i])) < METRIC_WEIGHT_LIMITS[i]) {
+                return METRIC_WEIGHT_UNITS[i];
+            }
+        }
+        return METRIC_WEIGHT_UNITS[METRIC_WEIGHT_UNITS.length - 1];
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnitSymbolMatcherTest {
+
+    private static final int TIMES = 10000;
+
+    private static final String[] DISTANCE_SYMBOLS = {
+            DistanceFormatter.MILLIMETER, DistanceFormatter.CENTIMETER, DistanceFormatter.KILOMETER,
+            DistanceFormatter.INCH, DistanceFormatter.FOOT, DistanceFormatter.YARD, DistanceFormatter.MILE,
+            DistanceFormatter.METER
+    };
+
+    private static final DistanceUnit[] DISTANCE_UNITS = {
+            DistanceUnit.MILLIMETER, DistanceUnit.CENTIMETER, DistanceUnit.KILOMETER, DistanceUnit.INCH,
+            DistanceUnit.FOOT, DistanceUnit.YARD, DistanceUnit.MILE, DistanceUnit.METER
+    };
+
+    @Test
+    void testFind() {
+        final var matcher = new UnitSymbolMatcher<DistanceUnit>()
+                .add("mm", DistanceUnit.MILLIMETER)
+                .add("m", DistanceUnit.METER);
+
+        assertEquals(DistanceUnit.MILLIMETER, matcher.find("5 mm"));
+        assertEquals(DistanceUnit.MILLIMETER, matcher.find("5mm"));
+        assertEquals(DistanceUnit.MILLIMETER, matcher.find("5 m 3 mm "));
+        assertEquals(DistanceUnit.METER, matcher.find("5 m"));
+        assertEquals(DistanceUnit.METER, matcher.find("5 m "));
+        assertNull(matcher.find("5 ma"));
+        assertNull(matcher.find(""));
+        assertNull(matcher.find("5"));
+    }
+
+    @Test
+    void testFindRegion() {
+        final var matcher = new UnitSymbolMatcher<DistanceUnit>()
+                .add("mm", DistanceUnit.MILLIMETER)
+                .add("m", DistanceUnit.METER);
+
+        // end of region is considered end of input
+        assertEquals(DistanceUnit.METER, matcher.find("x5 mmx", 1, 4));
+        assertEquals(DistanceUnit.MILLIMETER, matcher.find("x5 mmx", 1, 5));
+        assertNull(matcher.find("x5 mmx", 1, 3));
+    }
+
+    @Test
+    void testFindBytes() {
+        final var matcher = new UnitSymbolMatcher<SurfaceUnit>()
+                .add(SurfaceFormatter.SQUARE_MILLIMETER, SurfaceUnit.SQUARE_MILLIMETER)
+                .add(SurfaceFormatter.ARE, SurfaceUnit.ARE)
+                .add(SurfaceFormatter.SQUARE_METER, SurfaceUnit.SQUARE_METER);
+
+        final var texts = new String[]{"5 mm²", "5 m²", "5 m² ", "5 m", "5 a", "5 m²x", "µm²", "5 ºm²", ""};
+        for (final var text : texts) {
+            final var bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+            assertEquals(matcher.find(text), matcher.find(bytes, 0, bytes.limit()), text);
+        }
+
+        // end of region is considered end of input
+        final var bytes = ByteBuffer.wrap("x5 m²x".getBytes(StandardCharsets.UTF_8));
+        assertEquals(SurfaceUnit.SQUARE_METER, matcher.find(bytes, 1, 6));
+        assertNull(matcher.find(bytes, 1, 7));
+        // region ending within a multi-byte character
+        assertNull(matcher.find(bytes, 1, 5));
+    }
+
+    @Test
+    void testPriorityIsRegistrationOrder() {
+        final var matcher = new UnitSymbolMatcher<DistanceUnit>()
+                .add("m", DistanceUnit.METER)
+                .add("mm", DistanceUnit.MILLIMETER);
+
+        // first registered symbol wins even if it is shorter
+        assertEquals(DistanceUnit.METER, matcher.find("5 mm 3 m"));
+        assertEquals(DistanceUnit.METER, matcher.find("5 mm"));
+
+        // symbols registered twice keep their first priority
+        matcher.add("m", DistanceUnit.KILOMETER);
+        assertEquals(DistanceUnit.METER, matcher.find("5 m"));
+    }
+
+    @Test
+    void testAddUndelimited() {
+        final var matcher = new UnitSymbolMatcher<TimeUnit>()
+                .add("s", TimeUnit.SECOND)
+                .addUndelimited("th c.", TimeUnit.CENTURY)
+                .add("d", TimeUnit.DAY);
+
+        assertEquals(TimeUnit.CENTURY, matcher.find("5th c.x"));
+        assertEquals(TimeUnit.CENTURY, matcher.find("5th c. 3 d"));
+        assertEquals(TimeUnit.SECOND, matcher.find("5th c. 3 s"));
+        assertEquals(TimeUnit.DAY, matcher.find("5th c 3 d"));
+    }
+
+    @Test
+    void testAddInvalid() {
+        final var matcher = new UnitSymbolMatcher<DistanceUnit>();
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> matcher.add(null, DistanceUnit.METER));
+        assertThrows(IllegalArgumentException.class, () -> matcher.add("", DistanceUnit.METER));
+        assertThrows(IllegalArgumentException.class, () -> matcher.add("m", null));
+        assertThrows(IllegalArgumentException.class, () -> matcher.addUndelimited(null, DistanceUnit.METER));
+    }
+
+    @Test
+    void testFindMatchesSequentialChecks() {
+        final var matcher = new UnitSymbolMatcher<DistanceUnit>();
+        for (var i = 0; i < DISTANCE_SYMBOLS.length; i++) {
+            matcher.add(DISTANCE_SYMBOLS[i], DISTANCE_UNITS[i]);
+        }
+
+        final var fragments = new String[]{"m", "mm", "c", "k", "in", "ft", "yd", "mi", " ", "5", ",", "i", "y"};
+        final var random = new Random();
+        for (var t = 0; t < TIMES; t++) {
+            final var builder = new StringBuilder();
+            final var n = random.nextInt(8);
+            for (var i = 0; i < n; i++) {
+                builder.append(fragments[random.nextInt(fragments.length)]);
+            }
+            final var source = builder.toString();
+
+            assertEquals(findSequentially(source), matcher.find(source), source);
+        }
+    }
+
+    @Test
+    void testFormattersFindUnits() {
+        final var distanceFormatter = new DistanceFormatter();
+        assertEquals(DistanceUnit.MILLIMETER, distanceFormatter.findUnit("5 mm"));
+        assertEquals(DistanceUnit.METER, distanceFormatter.findUnit("5 m"));
+        assertNull(distanceFormatter.findUnit("5"));
+
+        final var surfaceFormatter = new SurfaceFormatter();
+        assertEquals(SurfaceUnit.ARE, surfaceFormatter.findUnit("5 a"));
+        assertEquals(SurfaceUnit.HECTARE, surfaceFormatter.findUnit("5 ha"));
+
+        final var timeFormatter = new TimeFormatter();
+        assertEquals(TimeUnit.CENTURY, timeFormatter.findUnit("21st c."));
+        assertEquals(TimeUnit.MINUTE, timeFormatter.findUnit("1 h 5 min"));
+        assertEquals(TimeUnit.HOUR, timeFormatter.findUnit("1 h"));
+    }
+
+    private static DistanceUnit findSequentially(final String source) {
+        for (var i = 0; i < DISTANCE_SYMBOLS.length; i++) {
+            final var symbol = DISTANCE_SYMBOLS[i];
+            if (source.contains(symbol + " ") || source.endsWith(symbol)) {
+                return DISTANCE_UNITS[i];
+            }
+        }
+        return null;
+    }
+}
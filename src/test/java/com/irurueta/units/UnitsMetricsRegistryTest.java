@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnitsMetricsRegistryTest {
+
+    @AfterEach
+    void tearDown() {
+        UnitsMetricsRegistry.setMetrics(null);
+    }
+
+    @Test
+    void testGetSetMetrics() {
+        assertNull(UnitsMetricsRegistry.getMetrics());
+        assertFalse(UnitsMetricsRegistry.isEnabled());
+
+        final var metrics = new RecordingUnitsMetrics();
+        UnitsMetricsRegistry.setMetrics(metrics);
+
+        assertSame(metrics, UnitsMetricsRegistry.getMetrics());
+        assertTrue(UnitsMetricsRegistry.isEnabled());
+
+        UnitsMetricsRegistry.setMetrics(null);
+
+        assertNull(UnitsMetricsRegistry.getMetrics());
+        assertFalse(UnitsMetricsRegistry.isEnabled());
+    }
+
+    @Test
+    void testConversions() {
+        // conversions are not notified when metrics are disabled
+        DistanceConverter.convert(1.0, DistanceUnit.KILOMETER, DistanceUnit.MILE);
+
+        final var metrics = new RecordingUnitsMetrics();
+        UnitsMetricsRegistry.setMetrics(metrics);
+
+        DistanceConverter.convert(1.0, DistanceUnit.KILOMETER, DistanceUnit.MILE);
+        DistanceConverter.convert(new Distance(1.0, DistanceUnit.KILOMETER), DistanceUnit.MILE);
+        DistanceConverter.convert(new double[5], 0, new double[5], 0, 5, DistanceUnit.KILOMETER, DistanceUnit.MILE);
+        TimeConverter.convert(new double[3], 0, new double[3], 0, 3, TimeUnit.HOUR, TimeUnit.SECOND);
+        MeasurementType.TEMPERATURE.convert(20.0, TemperatureUnit.CELSIUS, TemperatureUnit.FAHRENHEIT);
+
+        assertEquals(7, metrics.getConversionCount(MeasurementType.DISTANCE, DistanceUnit.KILOMETER,
+                DistanceUnit.MILE));
+        assertEquals(7, metrics.getConversionCount(MeasurementType.DISTANCE));
+        assertEquals(3, metrics.getConversionCount(MeasurementType.TIME));
+        assertEquals(1, metrics.getConversionCount(MeasurementType.TEMPERATURE, TemperatureUnit.CELSIUS,
+                TemperatureUnit.FAHRENHEIT));
+        assertEquals(0, metrics.getConversionCount(MeasurementType.WEIGHT));
+    }
+
+    @Test
+    void testInternalConversionsAreNotNotified() {
+        final var metrics = new RecordingUnitsMetrics();
+        UnitsMetricsRegistry.setMetrics(metrics);
+
+        // formatting
+        final var time = new Time(93784.5, TimeUnit.SECOND);
+        final var timeFormatter = new TimeFormatter(Locale.ENGLISH);
+        timeFormatter.formatMultiple(time, TimeFormatter.FORMAT_HOURS | TimeFormatter.FORMAT_MINUTES
+                | TimeFormatter.FORMAT_SECONDS);
+        timeFormatter.formatHourMinuteSecond(time);
+        timeFormatter.formatAndConvert(time);
+        new DistanceFormatter(Locale.ENGLISH).formatAndConvert(1500.0, DistanceUnit.METER);
+        new SpeedFormatter(Locale.ENGLISH).formatAndConvert(12.0, SpeedUnit.METERS_PER_SECOND);
+        new WeightFormatter(Locale.ENGLISH).formatAndConvert(1500.0, WeightUnit.GRAM, UnitSystem.IMPERIAL);
+        new AccelerationFormatter(Locale.ENGLISH).formatAndConvert(9.8,
+                AccelerationUnit.METERS_PER_SQUARED_SECOND, UnitSystem.IMPERIAL);
+
+        // arithmetic and comparisons
+        final var distance1 = new Distance(1.0, DistanceUnit.KILOMETER);
+        final var distance2 = new Distance(1.0, DistanceUnit.MILE);
+        Distance.add(distance1, distance2, new Distance(0.0, DistanceUnit.METER));
+        distance1.subtract(distance2);
+        assertFalse(distance1.equals(distance2, 1e-6));
+        new TemperatureValue(20.0, TemperatureUnit.CELSIUS).add(1.0, TemperatureUnit.KELVIN);
+        AngleConverter.toDegreesMinutesAndSeconds(1.0, AngleUnit.RADIANS);
+
+        // check
+        for (final var type : MeasurementType.values()) {
+            assertEquals(0, metrics.getConversionCount(type));
+        }
+    }
+
+    @Test
+    void testParse() throws ParseException, UnknownUnitException {
+        final var formatter = new DistanceFormatter(Locale.ENGLISH);
+        final var metrics = new RecordingUnitsMetrics();
+        UnitsMetricsRegistry.setMetrics(metrics);
+
+        formatter.parse("5 m");
+        assertThrows(ParseException.class, () -> formatter.parse("m"));
+        assertThrows(UnknownUnitException.class, () -> formatter.parse("5 x"));
+
+        final var out = new Distance();
+        assertEquals(ParseStatus.SUCCESS, formatter.parse("5 km", out));
+        assertEquals(ParseStatus.UNKNOWN_UNIT, formatter.parse("5 x", out));
+        assertEquals(ParseStatus.INVALID_VALUE, formatter.parse("x", out));
+
+        // UTF-8 text that needs to be decoded is only notified once
+        final var bytes = ByteBuffer.wrap("5 µm".getBytes(StandardCharsets.UTF_8));
+        assertEquals(ParseStatus.SUCCESS, formatter.parse(bytes, 0, bytes.limit(), out));
+
+        assertEquals(3, metrics.getParseCount(DistanceFormatter.class, ParseStatus.SUCCESS));
+        assertEquals(2, metrics.getParseCount(DistanceFormatter.class, ParseStatus.INVALID_VALUE));
+        assertEquals(2, metrics.getParseCount(DistanceFormatter.class, ParseStatus.UNKNOWN_UNIT));
+        assertEquals(0, metrics.getParseCount(TimeFormatter.class, ParseStatus.SUCCESS));
+    }
+
+    @Test
+    void testFormat() {
+        final var formatter = new DistanceFormatter(Locale.ENGLISH);
+        final var metrics = new RecordingUnitsMetrics();
+        UnitsMetricsRegistry.setMetrics(metrics);
+
+        assertEquals("5 m", formatter.format(5, DistanceUnit.METER));
+        assertEquals("5 m", formatter.format(5.0, DistanceUnit.METER));
+        assertEquals("1.5 Km", formatter.formatAndConvert(1500.0, DistanceUnit.METER, UnitSystem.METRIC));
+
+        assertEquals(3, metrics.getFormatCount(DistanceFormatter.class));
+        // conversions made to display values are not notified
+        assertEquals(0, metrics.getConversionCount(MeasurementType.DISTANCE));
+    }
+}
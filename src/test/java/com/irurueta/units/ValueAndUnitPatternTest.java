@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.units;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.MessageFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueAndUnitPatternTest {
+
+    private static final String VALUE = "5.5";
+
+    private static final String UNIT = "m";
+
+    @Test
+    void testCompileDefaultPattern() {
+        final var pattern = ValueAndUnitPattern.compile(MeasureFormatter.DEFAULT_VALUE_AND_UNIT_FORMAT_PATTERN);
+
+        // check
+        assertEquals(MeasureFormatter.DEFAULT_VALUE_AND_UNIT_FORMAT_PATTERN, pattern.getPattern());
+        assertTrue(pattern.isCompiled());
+        assertEquals(2, pattern.getArgumentCount());
+        assertEquals("", pattern.getLiteral(0));
+        assertEquals(ValueAndUnitPattern.VALUE, pattern.getArgument(0));
+        assertEquals(" ", pattern.getLiteral(1));
+        assertEquals(ValueAndUnitPattern.UNIT, pattern.getArgument(1));
+        assertEquals("", pattern.getLiteral(2));
+    }
+
+    @Test
+    void testCompileMatchesMessageFormat() {
+        final var patterns = new String[]{
+                "{0} {1}", "{0}{1}", "{1} {0}", "", "no arguments", "{0}", "[{0}] ({1}) {0}",
+                "'{0}' {1}", "'{'{0}'}' {1}", "it''s {0} {1}", "'quoted '' text' {0}{1}", "{0} {1} }",
+                "'unterminated {0}"
+        };
+
+        for (final var p : patterns) {
+            final var pattern = ValueAndUnitPattern.compile(p);
+            assertTrue(pattern.isCompiled(), p);
+            assertEquals(MessageFormat.format(p, VALUE, UNIT), format(pattern), p);
+        }
+    }
+
+    @Test
+    void testCompileUnsupportedPatterns() {
+        final var patterns = new String[]{"{0,number} {1}", "{0} {2}", "{ 0} {1}", "{0} {1", "{10}", "{a}"};
+
+        for (final var p : patterns) {
+            final var pattern = ValueAndUnitPattern.compile(p);
+            assertFalse(pattern.isCompiled(), p);
+            assertEquals(p, pattern.getPattern());
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> ValueAndUnitPattern.compile(null));
+    }
+
+    private static String format(final ValueAndUnitPattern pattern) {
+        final var builder = new StringBuilder();
+        final var count = pattern.getArgumentCount();
+        for (var i = 0; i < count; i++) {
+            builder.append(pattern.getLiteral(i));
+            builder.append(pattern.getArgument(i) == ValueAndUnitPattern.VALUE ? VALUE : UNIT);
+        }
+        return builder.append(pattern.getLiteral(count)).toString();
+    }
+}
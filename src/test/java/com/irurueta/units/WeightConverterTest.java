@@ -18,9 +18,12 @@ package com.irurueta.units;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.Random;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class WeightConverterTest {
 
@@ -38,6 +41,10 @@ class WeightConverterTest {
 
     private static final double ERROR = 1e-6;
 
+    private static final double RELATIVE_ERROR = 1e-12;
+
+    private static final int LENGTH = 10;
+
     @Test
     void testGramPicogram() {
         final var inputValue = new Random().nextDouble();
@@ -130,301 +137,301 @@ class WeightConverterTest {
     void testConvertDouble() {
         final var inputValue = new Random().nextDouble();
 
-        assertEquals(inputValue, WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(WeightConverter.picogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(WeightConverter.picogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(WeightConverter.picogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.picogramToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(WeightConverter.picogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(WeightConverter.picogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(WeightConverter.picogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(WeightConverter.picogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(WeightConverter.picogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.UK_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(WeightConverter.picogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(WeightConverter.picogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(WeightConverter.nanogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(inputValue, WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(WeightConverter.nanogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(WeightConverter.nanogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.nanogramToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(WeightConverter.nanogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(WeightConverter.nanogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(WeightConverter.nanogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(WeightConverter.nanogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(WeightConverter.nanogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.UK_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(WeightConverter.nanogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(WeightConverter.nanogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(WeightConverter.microgramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(WeightConverter.microgramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(inputValue,
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(WeightConverter.microgramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.microgramToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(WeightConverter.microgramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(WeightConverter.microgramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(WeightConverter.microgramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(WeightConverter.microgramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(WeightConverter.microgramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.UK_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(WeightConverter.microgramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(WeightConverter.microgramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(WeightConverter.milligramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(WeightConverter.milligramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(WeightConverter.milligramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(inputValue,
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.milligramToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(WeightConverter.milligramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(WeightConverter.milligramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(WeightConverter.milligramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(WeightConverter.milligramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(WeightConverter.milligramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.UK_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(WeightConverter.milligramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(WeightConverter.milligramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(inputValue,
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.UK_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(WeightConverter.kilogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(WeightConverter.kilogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(WeightConverter.kilogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(WeightConverter.kilogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.kilogramToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.GRAM), ERROR);
-        assertEquals(inputValue,
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(WeightConverter.kilogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(WeightConverter.kilogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(WeightConverter.kilogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(WeightConverter.kilogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.UK_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(WeightConverter.kilogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(WeightConverter.kilogramToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(WeightConverter.tonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(WeightConverter.tonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(WeightConverter.tonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(WeightConverter.tonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.tonneToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(WeightConverter.tonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(inputValue,
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(WeightConverter.tonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(WeightConverter.tonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(WeightConverter.tonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.UK_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(WeightConverter.tonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(WeightConverter.tonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(WeightConverter.megatonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(WeightConverter.megatonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(WeightConverter.megatonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(WeightConverter.megatonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.megatonneToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(WeightConverter.megatonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(WeightConverter.megatonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.TONNE), ERROR);
-        assertEquals(inputValue,
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(WeightConverter.megatonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(WeightConverter.megatonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.UK_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(WeightConverter.megatonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(WeightConverter.megatonneToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(WeightConverter.usTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(WeightConverter.usTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(WeightConverter.usTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(WeightConverter.usTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.usTonToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(WeightConverter.usTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(WeightConverter.usTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(WeightConverter.usTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(inputValue,
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(WeightConverter.usTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.UK_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(WeightConverter.usTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(WeightConverter.usTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(WeightConverter.ukTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(WeightConverter.ukTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(WeightConverter.ukTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(WeightConverter.ukTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.ukTonToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(WeightConverter.ukTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(WeightConverter.ukTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(WeightConverter.ukTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(WeightConverter.ukTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(WeightConverter.ukTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(WeightConverter.ukTonToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(WeightConverter.poundToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(WeightConverter.poundToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(WeightConverter.poundToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(WeightConverter.poundToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.poundToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(WeightConverter.poundToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(WeightConverter.poundToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(WeightConverter.poundToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(WeightConverter.poundToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(WeightConverter.poundToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.UK_TON), ERROR);
-        assertEquals(inputValue,
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.POUND), ERROR);
-        assertEquals(WeightConverter.gramToOunce(WeightConverter.poundToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.OUNCE), ERROR);
-
-        assertEquals(WeightConverter.gramToPicogram(WeightConverter.ounceToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.PICOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToNanogram(WeightConverter.ounceToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.NANOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMicrogram(WeightConverter.ounceToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.MICROGRAM), ERROR);
-        assertEquals(WeightConverter.gramToMilligram(WeightConverter.ounceToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.MILLIGRAM), ERROR);
-        assertEquals(WeightConverter.ounceToGram(inputValue),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.GRAM), ERROR);
-        assertEquals(WeightConverter.gramToKilogram(WeightConverter.ounceToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.KILOGRAM), ERROR);
-        assertEquals(WeightConverter.gramToTonne(WeightConverter.ounceToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.TONNE), ERROR);
-        assertEquals(WeightConverter.gramToMegatonne(WeightConverter.ounceToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.MEGATONNE), ERROR);
-        assertEquals(WeightConverter.gramToUsTon(WeightConverter.ounceToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.US_TON), ERROR);
-        assertEquals(WeightConverter.gramToUkTon(WeightConverter.ounceToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.UK_TON), ERROR);
-        assertEquals(WeightConverter.gramToPound(WeightConverter.ounceToGram(inputValue)),
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.POUND), ERROR);
-        assertEquals(inputValue,
-                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.OUNCE), ERROR);
+        assertConversion(inputValue, WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(WeightConverter.picogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(WeightConverter.picogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(WeightConverter.picogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.picogramToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(WeightConverter.picogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(WeightConverter.picogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(WeightConverter.picogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(WeightConverter.picogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(WeightConverter.picogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.UK_TON));
+        assertConversion(WeightConverter.gramToPound(WeightConverter.picogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(WeightConverter.picogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.PICOGRAM, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(WeightConverter.nanogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.PICOGRAM));
+        assertConversion(inputValue, WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(WeightConverter.nanogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(WeightConverter.nanogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.nanogramToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(WeightConverter.nanogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(WeightConverter.nanogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(WeightConverter.nanogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(WeightConverter.nanogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(WeightConverter.nanogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.UK_TON));
+        assertConversion(WeightConverter.gramToPound(WeightConverter.nanogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(WeightConverter.nanogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.NANOGRAM, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(WeightConverter.microgramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(WeightConverter.microgramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.NANOGRAM));
+        assertConversion(inputValue,
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(WeightConverter.microgramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.microgramToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(WeightConverter.microgramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(WeightConverter.microgramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(WeightConverter.microgramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(WeightConverter.microgramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(WeightConverter.microgramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.UK_TON));
+        assertConversion(WeightConverter.gramToPound(WeightConverter.microgramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(WeightConverter.microgramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MICROGRAM, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(WeightConverter.milligramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(WeightConverter.milligramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(WeightConverter.milligramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.MICROGRAM));
+        assertConversion(inputValue,
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.milligramToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(WeightConverter.milligramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(WeightConverter.milligramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(WeightConverter.milligramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(WeightConverter.milligramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(WeightConverter.milligramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.UK_TON));
+        assertConversion(WeightConverter.gramToPound(WeightConverter.milligramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(WeightConverter.milligramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MILLIGRAM, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.MILLIGRAM));
+        assertConversion(inputValue,
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.UK_TON));
+        assertConversion(WeightConverter.gramToPound(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.GRAM, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(WeightConverter.kilogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(WeightConverter.kilogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(WeightConverter.kilogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(WeightConverter.kilogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.kilogramToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.GRAM));
+        assertConversion(inputValue,
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(WeightConverter.kilogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(WeightConverter.kilogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(WeightConverter.kilogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(WeightConverter.kilogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.UK_TON));
+        assertConversion(WeightConverter.gramToPound(WeightConverter.kilogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(WeightConverter.kilogramToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.KILOGRAM, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(WeightConverter.tonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(WeightConverter.tonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(WeightConverter.tonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(WeightConverter.tonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.tonneToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(WeightConverter.tonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.KILOGRAM));
+        assertConversion(inputValue,
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(WeightConverter.tonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(WeightConverter.tonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(WeightConverter.tonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.UK_TON));
+        assertConversion(WeightConverter.gramToPound(WeightConverter.tonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(WeightConverter.tonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.TONNE, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(WeightConverter.megatonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(WeightConverter.megatonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(WeightConverter.megatonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(WeightConverter.megatonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.megatonneToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(WeightConverter.megatonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(WeightConverter.megatonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.TONNE));
+        assertConversion(inputValue,
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(WeightConverter.megatonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(WeightConverter.megatonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.UK_TON));
+        assertConversion(WeightConverter.gramToPound(WeightConverter.megatonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(WeightConverter.megatonneToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.MEGATONNE, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(WeightConverter.usTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(WeightConverter.usTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(WeightConverter.usTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(WeightConverter.usTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.usTonToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(WeightConverter.usTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(WeightConverter.usTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(WeightConverter.usTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.MEGATONNE));
+        assertConversion(inputValue,
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(WeightConverter.usTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.UK_TON));
+        assertConversion(WeightConverter.gramToPound(WeightConverter.usTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(WeightConverter.usTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.US_TON, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(WeightConverter.ukTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(WeightConverter.ukTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(WeightConverter.ukTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(WeightConverter.ukTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.ukTonToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(WeightConverter.ukTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(WeightConverter.ukTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(WeightConverter.ukTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(WeightConverter.ukTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToPound(WeightConverter.ukTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(WeightConverter.ukTonToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.UK_TON, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(WeightConverter.poundToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(WeightConverter.poundToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(WeightConverter.poundToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(WeightConverter.poundToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.poundToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(WeightConverter.poundToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(WeightConverter.poundToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(WeightConverter.poundToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(WeightConverter.poundToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(WeightConverter.poundToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.UK_TON));
+        assertConversion(inputValue,
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.POUND));
+        assertConversion(WeightConverter.gramToOunce(WeightConverter.poundToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.POUND, WeightUnit.OUNCE));
+
+        assertConversion(WeightConverter.gramToPicogram(WeightConverter.ounceToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.PICOGRAM));
+        assertConversion(WeightConverter.gramToNanogram(WeightConverter.ounceToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.NANOGRAM));
+        assertConversion(WeightConverter.gramToMicrogram(WeightConverter.ounceToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.MICROGRAM));
+        assertConversion(WeightConverter.gramToMilligram(WeightConverter.ounceToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.MILLIGRAM));
+        assertConversion(WeightConverter.ounceToGram(inputValue),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.GRAM));
+        assertConversion(WeightConverter.gramToKilogram(WeightConverter.ounceToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.KILOGRAM));
+        assertConversion(WeightConverter.gramToTonne(WeightConverter.ounceToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.TONNE));
+        assertConversion(WeightConverter.gramToMegatonne(WeightConverter.ounceToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.MEGATONNE));
+        assertConversion(WeightConverter.gramToUsTon(WeightConverter.ounceToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.US_TON));
+        assertConversion(WeightConverter.gramToUkTon(WeightConverter.ounceToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.UK_TON));
+        assertConversion(WeightConverter.gramToPound(WeightConverter.ounceToGram(inputValue)),
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.POUND));
+        assertConversion(inputValue,
+                WeightConverter.convert(inputValue, WeightUnit.OUNCE, WeightUnit.OUNCE));
     }
 
     @Test
@@ -479,6 +486,7 @@ class WeightConverterTest {
         assertEquals(WeightUnit.KILOGRAM, outputWeight.getUnit());
         assertEquals(WeightConverter.convert(value, inputWeight.getUnit(), outputWeight.getUnit()),
                 outputWeight.getValue().doubleValue(), 0.0);
+        assertInstanceOf(Double.class, outputWeight.getValue());
     }
 
     @Test
@@ -498,4 +506,128 @@ class WeightConverterTest {
         assertEquals(WeightConverter.convert(value, inputWeight.getUnit(), outputWeight.getUnit()),
                 outputWeight.getValue().doubleValue(), 0.0);
     }
+
+    @Test
+    void testConvertArray() {
+        final var random = new Random();
+        final var input = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            input[i] = random.nextDouble();
+        }
+
+        for (final var inputUnit : WeightUnit.values()) {
+            for (final var outputUnit : WeightUnit.values()) {
+                final var output = new double[LENGTH + 1];
+                WeightConverter.convert(input, 1, output, 2, LENGTH - 1, inputUnit, outputUnit);
+
+                // check
+                assertEquals(0.0, output[0], 0.0);
+                assertEquals(0.0, output[1], 0.0);
+                for (var i = 1; i < LENGTH; i++) {
+                    final var expected = WeightConverter.convert(input[i], inputUnit, outputUnit);
+                    assertEquals(expected, output[i + 1], Math.abs(expected) * RELATIVE_ERROR);
+                }
+            }
+        }
+
+        // convert in place with overlapping regions
+        final var unit1 = WeightUnit.PICOGRAM;
+        final var unit2 = WeightUnit.OUNCE;
+        final var values = Arrays.copyOf(input, LENGTH);
+        WeightConverter.convert(values, 0, values, 1, LENGTH - 1, unit1, unit2);
+
+        // check
+        assertEquals(input[0], values[0], 0.0);
+        for (var i = 1; i < LENGTH; i++) {
+            final var expected = WeightConverter.convert(input[i - 1], unit1, unit2);
+            assertEquals(expected, values[i], Math.abs(expected) * RELATIVE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var output = new double[LENGTH];
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightConverter.convert(input, -1, output, 0, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightConverter.convert(input, 0, output, -1, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightConverter.convert(input, 0, output, 0, -1, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightConverter.convert(input, 1, output, 0, LENGTH, unit1, unit2));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightConverter.convert(input, 0, output, 1, LENGTH, unit1, unit2));
+    }
+
+    private static void assertConversion(final double expected, final double actual) {
+        // factors between units spanning many orders of magnitude are precomputed, hence
+        // results can differ from a two-step conversion in their last bits
+        assertEquals(expected, actual, Math.max(ERROR, Math.abs(expected) * RELATIVE_ERROR));
+    }
+
+    @Test
+    void testConvertDoubleBuffer() {
+        final var random = new Random();
+        final var values = new double[LENGTH];
+        for (var i = 0; i < LENGTH; i++) {
+            values[i] = random.nextDouble();
+        }
+
+        for (final var inputUnit : WeightUnit.values()) {
+            for (final var outputUnit : WeightUnit.values()) {
+                // heap buffers
+                final var input = DoubleBuffer.wrap(values);
+                final var output = DoubleBuffer.allocate(LENGTH);
+                WeightConverter.convert(input, output, inputUnit, outputUnit);
+
+                // check
+                assertFalse(input.hasRemaining());
+                assertFalse(output.hasRemaining());
+                for (var i = 0; i < LENGTH; i++) {
+                    final var expected = WeightConverter.convert(values[i], inputUnit, outputUnit);
+                    assertEquals(expected, output.get(i), Math.abs(expected) * RELATIVE_ERROR);
+                }
+
+                // direct buffers
+                final var directInput = directBuffer(values);
+                final var directOutput = directBuffer(new double[LENGTH]);
+                WeightConverter.convert(directInput, directOutput, inputUnit, outputUnit);
+
+                // check
+                assertFalse(directInput.hasRemaining());
+                assertFalse(directOutput.hasRemaining());
+                for (var i = 0; i < LENGTH; i++) {
+                    assertEquals(output.get(i), directOutput.get(i), 0.0);
+                }
+            }
+        }
+
+        // convert in place
+        final var unit1 = WeightUnit.PICOGRAM;
+        final var unit2 = WeightUnit.OUNCE;
+        final var buffer = directBuffer(values);
+        buffer.position(1);
+        WeightConverter.convert(buffer, buffer, unit1, unit2);
+
+        // check
+        assertEquals(LENGTH, buffer.position());
+        assertEquals(values[0], buffer.get(0), 0.0);
+        for (var i = 1; i < LENGTH; i++) {
+            final var expected = WeightConverter.convert(values[i], unit1, unit2);
+            assertEquals(expected, buffer.get(i), Math.abs(expected) * RELATIVE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        final var input = DoubleBuffer.wrap(values);
+        final var output = DoubleBuffer.allocate(LENGTH - 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightConverter.convert(input, output, unit1, unit2));
+        assertEquals(0, input.position());
+        assertEquals(0, output.position());
+    }
+
+    private static DoubleBuffer directBuffer(final double[] values) {
+        final var result = ByteBuffer.allocateDirect(values.length * Double.BYTES).asDoubleBuffer();
+        result.put(values);
+        result.flip();
+        return result;
+    }
 }